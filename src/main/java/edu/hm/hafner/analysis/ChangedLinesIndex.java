@@ -0,0 +1,202 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+/**
+ * An index of the lines that are affected by the issues of a {@link Report}. The index is used to select the issues
+ * that touch the modified lines of a change (e.g., the diff of a pull request). For each file, the index stores the
+ * line ranges of the issues in an interval tree: the primary range of an issue as well as all additional {@link
+ * Issue#getLineRanges() line ranges}. Issues that have no line number (i.e., issues that affect the whole file) are
+ * touched by every change of their file.
+ *
+ * <p>
+ * The index is immutable: it is not updated if the report is modified after the index has been created. Finding the
+ * issues of a changed range requires O(log n + k) steps, where n is the number of ranges in the affected file and k is
+ * the number of ranges that overlap with the changed range.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ChangedLinesIndex {
+    private static final int WHOLE_FILE = Integer.MAX_VALUE;
+
+    private final Report report;
+    private final List<Issue> issues = new ArrayList<>();
+    private final Map<String, IntervalTree> treesByFile = new HashMap<>();
+
+    /**
+     * Creates a new index of the issues of the specified report. The issues are indexed by their {@link
+     * Issue#getFileName() file names}.
+     *
+     * @param report
+     *         the report to index
+     */
+    public ChangedLinesIndex(final Report report) {
+        this(report, Issue::getFileName);
+    }
+
+    /**
+     * Creates a new index of the issues of the specified report.
+     *
+     * @param report
+     *         the report to index
+     * @param fileNameMapper
+     *         maps each issue to the file name that is used as key of the index, e.g. {@link Issue#getFileName()} or
+     *         {@link Issue#getAbsolutePath()}
+     */
+    public ChangedLinesIndex(final Report report, final Function<? super Issue, String> fileNameMapper) {
+        this.report = report;
+
+        Map<String, IntervalTree> builders = new HashMap<>();
+        for (Issue issue : report) {
+            int position = issues.size();
+            issues.add(issue);
+
+            IntervalTree tree = builders.computeIfAbsent(fileNameMapper.apply(issue), key -> new IntervalTree());
+            if (issue.getLineStart() == 0) {
+                tree.add(0, WHOLE_FILE, position);
+            }
+            else {
+                tree.add(issue.getLineStart(), issue.getLineEnd(), position);
+            }
+            for (LineRange lineRange : issue.getLineRanges()) {
+                tree.add(lineRange.getStart(), lineRange.getEnd(), position);
+            }
+        }
+        for (Entry<String, IntervalTree> entry : builders.entrySet()) {
+            entry.getValue().build();
+            treesByFile.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns the number of files in this index.
+     *
+     * @return the number of files
+     */
+    public int getNumberOfFiles() {
+        return treesByFile.size();
+    }
+
+    /**
+     * Finds all issues that touch the specified changed lines. The returned report contains the matching issues in the
+     * order of the indexed report and the same properties as the indexed report.
+     *
+     * @param changedLines
+     *         the changed lines, mapped by file name
+     *
+     * @return a report with the issues that touch at least one of the changed lines
+     */
+    public Report filter(final Map<String, ? extends Collection<LineRange>> changedLines) {
+        BitSet matches = new BitSet(issues.size());
+        for (Entry<String, ? extends Collection<LineRange>> entry : changedLines.entrySet()) {
+            IntervalTree tree = treesByFile.get(entry.getKey());
+            if (tree != null) {
+                for (LineRange changed : entry.getValue()) {
+                    tree.findOverlapping(changed.getStart(), changed.getEnd(), matches);
+                }
+            }
+        }
+
+        Report filtered = report.copyEmptyInstance();
+        List<Issue> matchingIssues = new ArrayList<>(matches.cardinality());
+        for (int position = matches.nextSetBit(0); position >= 0; position = matches.nextSetBit(position + 1)) {
+            matchingIssues.add(issues.get(position));
+        }
+        filtered.addAll(matchingIssues);
+        return filtered;
+    }
+
+    /**
+     * A static interval tree of the ranges of a single file. The ranges are sorted by their start lines and stored in
+     * arrays: the tree is an implicit balanced binary search tree where the root of each subarray is its middle element.
+     * Each node additionally stores the maximum end line of its subtree, so subtrees that end before a query range can
+     * be skipped.
+     */
+    private static class IntervalTree {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private int size;
+        private int[] starts = new int[INITIAL_CAPACITY];
+        private int[] ends = new int[INITIAL_CAPACITY];
+        private int[] positions = new int[INITIAL_CAPACITY];
+        private int[] maximumEnds = new int[0];
+
+        void add(final int start, final int end, final int position) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            positions[size] = position;
+            size++;
+        }
+
+        void build() {
+            long[] order = new long[size]; // line numbers are not negative: sort by start, then by index
+            for (int i = 0; i < size; i++) {
+                order[i] = (long) starts[i] << Integer.SIZE | i;
+            }
+            Arrays.sort(order);
+
+            int[] sortedStarts = new int[size];
+            int[] sortedEnds = new int[size];
+            int[] sortedPositions = new int[size];
+            for (int i = 0; i < size; i++) {
+                int index = (int) order[i];
+                sortedStarts[i] = starts[index];
+                sortedEnds[i] = ends[index];
+                sortedPositions[i] = positions[index];
+            }
+            starts = sortedStarts;
+            ends = sortedEnds;
+            positions = sortedPositions;
+
+            maximumEnds = new int[size];
+            computeMaximumEnd(0, size - 1);
+        }
+
+        private int computeMaximumEnd(final int low, final int high) {
+            if (low > high) {
+                return -1;
+            }
+            int middle = (low + high) >>> 1;
+            int maximum = Math.max(ends[middle],
+                    Math.max(computeMaximumEnd(low, middle - 1), computeMaximumEnd(middle + 1, high)));
+            maximumEnds[middle] = maximum;
+            return maximum;
+        }
+
+        void findOverlapping(final int from, final int to, final BitSet matches) {
+            findOverlapping(0, size - 1, from, to, matches);
+        }
+
+        private void findOverlapping(final int low, final int high, final int from, final int to,
+                final BitSet matches) {
+            if (low > high) {
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            if (maximumEnds[middle] < from) {
+                return; // all ranges of this subtree end before the query range
+            }
+            findOverlapping(low, middle - 1, from, to, matches);
+            if (starts[middle] <= to) {
+                if (ends[middle] >= from) {
+                    matches.set(positions[middle]);
+                }
+                findOverlapping(middle + 1, high, from, to, matches);
+            }
+        }
+    }
+}
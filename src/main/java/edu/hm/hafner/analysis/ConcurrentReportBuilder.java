@@ -0,0 +1,209 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.google.errorprone.annotations.FormatMethod;
+
+/**
+ * Creates a {@link Report} from issues that are created by several parsers in parallel. Each parser obtains its own
+ * {@link Sink} using {@link #createSink(String)} and adds its issues to that sink. The sinks may be used concurrently
+ * by different threads, but each sink must be used by a single thread only. Duplicates are detected while the issues
+ * are added: the builder keeps a concurrent index of all issues, so the duplicates are already resolved when the
+ * report is created. Issues without origin get the ID and name of the builder as origin when they are added.
+ *
+ * <p>
+ * The order of the issues in the created report does not depend on the scheduling of the parser threads: the sinks
+ * are ordered by their input name (e.g., the name of the parsed file) and the issues of a sink are ordered as they
+ * have been added. If an issue has been added several times, then the first issue according to this order is part of
+ * the report, all other issues are counted as duplicates.
+ * </p>
+ *
+ * <p>
+ * The report is created by {@link #build()} once all parsers have finished.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ConcurrentReportBuilder {
+    private static final String DEFAULT_ID = "-"; // see Report
+
+    private static final Comparator<Sink> SINK_ORDER = Comparator.comparing((Sink sink) -> sink.inputName)
+            .thenComparingInt(sink -> sink.creationIndex);
+
+    private final String id;
+    private final String name;
+    private final List<Sink> sinks = new CopyOnWriteArrayList<>();
+    private final AtomicInteger sinkCount = new AtomicInteger();
+    private final Map<Issue, Position> positions = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new builder for a report with the default ID and name.
+     */
+    public ConcurrentReportBuilder() {
+        this(DEFAULT_ID, DEFAULT_ID);
+    }
+
+    /**
+     * Creates a new builder for a report with the specified ID and name.
+     *
+     * @param id
+     *         the ID of the report
+     * @param name
+     *         a human-readable name for the report
+     */
+    public ConcurrentReportBuilder(final String id, final String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    /**
+     * Creates a new sink for the issues of the specified input. The returned sink must be used by a single thread
+     * only.
+     *
+     * @param inputName
+     *         the name of the input (e.g. the name of the parsed file) that determines the order of the issues in the
+     *         created report
+     *
+     * @return the new sink
+     */
+    public Sink createSink(final String inputName) {
+        Sink sink = new Sink(inputName, sinkCount.getAndIncrement());
+        sinks.add(sink);
+        return sink;
+    }
+
+    /**
+     * Creates the report with the issues of all sinks. This method must not be called before all threads have added
+     * their issues.
+     *
+     * @return the created report
+     */
+    public Report build() {
+        List<Sink> ordered = new ArrayList<>(sinks);
+        ordered.sort(SINK_ORDER);
+
+        List<Issue> unique = new ArrayList<>(positions.size());
+        int duplicates = 0;
+        for (Sink sink : ordered) {
+            List<Issue> issues = sink.issues;
+            for (int index = 0; index < issues.size(); index++) {
+                Issue issue = issues.get(index);
+                Position position = positions.get(issue);
+                if (position != null && position.isAt(sink, index)) {
+                    unique.add(issue);
+                }
+                else {
+                    duplicates++;
+                }
+            }
+        }
+
+        Report report = Report.fromUniqueIssues(id, name, unique, duplicates);
+        for (Sink sink : ordered) {
+            sink.infoMessages.forEach(message -> report.logInfo("%s", message));
+            sink.errorMessages.forEach(message -> report.logError("%s", message));
+        }
+        return report;
+    }
+
+    private boolean hasId() {
+        return !DEFAULT_ID.equals(id) && StringUtils.isNoneBlank(id);
+    }
+
+    private void register(final Issue issue, final Sink sink, final int index) {
+        positions.merge(issue, new Position(sink, index), Position::first);
+    }
+
+    /**
+     * Collects the issues of a single parser. A sink must be used by a single thread only.
+     */
+    public final class Sink {
+        private final String inputName;
+        private final int creationIndex;
+        private final List<Issue> issues = new ArrayList<>();
+        private final List<String> infoMessages = new ArrayList<>();
+        private final List<String> errorMessages = new ArrayList<>();
+
+        private Sink(final String inputName, final int creationIndex) {
+            this.inputName = inputName;
+            this.creationIndex = creationIndex;
+        }
+
+        /**
+         * Appends the specified issue to this sink.
+         *
+         * @param issue
+         *         the issue to append
+         *
+         * @return this
+         */
+        public Sink add(final Issue issue) {
+            if (hasId() && !issue.hasOrigin()) { // the origin is part of equals, see Report#add
+                issue.setOrigin(id, name);
+            }
+            register(issue, this, issues.size());
+            issues.add(issue);
+            return this;
+        }
+
+        /**
+         * Logs the specified information message.
+         *
+         * @param format
+         *         A <a href="../util/Formatter.html#syntax">format string</a>
+         * @param args
+         *         Arguments referenced by the format specifiers in the format string.
+         */
+        @FormatMethod
+        public void logInfo(final String format, final Object... args) {
+            infoMessages.add(String.format(format, args));
+        }
+
+        /**
+         * Logs the specified error message.
+         *
+         * @param format
+         *         A <a href="../util/Formatter.html#syntax">format string</a>
+         * @param args
+         *         Arguments referenced by the format specifiers in the format string.
+         */
+        @FormatMethod
+        public void logError(final String format, final Object... args) {
+            errorMessages.add(String.format(format, args));
+        }
+    }
+
+    /**
+     * The position of an issue: the sink and the index within the sink.
+     */
+    private static final class Position {
+        private final Sink sink;
+        private final int index;
+
+        Position(final Sink sink, final int index) {
+            this.sink = sink;
+            this.index = index;
+        }
+
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        boolean isAt(final Sink otherSink, final int otherIndex) {
+            return sink == otherSink && index == otherIndex;
+        }
+
+        Position first(final Position other) {
+            int order = SINK_ORDER.compare(sink, other.sink);
+            if (order < 0 || order == 0 && index <= other.index) {
+                return this;
+            }
+            return other;
+        }
+    }
+}
@@ -48,10 +48,12 @@ public class FileNameResolver {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
 
         try (IssueBuilder builder = new IssueBuilder()) {
-            report.stream()
-                    .filter(issue -> pathMapping.containsKey(issue.getFileName()))
-                    .forEach(issue -> issue.setFileName(sourceDirectoryPrefix,
-                            builder.internFileName(pathMapping.get(issue.getFileName()))));
+            report.modifyIssues(issue -> {
+                if (pathMapping.containsKey(issue.getFileName())) {
+                    issue.setFileName(sourceDirectoryPrefix,
+                            builder.internFileName(pathMapping.get(issue.getFileName())));
+                }
+            });
         }
         report.logInfo("-> resolved paths in source directory (%d found, %d not found)",
                 pathMapping.size(), filesToProcess.size() - pathMapping.size());
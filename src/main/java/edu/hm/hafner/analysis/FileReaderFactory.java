@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
+import java.util.function.Function;
 import javax.xml.stream.XMLStreamReader;
 
 import org.apache.commons.io.input.BOMInputStream;
@@ -40,7 +41,23 @@ public class FileReaderFactory extends ReaderFactory {
      *         the charset to use when reading the file (or {@code null} if the charset should be detected)
      */
     public FileReaderFactory(final Path file, final @CheckForNull Charset charset) {
-        super(StandardCharsets.UTF_8);
+        this(file, charset, LinePreprocessor.DEFAULT);
+    }
+
+    /**
+     * Creates a new factory to read the specified file with a given charset. Each line of the file will be
+     * transformed by the specified preprocessor.
+     *
+     * @param file
+     *         the file to open
+     * @param charset
+     *         the charset to use when reading the file (or {@code null} if the charset should be detected)
+     * @param preprocessor
+     *         the preprocessor that removes color codes, timestamps, etc. from each line
+     */
+    public FileReaderFactory(final Path file, final @CheckForNull Charset charset,
+            final LinePreprocessor preprocessor) {
+        super(StandardCharsets.UTF_8, Function.identity(), preprocessor);
 
         this.file = file;
         this.charset = charset;
@@ -7,10 +7,21 @@ import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.file.InvalidPathException;
 import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
 import edu.hm.hafner.util.VisibleForTesting;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Creates fingerprints for a set of issues.
@@ -19,7 +30,8 @@ import edu.hm.hafner.util.VisibleForTesting;
  */
 public class FingerprintGenerator {
     /**
-     * Creates fingerprints for the specified set of issues.
+     * Creates fingerprints for the specified set of issues. The issues are grouped by their affected files so that
+     * each file is read only once.
      *
      * @param algorithm
      *         fingerprinting algorithm
@@ -29,40 +41,102 @@ public class FingerprintGenerator {
      *         the character set to use when reading the source files
      */
     public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset) {
+        run(report, charset, issuesByFile -> issuesByFile.entrySet().stream()
+                .map(entry -> computeFingerprints(entry.getKey(), entry.getValue(), algorithm, charset))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Creates fingerprints for the specified set of issues using the threads of the specified pool. The issues are
+     * grouped by their affected files so that each file is read only once. The files are read in parallel, the
+     * fingerprints are assigned afterwards in the order of the report.
+     *
+     * @param algorithm
+     *         fingerprinting algorithm
+     * @param report
+     *         the issues to analyze
+     * @param charset
+     *         the character set to use when reading the source files
+     * @param pool
+     *         the pool that reads the files and computes the fingerprints
+     */
+    public void run(final FullTextFingerprint algorithm, final Report report, final Charset charset,
+            final ForkJoinPool pool) {
+        run(report, charset, issuesByFile -> {
+            List<ForkJoinTask<FileFingerprints>> tasks = new ArrayList<>();
+            for (Entry<String, List<Issue>> entry : issuesByFile.entrySet()) {
+                tasks.add(pool.submit(
+                        () -> computeFingerprints(entry.getKey(), entry.getValue(), algorithm, charset)));
+            }
+            return tasks.stream().map(ForkJoinTask::join).collect(Collectors.toList());
+        });
+    }
+
+    private void run(final Report report, final Charset charset,
+            final Function<Map<String, List<Issue>>, List<FileFingerprints>> fingerprinter) {
         FilteredLog log = new FilteredLog(report, "Can't create fingerprints for some files:");
-        int sum = 0;
+
+        Map<String, List<Issue>> issuesByFile = new LinkedHashMap<>();
         for (Issue issue : report) {
             if (!issue.hasFingerprint()) {
-                sum += computeFingerprint(issue, algorithm, charset, log);
+                if (issue.hasFileName()) {
+                    issuesByFile.computeIfAbsent(issue.getAbsolutePath(), key -> new ArrayList<>()).add(issue);
+                }
+                else {
+                    issue.setFingerprint(createDefaultFingerprint(issue));
+                }
             }
         }
+
+        int sum = 0;
+        for (FileFingerprints result : fingerprinter.apply(issuesByFile)) {
+            sum += assignFingerprints(result, charset, log);
+        }
         report.logInfo("-> created fingerprints for %d issues (skipped %d issues)", sum, report.size() - sum);
         log.logSummary();
     }
 
-    private int computeFingerprint(final Issue issue, final FullTextFingerprint algorithm, final Charset charset,
-            final FilteredLog log) {
-        String absolutePath = issue.getAbsolutePath();
+    private FileFingerprints computeFingerprints(final String absolutePath, final List<Issue> issues,
+            final FullTextFingerprint algorithm, final Charset charset) {
+        List<Integer> lines = issues.stream().map(Issue::getLineStart).collect(Collectors.toList());
         try {
-            if (issue.hasFileName()) {
-                String digest = algorithm.compute(absolutePath, issue.getLineStart(), charset);
-                issue.setFingerprint(digest);
-                return 1;
-            }
-        }
-        catch (FileNotFoundException | NoSuchFileException exception) {
-            log.logError("- '%s' file not found", absolutePath);
+            return new FileFingerprints(absolutePath, issues, algorithm.compute(absolutePath, lines, charset));
         }
         catch (IOException | InvalidPathException | UncheckedIOException exception) {
-            if (exception.getCause() instanceof MalformedInputException) {
-                log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
+            return new FileFingerprints(absolutePath, issues, exception);
+        }
+    }
+
+    private int assignFingerprints(final FileFingerprints result, final Charset charset, final FilteredLog log) {
+        Exception exception = result.exception;
+        if (exception != null) {
+            logError(result.absolutePath, charset, log, exception);
+        }
+        int sum = 0;
+        for (Issue issue : result.issues) {
+            String digest = result.fingerprints.get(issue.getLineStart());
+            if (digest == null) {
+                issue.setFingerprint(createDefaultFingerprint(issue));
             }
             else {
-                log.logError("- '%s', IO exception has been thrown: %s", absolutePath, exception);
+                issue.setFingerprint(digest);
+                sum++;
             }
         }
-        issue.setFingerprint(createDefaultFingerprint(issue));
-        return 0;
+        return sum;
+    }
+
+    private void logError(final String absolutePath, final Charset charset, final FilteredLog log,
+            final Exception error) {
+        if (error instanceof FileNotFoundException || error instanceof NoSuchFileException) {
+            log.logError("- '%s' file not found", absolutePath);
+        }
+        else if (error.getCause() instanceof MalformedInputException) {
+            log.logError("- '%s', provided encoding '%s' seems to be wrong", absolutePath, charset);
+        }
+        else {
+            log.logError("- '%s', IO exception has been thrown: %s", absolutePath, error);
+        }
     }
 
     @VisibleForTesting
@@ -76,4 +150,29 @@ public class FingerprintGenerator {
                         .append(issue.getOrigin())
                         .append(issue.getLineStart()).build());
     }
+
+    /**
+     * The fingerprints of the issues of a single file, or the exception that has been thrown while reading the file.
+     */
+    private static class FileFingerprints {
+        private final String absolutePath;
+        private final List<Issue> issues;
+        private final Map<Integer, String> fingerprints;
+        @CheckForNull
+        private final Exception exception;
+
+        FileFingerprints(final String absolutePath, final List<Issue> issues, final Map<Integer, String> fingerprints) {
+            this.absolutePath = absolutePath;
+            this.issues = issues;
+            this.fingerprints = fingerprints;
+            exception = null;
+        }
+
+        FileFingerprints(final String absolutePath, final List<Issue> issues, final Exception exception) {
+            this.absolutePath = absolutePath;
+            this.issues = issues;
+            this.exception = exception;
+            fingerprints = Collections.emptyMap();
+        }
+    }
 }
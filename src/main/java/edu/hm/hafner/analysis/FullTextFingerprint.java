@@ -7,8 +7,15 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Paths;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
@@ -32,6 +39,7 @@ public class FullTextFingerprint {
 
     @SuppressWarnings("PMD.AvoidMessageDigestField")
     private final MessageDigest digest;
+    private final ThreadLocal<MessageDigest> workerDigest = ThreadLocal.withInitial(FullTextFingerprint::createDigest);
     private final FileSystem fileSystem;
 
     /**
@@ -45,8 +53,13 @@ public class FullTextFingerprint {
     @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
     FullTextFingerprint(final FileSystem fileSystem) {
         this.fileSystem = fileSystem;
+        digest = createDigest();
+    }
+
+    @SuppressFBWarnings(value = "WEAK_MESSAGE_DIGEST_MD5", justification = "The fingerprint is just used to track new warnings")
+    private static MessageDigest createDigest() {
         try {
-            digest = MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
+            return MessageDigest.getInstance("MD5"); // lgtm [java/weak-cryptographic-algorithm]
         }
         catch (NoSuchAlgorithmException e) {
             throw new IllegalStateException(e);
@@ -76,6 +89,38 @@ public class FullTextFingerprint {
         }
     }
 
+    /**
+     * Creates the fingerprints of all specified lines of the affected file. The file is read only once: the contexts of
+     * all lines are extracted in a single pass that stops as soon as the context of the last line is complete. This
+     * method is thread safe, i.e., several files can be fingerprinted in parallel, each worker thread uses its own
+     * message digest.
+     *
+     * @param fileName
+     *         the absolute path of the affected file
+     * @param lines
+     *         the lines of the issues in the affected file
+     * @param charset
+     *         the encoding to be used when reading the affected file
+     *
+     * @return the fingerprints of the selected lines, mapped by line number
+     * @throws IOException
+     *         if the file could not be read
+     */
+    public Map<Integer, String> compute(final String fileName, final Collection<Integer> lines, final Charset charset)
+            throws IOException {
+        try (Stream<String> content = fileSystem.readLinesFromFile(fileName, charset)) {
+            Map<Integer, String> contexts = extractContexts(new TreeSet<>(lines), content.iterator());
+
+            MessageDigest lineDigest = workerDigest.get();
+            Map<Integer, String> fingerprints = new HashMap<>();
+            for (Map.Entry<Integer, String> context : contexts.entrySet()) {
+                lineDigest.update(context.getValue().getBytes(charset));
+                fingerprints.put(context.getKey(), asHex(lineDigest.digest()).toUpperCase(Locale.ENGLISH));
+            }
+            return fingerprints;
+        }
+    }
+
     @VisibleForTesting
     String getFallbackFingerprint(final String fileName) {
         return String.format("%x", fileName.hashCode());
@@ -120,6 +165,63 @@ public class FullTextFingerprint {
         return context.toString();
     }
 
+    /**
+     * Extracts the contexts of all affected lines in a single pass. The lines of the file are kept in a sliding window
+     * that is large enough to contain a whole context. Since the affected lines are processed in ascending order of
+     * their start lines, the context of an affected line is complete as soon as its last line has been read (or the
+     * file has been read completely).
+     */
+    @VisibleForTesting
+    Map<Integer, String> extractContexts(final NavigableSet<Integer> affectedLines, final Iterator<String> lines) {
+        Map<Integer, String> contexts = new HashMap<>();
+        NavigableSet<Integer> pending = new TreeSet<>();
+        for (Integer affectedLine : affectedLines) {
+            if (affectedLine < 0) {
+                contexts.put(affectedLine, StringUtils.EMPTY);
+            }
+            else {
+                pending.add(computeStartLine(affectedLine));
+            }
+        }
+
+        Deque<String> window = new ArrayDeque<>();
+        int line = 0;
+        while (!pending.isEmpty() && lines.hasNext()) {
+            line++;
+            window.addLast(lines.next());
+            if (window.size() > 2 * LINES_LOOK_AHEAD + 1) {
+                window.removeFirst();
+            }
+            while (!pending.isEmpty() && pending.first() + LINES_LOOK_AHEAD == line) {
+                addContext(contexts, affectedLines, pending.pollFirst(), window, line);
+            }
+        }
+        for (Integer start : pending) {
+            addContext(contexts, affectedLines, start, window, line);
+        }
+
+        return contexts;
+    }
+
+    private void addContext(final Map<Integer, String> contexts, final NavigableSet<Integer> affectedLines,
+            final int start, final Deque<String> window, final int lastLine) {
+        StringBuilder context = new StringBuilder(LINE_RANGE_BUFFER_SIZE);
+        int line = lastLine - window.size() + 1;
+        for (String content : window) {
+            if (line >= start - LINES_LOOK_AHEAD && line <= start + LINES_LOOK_AHEAD) {
+                context.append(content);
+            }
+            line++;
+        }
+        String text = context.toString();
+        if (affectedLines.contains(start)) {
+            contexts.put(start, text);
+        }
+        if (start == computeStartLine(0) && affectedLines.contains(0)) {
+            contexts.put(0, text);
+        }
+    }
+
     private int computeStartLine(final int affectedLine) {
         if (affectedLine == 0) { // indicates the whole file
             return LINES_LOOK_AHEAD + 1;
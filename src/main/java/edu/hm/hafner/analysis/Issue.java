@@ -1,5 +1,7 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.util.UUID;
@@ -29,6 +31,9 @@ public class Issue implements Serializable {
 
     static final String UNDEFINED = "-";
 
+    /** Marks a valid {@link #cachedHashCode}, the lower 32 bits contain the actual hash code. */
+    private static final long HASH_CODE_CACHED = 1L << 32;
+
     /**
      * Returns the value of the property with the specified name for a given issue instance.
      *
@@ -169,7 +174,10 @@ public class Issue implements Serializable {
 
     private final LineRangeList lineRanges; // fixed
 
-    private final UUID id;                  // fixed
+    @CheckForNull
+    private UUID id;                        // fixed, created on demand
+    private transient IssueIdGenerator idGenerator;
+    private transient long idSequence;
 
     @CheckForNull
     private final Serializable additionalProperties;  // fixed
@@ -188,6 +196,8 @@ public class Issue implements Serializable {
 
     private String fingerprint;     // mutable, not part of equals
 
+    private transient long cachedHashCode; // see HASH_CODE_CACHED
+
     /**
      * Creates a new instance of {@link Issue} using the properties of the other issue instance. The new issue has the
      * same ID as the copy.
@@ -206,8 +216,8 @@ public class Issue implements Serializable {
     }
 
     /**
-     * Creates a new instance of {@link Issue} using the specified properties. The new issue will get a new generated
-     * ID.
+     * Creates a new instance of {@link Issue} using the specified properties. The new issue will get a new random ID
+     * that is created on demand.
      *
      * @param pathName
      *         the path that contains the affected file
@@ -261,7 +271,7 @@ public class Issue implements Serializable {
             @CheckForNull final Serializable additionalProperties) {
         this(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
                 packageName, moduleName, severity, message, description, origin, originName, reference,
-                fingerprint, additionalProperties, UUID.randomUUID());
+                fingerprint, additionalProperties, IssueIdGenerator.random());
     }
 
     /**
@@ -320,6 +330,83 @@ public class Issue implements Serializable {
             @CheckForNull final String reference, @CheckForNull final String fingerprint,
             @CheckForNull final Serializable additionalProperties,
             final UUID id) {
+        this(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
+                packageName, moduleName, severity, message, description, origin, originName, reference,
+                fingerprint, additionalProperties, id, IssueIdGenerator.random(), 0);
+    }
+
+    /**
+     * Creates a new instance of {@link Issue} using the specified properties.
+     *
+     * @param pathName
+     *         the path that contains the affected file
+     * @param fileName
+     *         the name of the file that contains this issue
+     * @param lineStart
+     *         the first line of this issue (lines start at 1; 0 indicates the whole file)
+     * @param lineEnd
+     *         the last line of this issue (lines start at 1)
+     * @param columnStart
+     *         the first column of this issue (columns start at 1, 0 indicates the whole line)
+     * @param columnEnd
+     *         the last column of this issue (columns start at 1)
+     * @param lineRanges
+     *         additional line ranges of this issue
+     * @param category
+     *         the category of this issue (depends on the available categories of the static analysis tool)
+     * @param type
+     *         the type of this issue (depends on the available types of the static analysis tool)
+     * @param packageName
+     *         the name of the package (or name space) that contains this issue
+     * @param moduleName
+     *         the name of the moduleName (or project) that contains this issue
+     * @param severity
+     *         the severity of this issue
+     * @param message
+     *         the detail message of this issue
+     * @param description
+     *         the description for this issue
+     * @param origin
+     *         the ID of the tool that did report this issue
+     * @param originName
+     *         the name of the tool that did report this issue
+     * @param reference
+     *         an arbitrary reference to the execution of the static analysis tool (build ID, timestamp, etc.)
+     * @param fingerprint
+     *         the fingerprint for this issue
+     * @param additionalProperties
+     *         additional properties from the statical analysis tool
+     * @param idGenerator
+     *         the generator that creates the ID of this issue on demand
+     */
+    @SuppressWarnings("ParameterNumber")
+    Issue(@CheckForNull final String pathName, final TreeString fileName, final int lineStart, final int lineEnd,
+            final int columnStart,
+            final int columnEnd, @CheckForNull final Iterable<? extends LineRange> lineRanges,
+            @CheckForNull final String category,
+            @CheckForNull final String type, final TreeString packageName,
+            @CheckForNull final String moduleName, @CheckForNull final Severity severity,
+            final TreeString message, final String description,
+            @CheckForNull final String origin, @CheckForNull final String originName,
+            @CheckForNull final String reference, @CheckForNull final String fingerprint,
+            @CheckForNull final Serializable additionalProperties,
+            final IssueIdGenerator idGenerator) {
+        this(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges, category, type,
+                packageName, moduleName, severity, message, description, origin, originName, reference,
+                fingerprint, additionalProperties, null, idGenerator, idGenerator.nextSequence());
+    }
+
+    @SuppressWarnings("ParameterNumber")
+    private Issue(@CheckForNull final String pathName, final TreeString fileName, final int lineStart,
+            final int lineEnd, final int columnStart, final int columnEnd,
+            @CheckForNull final Iterable<? extends LineRange> lineRanges,
+            @CheckForNull final String category, @CheckForNull final String type, final TreeString packageName,
+            @CheckForNull final String moduleName, @CheckForNull final Severity severity,
+            final TreeString message, final String description,
+            @CheckForNull final String origin, @CheckForNull final String originName,
+            @CheckForNull final String reference, @CheckForNull final String fingerprint,
+            @CheckForNull final Serializable additionalProperties,
+            @CheckForNull final UUID id, final IssueIdGenerator idGenerator, final long idSequence) {
 
         this.pathName = normalizeFileName(pathName);
         this.fileName = fileName;
@@ -349,7 +436,7 @@ public class Issue implements Serializable {
         if (lineRanges != null) {
             this.lineRanges.addAll(lineRanges);
         }
-        this.category = StringUtils.defaultString(category).intern();
+        this.category = StringUtils.defaultString(category);
         this.type = defaultString(type);
 
         this.packageName = packageName;
@@ -357,7 +444,7 @@ public class Issue implements Serializable {
 
         this.severity = severity == null ? Severity.WARNING_NORMAL : severity;
         this.message = message;
-        this.description = description.intern();
+        this.description = description;
 
         this.origin = stripToEmpty(origin);
         this.originName = stripToEmpty(originName);
@@ -367,41 +454,65 @@ public class Issue implements Serializable {
         this.additionalProperties = additionalProperties;
 
         this.id = id;
+        this.idGenerator = idGenerator;
+        this.idSequence = idSequence;
+    }
+
+    /**
+     * Creates the ID of this issue before the issue is serialized.
+     *
+     * @param output
+     *         the stream to write this issue to
+     *
+     * @throws IOException
+     *         if the issue could not be written
+     */
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        getId();
+        output.defaultWriteObject();
     }
 
     /**
-     * Called after de-serialization to improve the memory usage.
+     * Called after de-serialization to initialize fields that have been introduced after the first release. The
+     * strings of the issue are not interned: the strings of an issue that is part of a serialized {@link Report} are
+     * deduplicated using the {@link StringPool} of the report, a single issue is deduplicated as soon as it is added
+     * to a report.
      *
      * @return this
      */
     @SuppressFBWarnings(value = "RCN_REDUNDANT_NULLCHECK_OF_NONNULL_VALUE", justification = "Deserialization of instances that do not have all fields yet")
     protected Object readResolve() {
-        category = category.intern();
-        type = type.intern();
-        moduleName = moduleName.intern();
-        origin = origin.intern();
-        reference = reference.intern();
+        idGenerator = IssueIdGenerator.random();
         if (pathName == null) { // new in version 8.0.0
             pathName = UNDEFINED;
         }
-        else {
-            pathName = pathName.intern();
-        }
         if (description == null) { // String in version 8.0.0
             description = UNDEFINED;
         }
-        else {
-            description = description.intern();
-        }
         if (originName == null) { // new in version 10.0.0
             originName = StringUtils.EMPTY;
         }
-        else {
-            originName = originName.intern();
-        }
         return this;
     }
 
+    /**
+     * Replaces the string properties of this issue with the canonical instances of the specified pool. Called by the
+     * report that contains this issue so that all issues of the report share equal strings.
+     *
+     * @param pool
+     *         the string pool of the report
+     */
+    void deduplicate(final StringPool pool) {
+        pathName = pool.dedup(pathName);
+        category = pool.dedup(category);
+        type = pool.dedup(type);
+        moduleName = pool.dedup(moduleName);
+        description = pool.dedup(description);
+        origin = pool.dedup(origin);
+        originName = pool.dedup(originName);
+        reference = pool.dedup(reference);
+    }
+
     private String normalizeFileName(@CheckForNull final String platformFileName) {
         if (platformFileName == null || UNDEFINED.equals(platformFileName) || StringUtils.isBlank(platformFileName)) {
             return UNDEFINED;
@@ -430,7 +541,7 @@ public class Issue implements Serializable {
      * @return the valid string or a default string if the specified string is not valid
      */
     private String defaultString(@CheckForNull final String string) {
-        return StringUtils.defaultIfEmpty(string, UNDEFINED).intern();
+        return StringUtils.defaultIfEmpty(string, UNDEFINED);
     }
 
     /**
@@ -442,7 +553,7 @@ public class Issue implements Serializable {
      * @return the stripped string or the empty string if the specified string is {@code null}
      */
     private String stripToEmpty(@CheckForNull final String string) {
-        return StringUtils.stripToEmpty(string).intern();
+        return StringUtils.stripToEmpty(string);
     }
 
     /**
@@ -451,7 +562,17 @@ public class Issue implements Serializable {
      * @return the unique ID
      */
     public UUID getId() {
-        return id;
+        UUID created = id;
+        if (created == null) {
+            synchronized (this) {
+                created = id;
+                if (created == null) {
+                    created = idGenerator.getId(idSequence);
+                    id = created;
+                }
+            }
+        }
+        return created;
     }
 
     /**
@@ -482,8 +603,21 @@ public class Issue implements Serializable {
      * @return the folder of the file that contains this issue
      */
     public String getFolder() {
+        return getFolderOf(getFileName());
+    }
+
+    /**
+     * Returns the folder that contains the specified file.
+     *
+     * @param fileName
+     *         the name of the file
+     *
+     * @return the folder of the file
+     * @see #getFolder()
+     */
+    static String getFolderOf(final String fileName) {
         try {
-            String folder = FilenameUtils.getPath(getFileName());
+            String folder = FilenameUtils.getPath(fileName);
             if (StringUtils.isBlank(folder)) {
                 return UNDEFINED;
             }
@@ -535,6 +669,10 @@ public class Issue implements Serializable {
 
     /**
      * Sets the name of the file that contains this issue.
+     * <p>
+     * The file name is part of {@link #equals(Object)}: the issues of a {@link Report} must be modified using {@link
+     * Report#modifyIssues(java.util.function.Consumer)} so that the report is able to update its indexes.
+     * </p>
      *
      * @param pathName
      *         the path that contains the affected file
@@ -546,6 +684,8 @@ public class Issue implements Serializable {
     void setFileName(final String pathName, final TreeString fileName) {
         this.pathName = normalizeFileName(pathName);
         this.fileName = fileName;
+
+        invalidateHashCode();
     }
 
     /**
@@ -683,12 +823,18 @@ public class Issue implements Serializable {
 
     /**
      * Sets the name of the package or name space (or similar concept) that contains this issue.
+     * <p>
+     * The package name is part of {@link #equals(Object)}: the issues of a {@link Report} must be modified using {@link
+     * Report#modifyIssues(java.util.function.Consumer)} so that the report is able to update its indexes.
+     * </p>
      *
      * @param packageName
      *         the name of the package
      */
     void setPackageName(final TreeString packageName) {
         this.packageName = packageName;
+
+        invalidateHashCode();
     }
 
     /**
@@ -712,12 +858,18 @@ public class Issue implements Serializable {
 
     /**
      * Sets the the name of the module or project (or similar concept) that contains this issue.
+     * <p>
+     * The module name is part of {@link #equals(Object)}: the issues of a {@link Report} must be modified using {@link
+     * Report#modifyIssues(java.util.function.Consumer)} so that the report is able to update its indexes.
+     * </p>
      *
      * @param moduleName
      *         the module name to set
      */
     void setModuleName(@CheckForNull final String moduleName) {
         this.moduleName = stripToEmpty(moduleName);
+
+        invalidateHashCode();
     }
 
     /**
@@ -754,18 +906,30 @@ public class Issue implements Serializable {
 
     /**
      * Sets the ID of the tool that did report this issue.
+     * <p>
+     * The origin is part of {@link #equals(Object)}: do not call this method for issues that already have been added
+     * to a {@link Report}, since the report would not find such an issue anymore. Use {@link Report#setOrigin(String,
+     * String)} to change the origin of the issues of a report.
+     * </p>
      *
      * @param origin
      *         the origin
      */
     public void setOrigin(final String origin) {
-        Ensure.that(origin).isNotBlank("Issue origin ID '%s' must be not blank (%s)", id, toString());
+        Ensure.that(origin).isNotBlank("Issue origin ID '%s' must be not blank (%s)", getId(), toString());
 
-        this.origin = origin.intern();
+        this.origin = origin;
+
+        invalidateHashCode();
     }
 
     /**
      * Sets the ID and the name of the tool that did report this issue.
+     * <p>
+     * The origin is part of {@link #equals(Object)}: do not call this method for issues that already have been added
+     * to a {@link Report}, since the report would not find such an issue anymore. Use {@link Report#setOrigin(String,
+     * String)} to change the origin of the issues of a report.
+     * </p>
      *
      * @param originId
      *         the ID of the origin
@@ -773,11 +937,13 @@ public class Issue implements Serializable {
      *         the name of the origin
      */
     public void setOrigin(final String originId, final String name) {
-        setOrigin(originId);
-
+        Ensure.that(originId).isNotBlank("Issue origin ID '%s' must be not blank (%s)", getId(), toString());
         Ensure.that(name).isNotBlank("Issue origin name '%s' must be not blank (%s)", name, toString());
 
-        this.originName = name.intern();
+        this.origin = originId;
+        this.originName = name;
+
+        invalidateHashCode();
     }
 
     /**
@@ -907,8 +1073,21 @@ public class Issue implements Serializable {
         return fileName.equals(issue.fileName);
     }
 
+    private void invalidateHashCode() {
+        cachedHashCode = 0;
+    }
+
     @Override
     public int hashCode() {
+        long cached = cachedHashCode;
+        if ((cached & HASH_CODE_CACHED) == 0) {
+            cached = HASH_CODE_CACHED | (computeHashCode() & 0xFFFF_FFFFL);
+            cachedHashCode = cached;
+        }
+        return (int) cached;
+    }
+
+    private int computeHashCode() {
         int result = category.hashCode();
         result = 31 * result + type.hashCode();
         result = 31 * result + severity.hashCode();
@@ -0,0 +1,115 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Aggregates the values of several properties of the issues of a {@link Report}. For each property, the number of
+ * issues is counted for each distinct value. The severities are counted eagerly, since the number of issues of a given
+ * severity is queried quite often. All other properties are aggregated lazily when the values of the property are
+ * requested for the first time: afterward, these aggregates are updated incrementally when issues are added to or
+ * removed from the report. If issues of the report are modified, then the report replaces the aggregates.
+ *
+ * <p>
+ * Note that the aggregates contain only the issues that are direct elements of a report, the issues of the
+ * sub-reports are aggregated by the sub-reports.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class IssueAggregates {
+    /**
+     * The properties that are aggregated.
+     */
+    enum Property {
+        MODULE(Issue::getModuleName),
+        PACKAGE(Issue::getPackageName),
+        FILE(Issue::getFileName),
+        CATEGORY(Issue::getCategory),
+        TYPE(Issue::getType),
+        TOOL(Issue::getOrigin),
+        SEVERITY(Issue::getSeverity);
+
+        private final Function<Issue, Object> getter;
+
+        Property(final Function<Issue, Object> getter) {
+            this.getter = getter;
+        }
+
+        Object getValue(final Issue issue) {
+            return getter.apply(issue);
+        }
+    }
+
+    private final Map<Property, Map<Object, Integer>> countsByProperty = new EnumMap<>(Property.class);
+
+    /**
+     * Creates empty aggregates.
+     */
+    IssueAggregates() {
+        countsByProperty.put(Property.SEVERITY, new HashMap<>());
+    }
+
+    /**
+     * Adds the properties of the specified issue to these aggregates.
+     *
+     * @param issue
+     *         the added issue
+     */
+    void add(final Issue issue) {
+        for (Map.Entry<Property, Map<Object, Integer>> entry : countsByProperty.entrySet()) {
+            entry.getValue().merge(entry.getKey().getValue(issue), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * Removes the properties of the specified issue from these aggregates.
+     *
+     * @param issue
+     *         the removed issue
+     */
+    void remove(final Issue issue) {
+        for (Map.Entry<Property, Map<Object, Integer>> entry : countsByProperty.entrySet()) {
+            entry.getValue().computeIfPresent(entry.getKey().getValue(issue),
+                    (value, count) -> count == 1 ? null : count - 1);
+        }
+    }
+
+    /**
+     * Returns the number of issues that have the specified severity.
+     *
+     * @param severity
+     *         the severity
+     *
+     * @return the number of issues
+     */
+    int getCount(final Severity severity) {
+        return countsByProperty.get(Property.SEVERITY).getOrDefault(severity, 0);
+    }
+
+    /**
+     * Returns the distinct values of the given property. If the property has not been aggregated yet, then the
+     * values are aggregated from the specified issues.
+     *
+     * @param property
+     *         the property
+     * @param issues
+     *         the issues that have been added to these aggregates
+     *
+     * @return the distinct values
+     */
+    Collection<Object> getValues(final Property property, final Collection<Issue> issues) {
+        return countsByProperty.computeIfAbsent(property, key -> aggregate(key, issues)).keySet();
+    }
+
+    private static Map<Object, Integer> aggregate(final Property property, final Collection<Issue> issues) {
+        Map<Object, Integer> counts = new HashMap<>();
+        for (Issue issue : issues) {
+            counts.merge(property.getValue(issue), 1, Integer::sum);
+        }
+        return counts;
+    }
+}
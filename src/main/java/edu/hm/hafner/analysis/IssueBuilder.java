@@ -77,10 +77,13 @@ public class IssueBuilder implements AutoCloseable {
     @CheckForNull
     private Serializable additionalProperties;
 
-    private UUID id = UUID.randomUUID();
+    @CheckForNull
+    private UUID id;
+    private IssueIdGenerator idGenerator = IssueIdGenerator.sequential();
 
     /**
-     * Sets the unique ID of the issue. If not set then an ID will be generated.
+     * Sets the unique ID of the next issue. If not set then an ID will be generated on demand by the {@link
+     * IssueIdGenerator} of this builder.
      *
      * @param id
      *         the ID
@@ -92,6 +95,21 @@ public class IssueBuilder implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Sets the generator that creates the IDs of the issues. By default, every builder uses its own {@link
+     * IssueIdGenerator#sequential() sequential} generator. Parsers that run concurrently and create the issues of the
+     * same report may share a generator.
+     *
+     * @param idGenerator
+     *         the generator to use
+     *
+     * @return this
+     */
+    public IssueBuilder setIdGenerator(final IssueIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        return this;
+    }
+
     /**
      * Sets additional properties from the statical analysis tool. This object could be used to store tool specific
      * information.
@@ -496,11 +514,10 @@ public class IssueBuilder implements AutoCloseable {
      *
      * @return the created issue
      */
+    @SuppressWarnings("PMD.NullAssignment")
     public Issue build() {
-        Issue issue = new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
-                category, type, packageName, moduleName, severity, message, description,
-                origin, originName, reference, fingerprint, additionalProperties, id);
-        id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
+        Issue issue = createIssue();
+        id = null; // make sure that multiple invocations will create different IDs
         return issue;
     }
 
@@ -511,13 +528,22 @@ public class IssueBuilder implements AutoCloseable {
      * @return the created issue
      */
     public Issue buildAndClean() {
-        Issue issue = new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
-                category, type, packageName, moduleName, severity, message, description,
-                origin, originName, reference, fingerprint, additionalProperties, id);
+        Issue issue = createIssue();
         clean();
         return issue;
     }
 
+    private Issue createIssue() {
+        if (id == null) {
+            return new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
+                    category, type, packageName, moduleName, severity, message, description,
+                    origin, originName, reference, fingerprint, additionalProperties, idGenerator);
+        }
+        return new Issue(pathName, fileName, lineStart, lineEnd, columnStart, columnEnd, lineRanges,
+                category, type, packageName, moduleName, severity, message, description,
+                origin, originName, reference, fingerprint, additionalProperties, id);
+    }
+
     /**
      * Creates a new {@link Issue} based on the specified properties. The returned issue is wrapped in an {@link
      * Optional}. After building the issue, this {@link IssueBuilder} will be reset to its defaults.
@@ -531,7 +557,7 @@ public class IssueBuilder implements AutoCloseable {
 
     @SuppressWarnings("PMD.NullAssignment")
     private void clean() {
-        id = UUID.randomUUID(); // make sure that multiple invocations will create different IDs
+        id = null; // make sure that multiple invocations will create different IDs
 
         lineStart = 0;
         lineEnd = 0;
@@ -568,7 +594,7 @@ public class IssueBuilder implements AutoCloseable {
      * @return the valid string or a default string if the specified string is not valid
      */
     private static String defaultString(@CheckForNull final String string) {
-        return StringUtils.defaultIfEmpty(string, UNDEFINED).intern();
+        return StringUtils.defaultIfEmpty(string, UNDEFINED);
     }
 
     /**
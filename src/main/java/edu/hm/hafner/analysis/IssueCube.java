@@ -0,0 +1,213 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+
+import edu.hm.hafner.util.Ensure;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Counts the issues of a {@link Report} along several dimensions, e.g. severity × module × category. Each dimension is
+ * defined by a function that extracts the value of a property from an issue (see {@link
+ * Issue#getPropertyValueGetter(String)}). The counts are stored in a tree: the first level contains the counts of the
+ * values of the first dimension, the second level contains the counts of the values of the second dimension for each
+ * value of the first dimension, and so on. Optionally, the leaves of the tree store references to the counted issues
+ * so that a dashboard can drill down to the actual issues.
+ *
+ * <p>
+ * A cube is created in a single pass over the issues of a report using {@link Report#aggregate(List, boolean)}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class IssueCube {
+    private final List<Function<? super Issue, String>> dimensions;
+    private final boolean hasIssues;
+    private final Cell root = new Cell();
+
+    IssueCube(final List<? extends Function<? super Issue, String>> dimensions, final boolean hasIssues) {
+        this.dimensions = new ArrayList<>(dimensions);
+        this.hasIssues = hasIssues;
+    }
+
+    /**
+     * Adds the specified issues to this cube.
+     *
+     * @param issues
+     *         the issues to add
+     */
+    void addAll(final Collection<Issue> issues) {
+        for (Issue issue : issues) {
+            Cell cell = root;
+            cell.count++;
+            for (Function<? super Issue, String> dimension : dimensions) {
+                cell = cell.getOrCreateChild(dimension.apply(issue));
+                cell.count++;
+            }
+            if (hasIssues) {
+                cell.getOrCreateIssues().add(issue);
+            }
+        }
+    }
+
+    /**
+     * Adds the counts and issues of the specified cube to this cube. Both cubes must use the same dimensions.
+     *
+     * @param other
+     *         the cube to merge
+     */
+    void merge(final IssueCube other) {
+        root.merge(other.root);
+    }
+
+    /**
+     * Returns the number of dimensions of this cube.
+     *
+     * @return the number of dimensions
+     */
+    public int getDimensions() {
+        return dimensions.size();
+    }
+
+    /**
+     * Returns whether this cube stores references to the counted issues.
+     *
+     * @return {@code true} if the issues are available using {@link #getIssues(String...)}, {@code false} otherwise
+     */
+    public boolean hasIssues() {
+        return hasIssues;
+    }
+
+    /**
+     * Returns the number of issues that have the specified values in the first dimensions of this cube. If no values
+     * are given, then the total number of issues is returned.
+     *
+     * @param values
+     *         the values of the first dimensions, may contain fewer values than this cube has dimensions
+     *
+     * @return the number of issues
+     */
+    public int getCount(final String... values) {
+        Cell cell = find(values);
+        return cell == null ? 0 : cell.count;
+    }
+
+    /**
+     * Returns the number of issues for each value of the next dimension of this cube, restricted to the issues that
+     * have the specified values in the first dimensions. If no values are given, then the counts of the first dimension
+     * are returned.
+     *
+     * @param values
+     *         the values of the first dimensions, must contain fewer values than this cube has dimensions
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     */
+    public Map<String, Integer> getCounts(final String... values) {
+        Ensure.that(values.length < dimensions.size()).isTrue(
+                "Cube with %d dimensions has no counts below %d values", dimensions.size(), values.length);
+
+        Map<String, Integer> counts = new HashMap<>();
+        Cell cell = find(values);
+        if (cell != null && cell.children != null) {
+            for (Entry<String, Cell> child : cell.children.entrySet()) {
+                counts.put(child.getKey(), child.getValue().count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns the issues that have the specified values in the first dimensions of this cube. The issues are returned
+     * in the order of the aggregated report only if all values are given, otherwise the issues are grouped by the
+     * values of the remaining dimensions.
+     *
+     * @param values
+     *         the values of the first dimensions, may contain fewer values than this cube has dimensions
+     *
+     * @return the issues
+     * @throws IllegalStateException
+     *         if this cube does not store the issues
+     */
+    public List<Issue> getIssues(final String... values) {
+        if (!hasIssues) {
+            throw new IllegalStateException("This cube has been created without references to the issues");
+        }
+        List<Issue> issues = new ArrayList<>();
+        Cell cell = find(values);
+        if (cell != null) {
+            cell.collectIssues(issues);
+        }
+        return issues;
+    }
+
+    @CheckForNull
+    private Cell find(final String... values) {
+        Ensure.that(values.length <= dimensions.size()).isTrue(
+                "Cube with %d dimensions has no values for %d dimensions", dimensions.size(), values.length);
+
+        Cell cell = root;
+        for (String value : values) {
+            if (cell.children == null) {
+                return null;
+            }
+            cell = cell.children.get(value);
+            if (cell == null) {
+                return null;
+            }
+        }
+        return cell;
+    }
+
+    /**
+     * A cell of the cube: contains the number of issues for the values on the path from the root to this cell.
+     */
+    private static final class Cell {
+        private int count;
+        @CheckForNull
+        private Map<String, Cell> children;
+        @CheckForNull
+        private List<Issue> issues;
+
+        Cell getOrCreateChild(final String value) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(value, key -> new Cell());
+        }
+
+        List<Issue> getOrCreateIssues() {
+            if (issues == null) {
+                issues = new ArrayList<>();
+            }
+            return issues;
+        }
+
+        void merge(final Cell other) {
+            count += other.count;
+            if (other.issues != null) {
+                getOrCreateIssues().addAll(other.issues);
+            }
+            if (other.children != null) {
+                for (Entry<String, Cell> child : other.children.entrySet()) {
+                    getOrCreateChild(child.getKey()).merge(child.getValue());
+                }
+            }
+        }
+
+        void collectIssues(final List<Issue> collected) {
+            if (issues != null) {
+                collected.addAll(issues);
+            }
+            if (children != null) {
+                for (Cell child : children.values()) {
+                    child.collectIssues(collected);
+                }
+            }
+        }
+    }
+}
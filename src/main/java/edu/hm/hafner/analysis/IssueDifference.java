@@ -1,11 +1,12 @@
 package edu.hm.hafner.analysis;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
@@ -13,16 +14,28 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 /**
  * Computes old, new, and fixed issues based on the reports of two consecutive static analysis runs for the same
  * software artifact.
+ * <p>
+ * The reference issues are indexed once by their hash code and by their fingerprint. Then every current issue is
+ * matched against these indexes: issues that are equal to a reference issue are matched first, the remaining issues
+ * are matched using their fingerprint. Matched reference issues are marked as consumed so that each reference issue
+ * is matched at most once. The resulting reports are materialized at the end, so the overall runtime is linear in the
+ * number of issues.
+ * </p>
  *
  * @author Ullrich Hafner
  */
 public class IssueDifference {
-    private static final List<Issue> EMPTY = Collections.emptyList();
     private final Report newIssues;
     private final Report fixedIssues;
     private final Report outstandingIssues;
-    private final Map<Integer, List<Issue>> referencesByHash;
-    private final Map<String, List<Issue>> referencesByFingerprint;
+
+    private final List<Issue> references = new ArrayList<>();
+    private final BitSet consumedReferences = new BitSet();
+    private final Map<Integer, Bucket> referencesByHash = new HashMap<>();
+    private final Map<String, Bucket> referencesByFingerprint = new HashMap<>();
+
+    private final Set<UUID> outstandingIds = new HashSet<>();
+    private final Set<UUID> matchedReferenceIds = new HashSet<>();
 
     /**
      * Creates a new instance of {@link IssueDifference}.
@@ -35,89 +48,100 @@ public class IssueDifference {
      *         the issues of a previous report (reference)
      */
     public IssueDifference(final Report currentIssues, final String referenceId, final Report referenceIssues) {
-        newIssues = currentIssues.copy();
-        fixedIssues = referenceIssues.copy();
         outstandingIssues = new Report();
 
-        referencesByHash = new HashMap<>();
-        referencesByFingerprint = new HashMap<>();
-
         for (Issue issue : referenceIssues) {
-            addIssueToMap(referencesByHash, issue.hashCode(), issue);
-            addIssueToMap(referencesByFingerprint, issue.getFingerprint(), issue);
+            int index = references.size();
+            references.add(issue);
+            referencesByHash.computeIfAbsent(issue.hashCode(), k -> new Bucket()).add(index);
+            referencesByFingerprint.computeIfAbsent(issue.getFingerprint(), k -> new Bucket()).add(index);
         }
 
-        List<UUID> removed = matchIssuesByEquals(currentIssues);
-        Report secondPass = currentIssues.copy();
-        removed.forEach(secondPass::remove);
+        List<Issue> secondPass = matchIssuesByEquals(currentIssues);
         matchIssuesByFingerprint(secondPass);
 
+        newIssues = currentIssues.filter(issue -> !outstandingIds.contains(issue.getId()));
+        fixedIssues = referenceIssues.filter(issue -> !matchedReferenceIds.contains(issue.getId()));
+
         newIssues.forEach(issue -> issue.setReference(referenceId));
     }
 
-    private List<UUID> matchIssuesByEquals(final Report currentIssues) {
-        List<UUID> removedIds = new ArrayList<>();
+    private List<Issue> matchIssuesByEquals(final Report currentIssues) {
+        List<Issue> unmatched = new ArrayList<>();
         for (Issue current : currentIssues) {
-            List<Issue> equalIssues = findReferenceByEquals(current);
-
-            if (!equalIssues.isEmpty()) {
-                removedIds.add(remove(current, selectIssueWithSameFingerprint(current, equalIssues)));
+            int match = findReferenceByEquals(current);
+            if (match < 0) {
+                unmatched.add(current);
+            }
+            else {
+                markAsOutstanding(current, match);
             }
         }
-        return removedIds;
+        return unmatched;
     }
 
-    private void matchIssuesByFingerprint(final Report currentIssues) {
+    private void matchIssuesByFingerprint(final List<Issue> currentIssues) {
         for (Issue current : currentIssues) {
-            findReferenceByFingerprint(current).ifPresent(issue -> remove(current, issue));
-        }
-    }
-
-    private <K> void addIssueToMap(final Map<K, List<Issue>> map, final K key, final Issue issue) {
-        map.computeIfAbsent(key, k -> new ArrayList<>()).add(issue);
-    }
-
-    @SuppressWarnings("NullAway")
-    private <K> void removeIssueFromMap(final Map<K, List<Issue>> map, final K key, final Issue issue) {
-        List<Issue> issues = map.get(key);
-        issues.remove(issue);
-        if (issues.isEmpty()) {
-            map.remove(key);
+            int match = findReferenceByFingerprint(current);
+            if (match >= 0) {
+                markAsOutstanding(current, match);
+            }
         }
     }
 
-    private UUID remove(final Issue current, final Issue oldIssue) {
-        UUID id = current.getId();
-        Issue issueWithLatestProperties = newIssues.remove(id);
-        issueWithLatestProperties.setReference(oldIssue.getReference());
-        outstandingIssues.add(issueWithLatestProperties);
-        fixedIssues.remove(oldIssue.getId());
-        removeIssueFromMap(referencesByFingerprint, oldIssue.getFingerprint(), oldIssue);
-        removeIssueFromMap(referencesByHash, oldIssue.hashCode(), oldIssue);
-        return id;
-    }
+    private void markAsOutstanding(final Issue current, final int referenceIndex) {
+        Issue oldIssue = references.get(referenceIndex);
+        consumedReferences.set(referenceIndex);
 
-    private Issue selectIssueWithSameFingerprint(final Issue current, final List<Issue> equalIssues) {
-        return equalIssues.stream()
-                .filter(issue -> issue.getFingerprint().equals(current.getFingerprint()))
-                .findFirst()
-                .orElse(equalIssues.get(0));
+        current.setReference(oldIssue.getReference());
+        outstandingIssues.add(current);
+        outstandingIds.add(current.getId());
+        matchedReferenceIds.add(oldIssue.getId());
     }
 
-    private Optional<Issue> findReferenceByFingerprint(final Issue current) {
-        return referencesByFingerprint.getOrDefault(current.getFingerprint(), EMPTY).stream().findAny();
-    }
-
-    private List<Issue> findReferenceByEquals(final Issue current) {
-        List<Issue> equalIssues = new ArrayList<>();
+    /**
+     * Finds the best matching reference issue that is equal to the specified issue. If there are several equal
+     * reference issues, then the issue with the same fingerprint is preferred.
+     *
+     * @param current
+     *         the issue to find a match for
+     *
+     * @return the index of the matching reference issue, or -1 if there is no such issue
+     */
+    private int findReferenceByEquals(final Issue current) {
+        Bucket candidates = referencesByHash.get(current.hashCode());
+        if (candidates == null) {
+            return -1;
+        }
 
-        for (Issue reference : referencesByHash.getOrDefault(current.hashCode(), EMPTY)) {
-            if (current.equals(reference)) {
-                equalIssues.add(reference);
+        int firstEqual = -1;
+        for (int position = candidates.skipConsumed(); position < candidates.size(); position++) {
+            int index = candidates.get(position);
+            if (!consumedReferences.get(index)) {
+                Issue reference = references.get(index);
+                if (current.equals(reference)) {
+                    if (reference.getFingerprint().equals(current.getFingerprint())) {
+                        return index;
+                    }
+                    if (firstEqual < 0) {
+                        firstEqual = index;
+                    }
+                }
             }
         }
+        return firstEqual;
+    }
 
-        return equalIssues;
+    private int findReferenceByFingerprint(final Issue current) {
+        Bucket candidates = referencesByFingerprint.get(current.getFingerprint());
+        if (candidates == null) {
+            return -1;
+        }
+        int position = candidates.skipConsumed();
+        if (position < candidates.size()) {
+            return candidates.get(position);
+        }
+        return -1;
     }
 
     /**
@@ -152,4 +176,39 @@ public class IssueDifference {
     public Report getFixedIssues() {
         return fixedIssues;
     }
+
+    /**
+     * A growable list of reference indexes that share the same key. Consumed references at the start of the bucket
+     * are skipped using a moving head, so that buckets with many entries (e.g. issues without fingerprint) are not
+     * scanned over and over again.
+     */
+    private final class Bucket {
+        private int[] indexes = new int[1];
+        private int size;
+        private int head;
+
+        void add(final int index) {
+            if (size == indexes.length) {
+                int[] grown = new int[size * 2];
+                System.arraycopy(indexes, 0, grown, 0, size);
+                indexes = grown;
+            }
+            indexes[size++] = index;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int get(final int position) {
+            return indexes[position];
+        }
+
+        int skipConsumed() {
+            while (head < size && consumedReferences.get(indexes[head])) {
+                head++;
+            }
+            return head;
+        }
+    }
 }
@@ -0,0 +1,181 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A filter for issues that has been created by {@link Report.IssueFilterBuilder}. The include and exclude patterns
+ * are compiled once and grouped by the property they are applied to. An issue is accepted if at least one include
+ * pattern matches (or if there are no include patterns at all) and if no exclude pattern matches.
+ *
+ * <p>
+ * Properties like file names, package names, or module names have only a small number of distinct values that are
+ * shared by thousands of issues. Therefore, the decision of the patterns of such a property is cached for each
+ * distinct value: the patterns are evaluated only once for each value. File and package names are stored as {@link
+ * edu.hm.hafner.util.TreeString tree strings} in the issues, these values are cached by identity, so the string
+ * representation is not created for cached values. The filter is thread safe.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class IssueFilter implements Predicate<Issue> {
+    /** The maximum number of values that are cached for each property. */
+    static final int MAXIMUM_CACHE_SIZE = 10_000;
+
+    private static final int INCLUDED = 1;
+    private static final int EXCLUDED = 2;
+
+    /**
+     * The properties of an issue that can be filtered.
+     */
+    enum FilterProperty {
+        FILE_NAME(Issue::getFileName, issue -> new IdentityKey(issue.getFileNameTreeString())),
+        PACKAGE_NAME(Issue::getPackageName, issue -> new IdentityKey(issue.getPackageNameTreeString())),
+        MODULE_NAME(Issue::getModuleName, Issue::getModuleName),
+        CATEGORY(Issue::getCategory, Issue::getCategory),
+        TYPE(Issue::getType, Issue::getType),
+        MESSAGE(issue -> String.format("%s%n%s", issue.getMessage(), issue.getDescription()), null);
+
+        private final Function<Issue, String> valueGetter;
+        @CheckForNull
+        private final Function<Issue, Object> cacheKeyGetter;
+
+        FilterProperty(final Function<Issue, String> valueGetter,
+                @CheckForNull final Function<Issue, Object> cacheKeyGetter) {
+            this.valueGetter = valueGetter;
+            this.cacheKeyGetter = cacheKeyGetter;
+        }
+    }
+
+    private final boolean hasIncludes;
+    private final List<PropertyFilter> filters = new ArrayList<>();
+
+    /**
+     * Creates a new filter.
+     *
+     * @param includePatterns
+     *         the include patterns for each property
+     * @param excludePatterns
+     *         the exclude patterns for each property
+     */
+    IssueFilter(final Map<FilterProperty, List<String>> includePatterns,
+            final Map<FilterProperty, List<String>> excludePatterns) {
+        hasIncludes = includePatterns.values().stream().anyMatch(patterns -> !patterns.isEmpty());
+        for (FilterProperty property : FilterProperty.values()) {
+            List<Pattern> includes = compile(includePatterns.getOrDefault(property, Collections.emptyList()));
+            List<Pattern> excludes = compile(excludePatterns.getOrDefault(property, Collections.emptyList()));
+            if (!includes.isEmpty() || !excludes.isEmpty()) {
+                filters.add(new PropertyFilter(property, includes, excludes));
+            }
+        }
+    }
+
+    private static List<Pattern> compile(final Collection<String> patterns) {
+        List<Pattern> compiled = new ArrayList<>();
+        for (String pattern : patterns) {
+            compiled.add(Pattern.compile(pattern, Pattern.DOTALL));
+        }
+        return compiled;
+    }
+
+    @Override
+    public boolean test(final Issue issue) {
+        boolean isIncluded = !hasIncludes;
+        for (PropertyFilter filter : filters) {
+            int decision = filter.decide(issue);
+            if ((decision & EXCLUDED) != 0) {
+                return false;
+            }
+            if ((decision & INCLUDED) != 0) {
+                isIncluded = true;
+            }
+        }
+        return isIncluded;
+    }
+
+    /**
+     * Applies the include and exclude patterns of a single property and caches the decision for each value.
+     */
+    private static final class PropertyFilter {
+        private final FilterProperty property;
+        private final List<Pattern> includes;
+        private final List<Pattern> excludes;
+        private final Map<Object, Integer> decisions = new ConcurrentHashMap<>();
+
+        PropertyFilter(final FilterProperty property, final List<Pattern> includes,
+                final List<Pattern> excludes) {
+            this.property = property;
+            this.includes = includes;
+            this.excludes = excludes;
+        }
+
+        int decide(final Issue issue) {
+            Function<Issue, Object> cacheKeyGetter = property.cacheKeyGetter;
+            if (cacheKeyGetter == null) {
+                return evaluate(property.valueGetter.apply(issue));
+            }
+            Object key = cacheKeyGetter.apply(issue);
+            Integer cached = decisions.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            int decision = evaluate(property.valueGetter.apply(issue));
+            if (decisions.size() < MAXIMUM_CACHE_SIZE) {
+                decisions.put(key, decision);
+            }
+            return decision;
+        }
+
+        private int evaluate(final String value) {
+            int decision = 0;
+            if (matchesAny(includes, value)) {
+                decision |= INCLUDED;
+            }
+            if (matchesAny(excludes, value)) {
+                decision |= EXCLUDED;
+            }
+            return decision;
+        }
+
+        private boolean matchesAny(final List<Pattern> patterns, final String value) {
+            for (Pattern pattern : patterns) {
+                if (pattern.matcher(value).find()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Wraps a value so that it is compared by identity rather than by {@link Object#equals(Object)}. Used as cache key
+     * for tree strings that would otherwise create their string representation to compute equality.
+     */
+    private static final class IdentityKey {
+        private final Object value;
+
+        IdentityKey(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        public boolean equals(@CheckForNull final Object o) {
+            return o instanceof IdentityKey && ((IdentityKey) o).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package edu.hm.hafner.analysis;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Creates the unique IDs of {@link Issue issues}. The ID of an issue is created lazily: when an issue is created, the
+ * generator just hands out a cheap sequence number. This sequence number is mapped to the actual {@link UUID} only
+ * if the ID of the issue is requested (see {@link Issue#getId()}).
+ *
+ * @author Ullrich Hafner
+ */
+public abstract class IssueIdGenerator {
+    /**
+     * Returns a generator that creates random IDs using {@link UUID#randomUUID()}. The random number is drawn when the
+     * ID is requested for the first time.
+     *
+     * @return a generator of random IDs
+     */
+    public static IssueIdGenerator random() {
+        return RandomIdGenerator.INSTANCE;
+    }
+
+    /**
+     * Returns a new generator that creates IDs from a 64-bit counter and a random salt. The salt is drawn only once
+     * for all IDs of this generator, so creating new issues does not require a secure random number. The generator is
+     * thread safe, i.e., it may be shared by several parsers that create the issues of the same report.
+     *
+     * @return a new generator of sequential IDs
+     */
+    public static IssueIdGenerator sequential() {
+        return new SequentialIdGenerator();
+    }
+
+    /**
+     * Returns the sequence number for a new issue.
+     *
+     * @return the sequence number
+     */
+    public abstract long nextSequence();
+
+    /**
+     * Returns the ID that corresponds to the specified sequence number.
+     *
+     * @param sequence
+     *         the sequence number, obtained by {@link #nextSequence()}
+     *
+     * @return the ID
+     */
+    public abstract UUID getId(long sequence);
+
+    /**
+     * Creates random IDs when they are requested.
+     */
+    private static final class RandomIdGenerator extends IssueIdGenerator {
+        static final RandomIdGenerator INSTANCE = new RandomIdGenerator();
+
+        @Override
+        public long nextSequence() {
+            return 0;
+        }
+
+        @Override
+        public UUID getId(final long sequence) {
+            return UUID.randomUUID();
+        }
+    }
+
+    /**
+     * Creates IDs from a counter and a random salt. The salt is a random UUID: the sequence number is added to its
+     * least significant bits, the version and variant bits of the salt are retained.
+     */
+    private static final class SequentialIdGenerator extends IssueIdGenerator {
+        private static final long VARIANT_MASK = 0xC000_0000_0000_0000L;
+
+        private final AtomicLong counter = new AtomicLong();
+        @CheckForNull
+        private volatile UUID salt;
+
+        @Override
+        public long nextSequence() {
+            return counter.getAndIncrement();
+        }
+
+        @Override
+        public UUID getId(final long sequence) {
+            UUID base = getSalt();
+            long leastSignificantBits = base.getLeastSignificantBits();
+            return new UUID(base.getMostSignificantBits(), (leastSignificantBits & VARIANT_MASK)
+                    | (leastSignificantBits + sequence & ~VARIANT_MASK));
+        }
+
+        private UUID getSalt() {
+            UUID base = salt;
+            if (base == null) {
+                synchronized (this) {
+                    base = salt;
+                    if (base == null) {
+                        base = UUID.randomUUID();
+                        salt = base;
+                    }
+                }
+            }
+            return base;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses a report file with several {@link LookaheadParser line based parsers} while reading the file only once. The
+ * lines of the file are read and split by the calling thread and handed over in batches to the parsers. Each parser
+ * runs in a thread of its own and consumes all lines of the file using its own {@link
+ * edu.hm.hafner.util.LookaheadStream lookahead}, so the parsers do not need to be aware of each other. Each parser has
+ * a bounded queue of batches: if a parser falls behind, then the reading thread waits, so the memory consumption does
+ * not depend on the size of the file.
+ *
+ * <p>
+ * Parsers that provide {@link LookaheadParser#getRequiredLiterals() required literals} are prefiltered: the reading
+ * thread searches for the literals of all parsers in a single scan of each line (see {@link LiteralMatcher}) and marks
+ * for each parser whether the line is a candidate. A parser still receives all lines for its lookahead and the
+ * tracking of directories, but inspects only its candidate lines.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class LineFanOut {
+    private static final int BATCH_SIZE = 1000;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long OFFER_TIMEOUT_MILLIS = 100;
+    private static final Batch END_OF_FILE = new Batch(Integer.MAX_VALUE, Collections.emptyList(), new long[0]);
+
+    private final List<LookaheadParser> parsers = new ArrayList<>();
+    private final long[] candidateMasks;
+    private final LiteralMatcher matcher;
+
+    /**
+     * Creates a new instance of {@link LineFanOut}.
+     *
+     * @param parsers
+     *         the parsers that consume the lines of the file
+     */
+    public LineFanOut(final Collection<? extends LookaheadParser> parsers) {
+        this.parsers.addAll(parsers);
+
+        candidateMasks = new long[this.parsers.size()];
+        List<Collection<String>> literalSets = new ArrayList<>();
+        for (int i = 0; i < candidateMasks.length; i++) {
+            Collection<String> literals = this.parsers.get(i).getRequiredLiterals();
+            if (!literals.isEmpty() && literalSets.size() < LiteralMatcher.MAXIMUM_SETS) {
+                candidateMasks[i] = 1L << literalSets.size();
+                literalSets.add(literals);
+            }
+        }
+        matcher = new LiteralMatcher(literalSets);
+    }
+
+    /**
+     * Parses the specified file with all parsers.
+     *
+     * @param readerFactory
+     *         provides a reader to the report
+     *
+     * @return the issues of each parser, in the order of the parsers
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    @SuppressWarnings("PMD.DoNotUseThreads")
+    public List<Report> parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
+        if (parsers.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(parsers.size());
+        try {
+            List<Consumer> consumers = new ArrayList<>();
+            for (int i = 0; i < parsers.size(); i++) {
+                LookaheadParser parser = parsers.get(i);
+                Consumer consumer = new Consumer(candidateMasks[i]);
+                consumer.result = executor.submit(() -> consumer.parse(parser, readerFactory.getFileName()));
+                consumers.add(consumer);
+            }
+            dispatch(readerFactory, consumers);
+
+            return collect(consumers);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void dispatch(final ReaderFactory readerFactory, final List<Consumer> consumers) {
+        try (Stream<String> lines = readerFactory.readStream()) {
+            int firstLine = 1;
+            List<String> batch = new ArrayList<>(BATCH_SIZE);
+            long[] masks = new long[BATCH_SIZE];
+            Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                masks[batch.size()] = matcher.match(line);
+                batch.add(line);
+                if (batch.size() == BATCH_SIZE) {
+                    publish(consumers, new Batch(firstLine, batch, masks));
+                    firstLine += BATCH_SIZE;
+                    batch = new ArrayList<>(BATCH_SIZE);
+                    masks = new long[BATCH_SIZE];
+                }
+            }
+            if (!batch.isEmpty()) {
+                publish(consumers, new Batch(firstLine, batch, masks));
+            }
+            publish(consumers, END_OF_FILE);
+        }
+        catch (ParsingException | ParsingCanceledException exception) {
+            consumers.forEach(consumer -> consumer.result.cancel(true));
+            throw exception;
+        }
+    }
+
+    private void publish(final List<Consumer> consumers, final Batch batch) {
+        try {
+            for (Consumer consumer : consumers) {
+                consumer.offer(batch);
+            }
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ParsingCanceledException(exception);
+        }
+    }
+
+    private List<Report> collect(final List<Consumer> consumers) {
+        List<Report> reports = new ArrayList<>();
+        try {
+            for (Consumer consumer : consumers) {
+                reports.add(consumer.result.get());
+            }
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ParsingException(cause);
+        }
+        return reports;
+    }
+
+    /**
+     * A batch of consecutive lines of the file, together with the candidate masks of each line.
+     */
+    private static class Batch {
+        private final int firstLine;
+        private final List<String> lines;
+        private final long[] masks;
+
+        Batch(final int firstLine, final List<String> lines, final long[] masks) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+            this.masks = masks;
+        }
+    }
+
+    /**
+     * Provides the lines of the file to a single parser.
+     */
+    private static class Consumer {
+        private final BlockingQueue<Batch> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final long candidateMask;
+        private Future<Report> result;
+
+        Consumer(final long candidateMask) {
+            this.candidateMask = candidateMask;
+        }
+
+        void offer(final Batch batch) throws InterruptedException {
+            while (!queue.offer(batch, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (result.isDone()) {
+                    return; // the parser failed, the result contains the exception
+                }
+            }
+        }
+
+        Report parse(final LookaheadParser parser, final String fileName) {
+            BatchIterator iterator = new BatchIterator(queue);
+            Stream<String> lines = StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false);
+            if (candidateMask == 0) {
+                return parser.parse(lines, fileName);
+            }
+            return parser.parse(lines, fileName, line -> (iterator.getMask(line) & candidateMask) != 0);
+        }
+    }
+
+    /**
+     * Iterates over the lines of the batches of a queue until the end of the file has been reached. The iterator keeps
+     * the previous batch as well, since the lookahead of a parser reads one line in advance: so the candidate mask of
+     * the line that has been returned last is available even if the iterator already moved to the next batch.
+     */
+    private static class BatchIterator implements Iterator<String> {
+        private final BlockingQueue<Batch> queue;
+        private Batch batch = new Batch(1, Collections.emptyList(), new long[0]);
+        private Batch previous = batch;
+        private int position;
+
+        BatchIterator(final BlockingQueue<Batch> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        @SuppressWarnings("PMD.CompareObjectsWithEquals")
+        public boolean hasNext() {
+            while (position == batch.lines.size()) {
+                if (batch == END_OF_FILE) {
+                    return false;
+                }
+                previous = batch;
+                batch = take();
+                position = 0;
+            }
+            return true;
+        }
+
+        /**
+         * Returns the candidate mask of the specified line. The line must be part of the current or the previous
+         * batch.
+         *
+         * @param line
+         *         the number of the line (starting with 1)
+         *
+         * @return the candidate mask
+         */
+        long getMask(final int line) {
+            if (line >= batch.firstLine) {
+                return batch.masks[line - batch.firstLine];
+            }
+            return previous.masks[line - previous.firstLine];
+        }
+
+        private Batch take() {
+            try {
+                return queue.take();
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new ParsingCanceledException(exception);
+            }
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more lines available");
+            }
+            return batch.lines.get(position++);
+        }
+    }
+}
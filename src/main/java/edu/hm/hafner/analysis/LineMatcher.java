@@ -0,0 +1,180 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import edu.hm.hafner.analysis.RegexAutomaton.Decision;
+import edu.hm.hafner.analysis.RegexAutomaton.Dfa;
+import edu.hm.hafner.util.Ensure;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Finds the pattern of a {@link LookaheadParser} in the lines of a report. By default, each line is evaluated by
+ * {@link Pattern}. Parsers with patterns that backtrack excessively may use linear time matching instead: if the
+ * pattern is supported by the {@link RegexAutomaton}, then the automaton decides in linear time whether the pattern
+ * can be found in a line. Only lines that contain a match are evaluated by {@link Pattern} in order to obtain the
+ * capturing groups.
+ *
+ * <p>
+ * Since the backtracking of {@link Pattern} might take exponential time for some combinations of patterns and lines,
+ * the number of characters that {@link Pattern} may inspect is limited by a step budget when linear time matching is
+ * used and the automaton cannot decide a line. Lines that exceed the budget are skipped and recorded, see {@link
+ * #getLinesOverBudget()}.
+ * </p>
+ *
+ * <p>
+ * Instances of this class are not thread safe, each parsing thread needs to create its own instance.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+class LineMatcher {
+    private static final int UNLIMITED = 0;
+
+    private final Pattern pattern;
+    private final int stepBudget;
+    @CheckForNull
+    private final Dfa dfa;
+    private final List<Integer> linesOverBudget = new ArrayList<>();
+
+    /**
+     * Creates a new instance of {@link LineMatcher} that evaluates all lines by {@link Pattern}.
+     *
+     * @param pattern
+     *         the pattern to find
+     */
+    LineMatcher(final Pattern pattern) {
+        this.pattern = pattern;
+        this.stepBudget = UNLIMITED;
+
+        dfa = null;
+    }
+
+    /**
+     * Creates a new instance of {@link LineMatcher} that uses linear time matching.
+     *
+     * @param pattern
+     *         the pattern to find
+     * @param stepBudget
+     *         the maximum number of characters {@link Pattern} may inspect for a single line that cannot be decided by
+     *         the automaton
+     */
+    LineMatcher(final Pattern pattern, final int stepBudget) {
+        Ensure.that(stepBudget > 0).isTrue("Step budget %d must be positive", stepBudget);
+
+        this.pattern = pattern;
+        this.stepBudget = stepBudget;
+
+        dfa = RegexAutomaton.compile(pattern).map(RegexAutomaton::createDfa).orElse(null);
+    }
+
+    /**
+     * Returns whether the pattern is evaluated by the linear time automaton.
+     *
+     * @return {@code true} if the automaton is used, {@code false} if all lines are evaluated by {@link Pattern}
+     */
+    boolean isLinear() {
+        return dfa != null;
+    }
+
+    /**
+     * Finds the pattern in the specified line.
+     *
+     * @param line
+     *         the line to inspect
+     * @param lineNumber
+     *         the number of the line in the report, used to record lines that exceed the budget
+     *
+     * @return a matcher that has found the pattern, or an empty optional if the line does not contain the pattern
+     */
+    Optional<Matcher> find(final String line, final int lineNumber) {
+        Decision decision = dfa == null ? Decision.UNDECIDED : dfa.find(line);
+        if (decision == Decision.NO_MATCH) {
+            return Optional.empty();
+        }
+        if (decision == Decision.MATCH || stepBudget == UNLIMITED) {
+            Matcher matcher = pattern.matcher(line);
+            if (matcher.find()) {
+                return Optional.of(matcher);
+            }
+            return Optional.empty();
+        }
+
+        BudgetedSequence input = new BudgetedSequence(line, stepBudget);
+        Matcher matcher = pattern.matcher(input);
+        try {
+            if (matcher.find()) {
+                input.disable();
+                return Optional.of(matcher);
+            }
+        }
+        catch (BudgetExceededException exception) {
+            linesOverBudget.add(lineNumber);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the numbers of the lines that have been skipped since matching the pattern exceeded the step budget.
+     *
+     * @return the numbers of the skipped lines
+     */
+    List<Integer> getLinesOverBudget() {
+        return linesOverBudget;
+    }
+
+    /**
+     * A line that throws a {@link BudgetExceededException} if more characters have been read than the budget allows.
+     * Since {@link Pattern} reads every character it inspects, the number of reads is a measure of the matching steps.
+     */
+    private static final class BudgetedSequence implements CharSequence {
+        private final String line;
+        private int remaining;
+
+        BudgetedSequence(final String line, final int budget) {
+            this.line = line;
+            remaining = budget;
+        }
+
+        void disable() {
+            remaining = Integer.MAX_VALUE;
+        }
+
+        @Override
+        public int length() {
+            return line.length();
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (--remaining < 0) {
+                throw new BudgetExceededException("Step budget exceeded");
+            }
+            return line.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int start, final int end) {
+            return line.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return line;
+        }
+    }
+
+    /**
+     * Thrown if matching a line exceeds the step budget.
+     */
+    private static final class BudgetExceededException extends RuntimeException {
+        private static final long serialVersionUID = 2854512624349281475L;
+
+        BudgetExceededException(final String message) {
+            super(message, null, false, false);
+        }
+    }
+}
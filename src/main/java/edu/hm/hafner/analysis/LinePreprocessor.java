@@ -0,0 +1,377 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import edu.hm.hafner.util.Ensure;
+
+/**
+ * Preprocesses the lines of a report before they are handed to the parsers. The preprocessing is composed of an
+ * ordered sequence of {@link Stage stages}, e.g. removing ANSI color codes or the timestamps of the Jenkins timestamper
+ * plugin. Each stage inspects a {@link CharSequence} and returns the very same instance if the line does not need to
+ * be changed. Stages that remove a prefix or suffix return a view of the original characters. So the characters of a
+ * line are copied only once, and only if at least one of the stages actually changed the line.
+ *
+ * @author Ullrich Hafner
+ */
+public final class LinePreprocessor {
+    private static final char ESCAPE = '\u001B';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char TAB = '\t';
+
+    /**
+     * Removes ANSI color codes, i.e. all CSI sequences that start with the escape character followed by {@code [},
+     * optional parameters {@code [;\d]*} and intermediates {@code [ -/]*}, and end with a final character {@code
+     * [@-~]}.
+     */
+    public static final Stage ANSI_COLOR_CODES = LinePreprocessor::removeColorCodes;
+
+    /**
+     * Removes the timestamp prefix that has been added by the Jenkins timestamper plugin. Supported are ISO 8601
+     * timestamps in brackets (e.g. {@code [2020-08-05T20:06:07.664Z] }) and plain times (e.g. {@code 15:46:06 } or
+     * {@code 15:46:06.123 }).
+     */
+    public static final Stage TIMESTAMPS = LinePreprocessor::removeTimestamp;
+
+    /**
+     * Normalizes carriage returns in the same way a terminal shows them: trailing carriage returns are removed, and
+     * the text before a carriage return is replaced by the text that follows it. Note that {@link ReaderFactory}
+     * already splits lines at a single carriage return, so this stage is only required for lines that have been
+     * obtained from other sources.
+     */
+    public static final Stage CARRIAGE_RETURNS = LinePreprocessor::normalizeCarriageReturns;
+
+    /** Preprocessor that does not change the lines at all. */
+    public static final LinePreprocessor NONE = new LinePreprocessor();
+
+    /** Preprocessor that is used by default: it removes ANSI color codes only. */
+    public static final LinePreprocessor DEFAULT = new LinePreprocessor(ANSI_COLOR_CODES);
+
+    private final List<Stage> stages;
+
+    /**
+     * Creates a new instance of {@link LinePreprocessor}.
+     *
+     * @param stages
+     *         the stages to apply to each line, in the given order
+     */
+    public LinePreprocessor(final Stage... stages) {
+        this.stages = Collections.unmodifiableList(Arrays.asList(stages.clone()));
+    }
+
+    /**
+     * Returns a stage that expands tabs to spaces using tab stops at every multiple of the specified width.
+     *
+     * @param width
+     *         the distance between two tab stops
+     *
+     * @return the stage
+     */
+    public static Stage expandTabs(final int width) {
+        Ensure.that(width > 0).isTrue("Tab width must be positive: %d", width);
+
+        return line -> expandTabs(line, width);
+    }
+
+    /**
+     * Returns whether this preprocessor has no stages, i.e. whether lines are left unchanged.
+     *
+     * @return {@code true} if lines are left unchanged, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return stages.isEmpty();
+    }
+
+    /**
+     * Applies all stages to the specified line.
+     *
+     * @param line
+     *         the line to process
+     *
+     * @return the processed line, this will be the same instance if none of the stages changed the line
+     */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    public String process(final String line) {
+        CharSequence processed = line;
+        for (Stage stage : stages) {
+            processed = stage.apply(processed);
+        }
+        if (processed == line) {
+            return line;
+        }
+        return processed.toString();
+    }
+
+    private static CharSequence removeColorCodes(final CharSequence line) {
+        int escape = indexOf(line, ESCAPE, 0);
+        if (escape < 0) {
+            return line;
+        }
+
+        StringBuilder builder = null;
+        int copied = 0;
+        while (escape >= 0) {
+            int end = findEndOfColorCode(line, escape);
+            if (end < 0) {
+                escape = indexOf(line, ESCAPE, escape + 1);
+            }
+            else {
+                if (builder == null) {
+                    builder = new StringBuilder(line.length());
+                }
+                builder.append(line, copied, escape);
+                copied = end;
+                escape = indexOf(line, ESCAPE, end);
+            }
+        }
+        if (builder == null) {
+            return line;
+        }
+        return builder.append(line, copied, line.length());
+    }
+
+    /**
+     * Returns the end of the color code that starts at the specified escape character. Since the parameter,
+     * intermediate and final characters of a CSI sequence are disjoint, the greedy scan finds the same sequences as
+     * the backtracking of a regular expression.
+     */
+    private static int findEndOfColorCode(final CharSequence line, final int escape) {
+        int position = escape + 1;
+        int length = line.length();
+        if (position >= length || line.charAt(position) != '[') {
+            return -1;
+        }
+        position++;
+        while (position < length && isParameter(line.charAt(position))) {
+            position++;
+        }
+        while (position < length && isIntermediate(line.charAt(position))) {
+            position++;
+        }
+        if (position < length && isFinal(line.charAt(position))) {
+            return position + 1;
+        }
+        return -1;
+    }
+
+    private static boolean isParameter(final char c) {
+        return c == ';' || isDigit(c);
+    }
+
+    private static boolean isIntermediate(final char c) {
+        return c >= ' ' && c <= '/';
+    }
+
+    private static boolean isFinal(final char c) {
+        return c >= '@' && c <= '~';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static CharSequence removeTimestamp(final CharSequence line) {
+        if (line.length() == 0) {
+            return line;
+        }
+
+        int start;
+        char first = line.charAt(0);
+        if (first == '[') {
+            int end = skipDateTime(line, 1);
+            start = end > 0 && isAt(line, end, ']') && isAt(line, end + 1, ' ') ? end + 2 : -1;
+        }
+        else if (isDigit(first)) {
+            int end = skipTime(line, 0);
+            start = end > 0 && isAt(line, end, ' ') ? end + 1 : -1;
+        }
+        else {
+            return line;
+        }
+
+        if (start < 0) {
+            return line;
+        }
+        return new Slice(line, start, line.length());
+    }
+
+    private static int skipDateTime(final CharSequence line, final int start) {
+        int position = skipDigits(line, start, 4);
+        position = skipCharacter(line, position, '-');
+        position = skipDigits(line, position, 2);
+        position = skipCharacter(line, position, '-');
+        position = skipDigits(line, position, 2);
+        position = skipCharacter(line, position, 'T');
+        position = skipTime(line, position);
+        if (position < 0) {
+            return -1;
+        }
+        if (isAt(line, position, 'Z')) {
+            return position + 1;
+        }
+        if (isAt(line, position, '+') || isAt(line, position, '-')) {
+            position = skipDigits(line, position + 1, 2);
+            position = skipCharacter(line, position, ':');
+            return skipDigits(line, position, 2);
+        }
+        return position;
+    }
+
+    private static int skipTime(final CharSequence line, final int start) {
+        int position = skipDigits(line, start, 2);
+        position = skipCharacter(line, position, ':');
+        position = skipDigits(line, position, 2);
+        position = skipCharacter(line, position, ':');
+        position = skipDigits(line, position, 2);
+        if (position > 0 && isAt(line, position, '.')) {
+            int fraction = position + 1;
+            while (fraction < line.length() && isDigit(line.charAt(fraction))) {
+                fraction++;
+            }
+            if (fraction > position + 1) {
+                return fraction;
+            }
+        }
+        return position;
+    }
+
+    private static int skipDigits(final CharSequence line, final int start, final int count) {
+        if (start < 0 || start + count > line.length()) {
+            return -1;
+        }
+        for (int position = start; position < start + count; position++) {
+            if (!isDigit(line.charAt(position))) {
+                return -1;
+            }
+        }
+        return start + count;
+    }
+
+    private static int skipCharacter(final CharSequence line, final int start, final char expected) {
+        if (isAt(line, start, expected)) {
+            return start + 1;
+        }
+        return -1;
+    }
+
+    private static boolean isAt(final CharSequence line, final int position, final char expected) {
+        return position >= 0 && position < line.length() && line.charAt(position) == expected;
+    }
+
+    private static CharSequence normalizeCarriageReturns(final CharSequence line) {
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        int start = end - 1;
+        while (start >= 0 && line.charAt(start) != CARRIAGE_RETURN) {
+            start--;
+        }
+        start++;
+        if (start == 0 && end == line.length()) {
+            return line;
+        }
+        return new Slice(line, start, end);
+    }
+
+    private static CharSequence expandTabs(final CharSequence line, final int width) {
+        int tab = indexOf(line, TAB, 0);
+        if (tab < 0) {
+            return line;
+        }
+
+        StringBuilder builder = new StringBuilder(line.length() + width);
+        builder.append(line, 0, tab);
+        for (int position = tab; position < line.length(); position++) {
+            char c = line.charAt(position);
+            if (c == TAB) {
+                do {
+                    builder.append(' ');
+                }
+                while (builder.length() % width != 0);
+            }
+            else {
+                builder.append(c);
+            }
+        }
+        return builder;
+    }
+
+    private static int indexOf(final CharSequence line, final char c, final int start) {
+        if (line instanceof String) {
+            return ((String) line).indexOf(c, start);
+        }
+        for (int position = start; position < line.length(); position++) {
+            if (line.charAt(position) == c) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A stage of the line preprocessing.
+     */
+    @FunctionalInterface
+    public interface Stage {
+        /**
+         * Processes the specified line.
+         *
+         * @param line
+         *         the line to process
+         *
+         * @return the processed line, or the same instance if the line has not been changed
+         */
+        CharSequence apply(CharSequence line);
+    }
+
+    /**
+     * A view of a range of the characters of another sequence.
+     */
+    private static final class Slice implements CharSequence {
+        private final CharSequence base;
+        private final int start;
+        private final int end;
+
+        Slice(final CharSequence base, final int start, final int end) {
+            if (base instanceof Slice) {
+                Slice slice = (Slice) base;
+                this.base = slice.base;
+                this.start = slice.start + start;
+                this.end = slice.start + end;
+            }
+            else {
+                this.base = base;
+                this.start = start;
+                this.end = end;
+            }
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(final int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("Index out of range: " + index);
+            }
+            return base.charAt(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(final int from, final int to) {
+            if (from < 0 || to > length() || from > to) {
+                throw new IndexOutOfBoundsException("Range out of bounds: " + from + " - " + to);
+            }
+            return new Slice(this, from, to);
+        }
+
+        @Override
+        public String toString() {
+            return base.subSequence(start, end).toString();
+        }
+    }
+}
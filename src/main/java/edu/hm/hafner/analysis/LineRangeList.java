@@ -5,12 +5,12 @@ import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
 import java.util.stream.StreamSupport;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 /**
@@ -25,8 +25,18 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * </p>
  *
  * <p>
- * This variable length mode stores data most efficiently, since most line numbers are small. Access characteristic gets
- * close to that of {@link LinkedList}, since we can only traverse this packed byte[] from the start or from the end.
+ * This variable length mode stores data most efficiently, since most line numbers are small. Since the packed byte[]
+ * can only be traversed from the start or from the end, the list additionally maintains the number of elements and a
+ * sparse index that stores the position of every {@link #BLOCK_SIZE}-th element. So {@link #size()} is O(1) and
+ * {@link #get(int)} needs to decode at most {@link #BLOCK_SIZE} elements. Appending elements updates the index;
+ * all other modifications just invalidate the index, it will be rebuilt on demand. The element count and the index
+ * are not serialized, so the serialized form is the same as the form of previous releases.
+ * </p>
+ *
+ * <p>
+ * If the elements are sorted by their start lines, then the index is used to answer the queries {@link
+ * #intersects(int)} and {@link #overlaps(LineRange)} using a binary search. For unsorted lists, these queries scan all
+ * elements.
  * </p>
  *
  * @author Kohsuke Kawaguchi
@@ -35,12 +45,34 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
     private static final long serialVersionUID = -1123973098942984623L;
     private static final int DEFAULT_CAPACITY = 16;
     private static final boolean SEQUENTIAL = false;
+    /** Number of elements that are covered by a single entry of the {@link #index}. */
+    private static final int BLOCK_SIZE = 16;
+    /** Number of integers per entry of the {@link #index}: position, start of the first element, and maximum end. */
+    private static final int ENTRY_SIZE = 3;
 
     /** Encoded bits. */
     private byte[] data;
     /** Number of bytes in {@link #data} that's already used. This is not {@link List#size()}. */
     private int len;
 
+    /** Determines whether {@link #count}, {@link #isSorted}, and {@link #lastStart} are valid. */
+    private transient boolean isCounted;
+    /** Number of elements in this list. */
+    private transient int count;
+    /** Determines whether the elements are sorted by their start line. */
+    private transient boolean isSorted;
+    /** The start line of the last element. */
+    private transient int lastStart;
+    /**
+     * Sparse index of the elements, created on demand. For every {@link #BLOCK_SIZE}-th element the index contains
+     * the position in {@link #data}, the start line of the element, and the maximum end line of all elements up to
+     * the end of the block.
+     */
+    @CheckForNull
+    private transient int[] index;
+    /** Number of entries in the {@link #index}. */
+    private transient int blocks;
+
     /**
      * Creates an empty {@link LineRangeList}. It uses a capacity of {@link LineRangeList#DEFAULT_CAPACITY}.
      */
@@ -59,6 +91,7 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
 
         data = new byte[capacity];
         len = 0;
+        reset();
     }
 
     /**
@@ -142,24 +175,102 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
         return false;
     }
 
+    /**
+     * Returns whether one of the ranges in this list contains the specified line.
+     *
+     * @param line
+     *         the line to check
+     *
+     * @return {@code true} if the line is part of one of the ranges, {@code false} otherwise
+     */
+    public boolean intersects(final int line) {
+        return overlaps(line, line);
+    }
+
+    /**
+     * Returns whether one of the ranges in this list overlaps with the specified range, i.e., whether both ranges have
+     * at least one line in common.
+     *
+     * @param range
+     *         the range to check
+     *
+     * @return {@code true} if the range overlaps with one of the ranges, {@code false} otherwise
+     */
+    public boolean overlaps(final LineRange range) {
+        return overlaps(range.getStart(), range.getEnd());
+    }
+
+    private boolean overlaps(final int from, final int to) {
+        ensureCounted();
+        if (!isSorted) {
+            for (Cursor c = new Cursor(); c.hasNext();) {
+                if (c.overlaps(from, to)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int[] entries = getIndex();
+        int block = findLastBlockStartingBefore(entries, to);
+        if (block < 0) {
+            return false;
+        }
+        if (block > 0 && entries[(block - 1) * ENTRY_SIZE + 2] >= from) {
+            return true; // all elements of the previous blocks start before the end of the range
+        }
+        Cursor c = new Cursor(entries[block * ENTRY_SIZE]);
+        for (int i = 0; i < BLOCK_SIZE && c.hasNext(); i++) {
+            int start = c.read();
+            if (start > to) {
+                return false;
+            }
+            if (start + c.read() >= from) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int findLastBlockStartingBefore(final int[] entries, final int line) {
+        int low = 0;
+        int high = blocks - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (entries[middle * ENTRY_SIZE + 1] <= line) {
+                low = middle + 1;
+            }
+            else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
     @Override
     public LineRange get(final int index) {
-        return new Cursor().skip(index).next();
+        return cursorAt(index).next();
     }
 
     @Override
     public int size() {
-        return new Cursor().count();
+        ensureCounted();
+        return count;
     }
 
     @Override
     public LineRange set(final int index, final LineRange element) {
-        return new Cursor().skip(index).rewrite(element);
+        return cursorAt(index).rewrite(element);
     }
 
     @Override
     public void add(final int index, final LineRange element) {
-        new Cursor().skip(index).add(element);
+        if (index == size()) {
+            add(element);
+        }
+        else {
+            cursorAt(index).add(element);
+        }
     }
 
     @Override
@@ -170,12 +281,13 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
 
     @Override
     public LineRange remove(final int index) {
-        return new Cursor().skip(index).delete();
+        return cursorAt(index).delete();
     }
 
     @Override
     public void clear() {
         len = 0;
+        reset();
     }
 
     @Override
@@ -190,7 +302,150 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
 
     @Override
     public ListIterator<LineRange> listIterator(final int index) {
-        return new Cursor().skip(index);
+        if (index == size()) {
+            return new Cursor(len);
+        }
+        return cursorAt(index);
+    }
+
+    @Override
+    public boolean equals(@CheckForNull final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LineRangeList) { // the encoding of a list of ranges is unique
+            LineRangeList other = (LineRangeList) o;
+            if (len != other.len) {
+                return false;
+            }
+            for (int i = 0; i < len; i++) {
+                if (data[i] != other.data[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (Cursor c = new Cursor(); c.hasNext();) {
+            int start = c.read();
+            int end = start + c.read();
+            hashCode = 31 * hashCode + 31 * start + end; // same as LineRange.hashCode()
+        }
+        return hashCode;
+    }
+
+    /**
+     * Returns a cursor that points to the element with the specified index.
+     *
+     * @param elementIndex
+     *         the index of the element
+     *
+     * @return the cursor
+     * @throws IndexOutOfBoundsException
+     *         if the index is out of range
+     */
+    private Cursor cursorAt(final int elementIndex) {
+        if (elementIndex < 0 || elementIndex >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + elementIndex + ", Size: " + count);
+        }
+        if (elementIndex < BLOCK_SIZE) {
+            return new Cursor().skip(elementIndex);
+        }
+        return new Cursor(getIndex()[elementIndex / BLOCK_SIZE * ENTRY_SIZE]).skip(elementIndex % BLOCK_SIZE);
+    }
+
+    private void reset() {
+        isCounted = true;
+        count = 0;
+        isSorted = true;
+        lastStart = 0;
+        index = null;
+        blocks = 0;
+    }
+
+    private void invalidate() {
+        isCounted = false;
+        index = null;
+        blocks = 0;
+    }
+
+    private void ensureCounted() {
+        if (!isCounted) {
+            reset();
+            for (Cursor c = new Cursor(); c.hasNext();) {
+                int position = c.position;
+                int start = c.read();
+                appended(position, start, start + c.read());
+            }
+        }
+    }
+
+    private int[] getIndex() {
+        ensureCounted();
+        if (index == null) {
+            int[] entries = new int[Math.max(1, (count + BLOCK_SIZE - 1) / BLOCK_SIZE) * ENTRY_SIZE];
+            int maximum = 0;
+            int block = 0;
+            int element = 0;
+            for (Cursor c = new Cursor(); c.hasNext(); element++) {
+                int position = c.position;
+                int start = c.read();
+                maximum = Math.max(maximum, start + c.read());
+                if (element % BLOCK_SIZE == 0) {
+                    entries[block * ENTRY_SIZE] = position;
+                    entries[block * ENTRY_SIZE + 1] = start;
+                    block++;
+                }
+                entries[(block - 1) * ENTRY_SIZE + 2] = maximum;
+            }
+            index = entries;
+            blocks = block;
+        }
+        return index;
+    }
+
+    /**
+     * Updates the element count and the index after an element has been appended to the end of the list.
+     *
+     * @param position
+     *         the position of the new element in {@link #data}
+     * @param start
+     *         the start line of the new element
+     * @param end
+     *         the end line of the new element
+     */
+    private void appended(final int position, final int start, final int end) {
+        if (!isCounted) {
+            return;
+        }
+        int[] entries = index;
+        if (entries != null) {
+            if (count % BLOCK_SIZE == 0) {
+                int offset = blocks * ENTRY_SIZE;
+                if (offset + ENTRY_SIZE > entries.length) {
+                    entries = Arrays.copyOf(entries, entries.length * 2);
+                    index = entries;
+                }
+                entries[offset] = position;
+                entries[offset + 1] = start;
+                entries[offset + 2] = blocks == 0 ? end : Math.max(end, entries[offset - 1]);
+                blocks++;
+            }
+            else {
+                int offset = (blocks - 1) * ENTRY_SIZE + 2;
+                entries[offset] = Math.max(end, entries[offset]);
+            }
+        }
+        if (count > 0 && start < lastStart) {
+            isSorted = false;
+        }
+        lastStart = start;
+        count++;
     }
 
     /**
@@ -317,6 +572,22 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
             return other.getStart() == s && other.getEnd() == s + d;
         }
 
+        /**
+         * Reads the current value at the cursor and checks whether it overlaps with the specified range.
+         *
+         * @param from
+         *         the first line of the range
+         * @param to
+         *         the last line of the range
+         *
+         * @return {@code true} if the read value overlaps with the specified range
+         */
+        boolean overlaps(final int from, final int to) {
+            int s = read();
+            int d = read();
+            return s <= to && s + d >= from;
+        }
+
         /**
          * Skips forward and gets the pointer to N-th element.
          *
@@ -364,6 +635,9 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
         }
 
         private void adjust(final int diff) {
+            if (position < len) {
+                invalidate();
+            }
             ensure(len + diff);
             if (diff > 0) {
                 System.arraycopy(data, position, data, position + diff, len - position);
@@ -403,8 +677,13 @@ public class LineRangeList extends AbstractList<LineRange> implements Serializab
         @Override
         public void add(final LineRange v) {
             int newSize = sizeOf(v);
+            int start = position;
+            boolean isAppended = position == len;
             adjust(newSize);
             write(v);
+            if (isAppended) {
+                appended(start, v.getStart(), v.getEnd());
+            }
         }
 
         /**
@@ -0,0 +1,202 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.TreeSet;
+
+import edu.hm.hafner.util.Ensure;
+
+/**
+ * Finds several sets of literals in a line using a single scan of the characters of the line. The literals are
+ * compiled into an Aho-Corasick automaton whose failure links are resolved in advance, so that each character of the
+ * line is processed by a single table lookup. Characters that are not part of any literal share a single column of
+ * the transition table.
+ *
+ * <p>
+ * Each set of literals is identified by its index in the list of sets. The result of {@link #match(String)} is a bit
+ * mask that contains the bit {@code 1L << index} for each set that has at least one literal in the line. Therefore,
+ * at most {@link #MAXIMUM_SETS} sets are supported.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class LiteralMatcher {
+    /** The maximum number of literal sets. */
+    public static final int MAXIMUM_SETS = Long.SIZE;
+
+    private static final int ASCII = 128;
+    private static final int ROOT = 0;
+
+    private final int[] asciiColumns = new int[ASCII];
+    private final char[] otherCharacters;
+    private final int[] otherColumns;
+    private final int width;
+    private final int[] transitions;
+    private final long[] outputs;
+    private final long allSets;
+
+    /**
+     * Creates a new instance of {@link LiteralMatcher}.
+     *
+     * @param literalSets
+     *         the sets of literals to find, each literal must not be empty
+     */
+    public LiteralMatcher(final List<? extends Collection<String>> literalSets) {
+        Ensure.that(literalSets.size() <= MAXIMUM_SETS).isTrue(
+                "At most %d literal sets are supported, got %d", MAXIMUM_SETS, literalSets.size());
+
+        TreeSet<Character> others = new TreeSet<>();
+        int columns = 1; // column 0 is used for all characters that are not part of a literal
+        for (Collection<String> literals : literalSets) {
+            for (String literal : literals) {
+                Ensure.that(literal).isNotEmpty();
+                for (char character : literal.toCharArray()) {
+                    if (character < ASCII) {
+                        if (asciiColumns[character] == 0) {
+                            asciiColumns[character] = columns++;
+                        }
+                    }
+                    else {
+                        others.add(character);
+                    }
+                }
+            }
+        }
+        otherCharacters = new char[others.size()];
+        otherColumns = new int[others.size()];
+        int index = 0;
+        for (Character character : others) {
+            otherCharacters[index] = character;
+            otherColumns[index] = columns++;
+            index++;
+        }
+        width = columns;
+
+        Trie trie = new Trie(width);
+        long all = 0;
+        for (int set = 0; set < literalSets.size(); set++) {
+            for (String literal : literalSets.get(set)) {
+                trie.add(literal, this, 1L << set);
+            }
+            all |= 1L << set;
+        }
+        allSets = all;
+        transitions = trie.toTransitions();
+        outputs = trie.getOutputs();
+    }
+
+    private int getColumn(final char character) {
+        if (character < ASCII) {
+            return asciiColumns[character];
+        }
+        int index = Arrays.binarySearch(otherCharacters, character);
+        return index < 0 ? 0 : otherColumns[index];
+    }
+
+    /**
+     * Returns the sets that have at least one literal in the specified line.
+     *
+     * @param line
+     *         the line to scan
+     *
+     * @return a bit mask with the bit {@code 1L << index} set for each matching set
+     */
+    public long match(final String line) {
+        long found = 0;
+        int state = ROOT;
+        int length = line.length();
+        for (int position = 0; position < length; position++) {
+            state = transitions[state * width + getColumn(line.charAt(position))];
+            found |= outputs[state];
+            if (found == allSets) {
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * The trie of all literals that is used to build the transition table of the automaton.
+     */
+    private static class Trie {
+        private final int width;
+        private final List<int[]> children = new ArrayList<>();
+        private final List<Long> outputs = new ArrayList<>();
+
+        Trie(final int width) {
+            this.width = width;
+
+            addState();
+        }
+
+        private int addState() {
+            children.add(new int[width]);
+            outputs.add(0L);
+            return children.size() - 1;
+        }
+
+        void add(final String literal, final LiteralMatcher matcher, final long set) {
+            int state = ROOT;
+            for (char character : literal.toCharArray()) {
+                int column = matcher.getColumn(character);
+                int next = children.get(state)[column];
+                if (next == ROOT) {
+                    next = addState();
+                    children.get(state)[column] = next;
+                }
+                state = next;
+            }
+            outputs.set(state, outputs.get(state) | set);
+        }
+
+        /**
+         * Resolves the failure links of the trie in breadth first order, so that every state has a transition for
+         * every column. The outputs of the failure states are merged into the outputs of each state.
+         */
+        int[] toTransitions() {
+            int[] transitions = new int[children.size() * width];
+            int[] failures = new int[children.size()];
+            Queue<Integer> queue = new ArrayDeque<>();
+
+            int[] rootChildren = children.get(ROOT);
+            for (int column = 0; column < width; column++) {
+                int child = rootChildren[column];
+                transitions[column] = child;
+                if (child != ROOT) {
+                    queue.add(child);
+                }
+            }
+            while (!queue.isEmpty()) {
+                int state = queue.remove();
+                int failure = failures[state];
+                outputs.set(state, outputs.get(state) | outputs.get(failure));
+
+                int[] stateChildren = children.get(state);
+                for (int column = 0; column < width; column++) {
+                    int child = stateChildren[column];
+                    if (child == ROOT) {
+                        transitions[state * width + column] = transitions[failure * width + column];
+                    }
+                    else {
+                        transitions[state * width + column] = child;
+                        failures[child] = transitions[failure * width + column];
+                        queue.add(child);
+                    }
+                }
+            }
+            return transitions;
+        }
+
+        long[] getOutputs() {
+            long[] result = new long[outputs.size()];
+            for (int state = 0; state < result.length; state++) {
+                result[state] = outputs.get(state);
+            }
+            return result;
+        }
+    }
+}
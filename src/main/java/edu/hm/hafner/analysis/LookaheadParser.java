@@ -1,13 +1,27 @@
 package edu.hm.hafner.analysis;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntPredicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
-import java.util.Stack;
 
 import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.LookaheadStream;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * Parses a report file line by line for issues using a pre-defined regular expression. If the regular expression
@@ -33,10 +47,14 @@ public abstract class LookaheadParser extends IssueParser {
     private static final String HYPHEN = "'`";
 
     private static final int MAX_LINE_LENGTH = 4000; // see JENKINS-55805
+    static final int STEP_BUDGET = 1_000_000;
 
-    private final Pattern pattern;
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int CHUNK_OVERLAP = 1_000;
 
-    private final Stack<String> recursiveDirectories;
+    private static final IntPredicate ALL_LINES = line -> true;
+
+    private final Pattern pattern;
 
     /**
      * Creates a new instance of {@link LookaheadParser}.
@@ -48,115 +66,226 @@ public abstract class LookaheadParser extends IssueParser {
         super();
 
         this.pattern = Pattern.compile(pattern);
-        this.recursiveDirectories = new Stack<>();
     }
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException, ParsingCanceledException {
-        Report report = new Report();
         try (Stream<String> lines = readerFactory.readStream()) {
-            try (LookaheadStream lookahead = new LookaheadStream(lines, readerFactory.getFileName())) {
-                parse(report, lookahead);
-            }
+            return parse(lines, readerFactory.getFileName());
+        }
+    }
+
+    /**
+     * Parses the specified lines of a report file for issues. This method is used by {@link LineFanOut} to parse
+     * lines that have been read already.
+     *
+     * @param lines
+     *         the lines of the report file
+     * @param fileName
+     *         the name of the report file
+     *
+     * @return the issues
+     */
+    Report parse(final Stream<String> lines, final String fileName) {
+        return parse(lines, fileName, ALL_LINES);
+    }
+
+    /**
+     * Parses the specified lines of a report file for issues. Only the candidate lines are inspected by {@link
+     * #isLineInteresting(String)} and the regular expression, all other lines are skipped. Skipped lines are still
+     * available for the lookahead and the tracking of directories.
+     *
+     * @param lines
+     *         the lines of the report file
+     * @param fileName
+     *         the name of the report file
+     * @param isCandidate
+     *         determines whether the line with the specified number (starting with 1) is a candidate line
+     *
+     * @return the issues
+     */
+    Report parse(final Stream<String> lines, final String fileName, final IntPredicate isCandidate) {
+        Report report = new Report();
+        try (LookaheadStream lookahead = new LookaheadStream(lines, fileName)) {
+            parse(report, lookahead, isCandidate);
         }
 
         return postProcess(report);
     }
 
-    private void parse(final Report report, final LookaheadStream lookahead) {
+    private void parse(final Report report, final LookaheadStream lookahead, final IntPredicate isCandidate) {
+        LineMatcher matcher = createLineMatcher();
         try (IssueBuilder builder = new IssueBuilder()) {
+            DirectoryTracker directories = new DirectoryTracker();
             while (lookahead.hasNext()) {
-                String line = lookahead.next();
-                handleDirectoryChanges(builder, line);
-                if (isLineInteresting(line)) {
-                    Matcher matcher = pattern.matcher(line);
-                    if (matcher.find()) {
-                        createIssue(matcher, lookahead, builder).ifPresent(report::add);
-                    }
-                }
-                if (Thread.interrupted()) {
-                    throw new ParsingCanceledException();
-                }
+                parseNextLine(lookahead, builder, directories, isCandidate, matcher, 0).ifPresent(report::add);
             }
         }
+        logLinesOverBudget(report, matcher.getLinesOverBudget());
     }
 
     /**
-     * When changing directories using 'Entering directory' output, save new directory to our stack for later use, then
-     * return it for use now.
+     * Creates the matcher that finds the pattern of this parser in the lines of a report. Each parsing thread needs
+     * its own matcher.
      *
-     * @param line
-     *         the line to parse
-     * *
-     * @return The new directory to change to
+     * @return the matcher
      */
-    private String enterDirectory(final String line) {
-        recursiveDirectories.push(extractDirectory(line, ENTERING_DIRECTORY_PATH));
-        return recursiveDirectories.peek();
+    LineMatcher createLineMatcher() {
+        if (isLinearTimeMatchingEnabled()) {
+            return new LineMatcher(pattern, STEP_BUDGET);
+        }
+        return new LineMatcher(pattern);
     }
 
     /**
-     * When changing directories using 'Leaving directory' output, set our stack to the last directory seen, and return
-     * that directory.
+     * Returns whether the pattern of this parser should be found using linear time matching. Then the lines are
+     * scanned by a finite automaton first (see {@link RegexAutomaton}) and only the matching lines are evaluated by the
+     * regular expression. Lines that cannot be decided by the automaton are evaluated with a limited number of steps:
+     * lines that exceed this budget are skipped and reported as an error. Parsers with patterns that backtrack
+     * excessively on long lines that do not match (e.g., patterns that start with {@link #ANT_TASK}) should enable
+     * linear time matching. This default implementation returns {@code false}, i.e. each line is evaluated by the
+     * regular expression without limits.
      *
-     * @return The last directory seen, or an empty String if we have returned to the beginning
+     * @return {@code true} if linear time matching should be used, {@code false} otherwise
      */
-    private String leaveDirectory() {
-        if (!recursiveDirectories.empty()) {
-            recursiveDirectories.pop();
-            if (!recursiveDirectories.empty()) {
-                return recursiveDirectories.peek();
+    protected boolean isLinearTimeMatchingEnabled() {
+        return false;
+    }
+
+    private void logLinesOverBudget(final Report report, final List<Integer> linesOverBudget) {
+        if (!linesOverBudget.isEmpty()) {
+            report.logError("Skipped %d lines (first: line %d): matching the pattern of %s exceeded the budget "
+                            + "of %d steps", linesOverBudget.size(), Collections.min(linesOverBudget),
+                    getClass().getSimpleName(), STEP_BUDGET);
+        }
+    }
+
+    private Optional<Issue> parseNextLine(final LookaheadStream lookahead, final IssueBuilder builder,
+            final DirectoryTracker directories, final IntPredicate isCandidate, final LineMatcher lineMatcher,
+            final int lineOffset) {
+        String line = lookahead.next();
+        if (directories.handleDirectoryChanges(line)) {
+            builder.setDirectory(directories.getDirectory());
+        }
+        Optional<Issue> issue = Optional.empty();
+        if (isCandidate.test(lookahead.getLine()) && isLineInteresting(line)) {
+            Optional<Matcher> matcher = lineMatcher.find(line, lineOffset + lookahead.getLine());
+            if (matcher.isPresent()) {
+                issue = createIssue(matcher.get(), lookahead, builder);
             }
         }
-        return "";
+        if (Thread.interrupted()) {
+            throw new ParsingCanceledException();
+        }
+        return issue;
     }
 
     /**
-     * Uses Make-like ("Entering directory" and "Leaving directory") and CMake-like ("Build files have been written to")
-     * output to track directory structure as the compiler moves between source locations.
+     * Returns whether this parser can parse independent chunks of a report file concurrently, see {@link
+     * #parseInParallel(ReaderFactory, ForkJoinPool)}. This is the case if the created issues depend only on the matched
+     * line, the lines that are consumed from the {@link LookaheadStream}, and the current directory. Parsers that store
+     * state between lines (e.g., in {@link #isLineInteresting(String)}) or that use line numbers of the report file
+     * need to override this method and return {@code false}.
      *
-     * @param builder
-     *         {@link IssueBuilder} to set directory for
-     * @param line
-     *         the line to parse
+     * @return {@code true} if this parser can parse chunks concurrently, {@code false} otherwise
      */
-    private void handleDirectoryChanges(final IssueBuilder builder, final String line) {
-        if (line.contains(ENTERING_DIRECTORY)) {
-            builder.setDirectory(enterDirectory(line));
+    protected boolean isParallelizable() {
+        return true;
+    }
+
+    /**
+     * Parses the specified file for issues using the threads of the specified pool. The file is read once and split
+     * into line-aligned chunks. Each chunk is parsed in a separate task that is allowed to look ahead into the first
+     * lines of the following chunk, so that multi-line issues that cross a chunk boundary are detected. The issues of
+     * all chunks are merged in the order of the file. The directory changes of make and CMake are tracked while reading
+     * the file so that each chunk starts with the directory that is presumably active before its first line. If the
+     * parser of the previous chunk ends with another directory (e.g., since a directory change has been consumed by
+     * the lookahead of a multi-line issue), then the chunk is parsed again.
+     * <p>
+     * If this parser is not {@link #isParallelizable() parallelizable}, or if an issue of a chunk consumes all the
+     * lines of the overlap, then the file is parsed sequentially using {@link #parse(ReaderFactory)}.
+     * </p>
+     *
+     * @param readerFactory
+     *         provides a reader to the reports
+     * @param pool
+     *         the pool that runs the chunk parsers
+     *
+     * @return the issues
+     * @throws ParsingException
+     *         Signals that during parsing a non recoverable error has been occurred
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report parseInParallel(final ReaderFactory readerFactory, final ForkJoinPool pool)
+            throws ParsingException, ParsingCanceledException {
+        return parseInParallel(readerFactory, pool, CHUNK_SIZE, CHUNK_OVERLAP);
+    }
+
+    Report parseInParallel(final ReaderFactory readerFactory, final ForkJoinPool pool,
+            final int chunkSize, final int overlap) {
+        Ensure.that(chunkSize > 0 && overlap > 0).isTrue(
+                "Chunk size %d and overlap %d must be positive", chunkSize, overlap);
+
+        if (!isParallelizable()) {
+            return parse(readerFactory);
         }
-        else if (line.contains(LEAVING_DIRECTORY)) {
-            builder.setDirectory(leaveDirectory());
+
+        Report report = new Report();
+        boolean isComplete;
+        List<Integer> linesOverBudget;
+        try (Stream<String> lines = readerFactory.readStream()) {
+            ChunkScheduler scheduler = new ChunkScheduler(readerFactory.getFileName(), pool, report,
+                    chunkSize, overlap);
+            isComplete = scheduler.parse(lines.iterator());
+            linesOverBudget = scheduler.linesOverBudget;
         }
-        else if (line.contains(CMAKE_PREFIX)) {
-            builder.setDirectory(extractDirectory(line, CMAKE_PATH));
+        if (isComplete) {
+            logLinesOverBudget(report, linesOverBudget);
+            return postProcess(report);
         }
+        return parse(readerFactory);
     }
 
     /**
-     * Extracts a directory from a line using a specified pattern which contains a capture group named 'dir'.
+     * Parses the lines of the specified chunk. The parsing starts with the line at the specified offset and stops as
+     * soon as all own lines of the chunk have been consumed. Lines of the overlap are only consumed by the lookahead
+     * of {@link #createIssue(Matcher, LookaheadStream, IssueBuilder)}.
      *
-     * @param line
-     *         the line to parse using makePath
-     * @param makePath
-     *         {@link Pattern} which includes a capture group name 'dir'
+     * @param chunk
+     *         the chunk to parse
+     * @param offset
+     *         the index of the first line to parse
+     * @param initialDirectories
+     *         the directories that are active before the first line to parse
      *
-     * @return A path extracted from the input line
-     * @throws IllegalArgumentException
-     *         If the {@link Pattern} does not contain a capture group named 'dir'
-     * @throws ParsingException
-     *         If the {@link Pattern} fails to match the input line
+     * @return the issues of the chunk
      */
-    private String extractDirectory(final String line, final Pattern makePath) throws ParsingException {
-        if (!makePath.toString().contains("<dir>")) {
-            throw new IllegalArgumentException(
-                    String.format("%s does not contain a capture group named 'dir'", makePath.toString()));
-        }
-        Matcher makeLineMatcher = makePath.matcher(line);
-        if (makeLineMatcher.matches()) {
-            return removeHyphen(makeLineMatcher.group("dir"));
+    private ChunkResult parseChunk(final Chunk chunk, final int offset, final DirectoryTracker initialDirectories) {
+        ChunkResult result = new ChunkResult();
+        LineMatcher matcher = createLineMatcher();
+        DirectoryTracker directories = new DirectoryTracker(initialDirectories);
+        try (IssueBuilder builder = new IssueBuilder();
+                LookaheadStream lookahead = new LookaheadStream(
+                        chunk.lines.subList(offset, chunk.lines.size()).stream(), chunk.fileName)) {
+            builder.setDirectory(directories.getDirectory());
+
+            int ownLines = chunk.ownLines - offset;
+            int lineOffset = chunk.firstLine + offset - 1;
+            while (lookahead.getLine() < ownLines && lookahead.hasNext()) {
+                parseNextLine(lookahead, builder, directories, ALL_LINES, matcher, lineOffset)
+                        .ifPresent(result.issues::add);
+                if (!chunk.isLast && !lookahead.hasNext()) {
+                    result.isTruncated = true; // the lookahead might require more lines than the overlap provides
+
+                    return result;
+                }
+            }
+            result.lastConsumedLine = lineOffset + lookahead.getLine();
+            result.directories = directories;
         }
-        throw new ParsingException(
-                "Unable to change directory using: %s to match %s", makePath.toString(), line);
+        result.linesOverBudget.addAll(matcher.getLinesOverBudget());
+        return result;
     }
 
     /**
@@ -192,6 +321,38 @@ public abstract class LookaheadParser extends IssueParser {
         return line.length() < MAX_LINE_LENGTH; // skip long lines, see JENKINS-55805
     }
 
+    /**
+     * Returns the literals that are required by {@link #isLineInteresting(String)}: a line that contains none of
+     * these literals is never interesting. Parsers that read the same console log in a single pass (see {@link
+     * LineFanOut}) search for the literals of all parsers at once and skip the lines without literals for each parser.
+     * Parsers may only return literals if {@link #isLineInteresting(String)} does not store any state. Parsers that
+     * return literals should implement {@link #isLineInteresting(String)} with {@link #containsRequiredLiteral(String)}
+     * so that both methods (and the methods of subclasses) are always consistent. This default implementation returns
+     * an empty collection, i.e. every line is inspected.
+     *
+     * @return the required literals, or an empty collection if every line needs to be inspected
+     */
+    protected Collection<String> getRequiredLiterals() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns whether the specified line contains at least one of the {@link #getRequiredLiterals() required literals}.
+     *
+     * @param line
+     *         the line to inspect
+     *
+     * @return {@code true} if the line contains one of the required literals, {@code false} otherwise
+     */
+    protected final boolean containsRequiredLiteral(final String line) {
+        for (String literal : getRequiredLiterals()) {
+            if (line.contains(literal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Post processes the issues. This default implementation does nothing.
      *
@@ -205,17 +366,293 @@ public abstract class LookaheadParser extends IssueParser {
     }
 
     /**
-     * Remove Hyphen from directory path if it starts or ends with hyphen.
-     *
-     * @param dir
-     *         directory path to inspect
-     *
-     * @return directory path without leading or trailing hyphen
+     * Uses Make-like ("Entering directory" and "Leaving directory") and CMake-like ("Build files have been written to")
+     * output to track directory structure as the compiler moves between source locations.
+     */
+    private static class DirectoryTracker {
+        private final Deque<String> recursiveDirectories;
+        @CheckForNull
+        private String directory;
+
+        DirectoryTracker() {
+            recursiveDirectories = new ArrayDeque<>();
+        }
+
+        DirectoryTracker(final DirectoryTracker copy) {
+            recursiveDirectories = new ArrayDeque<>(copy.recursiveDirectories);
+            directory = copy.directory;
+        }
+
+        /**
+         * Returns whether the specified tracker has the same current directory and the same stack of recursive
+         * directories as this tracker.
+         *
+         * @param other
+         *         the other tracker
+         *
+         * @return {@code true} if both trackers are in the same state, {@code false} otherwise
+         */
+        boolean hasSameState(final DirectoryTracker other) {
+            return Objects.equals(directory, other.directory)
+                    && Arrays.equals(recursiveDirectories.toArray(), other.recursiveDirectories.toArray());
+        }
+
+        /**
+         * Returns the current directory.
+         *
+         * @return the current directory, or {@code null} if no directory change has been detected yet
+         */
+        @CheckForNull
+        String getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Handles a directory change in the specified line.
+         *
+         * @param line
+         *         the line to parse
+         *
+         * @return {@code true} if the line did change the directory, {@code false} otherwise
+         */
+        boolean handleDirectoryChanges(final String line) {
+            if (line.contains(ENTERING_DIRECTORY)) {
+                directory = enterDirectory(line);
+            }
+            else if (line.contains(LEAVING_DIRECTORY)) {
+                directory = leaveDirectory();
+            }
+            else if (line.contains(CMAKE_PREFIX)) {
+                directory = extractDirectory(line, CMAKE_PATH);
+            }
+            else {
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * When changing directories using 'Entering directory' output, save new directory to our stack for later use,
+         * then return it for use now.
+         *
+         * @param line
+         *         the line to parse
+         *
+         * @return The new directory to change to
+         */
+        private String enterDirectory(final String line) {
+            recursiveDirectories.push(extractDirectory(line, ENTERING_DIRECTORY_PATH));
+            return recursiveDirectories.element();
+        }
+
+        /**
+         * When changing directories using 'Leaving directory' output, set our stack to the last directory seen, and
+         * return that directory.
+         *
+         * @return The last directory seen, or an empty String if we have returned to the beginning
+         */
+        private String leaveDirectory() {
+            if (!recursiveDirectories.isEmpty()) {
+                recursiveDirectories.pop();
+                if (!recursiveDirectories.isEmpty()) {
+                    return recursiveDirectories.element();
+                }
+            }
+            return "";
+        }
+
+        /**
+         * Extracts a directory from a line using a specified pattern which contains a capture group named 'dir'.
+         *
+         * @param line
+         *         the line to parse using makePath
+         * @param makePath
+         *         {@link Pattern} which includes a capture group name 'dir'
+         *
+         * @return A path extracted from the input line
+         * @throws IllegalArgumentException
+         *         If the {@link Pattern} does not contain a capture group named 'dir'
+         * @throws ParsingException
+         *         If the {@link Pattern} fails to match the input line
+         */
+        private String extractDirectory(final String line, final Pattern makePath) throws ParsingException {
+            if (!makePath.toString().contains("<dir>")) {
+                throw new IllegalArgumentException(
+                        String.format("%s does not contain a capture group named 'dir'", makePath.toString()));
+            }
+            Matcher makeLineMatcher = makePath.matcher(line);
+            if (makeLineMatcher.matches()) {
+                return removeHyphen(makeLineMatcher.group("dir"));
+            }
+            throw new ParsingException(
+                    "Unable to change directory using: %s to match %s", makePath.toString(), line);
+        }
+
+        /**
+         * Remove Hyphen from directory path if it starts or ends with hyphen.
+         *
+         * @param dir
+         *         directory path to inspect
+         *
+         * @return directory path without leading or trailing hyphen
+         */
+        private String removeHyphen(final String dir) {
+            String path = dir;
+            path = StringUtils.stripStart(path, HYPHEN);
+            path = StringUtils.stripEnd(path, HYPHEN);
+            return path;
+        }
+    }
+
+    /**
+     * A line-aligned chunk of a report file. The lines of a chunk consist of the own lines of the chunk and the first
+     * lines of the following chunk (overlap). The directories of a chunk are the directories that are active before
+     * the first line if the directory changes of all previous lines are applied.
+     */
+    private static class Chunk {
+        private final String fileName;
+        private final List<String> lines;
+        private final int ownLines;
+        private final int firstLine;
+        private final boolean isLast;
+        private final DirectoryTracker directories;
+
+        Chunk(final String fileName, final List<String> lines, final int ownLines, final int firstLine,
+                final boolean isLast, final DirectoryTracker directories) {
+            this.fileName = fileName;
+            this.lines = lines;
+            this.ownLines = ownLines;
+            this.firstLine = firstLine;
+            this.isLast = isLast;
+            this.directories = directories;
+        }
+    }
+
+    /**
+     * The issues of a parsed {@link Chunk} and the directories that are active after the last consumed line.
      */
-    private String removeHyphen(final String dir) {
-        String path = dir;
-        path = StringUtils.stripStart(path, HYPHEN);
-        path = StringUtils.stripEnd(path, HYPHEN);
-        return path;
+    private static class ChunkResult {
+        private final List<Issue> issues = new ArrayList<>();
+        private final List<Integer> linesOverBudget = new ArrayList<>();
+        private int lastConsumedLine;
+        private boolean isTruncated;
+        private DirectoryTracker directories = new DirectoryTracker();
+    }
+
+    /**
+     * Reads the lines of a report file, splits them into chunks, and submits the chunk parsers to a pool. The results
+     * of the chunks are merged in the order of the file. The number of chunks that are in flight is limited so that
+     * the memory consumption does not depend on the size of the report file.
+     */
+    private class ChunkScheduler {
+        private final String fileName;
+        private final ForkJoinPool pool;
+        private final Report report;
+        private final int chunkSize;
+        private final int overlap;
+        private final int maximumPending;
+
+        private final Deque<Chunk> pendingChunks = new ArrayDeque<>();
+        private final Deque<ForkJoinTask<ChunkResult>> pendingResults = new ArrayDeque<>();
+        private final DirectoryTracker directories = new DirectoryTracker();
+        private final List<Integer> linesOverBudget = new ArrayList<>();
+
+        private DirectoryTracker mergedDirectories = new DirectoryTracker();
+        private int lastConsumedLine;
+        private boolean isTruncated;
+
+        ChunkScheduler(final String fileName, final ForkJoinPool pool, final Report report,
+                final int chunkSize, final int overlap) {
+            this.fileName = fileName;
+            this.pool = pool;
+            this.report = report;
+            this.chunkSize = chunkSize;
+            this.overlap = overlap;
+            this.maximumPending = 2 * pool.getParallelism();
+        }
+
+        /**
+         * Parses all lines of the specified report file.
+         *
+         * @param lines
+         *         the lines of the report
+         *
+         * @return {@code true} if all chunks have been parsed, {@code false} if a chunk has been truncated and the
+         *         file needs to be parsed sequentially
+         */
+        boolean parse(final Iterator<String> lines) {
+            List<String> buffer = new ArrayList<>(chunkSize + overlap);
+            int firstLine = 1;
+            while (lines.hasNext() && !isTruncated) {
+                buffer.add(lines.next());
+                if (buffer.size() == chunkSize + overlap) {
+                    submit(new ArrayList<>(buffer), chunkSize, firstLine, false);
+                    buffer = new ArrayList<>(buffer.subList(chunkSize, buffer.size()));
+                    firstLine += chunkSize;
+                }
+                if (Thread.interrupted()) {
+                    cancelPendingChunks();
+                    throw new ParsingCanceledException();
+                }
+            }
+            if (!buffer.isEmpty() && !isTruncated) {
+                submit(buffer, buffer.size(), firstLine, true);
+            }
+            while (!pendingChunks.isEmpty() && !isTruncated) {
+                mergeNextChunk();
+            }
+            cancelPendingChunks();
+
+            return !isTruncated;
+        }
+
+        private void submit(final List<String> lines, final int ownLines, final int firstLine, final boolean isLast) {
+            Chunk chunk = new Chunk(fileName, lines, ownLines, firstLine, isLast, new DirectoryTracker(directories));
+            for (String line : lines.subList(0, ownLines)) {
+                directories.handleDirectoryChanges(line);
+            }
+            pendingChunks.add(chunk);
+            pendingResults.add(pool.submit(() -> parseChunk(chunk, 0, chunk.directories)));
+
+            if (pendingChunks.size() > maximumPending) {
+                mergeNextChunk();
+            }
+        }
+
+        /**
+         * Merges the results of the next pending chunk into the report. The directory changes of lines that are
+         * consumed by the lookahead of a multi-line issue are not tracked by the parser. So if the lookahead of the
+         * previous chunk consumed lines of this chunk, or if the previous chunk ends with other directories than
+         * this chunk has been started with, then the results of the chunk are dropped. The remaining lines of the
+         * chunk are parsed again, starting with the first line that has not been consumed yet and the directories
+         * of the previous chunk.
+         */
+        private void mergeNextChunk() {
+            Chunk chunk = pendingChunks.remove();
+            ChunkResult result = pendingResults.remove().join();
+
+            int offset = lastConsumedLine - chunk.firstLine + 1;
+            if (offset >= chunk.ownLines) {
+                return; // all lines of this chunk have been consumed by the previous chunk
+            }
+            if (offset > 0 || !mergedDirectories.hasSameState(chunk.directories)) {
+                result = parseChunk(chunk, Math.max(offset, 0), mergedDirectories);
+            }
+            if (result.isTruncated) {
+                isTruncated = true;
+            }
+            else {
+                report.addAll(result.issues);
+                linesOverBudget.addAll(result.linesOverBudget);
+                lastConsumedLine = Math.max(lastConsumedLine, result.lastConsumedLine);
+                mergedDirectories = result.directories;
+            }
+        }
+
+        private void cancelPendingChunks() {
+            pendingResults.forEach(task -> task.cancel(true));
+            pendingResults.clear();
+            pendingChunks.clear();
+        }
     }
 }
@@ -0,0 +1,687 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import edu.hm.hafner.util.TreeString;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A read-only {@link Report} that is stored in a file and mapped into memory using {@link FileChannel#map}. The issues
+ * are stored column by column: every property of the issues is stored in a separate column of fixed size entries,
+ * strings are stored in a dictionary and the columns contain the index of the string in this dictionary. So the
+ * number of issues per severity or per property value can be evaluated by scanning the affected column only.
+ *
+ * <p>
+ * {@link Issue} instances are not stored in this report: they are materialized on demand, every time an issue is
+ * accessed. So the heap usage is independent of the number of stored issues. This makes it possible to keep a large
+ * number of reports (e.g., the reports of the build history) available without loading them into memory.
+ * </p>
+ *
+ * <p>
+ * Use {@link #write(Report, Path)} to store a report and {@link #read(Path)} to map a stored report. A mapped report
+ * must be closed if it is not required anymore: afterwards, the issues of the report are not accessible anymore. Note
+ * that Java provides no way to unmap a file explicitly: the mapping is released as soon as the garbage collector
+ * reclaims the mapped buffer. Until then, the file still occupies address space and, on some platforms (e.g.,
+ * Windows), cannot be deleted or overwritten.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public final class MappedReport implements Iterable<Issue>, Closeable {
+    private static final int MAGIC = 0x414D5250; // AMRP
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 10 * Integer.BYTES;
+    private static final int LONG_COLUMNS = 2;
+
+    /** The string properties that are stored in the dictionary. */
+    private enum StringColumn {
+        PATH("path"),
+        FILE_NAME("fileName"),
+        CATEGORY("category"),
+        TYPE("type"),
+        PACKAGE_NAME("packageName"),
+        MODULE_NAME("moduleName"),
+        SEVERITY("severity"),
+        MESSAGE("message"),
+        DESCRIPTION("description"),
+        ORIGIN("origin"),
+        ORIGIN_NAME("originName"),
+        REFERENCE("reference"),
+        FINGERPRINT("fingerprint");
+
+        private final String propertyName;
+
+        StringColumn(final String propertyName) {
+            this.propertyName = propertyName;
+        }
+
+        @CheckForNull
+        static StringColumn fromPropertyName(final String propertyName) {
+            for (StringColumn column : values()) {
+                if (column.propertyName.equals(propertyName)) {
+                    return column;
+                }
+            }
+            return null;
+        }
+    }
+
+    /** The integer properties of the issues. */
+    private enum IntColumn {
+        LINE_START, LINE_END, COLUMN_START, COLUMN_END
+    }
+
+    @CheckForNull
+    private ByteBuffer buffer;
+    private final int size;
+    private final int duplicatesSize;
+    private final String id;
+    private final String name;
+    private final String originReportFile;
+
+    private final int dictionarySize;
+    private final int dictionaryOffsets;
+    private final int dictionaryData;
+    private final int stringColumns;
+    private final int intColumns;
+    private final int longColumns;
+    private final int variableOffsets;
+    private final int variableData;
+
+    /**
+     * Stores the specified report in the specified file. The issues of all sub-reports are stored as well, the
+     * structure of the sub-reports is not preserved.
+     *
+     * @param report
+     *         the report to store
+     * @param file
+     *         the file to write the report to
+     *
+     * @throws IOException
+     *         if the file could not be written
+     */
+    public static void write(final Report report, final Path file) throws IOException {
+        new Writer(report).write(file);
+    }
+
+    /**
+     * Maps the report that is stored in the specified file into memory.
+     *
+     * @param file
+     *         the file that contains the stored report (created by {@link #write(Report, Path)})
+     *
+     * @return the mapped report
+     * @throws IOException
+     *         if the file could not be read or if the file does not contain a stored report
+     */
+    public static MappedReport read(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Report store is too large: " + file);
+            }
+            return new MappedReport(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file);
+        }
+    }
+
+    private MappedReport(final ByteBuffer buffer, final Path file) throws IOException {
+        this.buffer = buffer;
+
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("File does not contain a stored report: " + file);
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException(String.format("Unsupported version %d of stored report: %s",
+                    buffer.getInt(Integer.BYTES), file));
+        }
+        size = buffer.getInt(2 * Integer.BYTES);
+        duplicatesSize = buffer.getInt(3 * Integer.BYTES);
+        dictionarySize = buffer.getInt(7 * Integer.BYTES);
+        dictionaryOffsets = buffer.getInt(8 * Integer.BYTES);
+        variableOffsets = buffer.getInt(9 * Integer.BYTES);
+
+        try {
+            stringColumns = HEADER_SIZE;
+            intColumns = stringColumns + StringColumn.values().length * size * Integer.BYTES;
+            longColumns = intColumns + IntColumn.values().length * size * Integer.BYTES;
+            variableData = longColumns + LONG_COLUMNS * size * Long.BYTES;
+            dictionaryData = dictionaryOffsets + (dictionarySize + 1) * Integer.BYTES;
+
+            if (size < 0 || dictionarySize < 0 || variableOffsets < variableData
+                    || variableData + buffer.getInt(variableOffsets + size * Integer.BYTES) != variableOffsets
+                    || variableOffsets + (size + 1) * Integer.BYTES != dictionaryOffsets
+                    || dictionaryData + buffer.getInt(dictionaryOffsets + dictionarySize * Integer.BYTES)
+                    != buffer.capacity()) {
+                throw new IOException("Stored report is corrupt: " + file);
+            }
+
+            id = getString(buffer.getInt(4 * Integer.BYTES));
+            name = getString(buffer.getInt(5 * Integer.BYTES));
+            originReportFile = getString(buffer.getInt(6 * Integer.BYTES));
+        }
+        catch (IndexOutOfBoundsException exception) {
+            throw new IOException("Stored report is corrupt: " + file, exception);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOriginReportFile() {
+        return originReportFile;
+    }
+
+    /**
+     * Returns the number of issues in this report.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this report is empty.
+     *
+     * @return {@code true} if this report is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of duplicates that have been skipped in the original report.
+     *
+     * @return total number of duplicates
+     * @see Report#getDuplicatesSize()
+     */
+    public int getDuplicatesSize() {
+        return duplicatesSize;
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}. The issues will not be materialized.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return getPropertyCount(StringColumn.SEVERITY).getOrDefault(severity.getName(), 0);
+    }
+
+    /**
+     * Returns the number of issues with the specified {@code severity}. The issues will not be materialized.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final String severity) {
+        return getSizeOf(Severity.valueOf(severity));
+    }
+
+    /**
+     * Returns the number of occurrences for every existing value of the property with the specified name. If the
+     * property is a stored string property of the issues (e.g., {@code fileName}, {@code category}, {@code type},
+     * {@code packageName}, {@code moduleName}, {@code severity}, or {@code origin}), then only the corresponding
+     * column will be evaluated. Otherwise, the issues will be materialized one by one.
+     *
+     * @param propertyName
+     *         the name of the property to evaluate
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     * @see Issue#getPropertyValueGetter(String)
+     */
+    public Map<String, Integer> getPropertyCount(final String propertyName) {
+        StringColumn column = StringColumn.fromPropertyName(propertyName);
+        if (column == null) {
+            return getPropertyCount(Issue.getPropertyValueGetter(propertyName));
+        }
+        return getPropertyCount(column);
+    }
+
+    /**
+     * Returns the different values of the property with the specified name.
+     *
+     * @param propertyName
+     *         the name of the property to evaluate
+     *
+     * @return the set of different values
+     * @see #getPropertyCount(String)
+     */
+    public Set<String> getProperties(final String propertyName) {
+        return getPropertyCount(propertyName).keySet();
+    }
+
+    /**
+     * Returns the number of occurrences for every existing value of a given property for all issues. The issues are
+     * materialized one by one.
+     *
+     * @param propertiesMapper
+     *         the properties mapper that selects the property to evaluate
+     * @param <T>
+     *         type of the property
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     * @see Report#getPropertyCount(Function)
+     */
+    public <T> Map<T, Integer> getPropertyCount(final Function<? super Issue, T> propertiesMapper) {
+        return stream().collect(
+                Collectors.groupingBy(propertiesMapper, Collectors.reducing(0, issue -> 1, Integer::sum)));
+    }
+
+    private Map<String, Integer> getPropertyCount(final StringColumn column) {
+        Map<Integer, Integer> countByIndex = new HashMap<>();
+        int start = getColumnStart(column);
+        for (int i = 0; i < size; i++) {
+            countByIndex.merge(getBuffer().getInt(start + i * Integer.BYTES), 1, Integer::sum);
+        }
+        Map<String, Integer> countByValue = new HashMap<>();
+        countByIndex.forEach((index, count) -> countByValue.merge(getString(index), count, Integer::sum));
+        return countByValue;
+    }
+
+    /**
+     * Returns the issue with the specified index. The issue is materialized from the stored data, so every call
+     * creates a new instance.
+     *
+     * @param index
+     *         the index
+     *
+     * @return the issue at the specified index
+     * @throws IndexOutOfBoundsException
+     *         if there is no element for the given index
+     */
+    public Issue get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("No such index " + index + " in " + this);
+        }
+        return new Issue(getString(StringColumn.PATH, index),
+                TreeString.valueOf(getString(StringColumn.FILE_NAME, index)),
+                getInt(IntColumn.LINE_START, index), getInt(IntColumn.LINE_END, index),
+                getInt(IntColumn.COLUMN_START, index), getInt(IntColumn.COLUMN_END, index),
+                getLineRanges(index),
+                getString(StringColumn.CATEGORY, index),
+                getString(StringColumn.TYPE, index),
+                TreeString.valueOf(getString(StringColumn.PACKAGE_NAME, index)),
+                getString(StringColumn.MODULE_NAME, index),
+                Severity.valueOf(getString(StringColumn.SEVERITY, index)),
+                TreeString.valueOf(getString(StringColumn.MESSAGE, index)),
+                getString(StringColumn.DESCRIPTION, index),
+                getString(StringColumn.ORIGIN, index),
+                getString(StringColumn.ORIGIN_NAME, index),
+                getString(StringColumn.REFERENCE, index),
+                getString(StringColumn.FINGERPRINT, index),
+                getAdditionalProperties(index),
+                new UUID(getLong(0, index), getLong(1, index)));
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of {@link Issue} instances. The issues are materialized while the stream
+     * is consumed.
+     *
+     * @return a new {@code Stream}
+     */
+    public Stream<Issue> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Iterator<Issue> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Finds all issues that match the specified criterion. Only the matching issues will be kept in memory.
+     *
+     * @param criterion
+     *         the filter criterion
+     *
+     * @return the found issues
+     */
+    public Report filter(final Predicate<? super Issue> criterion) {
+        Report filtered = new Report(id, name, originReportFile);
+        filtered.addDuplicates(duplicatesSize);
+        stream().filter(criterion).forEach(filtered::add);
+        return filtered;
+    }
+
+    /**
+     * Materializes all issues of this report into a new {@link Report}.
+     *
+     * @return a report that contains all issues of this mapped report
+     */
+    public Report toReport() {
+        return filter(issue -> true);
+    }
+
+    /**
+     * Closes this report: the issues of this report are not accessible anymore. The memory mapping of the file is
+     * released as soon as the garbage collector reclaims the mapped buffer.
+     */
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%s): %d issues (%d duplicates)", name, id, size, duplicatesSize);
+    }
+
+    private ByteBuffer getBuffer() {
+        ByteBuffer mapped = buffer;
+        if (mapped == null) {
+            throw new IllegalStateException("Mapped report has been closed: " + this);
+        }
+        return mapped;
+    }
+
+    private int getColumnStart(final StringColumn column) {
+        return stringColumns + column.ordinal() * size * Integer.BYTES;
+    }
+
+    private String getString(final StringColumn column, final int index) {
+        return getString(getBuffer().getInt(getColumnStart(column) + index * Integer.BYTES));
+    }
+
+    private String getString(final int dictionaryIndex) {
+        int start = getBuffer().getInt(dictionaryOffsets + dictionaryIndex * Integer.BYTES);
+        int end = getBuffer().getInt(dictionaryOffsets + (dictionaryIndex + 1) * Integer.BYTES);
+        return new String(getBytes(dictionaryData + start, end - start), StandardCharsets.UTF_8);
+    }
+
+    private int getInt(final IntColumn column, final int index) {
+        return getBuffer().getInt(intColumns + (column.ordinal() * size + index) * Integer.BYTES);
+    }
+
+    private long getLong(final int column, final int index) {
+        return getBuffer().getLong(longColumns + (column * size + index) * Long.BYTES);
+    }
+
+    private List<LineRange> getLineRanges(final int index) {
+        int start = variableData + getBuffer().getInt(variableOffsets + index * Integer.BYTES);
+        int count = getBuffer().getInt(start);
+        List<LineRange> lineRanges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int position = start + (2 * i + 1) * Integer.BYTES;
+            lineRanges.add(new LineRange(getBuffer().getInt(position), getBuffer().getInt(position + Integer.BYTES)));
+        }
+        return lineRanges;
+    }
+
+    @CheckForNull
+    @SuppressFBWarnings("OBJECT_DESERIALIZATION")
+    @SuppressWarnings("BanSerializableRead")
+    private Serializable getAdditionalProperties(final int index) {
+        int start = variableData + getBuffer().getInt(variableOffsets + index * Integer.BYTES);
+        int propertiesStart = start + (2 * getBuffer().getInt(start) + 1) * Integer.BYTES;
+        int length = getBuffer().getInt(propertiesStart);
+        if (length == 0) {
+            return null;
+        }
+        try (ObjectInputStream input = new ObjectInputStream(
+                new ByteArrayInputStream(getBytes(propertiesStart + Integer.BYTES, length)))) {
+            return (Serializable) input.readObject();
+        }
+        catch (IOException | ClassNotFoundException exception) {
+            throw new IllegalStateException("Can't read additional properties of issue " + index, exception);
+        }
+    }
+
+    private byte[] getBytes(final int position, final int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer view = getBuffer().duplicate();
+        ((Buffer) view).position(position);
+        view.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes a report column by column into a file. The columns are streamed one after another to the file, the
+     * dictionary of strings is written after the columns.
+     */
+    private static class Writer {
+        private final Report report;
+        private final List<Issue> issues;
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final List<byte[]> dictionaryEntries = new ArrayList<>();
+
+        Writer(final Report report) {
+            this.report = report;
+            this.issues = report.stream().collect(Collectors.toList());
+        }
+
+        void write(final Path file) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                ChannelOutput output = new ChannelOutput(channel, HEADER_SIZE);
+                for (StringColumn column : StringColumn.values()) {
+                    for (Issue issue : issues) {
+                        output.putInt(index(getValue(issue, column)));
+                    }
+                }
+                for (Issue issue : issues) {
+                    output.putInt(issue.getLineStart());
+                }
+                for (Issue issue : issues) {
+                    output.putInt(issue.getLineEnd());
+                }
+                for (Issue issue : issues) {
+                    output.putInt(issue.getColumnStart());
+                }
+                for (Issue issue : issues) {
+                    output.putInt(issue.getColumnEnd());
+                }
+                for (Issue issue : issues) {
+                    output.putLong(issue.getId().getMostSignificantBits());
+                }
+                for (Issue issue : issues) {
+                    output.putLong(issue.getId().getLeastSignificantBits());
+                }
+
+                int variableData = output.getPosition();
+                int[] variableOffsets = new int[issues.size() + 1];
+                for (int i = 0; i < issues.size(); i++) {
+                    writeVariableData(issues.get(i), output);
+                    variableOffsets[i + 1] = output.getPosition() - variableData;
+                }
+                int variableOffsetsPosition = output.getPosition();
+                for (int variableOffset : variableOffsets) {
+                    output.putInt(variableOffset);
+                }
+
+                int idIndex = index(report.getId());
+                int nameIndex = index(report.getName());
+                int originReportFileIndex = index(report.getOriginReportFile());
+
+                int dictionaryPosition = output.getPosition();
+                int offset = 0;
+                output.putInt(offset);
+                for (byte[] entry : dictionaryEntries) {
+                    offset += entry.length;
+                    output.putInt(offset);
+                }
+                for (byte[] entry : dictionaryEntries) {
+                    output.put(entry);
+                }
+                output.flush();
+
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                header.putInt(MAGIC).putInt(VERSION).putInt(issues.size()).putInt(report.getDuplicatesSize())
+                        .putInt(idIndex).putInt(nameIndex).putInt(originReportFileIndex)
+                        .putInt(dictionaryEntries.size()).putInt(dictionaryPosition).putInt(variableOffsetsPosition);
+                ((Buffer) header).flip();
+                channel.position(0);
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+            }
+        }
+
+        private int index(final String value) {
+            return dictionary.computeIfAbsent(value, key -> {
+                dictionaryEntries.add(key.getBytes(StandardCharsets.UTF_8));
+                return dictionaryEntries.size() - 1;
+            });
+        }
+
+        private void writeVariableData(final Issue issue, final ChannelOutput output) throws IOException {
+            List<LineRange> lineRanges = new ArrayList<>();
+            issue.getLineRanges().forEach(lineRanges::add);
+            output.putInt(lineRanges.size());
+            for (LineRange lineRange : lineRanges) {
+                output.putInt(lineRange.getStart());
+                output.putInt(lineRange.getEnd());
+            }
+            byte[] properties = serialize(issue.getAdditionalProperties());
+            output.putInt(properties.length);
+            output.put(properties);
+        }
+
+        private byte[] serialize(@CheckForNull final Serializable additionalProperties) throws IOException {
+            if (additionalProperties == null) {
+                return new byte[0];
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+                stream.writeObject(additionalProperties);
+            }
+            return out.toByteArray();
+        }
+
+        private String getValue(final Issue issue, final StringColumn column) {
+            switch (column) {
+                case PATH:
+                    return issue.getPath();
+                case FILE_NAME:
+                    return issue.getFileName();
+                case CATEGORY:
+                    return issue.getCategory();
+                case TYPE:
+                    return issue.getType();
+                case PACKAGE_NAME:
+                    return issue.getPackageName();
+                case MODULE_NAME:
+                    return issue.getModuleName();
+                case SEVERITY:
+                    return issue.getSeverity().getName();
+                case MESSAGE:
+                    return issue.getMessage();
+                case DESCRIPTION:
+                    return issue.getDescription();
+                case ORIGIN:
+                    return issue.getOrigin();
+                case ORIGIN_NAME:
+                    return issue.getOriginName();
+                case REFERENCE:
+                    return issue.getReference();
+                case FINGERPRINT:
+                    return issue.getFingerprint();
+                default:
+                    throw new IllegalArgumentException("Unsupported column " + column);
+            }
+        }
+    }
+
+    /**
+     * Writes primitive values through a small buffer to a file channel. Since the stored report is mapped into memory
+     * afterwards, the written data must not exceed 2 GB.
+     */
+    private static class ChannelOutput {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private long position;
+
+        ChannelOutput(final FileChannel channel, final int position) throws IOException {
+            this.channel = channel;
+            this.position = position;
+
+            channel.position(position);
+        }
+
+        int getPosition() {
+            return (int) position;
+        }
+
+        void putInt(final int value) throws IOException {
+            reserve(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(final long value) throws IOException {
+            reserve(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void put(final byte[] bytes) throws IOException {
+            advance(bytes.length);
+            int written = 0;
+            while (written < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - written);
+                buffer.put(bytes, written, length);
+                written += length;
+            }
+        }
+
+        void flush() throws IOException {
+            ((Buffer) buffer).flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            ((Buffer) buffer).clear();
+        }
+
+        private void reserve(final int bytes) throws IOException {
+            advance(bytes);
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        private void advance(final int bytes) throws IOException {
+            position += bytes;
+            if (position > Integer.MAX_VALUE) {
+                throw new IOException("Report is too large to be stored");
+            }
+        }
+    }
+}
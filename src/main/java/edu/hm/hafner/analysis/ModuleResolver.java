@@ -1,8 +1,5 @@
 package edu.hm.hafner.analysis;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Resolves module names by reading and mapping module definitions (build.xml, pom.xml, or Manifest.mf files).
  *
@@ -18,17 +15,21 @@ public class ModuleResolver {
      *         the module detector to use
      */
     public void run(final Report report, final ModuleDetector detector) {
-        List<Issue> issuesWithoutModule = report.stream()
+        long issuesWithoutModule = report.stream()
                 .filter(issue -> !issue.hasModuleName())
-                .collect(Collectors.toList());
+                .count();
 
-        if (issuesWithoutModule.isEmpty()) {
+        if (issuesWithoutModule == 0) {
             report.logInfo("-> all issues already have a valid module name");
 
             return;
         }
 
-        issuesWithoutModule.forEach(issue -> issue.setModuleName(detector.guessModuleName(issue.getAbsolutePath())));
-        report.logInfo("-> resolved module names for %d issues", issuesWithoutModule.size());
+        report.modifyIssues(issue -> {
+            if (!issue.hasModuleName()) {
+                issue.setModuleName(detector.guessModuleName(issue.getAbsolutePath()));
+            }
+        });
+        report.logInfo("-> resolved module names for %d issues", issuesWithoutModule);
     }
 }
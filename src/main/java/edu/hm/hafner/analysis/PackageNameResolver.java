@@ -55,7 +55,7 @@ public class PackageNameResolver {
                         fileName -> packageDetectors.detectPackageName(fileName, charset)));
 
         try (IssueBuilder builder = new IssueBuilder()) {
-            report.stream().forEach(issue -> {
+            report.modifyIssues(issue -> {
                 if (!issue.hasPackageName()) {
                     issue.setPackageName(builder.internPackageName(packagesOfFiles.get(issue.getAbsolutePath())));
                 }
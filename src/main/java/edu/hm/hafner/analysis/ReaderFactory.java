@@ -5,12 +5,11 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.lang3.StringUtils;
 import org.w3c.dom.Document;
 import org.xml.sax.helpers.DefaultHandler;
 
@@ -28,11 +27,7 @@ public abstract class ReaderFactory {
 
     private final Charset charset;
     private final Function<String, String> lineMapper;
-
-    private static final Pattern ANSI_COLOR_CODES
-            = Pattern.compile("\u001B\\[[;\\d]*[ -/]*[@-~]");
-    private static final Function<String, String> REMOVE_COLOR_CODES
-            = string -> ANSI_COLOR_CODES.matcher(string).replaceAll(StringUtils.EMPTY);
+    private final LinePreprocessor preprocessor;
 
     /**
      * Creates a new factory to read a resource with a given charset.
@@ -53,8 +48,25 @@ public abstract class ReaderFactory {
      *         provides a mapper to transform each of the resource lines
      */
     public ReaderFactory(final Charset charset, final Function<String, String> lineMapper) {
+        this(charset, lineMapper, LinePreprocessor.DEFAULT);
+    }
+
+    /**
+     * Creates a new factory to read a resource with a given charset. Each line will be transformed by the specified
+     * line mapper first and then by the stages of the specified preprocessor.
+     *
+     * @param charset
+     *         the charset to use when reading the file
+     * @param lineMapper
+     *         provides a mapper to transform each of the resource lines
+     * @param preprocessor
+     *         the preprocessor that removes color codes, timestamps, etc. from each of the resource lines
+     */
+    public ReaderFactory(final Charset charset, final Function<String, String> lineMapper,
+            final LinePreprocessor preprocessor) {
         this.charset = charset;
-        this.lineMapper = REMOVE_COLOR_CODES.compose(lineMapper);
+        this.lineMapper = lineMapper;
+        this.preprocessor = Objects.requireNonNull(preprocessor, "preprocessor must not be null");
     }
 
     /**
@@ -87,11 +99,12 @@ public abstract class ReaderFactory {
             BufferedReader reader = new BufferedReader(create());
             Stream<String> stringStream = reader.lines().onClose(closeReader(reader));
             if (hasLineMapper()) {
-                return stringStream.map(lineMapper);
+                stringStream = stringStream.map(lineMapper);
             }
-            else {
-                return stringStream;
+            if (hasPreprocessor()) {
+                stringStream = stringStream.map(preprocessor::process);
             }
+            return stringStream;
         }
         catch (UncheckedIOException e) {
             throw new ParsingException(e);
@@ -116,6 +129,10 @@ public abstract class ReaderFactory {
         return lineMapper != null && lineMapper != IDENTITY;
     }
 
+    private boolean hasPreprocessor() {
+        return !preprocessor.isEmpty();
+    }
+
     /**
      * Reads the whole file into a {@link String}.
      *
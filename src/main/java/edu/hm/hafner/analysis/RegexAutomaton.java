@@ -0,0 +1,702 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * A finite automaton that decides in linear time whether a regular expression can be found in a line. The automaton
+ * supports the regular subset of the syntax of {@link Pattern}: literals, character classes, the predefined classes
+ * {@code \d}, {@code \s}, {@code \w} (and their negations), some POSIX classes, groups, alternations, greedy and lazy
+ * quantifiers, and the boundaries {@code ^} and {@code $}. Patterns that use back references, look-around, possessive
+ * quantifiers, flags other than {@code s}, {@code m}, and {@code d}, or other constructs are not supported, see {@link
+ * #compile(Pattern)}.
+ *
+ * <p>
+ * The expression is compiled into a non-deterministic automaton (Thompson construction) that is converted lazily into
+ * a deterministic automaton while scanning the lines, see {@link Dfa}. So each character of a line is processed by
+ * a single table lookup once the automaton has seen similar lines. The automaton only decides whether the expression
+ * can be found: the capturing groups of a match still need to be evaluated using {@link Pattern}.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+final class RegexAutomaton {
+    private static final int MAXIMUM_NFA_STATES = 10_000;
+    private static final int MAXIMUM_DFA_STATES = 1_000;
+    private static final int MAXIMUM_REPETITION = 100;
+    private static final int ASCII = 128;
+    private static final int UNBOUNDED = -1;
+    private static final char NEXT_LINE = 0x85;
+    private static final char LINE_SEPARATOR = 0x2028;
+    private static final char PARAGRAPH_SEPARATOR = 0x2029;
+    /**
+     * Flags that change the meaning of line terminators only: since lines with terminators are not scanned by the
+     * automaton, these flags do not change the result.
+     */
+    private static final String IGNORED_FLAGS = "smd-";
+
+    private static final int CHARACTER = 0;
+    private static final int SPLIT = 1;
+    private static final int BEGIN = 2;
+    private static final int END = 3;
+    private static final int ACCEPT = 4;
+
+    private final List<Integer> types = new ArrayList<>();
+    private final List<Integer> next = new ArrayList<>();
+    private final List<Integer> alternative = new ArrayList<>();
+    private final List<CharacterClass> classes = new ArrayList<>();
+    private final int start;
+
+    /**
+     * Compiles the specified pattern into an automaton.
+     *
+     * @param pattern
+     *         the pattern to compile
+     *
+     * @return the automaton, or an empty optional if the pattern uses constructs that are not supported
+     */
+    static Optional<RegexAutomaton> compile(final Pattern pattern) {
+        if ((pattern.flags() & ~(Pattern.MULTILINE | Pattern.DOTALL | Pattern.UNIX_LINES)) != 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new RegexAutomaton(new ExpressionParser(pattern.pattern()).parse()));
+        }
+        catch (UnsupportedExpressionException exception) {
+            return Optional.empty();
+        }
+    }
+
+    private RegexAutomaton(final Node expression) {
+        int accept = addState(ACCEPT, -1, -1, null);
+        start = expression.compile(this, accept);
+    }
+
+    private int addState(final int type, final int nextState, final int alternativeState,
+            final CharacterClass characterClass) {
+        if (types.size() >= MAXIMUM_NFA_STATES) {
+            throw new UnsupportedExpressionException("too many states");
+        }
+        types.add(type);
+        next.add(nextState);
+        alternative.add(alternativeState);
+        classes.add(characterClass);
+        return types.size() - 1;
+    }
+
+    /**
+     * Creates a new deterministic automaton that is built lazily while scanning lines. The returned instance is not
+     * thread safe, so each thread needs to create its own instance.
+     *
+     * @return the deterministic automaton
+     */
+    Dfa createDfa() {
+        return new Dfa();
+    }
+
+    /**
+     * The result of scanning a line.
+     */
+    enum Decision {
+        /** The expression can be found in the line. */
+        MATCH,
+        /** The expression cannot be found in the line. */
+        NO_MATCH,
+        /**
+         * The line contains line terminators or surrogate characters that have a special meaning in {@link Pattern}
+         * and cannot be scanned by the automaton.
+         */
+        UNDECIDED
+    }
+
+    /**
+     * A deterministic automaton whose states are the sets of states of the non-deterministic automaton. The states and
+     * transitions are created on demand and cached, at most {@link #MAXIMUM_DFA_STATES} states are cached.
+     */
+    final class Dfa {
+        private final Map<StateSet, DfaState> cache = new HashMap<>();
+        private final DfaState initial;
+        private final int[] restart;
+
+        Dfa() {
+            initial = getState(closure(new int[] {start}, true, false));
+            restart = closure(new int[] {start}, false, false);
+        }
+
+        /**
+         * Scans the specified line and returns whether the expression can be found in the line.
+         *
+         * @param line
+         *         the line to scan
+         *
+         * @return the decision
+         */
+        Decision find(final CharSequence line) {
+            DfaState state = initial;
+            int length = line.length();
+            for (int position = 0; position < length; position++) {
+                if (state.isAccepting) {
+                    return Decision.MATCH;
+                }
+                char character = line.charAt(position);
+                if (isSpecial(character)) {
+                    return Decision.UNDECIDED;
+                }
+                state = state.getNext(character);
+            }
+            if (state.isAccepting || state.isAcceptingAtEnd(length == 0)) {
+                return Decision.MATCH;
+            }
+            return Decision.NO_MATCH;
+        }
+
+        private boolean isSpecial(final char character) {
+            if (character < ASCII) {
+                return character == '\n' || character == '\r';
+            }
+            return character == NEXT_LINE || character == LINE_SEPARATOR || character == PARAGRAPH_SEPARATOR
+                    || Character.isSurrogate(character);
+        }
+
+        private DfaState getState(final int[] states) {
+            StateSet key = new StateSet(states);
+            DfaState state = cache.get(key);
+            if (state == null) {
+                state = new DfaState(states);
+                if (cache.size() < MAXIMUM_DFA_STATES) {
+                    cache.put(key, state);
+                    state.isCached = true;
+                }
+            }
+            return state;
+        }
+
+        private int[] closure(final int[] states, final boolean atBeginning, final boolean atEnd) {
+            BitSet visited = new BitSet(types.size());
+            List<Integer> result = new ArrayList<>();
+            int[] stack = new int[2 * types.size() + states.length];
+            int size = 0;
+            for (int state : states) {
+                stack[size++] = state;
+            }
+            while (size > 0) {
+                int state = stack[--size];
+                if (visited.get(state)) {
+                    continue;
+                }
+                visited.set(state);
+                int type = types.get(state);
+                if (type == SPLIT) {
+                    stack[size++] = alternative.get(state);
+                    stack[size++] = next.get(state);
+                }
+                else if (type == BEGIN && atBeginning || type == END && atEnd) {
+                    stack[size++] = next.get(state);
+                }
+                else if (type != BEGIN) {
+                    result.add(state);
+                }
+            }
+            return result.stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+
+        /**
+         * A state of the deterministic automaton.
+         */
+        private final class DfaState {
+            private final int[] states;
+            private final boolean isAccepting;
+            private final DfaState[] asciiTransitions = new DfaState[ASCII];
+            private final Map<Character, DfaState> otherTransitions = new HashMap<>();
+            private boolean isCached;
+            @CheckForNull
+            private Boolean isAcceptingAtEnd;
+
+            DfaState(final int[] states) {
+                this.states = states;
+                isAccepting = contains(states, ACCEPT);
+            }
+
+            private boolean contains(final int[] candidates, final int type) {
+                for (int state : candidates) {
+                    if (types.get(state) == type) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            boolean isAcceptingAtEnd(final boolean atBeginning) {
+                if (atBeginning) {
+                    return computeAcceptingAtEnd(true);
+                }
+                if (isAcceptingAtEnd == null) {
+                    isAcceptingAtEnd = computeAcceptingAtEnd(false);
+                }
+                return isAcceptingAtEnd;
+            }
+
+            private boolean computeAcceptingAtEnd(final boolean atBeginning) {
+                return contains(states, END) && contains(closure(states, atBeginning, true), ACCEPT);
+            }
+
+            DfaState getNext(final char character) {
+                DfaState target = character < ASCII ? asciiTransitions[character] : otherTransitions.get(character);
+                if (target == null) {
+                    target = computeNext(character);
+                    if (isCached) {
+                        if (character < ASCII) {
+                            asciiTransitions[character] = target;
+                        }
+                        else {
+                            otherTransitions.put(character, target);
+                        }
+                    }
+                }
+                return target;
+            }
+
+            private DfaState computeNext(final char character) {
+                int[] targets = new int[states.length + restart.length];
+                int size = 0;
+                for (int state : states) {
+                    if (types.get(state) == CHARACTER && classes.get(state).contains(character)) {
+                        targets[size++] = next.get(state);
+                    }
+                }
+                System.arraycopy(restart, 0, targets, size, restart.length);
+                return getState(closure(Arrays.copyOf(targets, size + restart.length), false, false));
+            }
+        }
+    }
+
+    /**
+     * A sorted set of states of the non-deterministic automaton that is used as key of the cache.
+     */
+    private static final class StateSet {
+        private final int[] states;
+        private final int hashCode;
+
+        StateSet(final int[] states) {
+            this.states = states;
+            hashCode = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof StateSet && Arrays.equals(states, ((StateSet) o).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A set of characters, given by a sorted list of inclusive ranges.
+     */
+    private static final class CharacterClass {
+        private final boolean isNegated;
+        private final List<char[]> ranges;
+
+        CharacterClass(final List<char[]> ranges, final boolean isNegated) {
+            this.ranges = ranges;
+            this.isNegated = isNegated;
+        }
+
+        static CharacterClass of(final char character) {
+            List<char[]> ranges = new ArrayList<>();
+            ranges.add(new char[] {character, character});
+            return new CharacterClass(ranges, false);
+        }
+
+        boolean contains(final char character) {
+            for (char[] range : ranges) {
+                if (character >= range[0] && character <= range[1]) {
+                    return !isNegated;
+                }
+            }
+            return isNegated;
+        }
+    }
+
+    /**
+     * A node of the syntax tree of the regular expression.
+     */
+    private interface Node {
+        /**
+         * Adds the states of this node to the specified automaton.
+         *
+         * @param automaton
+         *         the automaton
+         * @param following
+         *         the state that follows this node
+         *
+         * @return the entry state of this node
+         */
+        int compile(RegexAutomaton automaton, int following);
+    }
+
+    /**
+     * Parses the syntax of {@link Pattern} into a syntax tree. It is assumed that the expression has been compiled by
+     * {@link Pattern} successfully, so the parser does not need to report syntax errors. Constructs that are not
+     * supported by the automaton throw an {@link UnsupportedExpressionException}.
+     */
+    private static final class ExpressionParser {
+        private final String expression;
+        private int position;
+
+        ExpressionParser(final String expression) {
+            this.expression = expression;
+        }
+
+        Node parse() {
+            Node node = parseAlternation();
+            if (position < expression.length()) {
+                throw new UnsupportedExpressionException("unexpected character");
+            }
+            return node;
+        }
+
+        private boolean hasNext() {
+            return position < expression.length();
+        }
+
+        private char peek() {
+            return expression.charAt(position);
+        }
+
+        private char next() {
+            if (!hasNext()) {
+                throw new UnsupportedExpressionException("unexpected end");
+            }
+            return expression.charAt(position++);
+        }
+
+        private Node parseAlternation() {
+            List<Node> alternatives = new ArrayList<>();
+            alternatives.add(parseSequence());
+            while (hasNext() && peek() == '|') {
+                position++;
+                alternatives.add(parseSequence());
+            }
+            if (alternatives.size() == 1) {
+                return alternatives.get(0);
+            }
+            return (automaton, following) -> {
+                int entry = alternatives.get(alternatives.size() - 1).compile(automaton, following);
+                for (int i = alternatives.size() - 2; i >= 0; i--) {
+                    entry = automaton.addState(SPLIT, alternatives.get(i).compile(automaton, following), entry, null);
+                }
+                return entry;
+            };
+        }
+
+        private Node parseSequence() {
+            List<Node> sequence = new ArrayList<>();
+            while (hasNext() && peek() != '|' && peek() != ')') {
+                sequence.add(parseQuantifier(parseAtom()));
+            }
+            return (automaton, following) -> {
+                int entry = following;
+                for (int i = sequence.size() - 1; i >= 0; i--) {
+                    entry = sequence.get(i).compile(automaton, entry);
+                }
+                return entry;
+            };
+        }
+
+        private Node parseQuantifier(final Node atom) {
+            if (!hasNext()) {
+                return atom;
+            }
+            int minimum;
+            int maximum;
+            char quantifier = peek();
+            if (quantifier == '*') {
+                minimum = 0;
+                maximum = UNBOUNDED;
+            }
+            else if (quantifier == '+') {
+                minimum = 1;
+                maximum = UNBOUNDED;
+            }
+            else if (quantifier == '?') {
+                minimum = 0;
+                maximum = 1;
+            }
+            else if (quantifier == '{') {
+                position++;
+                minimum = parseNumber();
+                maximum = minimum;
+                if (hasNext() && peek() == ',') {
+                    position++;
+                    maximum = hasNext() && peek() == '}' ? UNBOUNDED : parseNumber();
+                }
+                if (!hasNext() || peek() != '}') {
+                    throw new UnsupportedExpressionException("invalid repetition");
+                }
+            }
+            else {
+                return atom;
+            }
+            position++;
+            if (hasNext() && peek() == '?') {
+                position++; // a lazy quantifier matches the same lines
+            }
+            else if (hasNext() && peek() == '+') {
+                throw new UnsupportedExpressionException("possessive quantifier");
+            }
+            return createRepetition(atom, minimum, maximum);
+        }
+
+        private int parseNumber() {
+            int begin = position;
+            while (hasNext() && Character.isDigit(peek())) {
+                position++;
+            }
+            if (begin == position || position - begin > 3) {
+                throw new UnsupportedExpressionException("invalid repetition");
+            }
+            int number = Integer.parseInt(expression.substring(begin, position));
+            if (number > MAXIMUM_REPETITION) {
+                throw new UnsupportedExpressionException("repetition too large");
+            }
+            return number;
+        }
+
+        private Node createRepetition(final Node atom, final int minimum, final int maximum) {
+            return (automaton, following) -> {
+                int entry;
+                if (maximum == UNBOUNDED) {
+                    entry = automaton.addState(SPLIT, -1, following, null);
+                    automaton.next.set(entry, atom.compile(automaton, entry));
+                }
+                else {
+                    entry = following;
+                    for (int i = minimum; i < maximum; i++) {
+                        entry = automaton.addState(SPLIT, atom.compile(automaton, entry), following, null);
+                    }
+                }
+                for (int i = 0; i < minimum; i++) {
+                    entry = atom.compile(automaton, entry);
+                }
+                return entry;
+            };
+        }
+
+        private Node parseAtom() {
+            char character = next();
+            switch (character) {
+                case '(':
+                    return parseGroup();
+                case '[':
+                    return createClass(parseClass());
+                case '.':
+                    return createClass(new CharacterClass(new ArrayList<>(), true));
+                case '^':
+                    return (automaton, following) -> automaton.addState(BEGIN, following, -1, null);
+                case '$':
+                    return (automaton, following) -> automaton.addState(END, following, -1, null);
+                case '\\':
+                    return createClass(parseEscape(false));
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw new UnsupportedExpressionException("dangling quantifier");
+                default:
+                    return createClass(CharacterClass.of(character));
+            }
+        }
+
+        private Node createClass(final CharacterClass characterClass) {
+            return (automaton, following) -> automaton.addState(CHARACTER, following, -1, characterClass);
+        }
+
+        private Node parseGroup() {
+            if (hasNext() && peek() == '?') {
+                position++;
+                if (hasNext() && peek() == '<' && position + 1 < expression.length()
+                        && Character.isLetter(expression.charAt(position + 1))) {
+                    position = expression.indexOf('>', position) + 1; // skip the name of the group
+                }
+                else {
+                    while (hasNext() && IGNORED_FLAGS.indexOf(peek()) >= 0) {
+                        position++;
+                    }
+                    char kind = next();
+                    if (kind == ')') {
+                        return (automaton, following) -> following;
+                    }
+                    if (kind != ':') {
+                        throw new UnsupportedExpressionException("unsupported group");
+                    }
+                }
+            }
+            Node group = parseAlternation();
+            if (next() != ')') {
+                throw new UnsupportedExpressionException("unclosed group");
+            }
+            return group;
+        }
+
+        private CharacterClass parseClass() {
+            boolean isNegated = false;
+            if (hasNext() && peek() == '^') {
+                isNegated = true;
+                position++;
+            }
+            List<char[]> ranges = new ArrayList<>();
+            boolean isFirst = true;
+            while (true) {
+                char character = next();
+                if (character == ']' && !isFirst) {
+                    return new CharacterClass(ranges, isNegated);
+                }
+                isFirst = false;
+                if (character == '[' || character == '&' && hasNext() && peek() == '&') {
+                    throw new UnsupportedExpressionException("nested class");
+                }
+                if (character == '\\') {
+                    CharacterClass escaped = parseEscape(true);
+                    if (escaped.isNegated || escaped.ranges.size() != 1
+                            || escaped.ranges.get(0)[0] != escaped.ranges.get(0)[1]) {
+                        if (escaped.isNegated || isRangeFollowing()) {
+                            throw new UnsupportedExpressionException("predefined class in class");
+                        }
+                        ranges.addAll(escaped.ranges);
+                        continue;
+                    }
+                    character = escaped.ranges.get(0)[0];
+                }
+                char last = character;
+                if (isRangeFollowing()) {
+                    position++;
+                    last = next();
+                    if (last == '\\') {
+                        CharacterClass escaped = parseEscape(true);
+                        if (escaped.isNegated || escaped.ranges.size() != 1
+                                || escaped.ranges.get(0)[0] != escaped.ranges.get(0)[1]) {
+                            throw new UnsupportedExpressionException("predefined class in range");
+                        }
+                        last = escaped.ranges.get(0)[0];
+                    }
+                    else if (last == '[') {
+                        throw new UnsupportedExpressionException("nested class");
+                    }
+                }
+                ranges.add(new char[] {character, last});
+            }
+        }
+
+        private boolean isRangeFollowing() {
+            return position + 1 < expression.length() && peek() == '-' && expression.charAt(position + 1) != ']';
+        }
+
+        private CharacterClass parseEscape(final boolean isInClass) {
+            char character = next();
+            switch (character) {
+                case 'd':
+                case 'D':
+                    return createPredefinedClass("09", character == 'D');
+                case 's':
+                case 'S':
+                    return createPredefinedClass("  \t\r", character == 'S');
+                case 'w':
+                case 'W':
+                    return createPredefinedClass("azAZ__09", character == 'W');
+                case 'p':
+                case 'P':
+                    return parsePosixClass(character == 'P');
+                case 't':
+                    return CharacterClass.of('\t');
+                case 'n':
+                    return CharacterClass.of('\n');
+                case 'r':
+                    return CharacterClass.of('\r');
+                case 'f':
+                    return CharacterClass.of('\f');
+                case 'a':
+                    return CharacterClass.of('\u0007');
+                case 'e':
+                    return CharacterClass.of('\u001B');
+                case 'x':
+                    return CharacterClass.of(parseHex(2));
+                case 'u':
+                    return CharacterClass.of(parseHex(4));
+                default:
+                    if (Character.isLetterOrDigit(character)) {
+                        throw new UnsupportedExpressionException("unsupported escape");
+                    }
+                    return CharacterClass.of(character);
+            }
+        }
+
+        private CharacterClass createPredefinedClass(final String ranges, final boolean isNegated) {
+            List<char[]> result = new ArrayList<>();
+            for (int i = 0; i < ranges.length(); i += 2) {
+                result.add(new char[] {ranges.charAt(i), ranges.charAt(i + 1)});
+            }
+            return new CharacterClass(result, isNegated);
+        }
+
+        private CharacterClass parsePosixClass(final boolean isNegated) {
+            if (next() != '{') {
+                throw new UnsupportedExpressionException("unsupported property");
+            }
+            int end = expression.indexOf('}', position);
+            if (end < 0) {
+                throw new UnsupportedExpressionException("unsupported property");
+            }
+            String name = expression.substring(position, end);
+            position = end + 1;
+            switch (name) {
+                case "Alnum":
+                    return createPredefinedClass("azAZ09", isNegated);
+                case "Alpha":
+                    return createPredefinedClass("azAZ", isNegated);
+                case "Digit":
+                    return createPredefinedClass("09", isNegated);
+                case "Upper":
+                    return createPredefinedClass("AZ", isNegated);
+                case "Lower":
+                    return createPredefinedClass("az", isNegated);
+                default:
+                    throw new UnsupportedExpressionException("unsupported property");
+            }
+        }
+
+        private char parseHex(final int digits) {
+            if (position + digits > expression.length()) {
+                throw new UnsupportedExpressionException("invalid escape");
+            }
+            String hex = expression.substring(position, position + digits);
+            if (!hex.chars().allMatch(c -> Character.digit(c, 16) >= 0)) {
+                throw new UnsupportedExpressionException("unsupported escape");
+            }
+            position += digits;
+            return (char) Integer.parseInt(hex, 16);
+        }
+    }
+
+    /**
+     * Thrown if an expression uses a construct that is not supported by the automaton.
+     */
+    private static final class UnsupportedExpressionException extends RuntimeException {
+        private static final long serialVersionUID = -3270523385283516426L;
+
+        UnsupportedExpressionException(final String message) {
+            super(message);
+        }
+    }
+}
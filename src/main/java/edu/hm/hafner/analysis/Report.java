@@ -1,6 +1,7 @@
 package edu.hm.hafner.analysis; // NOPMD
 
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.PrintStream;
@@ -9,18 +10,21 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -29,6 +33,8 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 
 import com.google.errorprone.annotations.FormatMethod;
 
+import edu.hm.hafner.analysis.IssueAggregates.Property;
+import edu.hm.hafner.analysis.IssueFilter.FilterProperty;
 import edu.hm.hafner.util.Ensure;
 import edu.hm.hafner.util.NoSuchElementException;
 import edu.hm.hafner.util.PathUtil;
@@ -65,7 +71,7 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private List<Report> subReports = new ArrayList<>(); // almost final
 
-    private Set<Issue> elements = new LinkedHashSet<>();
+    private List<Issue> elements = new ArrayList<>();
     private List<String> infoMessages = new ArrayList<>();
     private List<String> errorMessages = new ArrayList<>();
     private Map<String, Integer> countersByKey = new HashMap<>();
@@ -77,6 +83,11 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private int duplicatesSize = 0;
 
+    private transient int externalSubReportsCount; // the first sub-reports are not owned by this report
+    private transient Map<Issue, Integer> membershipIndex = new HashMap<>(); // shared with owned sub-reports
+    private transient IssueAggregates aggregates = new IssueAggregates(); // of the elements, see getSizeOf
+    private transient StringPool stringPool = new StringPool(); // shared with owned sub-reports and copies
+
     /**
      * Creates an empty {@link Report}.
      */
@@ -131,6 +142,7 @@ public class Report implements Iterable<Issue>, Serializable {
         Ensure.that(reports).isNotEmpty("No reports given.");
 
         subReports.addAll(Arrays.asList(reports));
+        externalSubReportsCount = subReports.size();
     }
 
     /**
@@ -150,6 +162,37 @@ public class Report implements Iterable<Issue>, Serializable {
         Ensure.that(reports).isNotEmpty("No reports given.");
 
         subReports.addAll(reports);
+        externalSubReportsCount = subReports.size();
+    }
+
+    /**
+     * Creates a new {@link Report} with the specified issues. In contrast to {@link #addAll(Collection)}, the issues
+     * are not checked for duplicates and their origin is not changed: the issues must be unique, and they must already
+     * have their final origin.
+     *
+     * @param id
+     *         the ID of the report
+     * @param name
+     *         a human-readable name for the report
+     * @param uniqueIssues
+     *         the unique issues of the report, in the order of the report
+     * @param duplicatesSize
+     *         the number of duplicates that have been removed from the issues
+     *
+     * @return the created report
+     * @see ConcurrentReportBuilder
+     */
+    static Report fromUniqueIssues(final String id, final String name, final List<Issue> uniqueIssues,
+            final int duplicatesSize) {
+        Report report = new Report(id, name);
+        report.elements = new ArrayList<>(uniqueIssues);
+        for (Issue issue : uniqueIssues) {
+            issue.deduplicate(report.stringPool);
+            report.membershipIndex.put(issue, 1);
+            report.aggregates.add(issue);
+        }
+        report.duplicatesSize = duplicatesSize;
+        return report;
     }
 
     public String getId() {
@@ -198,7 +241,7 @@ public class Report implements Iterable<Issue>, Serializable {
         name = originName;
 
         subReports.forEach(report -> report.setOrigin(originId, originName));
-        elements.forEach(issue -> issue.setOrigin(originId, originName));
+        modifyOwnIssues(issue -> issue.setOrigin(originId, originName));
     }
 
     /**
@@ -258,17 +301,38 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return this
      */
     public Report add(final Issue issue) {
+        add(issue, null);
+
+        return this;
+    }
+
+    /**
+     * Appends the specified issue to the end of this report. The strings of the issue are deduplicated using the
+     * string pool of this report, unless the issue has been taken from a report that uses the same pool.
+     *
+     * @param issue
+     *         the issue to append
+     * @param sourcePool
+     *         the string pool of the report that contains the issue, or {@code null} if the issue is not yet part of a
+     *         report
+     */
+    private void add(final Issue issue, @CheckForNull final StringPool sourcePool) {
+        boolean isDeduplicated = sourcePool == stringPool;
         if (hasId() && !issue.hasOrigin()) {
             issue.setOrigin(id, name);
+            isDeduplicated = false;
         }
         if (contains(issue)) {
             duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
         }
         else {
+            if (!isDeduplicated) {
+                issue.deduplicate(stringPool);
+            }
             elements.add(issue);
+            membershipIndex.merge(issue, 1, Integer::sum);
+            aggregates.add(issue);
         }
-
-        return this;
     }
 
     /**
@@ -341,25 +405,105 @@ public class Report implements Iterable<Issue>, Serializable {
 
         for (Report report : reportsToAdd) {
             Report copyWithoutDuplicates = report.copyEmptyInstance();
+            addOwnedSubReport(copyWithoutDuplicates);
             for (Issue issue : report) {
                 if (contains(issue)) {
                     duplicatesSize++; // elements are marked as duplicate if the fingerprint is different
                 }
                 else {
-                    copyWithoutDuplicates.add(issue);
+                    copyWithoutDuplicates.add(issue, report.stringPool);
                 }
             }
-            subReports.add(copyWithoutDuplicates);
         }
 
         return this;
     }
 
+    /**
+     * Adds the specified sub-report that is owned by this report, i.e. a sub-report that has been created by {@link
+     * #addAll(Report...)} or during de-serialization. Owned sub-reports are not visible outside, so they share the
+     * membership index of this report: this index contains the issues of this report and the issues of all owned
+     * sub-reports. Since the issues of a report might become equal by a modification, the index counts the number of
+     * equal issues. The sub-reports that have been provided in the constructor might be changed by other clients, so
+     * they still are queried one by one. Owned sub-reports use the string pool of this report.
+     *
+     * @param subReport
+     *         the owned sub-report to add
+     */
+    private void addOwnedSubReport(final Report subReport) {
+        subReport.shareMembershipIndex(membershipIndex);
+        subReport.shareStringPool(stringPool);
+        subReports.add(subReport);
+    }
+
+    private void shareMembershipIndex(final Map<Issue, Integer> index) {
+        addMembers(index, elements);
+        membershipIndex = index;
+        subReports.forEach(subReport -> subReport.shareMembershipIndex(index));
+    }
+
+    private void shareStringPool(final StringPool pool) {
+        if (stringPool != pool) {
+            stringPool = pool;
+            elements.forEach(issue -> issue.deduplicate(pool));
+            subReports.forEach(subReport -> subReport.shareStringPool(pool));
+        }
+    }
+
+    private static void addMembers(final Map<Issue, Integer> index, final Collection<Issue> issues) {
+        for (Issue issue : issues) {
+            index.merge(issue, 1, Integer::sum);
+        }
+    }
+
     private boolean contains(final Issue issue) {
-        if (elements.contains(issue)) {
+        if (membershipIndex.containsKey(issue)) {
             return true;
         }
-        return subReports.stream().map(r -> r.contains(issue)).reduce(Boolean::logicalOr).orElse(false);
+        for (int i = 0; i < externalSubReportsCount; i++) {
+            if (subReports.get(i).contains(issue)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes the specified issue from the membership index. If the index contains other issues that are equal to the
+     * removed issue, then the entry is replaced by an entry with a copy of the removed issue: the key of the old entry
+     * might be the removed issue instance that could be modified afterward.
+     */
+    private void removeFromMembershipIndex(final Issue issue) {
+        Integer count = membershipIndex.remove(issue);
+        if (count != null && count > 1) {
+            membershipIndex.put(new Issue(issue), count - 1);
+        }
+    }
+
+    /**
+     * Modifies the issues of this report and of all sub-reports. Use this method to change properties of the issues
+     * that are part of {@link Issue#equals(Object)}: since such a modification changes the hash code of an issue, the
+     * hash based indexes of the reports are updated accordingly. The order of the issues is not changed. Issues that
+     * become equal to other issues of this report by the modification are not removed. Note that the indexes of other
+     * reports that contain the same issue instances are not updated.
+     *
+     * @param modification
+     *         the modification to apply to each issue
+     */
+    void modifyIssues(final Consumer<? super Issue> modification) {
+        modifyOwnIssues(modification);
+        subReports.forEach(subReport -> subReport.modifyIssues(modification));
+    }
+
+    private void modifyOwnIssues(final Consumer<? super Issue> modification) {
+        elements.forEach(this::removeFromMembershipIndex);
+        aggregates = new IssueAggregates();
+        for (Issue issue : elements) {
+            modification.accept(issue);
+            issue.deduplicate(stringPool);
+            aggregates.add(issue);
+        }
+        addMembers(membershipIndex, elements);
     }
 
     @VisibleForTesting
@@ -408,8 +552,11 @@ public class Report implements Iterable<Issue>, Serializable {
 
     private Optional<Issue> removeIfContained(final UUID issueId) {
         Optional<Issue> issue = find(issueId);
-        issue.ifPresent(value -> elements.remove(value));
         if (issue.isPresent()) {
+            Issue removed = issue.get();
+            elements.removeIf(element -> element == removed);
+            removeFromMembershipIndex(removed);
+            aggregates.remove(removed);
             return issue;
         }
 
@@ -467,13 +614,28 @@ public class Report implements Iterable<Issue>, Serializable {
      */
     public Report filter(final Predicate<? super Issue> criterion) {
         Report filtered = copyEmptyInstance();
-        filtered.addAll(elements.stream().filter(criterion).collect(Collectors.toList()));
+        filtered.stringPool = stringPool; // the issues are already deduplicated
+        for (Issue issue : elements) {
+            if (criterion.test(issue)) {
+                filtered.add(issue, stringPool);
+            }
+        }
         for (Report subReport : subReports) {
             filtered.addAll(subReport.filter(criterion));
         }
         return filtered;
     }
 
+    /**
+     * Returns a read-only view of the issues of this report. The view does not copy the issues: use {@link
+     * ReportView#filter(Predicate)} to select issues without creating new reports.
+     *
+     * @return a view of all issues of this report
+     */
+    public ReportView view() {
+        return new ReportView(this, issue -> true);
+    }
+
     private Stream<Issue> filterElements(final Predicate<? super Issue> criterion) {
         return stream().filter(criterion);
     }
@@ -571,6 +733,17 @@ public class Report implements Iterable<Issue>, Serializable {
         return duplicatesSize + subReports.stream().mapToInt(Report::getDuplicatesSize).sum();
     }
 
+    /**
+     * Adds the specified number of duplicates to this report. Used to restore the number of duplicates of reports that
+     * have been stored as {@link MappedReport}.
+     *
+     * @param count
+     *         the number of duplicates to add
+     */
+    void addDuplicates(final int count) {
+        duplicatesSize += count;
+    }
+
     /**
      * Returns the number of issues with the specified {@code severity}.
      *
@@ -592,7 +765,25 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return total number of issues
      */
     public int getSizeOf(final Severity severity) {
-        return stream().filter(issue -> issue.getSeverity().equals(severity)).mapToInt(e -> 1).sum();
+        int size = aggregates.getCount(severity);
+        for (Report subReport : subReports) {
+            size += subReport.getSizeOf(severity);
+        }
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> getAggregatedValues(final Property property) {
+        Set<Object> values = new HashSet<>();
+        collectAggregatedValues(property, values);
+        return (Set<T>) values;
+    }
+
+    private void collectAggregatedValues(final Property property, final Set<Object> values) {
+        values.addAll(aggregates.getValues(property, elements));
+        for (Report subReport : subReports) {
+            subReport.collectAggregatedValues(property, values);
+        }
     }
 
     @Override
@@ -617,7 +808,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected modules
      */
     public Set<String> getModules() {
-        return getProperties(Issue::getModuleName);
+        return getAggregatedValues(Property.MODULE);
     }
 
     /**
@@ -643,7 +834,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getPackages() {
-        return getProperties(Issue::getPackageName);
+        return getAggregatedValues(Property.PACKAGE);
     }
 
     /**
@@ -661,7 +852,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected packages
      */
     public Set<String> getFolders() {
-        return getProperties(Issue::getFolder);
+        return getFiles().stream().map(Issue::getFolderOf).collect(Collectors.toSet());
     }
 
     /**
@@ -691,7 +882,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the affected files
      */
     public Set<String> getFiles() {
-        return getProperties(Issue::getFileName);
+        return getAggregatedValues(Property.FILE);
     }
 
     /**
@@ -709,7 +900,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used categories
      */
     public Set<String> getCategories() {
-        return getProperties(Issue::getCategory);
+        return getAggregatedValues(Property.CATEGORY);
     }
 
     /**
@@ -727,7 +918,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the used types
      */
     public Set<String> getTypes() {
-        return getProperties(Issue::getType);
+        return getAggregatedValues(Property.TYPE);
     }
 
     /**
@@ -745,7 +936,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the tools
      */
     public Set<String> getTools() {
-        return getProperties(Issue::getOrigin);
+        return getAggregatedValues(Property.TOOL);
     }
 
     /**
@@ -763,7 +954,7 @@ public class Report implements Iterable<Issue>, Serializable {
      * @return the severities
      */
     public Set<Severity> getSeverities() {
-        return getProperties(Issue::getSeverity);
+        return getAggregatedValues(Property.SEVERITY);
     }
 
     /**
@@ -830,6 +1021,76 @@ public class Report implements Iterable<Issue>, Serializable {
                         }));
     }
 
+    /**
+     * Counts the issues of this report along the specified properties in a single pass. In contrast to calling {@link
+     * #groupByProperty(String)} for each property, no intermediate reports are created.
+     *
+     * @param propertyNames
+     *         the names of the properties that define the dimensions of the cube
+     *
+     * @return the number of issues for each combination of property values
+     * @see Issue#getPropertyValueGetter(String)
+     */
+    public IssueCube aggregate(final String... propertyNames) {
+        return aggregate(Arrays.stream(propertyNames)
+                .map(Issue::getPropertyValueGetter)
+                .collect(Collectors.toList()), false);
+    }
+
+    /**
+     * Counts the issues of this report and its sub-reports along the specified properties in a single pass.
+     *
+     * @param dimensions
+     *         the functions that extract the values of the dimensions of the cube from an issue, e.g. {@link
+     *         Issue#getPropertyValueGetter(String)} or {@code Issue::getModuleName}
+     * @param keepIssues
+     *         determines whether the cube should store references to the counted issues
+     *
+     * @return the number of issues for each combination of property values
+     */
+    public IssueCube aggregate(final List<? extends Function<? super Issue, String>> dimensions,
+            final boolean keepIssues) {
+        IssueCube cube = new IssueCube(dimensions, keepIssues);
+        addTo(cube);
+        return cube;
+    }
+
+    /**
+     * Counts the issues of this report and its sub-reports along the specified properties using the threads of the
+     * specified pool. Each sub-report is counted into a cube of its own, these cubes are merged afterwards in the order
+     * of the sub-reports. So the issues of the cube are in the same order as in {@link #aggregate(List, boolean)}.
+     *
+     * @param dimensions
+     *         the functions that extract the values of the dimensions of the cube from an issue, e.g. {@link
+     *         Issue#getPropertyValueGetter(String)} or {@code Issue::getModuleName}
+     * @param keepIssues
+     *         determines whether the cube should store references to the counted issues
+     * @param pool
+     *         the pool that counts the issues of the sub-reports
+     *
+     * @return the number of issues for each combination of property values
+     */
+    public IssueCube aggregate(final List<? extends Function<? super Issue, String>> dimensions,
+            final boolean keepIssues, final ForkJoinPool pool) {
+        List<ForkJoinTask<IssueCube>> tasks = new ArrayList<>();
+        for (Report subReport : subReports) {
+            tasks.add(pool.submit(() -> subReport.aggregate(dimensions, keepIssues)));
+        }
+        IssueCube cube = new IssueCube(dimensions, keepIssues);
+        cube.addAll(elements);
+        for (ForkJoinTask<IssueCube> task : tasks) {
+            cube.merge(task.join());
+        }
+        return cube;
+    }
+
+    private void addTo(final IssueCube cube) {
+        cube.addAll(elements);
+        for (Report subReport : subReports) {
+            subReport.addTo(cube);
+        }
+    }
+
     /**
      * Returns a shallow copy of this issue container.
      *
@@ -837,13 +1098,16 @@ public class Report implements Iterable<Issue>, Serializable {
      */
     public Report copy() {
         Report copied = new Report();
+        copied.stringPool = stringPool; // the issues are already deduplicated
         copyIssuesAndProperties(this, copied);
         return copied;
     }
 
     private void copyIssuesAndProperties(final Report source, final Report destination) {
         copyProperties(source, destination);
-        destination.addAll(source.elements);
+        for (Issue issue : source.elements) {
+            destination.add(issue, source.stringPool);
+        }
         for (Report subReport : subReports) {
             destination.addAll(subReport.copy());
         }
@@ -990,7 +1254,8 @@ public class Report implements Iterable<Issue>, Serializable {
         if (!subReports.equals(report.subReports)) {
             return false;
         }
-        if (!elements.equals(report.elements)) {
+        if (elements.size() != report.elements.size()
+                || !new HashSet<>(elements).equals(new HashSet<>(report.elements))) {
             return false;
         }
         if (!infoMessages.equals(report.infoMessages)) {
@@ -1008,7 +1273,7 @@ public class Report implements Iterable<Issue>, Serializable {
         result = 31 * result + name.hashCode();
         result = 31 * result + originReportFile.hashCode();
         result = 31 * result + subReports.hashCode();
-        result = 31 * result + elements.hashCode();
+        result = 31 * result + new HashSet<>(elements).hashCode();
         result = 31 * result + infoMessages.hashCode();
         result = 31 * result + errorMessages.hashCode();
         result = 31 * result + countersByKey.hashCode();
@@ -1017,8 +1282,8 @@ public class Report implements Iterable<Issue>, Serializable {
     }
 
     private void writeObject(final ObjectOutputStream output) throws IOException {
-        output.writeInt(elements.size());
-        writeIssues(output);
+        output.writeInt(-ReportCodec.VERSION);
+        ReportCodec.write(elements, output);
 
         output.writeObject(infoMessages);
         output.writeObject(errorMessages);
@@ -1036,40 +1301,22 @@ public class Report implements Iterable<Issue>, Serializable {
 
     }
 
-    private void writeIssues(final ObjectOutputStream output) throws IOException {
-        for (Issue issue : elements) {
-            output.writeUTF(issue.getPath());
-            output.writeUTF(issue.getFileName());
-            output.writeInt(issue.getLineStart());
-            output.writeInt(issue.getLineEnd());
-            output.writeInt(issue.getColumnStart());
-            output.writeInt(issue.getColumnEnd());
-            output.writeObject(issue.getLineRanges());
-            output.writeUTF(issue.getCategory());
-            output.writeUTF(issue.getType());
-            output.writeUTF(issue.getPackageName());
-            output.writeUTF(issue.getModuleName());
-            output.writeUTF(issue.getSeverity().getName());
-            writeLongString(output, issue.getMessage());
-            writeLongString(output, issue.getDescription());
-            output.writeUTF(issue.getOrigin());
-            output.writeUTF(issue.getOriginName());
-            output.writeUTF(issue.getReference());
-            output.writeUTF(issue.getFingerprint());
-            output.writeObject(issue.getAdditionalProperties());
-            output.writeObject(issue.getId());
-        }
-    }
-
-    private void writeLongString(final ObjectOutputStream output, final String value) throws IOException {
-        output.writeInt(value.length());
-        output.writeChars(value);
-    }
-
     @SuppressWarnings("unchecked")
     private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
-        elements = new LinkedHashSet<>();
-        readIssues(input, input.readInt());
+        elements = new ArrayList<>();
+        membershipIndex = new HashMap<>();
+        aggregates = new IssueAggregates();
+        stringPool = new StringPool();
+        int format = input.readInt();
+        if (format >= 0) { // releases before 10.22.0 store the number of issues
+            readIssues(input, format);
+        }
+        else if (format == -ReportCodec.VERSION) {
+            ReportCodec.read(input, this::addDeserializedIssue);
+        }
+        else {
+            throw new InvalidObjectException("Unsupported serialization format of report: " + -format);
+        }
 
         infoMessages = (List<String>) input.readObject();
         errorMessages = (List<String>) input.readObject();
@@ -1084,8 +1331,7 @@ public class Report implements Iterable<Issue>, Serializable {
 
         int subReportCount = input.readInt();
         for (int i = 0; i < subReportCount; i++) {
-            Report subReport = (Report) input.readObject();
-            subReports.add(subReport);
+            addOwnedSubReport((Report) input.readObject());
         }
     }
 
@@ -1121,11 +1367,18 @@ public class Report implements Iterable<Issue>, Serializable {
                     severity, message, description,
                     origin, originName, reference, fingerprint, additionalProperties, uuid);
 
-            elements.add(issue);
+            addDeserializedIssue(issue);
         }
         builder.dedup();
     }
 
+    private void addDeserializedIssue(final Issue issue) {
+        issue.deduplicate(stringPool);
+        elements.add(issue);
+        membershipIndex.merge(issue, 1, Integer::sum);
+        aggregates.add(issue);
+    }
+
     private String readLongString(final ObjectInputStream input) throws IOException {
         int messageLength = input.readInt();
         if (messageLength < 0) {
@@ -1240,8 +1493,8 @@ public class Report implements Iterable<Issue>, Serializable {
      * @author Raphael Furch
      */
     public static class IssueFilterBuilder {
-        private final Collection<Predicate<Issue>> includeFilters = new ArrayList<>();
-        private final Collection<Predicate<Issue>> excludeFilters = new ArrayList<>();
+        private final Map<FilterProperty, List<String>> includePatterns = new EnumMap<>(FilterProperty.class);
+        private final Map<FilterProperty, List<String>> excludePatterns = new EnumMap<>(FilterProperty.class);
 
         /** Type of the filter: include or exclude elements. */
         enum FilterType {
@@ -1250,30 +1503,20 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         /**
-         * Adds a new filter for each patterns string. Adds the filter either to the include or exclude list.
+         * Adds the specified patterns for a property either to the include or exclude patterns.
          *
          * @param patterns
          *         filter patterns.
-         * @param propertyToFilter
-         *         Function to get a string from Issue for patterns
+         * @param property
+         *         the property of the issues that should be matched by the patterns
          * @param type
          *         type of the filter
          */
-        private void addNewFilter(final Collection<String> patterns, final Function<Issue, String> propertyToFilter,
+        private void addNewFilter(final Collection<String> patterns, final FilterProperty property,
                 final FilterType type) {
-
-            Collection<Predicate<Issue>> filters = new ArrayList<>();
-            for (String pattern : patterns) {
-                filters.add(issueToFilter -> Pattern.compile(pattern, Pattern.DOTALL)
-                        .matcher(propertyToFilter.apply(issueToFilter)).find() == isIncludeFilter(type));
-            }
-
-            if (isIncludeFilter(type)) {
-                includeFilters.addAll(filters);
-            }
-            else {
-                excludeFilters.addAll(filters);
-            }
+            Map<FilterProperty, List<String>> patternsByProperty
+                    = isIncludeFilter(type) ? includePatterns : excludePatterns;
+            patternsByProperty.computeIfAbsent(property, key -> new ArrayList<>()).addAll(patterns);
         }
 
         private boolean isIncludeFilter(final FilterType type) {
@@ -1281,14 +1524,14 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         /**
-         * Create a IssueFilter. Combine by default all includes with or and all excludes with and.
+         * Create a IssueFilter. Combine by default all includes with or and all excludes with and. The patterns are
+         * compiled once, the result of the patterns is cached for each distinct property value.
          *
          * @return a IssueFilter which has all added filter as filter criteria.
          */
         @SuppressWarnings("NoFunctionalReturnType")
         public Predicate<Issue> build() {
-            return includeFilters.stream().reduce(Predicate::or).orElse(issue -> true)
-                    .and(excludeFilters.stream().reduce(Predicate::and).orElse(issue -> true));
+            return new IssueFilter(includePatterns, excludePatterns);
         }
 
         //<editor-fold desc="File name">
@@ -1302,7 +1545,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.FILE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1327,7 +1570,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeFileNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getFileName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.FILE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1355,7 +1598,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.PACKAGE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1380,7 +1623,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludePackageNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getPackageName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.PACKAGE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1408,7 +1651,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.MODULE_NAME, FilterType.INCLUDE);
             return this;
         }
 
@@ -1433,7 +1676,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeModuleNameFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getModuleName, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.MODULE_NAME, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1461,7 +1704,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.CATEGORY, FilterType.INCLUDE);
             return this;
         }
 
@@ -1486,7 +1729,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeCategoryFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getCategory, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.CATEGORY, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1514,7 +1757,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setIncludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.INCLUDE);
+            addNewFilter(pattern, FilterProperty.TYPE, FilterType.INCLUDE);
             return this;
         }
 
@@ -1539,7 +1782,7 @@ public class Report implements Iterable<Issue>, Serializable {
          * @return this.
          */
         public IssueFilterBuilder setExcludeTypeFilter(final Collection<String> pattern) {
-            addNewFilter(pattern, Issue::getType, FilterType.EXCLUDE);
+            addNewFilter(pattern, FilterProperty.TYPE, FilterType.EXCLUDE);
             return this;
         }
 
@@ -1609,8 +1852,7 @@ public class Report implements Iterable<Issue>, Serializable {
         }
 
         private void addMessageFilter(final Collection<String> pattern, final FilterType filterType) {
-            addNewFilter(pattern, issue -> String.format("%s%n%s", issue.getMessage(), issue.getDescription()),
-                    filterType);
+            addNewFilter(pattern, FilterProperty.MESSAGE, filterType);
         }
         //</editor-fold>
     }
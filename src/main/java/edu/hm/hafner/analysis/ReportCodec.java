@@ -0,0 +1,296 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import edu.hm.hafner.util.TreeString;
+import edu.hm.hafner.util.TreeStringBuilder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * Compact binary encoding of the issues of a {@link Report}. The issues are written one after another directly to the
+ * underlying stream:
+ * <ul>
+ *     <li>
+ *         Strings are stored in a dictionary that is built while writing: the first occurrence of a string is written
+ *         as a new dictionary entry, every subsequent occurrence just refers to the index of this entry. Since file
+ *         names, categories, types, modules, and origins are the same for many issues, most of the strings require a
+ *         single byte only. The characters of an entry are written as variable length integers, so ASCII characters
+ *         require a single byte. In contrast to UTF-8, unpaired surrogates are preserved.
+ *     </li>
+ *     <li>
+ *         Line and column numbers are stored as variable length integers (7 bits per byte). The end of a line or
+ *         column range is stored relative to its start.
+ *     </li>
+ *     <li>
+ *         The ID of an issue is stored as two longs.
+ *     </li>
+ *     <li>
+ *         The additional properties are the only values that still require Java serialization. Issues without
+ *         additional properties do not require any object serialization.
+ *     </li>
+ * </ul>
+ *
+ * @author Ullrich Hafner
+ */
+final class ReportCodec {
+    /** Version of the encoding: increment this value if the encoding changes. */
+    static final int VERSION = 1;
+
+    private static final int NEW_ENTRY = 0;
+    private static final int NO_PROPERTIES = 0;
+    private static final int HAS_PROPERTIES = 1;
+    private static final int MAX_INITIAL_CAPACITY = 1024;
+
+    private ReportCodec() {
+        // prevents instantiation
+    }
+
+    /**
+     * Writes the specified issues to the specified output.
+     *
+     * @param issues
+     *         the issues to write
+     * @param output
+     *         the output to write to
+     *
+     * @throws IOException
+     *         if the issues could not be written
+     */
+    static void write(final Collection<Issue> issues, final ObjectOutput output) throws IOException {
+        new Encoder(output).write(issues);
+    }
+
+    /**
+     * Reads issues from the specified input. Each issue is handed over to the specified consumer.
+     *
+     * @param input
+     *         the input to read from
+     * @param consumer
+     *         the consumer for the read issues
+     *
+     * @throws IOException
+     *         if the issues could not be read
+     * @throws ClassNotFoundException
+     *         if the class of additional properties could not be found
+     */
+    static void read(final ObjectInput input, final Consumer<Issue> consumer)
+            throws IOException, ClassNotFoundException {
+        new Decoder(input).read(consumer);
+    }
+
+    /**
+     * Encodes the issues and writes them to the output.
+     */
+    private static class Encoder {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private final ObjectOutput output;
+
+        Encoder(final ObjectOutput output) {
+            this.output = output;
+        }
+
+        void write(final Collection<Issue> issues) throws IOException {
+            output.writeInt(issues.size());
+            for (Issue issue : issues) {
+                writeIssue(issue);
+            }
+        }
+
+        private void writeIssue(final Issue issue) throws IOException {
+            writeString(issue.getPath());
+            writeString(issue.getFileName());
+            writeRange(issue.getLineStart(), issue.getLineEnd());
+            writeRange(issue.getColumnStart(), issue.getColumnEnd());
+            writeLineRanges(issue.getLineRanges());
+            writeString(issue.getCategory());
+            writeString(issue.getType());
+            writeString(issue.getPackageName());
+            writeString(issue.getModuleName());
+            writeString(issue.getSeverity().getName());
+            writeString(issue.getMessage());
+            writeString(issue.getDescription());
+            writeString(issue.getOrigin());
+            writeString(issue.getOriginName());
+            writeString(issue.getReference());
+            writeString(issue.getFingerprint());
+            writeAdditionalProperties(issue.getAdditionalProperties());
+            output.writeLong(issue.getId().getMostSignificantBits());
+            output.writeLong(issue.getId().getLeastSignificantBits());
+        }
+
+        private void writeRange(final int start, final int end) throws IOException {
+            writeSignedInt(start);
+            writeSignedInt(end - start);
+        }
+
+        private void writeLineRanges(final Iterable<? extends LineRange> lineRanges) throws IOException {
+            List<LineRange> ranges = new ArrayList<>();
+            lineRanges.forEach(ranges::add);
+            writeInt(ranges.size());
+            for (LineRange range : ranges) {
+                writeRange(range.getStart(), range.getEnd());
+            }
+        }
+
+        private void writeAdditionalProperties(final Serializable properties) throws IOException {
+            if (properties == null) {
+                writeInt(NO_PROPERTIES);
+            }
+            else {
+                writeInt(HAS_PROPERTIES);
+                output.writeObject(properties);
+            }
+        }
+
+        private void writeString(final String value) throws IOException {
+            Integer index = dictionary.get(value);
+            if (index == null) {
+                dictionary.put(value, dictionary.size());
+                writeInt(NEW_ENTRY);
+                writeInt(value.length());
+                for (int i = 0; i < value.length(); i++) {
+                    writeInt(value.charAt(i));
+                }
+            }
+            else {
+                writeInt(index + 1);
+            }
+        }
+
+        private void writeSignedInt(final int value) throws IOException {
+            writeInt(value << 1 ^ value >> 31); // zig-zag encoding: small negative values require a single byte
+        }
+
+        private void writeInt(final int value) throws IOException {
+            int remaining = value;
+            while ((remaining & ~0x7F) != 0) {
+                output.write(remaining & 0x7F | 0x80);
+                remaining >>>= 7;
+            }
+            output.write(remaining);
+        }
+    }
+
+    /**
+     * Reads the issues from the input and decodes them.
+     */
+    private static class Decoder {
+        private final List<String> dictionary = new ArrayList<>();
+        private final TreeStringBuilder builder = new TreeStringBuilder();
+        private final ObjectInput input;
+
+        Decoder(final ObjectInput input) {
+            this.input = input;
+        }
+
+        @SuppressFBWarnings("OBJECT_DESERIALIZATION")
+        @SuppressWarnings("BanSerializableRead")
+        void read(final Consumer<Issue> consumer) throws IOException, ClassNotFoundException {
+            int count = input.readInt();
+            if (count < 0) {
+                throw new InvalidObjectException(String.format("Invalid size of encoded issues: count=%d", count));
+            }
+
+            for (int i = 0; i < count; i++) {
+                String path = readString();
+                TreeString fileName = builder.intern(readString());
+                int lineStart = readSignedInt();
+                int lineEnd = lineStart + readSignedInt();
+                int columnStart = readSignedInt();
+                int columnEnd = columnStart + readSignedInt();
+                List<LineRange> lineRanges = readLineRanges();
+                String category = readString();
+                String type = readString();
+                TreeString packageName = builder.intern(readString());
+                String moduleName = readString();
+                Severity severity = Severity.valueOf(readString());
+                TreeString message = builder.intern(readString());
+                String description = readString();
+                String origin = readString();
+                String originName = readString();
+                String reference = readString();
+                String fingerprint = readString();
+                Serializable properties = null;
+                if (readInt() == HAS_PROPERTIES) {
+                    properties = (Serializable) input.readObject();
+                }
+                UUID uuid = new UUID(input.readLong(), input.readLong());
+
+                consumer.accept(new Issue(path, fileName,
+                        lineStart, lineEnd, columnStart, columnEnd,
+                        lineRanges, category, type, packageName, moduleName,
+                        severity, message, description,
+                        origin, originName, reference, fingerprint, properties, uuid));
+            }
+            builder.dedup();
+        }
+
+        private List<LineRange> readLineRanges() throws IOException {
+            int size = readSize();
+            List<LineRange> lineRanges = new ArrayList<>(Math.min(size, MAX_INITIAL_CAPACITY));
+            for (int i = 0; i < size; i++) {
+                int start = readSignedInt();
+                lineRanges.add(new LineRange(start, start + readSignedInt()));
+            }
+            return lineRanges;
+        }
+
+        private String readString() throws IOException {
+            int index = readInt();
+            if (index == NEW_ENTRY) {
+                int length = readSize();
+                StringBuilder value = new StringBuilder(Math.min(length, MAX_INITIAL_CAPACITY));
+                for (int i = 0; i < length; i++) {
+                    int character = readInt();
+                    if (character < Character.MIN_VALUE || character > Character.MAX_VALUE) {
+                        throw new InvalidObjectException("Invalid character of string dictionary: " + character);
+                    }
+                    value.append((char) character);
+                }
+                String entry = value.toString();
+                dictionary.add(entry);
+                return entry;
+            }
+            if (index < 0 || index > dictionary.size()) {
+                throw new InvalidObjectException("Invalid index of string dictionary: " + index);
+            }
+            return dictionary.get(index - 1);
+        }
+
+        private int readSignedInt() throws IOException {
+            int value = readInt();
+            return value >>> 1 ^ -(value & 1);
+        }
+
+        private int readSize() throws IOException {
+            int size = readInt();
+            if (size < 0) {
+                throw new InvalidObjectException("Invalid size: " + size);
+            }
+            return size;
+        }
+
+        private int readInt() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                int current = input.readUnsignedByte();
+                value |= (current & 0x7F) << shift;
+                if ((current & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidObjectException("Invalid variable length integer");
+        }
+    }
+}
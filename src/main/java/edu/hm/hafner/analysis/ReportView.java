@@ -0,0 +1,212 @@
+package edu.hm.hafner.analysis;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * A read-only view of the issues of a {@link Report} that match a given criterion. In contrast to {@link
+ * Report#filter(Predicate)}, a view does not copy the issues of the report: the criteria of chained filters are
+ * composed and evaluated lazily whenever the issues of the view are requested. A view always reflects the current
+ * issues of the underlying report, i.e. issues that are added to the report later on are part of the view if they
+ * match the criterion.
+ *
+ * <p>
+ * A view can be converted into a standalone report using {@link #toReport()}. This is also done implicitly when a view
+ * is serialized: the de-serialized object is a {@link Report} that contains the matching issues.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+@SuppressFBWarnings(value = "SE_BAD_FIELD", justification = "Views are serialized as materialized reports")
+public final class ReportView implements Iterable<Issue>, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Report report;
+    private final Predicate<? super Issue> criterion;
+
+    ReportView(final Report report, final Predicate<? super Issue> criterion) {
+        this.report = report;
+        this.criterion = criterion;
+    }
+
+    /**
+     * Returns a view that contains the issues of this view that also match the specified criterion.
+     *
+     * @param additionalCriterion
+     *         the filter criterion
+     *
+     * @return the filtered view
+     */
+    public ReportView filter(final Predicate<? super Issue> additionalCriterion) {
+        Predicate<? super Issue> current = criterion;
+        return new ReportView(report, issue -> current.test(issue) && additionalCriterion.test(issue));
+    }
+
+    /**
+     * Groups the issues of this view by a specified property. Returns the results as a mapping of property values to a
+     * view of the issues with this value.
+     *
+     * @param propertyName
+     *         the name of the property to group by
+     *
+     * @return a mapping of: property value to the view of the issues with that value
+     * @see Report#groupByProperty(String)
+     */
+    public Map<String, ReportView> groupByProperty(final String propertyName) {
+        Function<Issue, String> propertyGetter = Issue.getPropertyValueGetter(propertyName);
+
+        Map<String, ReportView> groups = new LinkedHashMap<>();
+        for (String value : getProperties(propertyGetter)) {
+            groups.put(value, filter(issue -> value.equals(propertyGetter.apply(issue))));
+        }
+        return groups;
+    }
+
+    /**
+     * Creates a new sequential {@code Stream} of the issues of this view.
+     *
+     * @return a new {@code Stream}
+     */
+    public Stream<Issue> stream() {
+        return report.stream().filter(criterion);
+    }
+
+    @NonNull
+    @Override
+    public Iterator<Issue> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns the issues of this view.
+     *
+     * @return all issues of this view
+     */
+    public List<Issue> get() {
+        return stream().collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of issues in this view.
+     *
+     * @return total number of issues
+     */
+    public int size() {
+        return (int) stream().count();
+    }
+
+    /**
+     * Returns the number of issues in this view.
+     *
+     * @return total number of issues
+     */
+    public int getSize() {
+        return size();
+    }
+
+    /**
+     * Returns whether this view is empty.
+     *
+     * @return {@code true} if this view is empty, {@code false} otherwise
+     */
+    public boolean isEmpty() {
+        return !stream().findAny().isPresent();
+    }
+
+    /**
+     * Returns whether this view is not empty.
+     *
+     * @return {@code true} if this view is not empty, {@code false} otherwise
+     */
+    public boolean isNotEmpty() {
+        return !isEmpty();
+    }
+
+    /**
+     * Returns the number of issues with the specified {@code severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final String severity) {
+        return getSizeOf(Severity.valueOf(severity));
+    }
+
+    /**
+     * Returns the number of issues with the specified {@link Severity}.
+     *
+     * @param severity
+     *         the severity of the issues
+     *
+     * @return total number of issues
+     */
+    public int getSizeOf(final Severity severity) {
+        return (int) stream().filter(issue -> issue.getSeverity().equals(severity)).count();
+    }
+
+    /**
+     * Returns the different values for a given property for all issues of this view.
+     *
+     * @param propertiesMapper
+     *         the properties mapper that selects the property
+     * @param <T>
+     *         type of the property
+     *
+     * @return the set of different values
+     */
+    public <T> Set<T> getProperties(final Function<? super Issue, T> propertiesMapper) {
+        return stream().map(propertiesMapper).collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns the number of occurrences for every existing value of a given property for all issues of this view.
+     *
+     * @param propertiesMapper
+     *         the properties mapper that selects the property to evaluate
+     * @param <T>
+     *         type of the property
+     *
+     * @return a mapping of: property value to the number of issues for that value
+     */
+    public <T> Map<T, Integer> getPropertyCount(final Function<? super Issue, T> propertiesMapper) {
+        return stream().collect(
+                Collectors.groupingBy(propertiesMapper, Collectors.reducing(0, issue -> 1, Integer::sum)));
+    }
+
+    /**
+     * Creates a new report that contains the issues of this view. The new report has the same properties as the
+     * underlying report.
+     *
+     * @return a new report with the issues of this view
+     */
+    public Report toReport() {
+        return report.filter(criterion);
+    }
+
+    /**
+     * Replaces this view with a standalone report when this view is serialized.
+     *
+     * @return the materialized report
+     */
+    private Object writeReplace() {
+        return toReport();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("View of %s", report);
+    }
+}
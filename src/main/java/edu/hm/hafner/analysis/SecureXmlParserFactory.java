@@ -23,6 +23,7 @@ import org.xml.sax.SAXNotRecognizedException;
 import org.xml.sax.SAXNotSupportedException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
 import static javax.xml.XMLConstants.*;
@@ -32,6 +33,13 @@ import static org.apache.xerces.impl.Constants.*;
  * Factory for XML Parsers that prevent XML External Entity attacks. Those attacks occur when untrusted XML input
  * containing a reference to an external entity is processed by a weakly configured XML parser.
  *
+ * <p>
+ * Looking up and configuring the underlying JAXP and StAX factories is expensive compared to parsing a small file.
+ * Callers that parse many files in the same thread (e.g., the workers of a parsing pipeline) may therefore run the
+ * parsers using {@link #runWithCachedFactories(Runnable)}: then the configured factories are created only once for
+ * this run. Otherwise, new factories are created for each parser.
+ * </p>
+ *
  * @author Ullrich Hafner
  * @see <a href="https://cheatsheetseries.owasp.org/cheatsheets/XML_External_Entity_Prevention_Cheat_Sheet.html">XML External Entity Prevention Cheat Sheet</a>
  * @see <a href="https://rules.sonarsource.com/java/RSPEC-2755">XML parsers should not be vulnerable to XXE attacks</a>
@@ -58,12 +66,51 @@ public class SecureXmlParserFactory {
     private static final String CLEAR_ATTRIBUTE = "";
     private static final String SUPPORTING_EXTERNAL_ENTITIES = "javax.xml.stream.isSupportingExternalEntities";
 
+    /** Contains a value only while {@link #runWithCachedFactories(Runnable)} is running in a thread. */
+    private static final ThreadLocal<CachedFactories> CACHED_FACTORIES = new ThreadLocal<>();
+
+    /**
+     * Runs the specified action in the current thread. All parsers that are created by this class while the action is
+     * running use the same underlying factories. The factories are released as soon as the action has been finished,
+     * so no factories remain attached to the thread (e.g., a thread of a pool).
+     *
+     * @param action
+     *         the action to run, e.g., a worker that parses several files one after another
+     */
+    public static void runWithCachedFactories(final Runnable action) {
+        if (CACHED_FACTORIES.get() != null) {
+            action.run(); // nested invocation: reuse the factories of the outer invocation
+
+            return;
+        }
+
+        CACHED_FACTORIES.set(new CachedFactories());
+        try {
+            action.run();
+        }
+        finally {
+            CACHED_FACTORIES.remove();
+        }
+    }
+
     /**
      * Creates a new instance of a {@link DocumentBuilder} that does not resolve external entities.
      *
      * @return a new instance of a {@link DocumentBuilder}
      */
     public DocumentBuilder createDocumentBuilder() {
+        try {
+            CachedFactories cache = CACHED_FACTORIES.get();
+            DocumentBuilderFactory factory = cache == null
+                    ? createDocumentBuilderFactory() : cache.getDocumentBuilderFactory();
+            return factory.newDocumentBuilder();
+        }
+        catch (ParserConfigurationException exception) {
+            throw new IllegalArgumentException("Can't create instance of DocumentBuilder", exception);
+        }
+    }
+
+    private static DocumentBuilderFactory createDocumentBuilderFactory() {
         try {
             DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
             factory.setXIncludeAware(false);
@@ -72,14 +119,14 @@ public class SecureXmlParserFactory {
             setFeatures(factory);
             clearAttributes(factory);
 
-            return factory.newDocumentBuilder();
+            return factory;
         }
         catch (ParserConfigurationException exception) {
             throw new IllegalArgumentException("Can't create instance of DocumentBuilder", exception);
         }
     }
 
-    private void setFeatures(final DocumentBuilderFactory factory) {
+    private static void setFeatures(final DocumentBuilderFactory factory) {
         for (String enabledProperty : ENABLED_PROPERTIES) {
             setFeature(factory, enabledProperty, true);
         }
@@ -88,7 +135,8 @@ public class SecureXmlParserFactory {
         }
     }
 
-    private void setFeature(final DocumentBuilderFactory factory, final String enabledProperty, final boolean value) {
+    private static void setFeature(final DocumentBuilderFactory factory, final String enabledProperty,
+            final boolean value) {
         try {
             factory.setFeature(enabledProperty, value);
         }
@@ -97,7 +145,7 @@ public class SecureXmlParserFactory {
         }
     }
 
-    private void clearAttributes(final DocumentBuilderFactory factory) {
+    private static void clearAttributes(final DocumentBuilderFactory factory) {
         for (String securityAttribute: DISABLED_ATTRIBUTES) {
             try {
                 factory.setAttribute(securityAttribute, CLEAR_ATTRIBUTE);
@@ -126,9 +174,8 @@ public class SecureXmlParserFactory {
      */
     public SAXParser createSaxParser() {
         try {
-            SAXParserFactory factory = SAXParserFactory.newInstance();
-            configureSaxParserFactory(factory);
-
+            CachedFactories cache = CACHED_FACTORIES.get();
+            SAXParserFactory factory = cache == null ? createSaxParserFactory() : cache.getSaxParserFactory();
             SAXParser parser = factory.newSAXParser();
             secureParser(parser);
             return parser;
@@ -138,6 +185,12 @@ public class SecureXmlParserFactory {
         }
     }
 
+    private static SAXParserFactory createSaxParserFactory() {
+        SAXParserFactory factory = SAXParserFactory.newInstance();
+        new SecureXmlParserFactory().configureSaxParserFactory(factory);
+        return factory;
+    }
+
     /**
      * Secure the {@link SAXParser} so that it does not resolve external entities.
      *
@@ -192,9 +245,8 @@ public class SecureXmlParserFactory {
      */
     public XMLStreamReader createXmlStreamReader(final Reader reader) {
         try {
-            XMLInputFactory factory = XMLInputFactory.newInstance();
-            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
-            factory.setProperty(SUPPORTING_EXTERNAL_ENTITIES, false);
+            CachedFactories cache = CACHED_FACTORIES.get();
+            XMLInputFactory factory = cache == null ? createXmlInputFactory() : cache.getXmlInputFactory();
             return factory.createXMLStreamReader(reader);
         }
         catch (XMLStreamException exception) {
@@ -202,6 +254,13 @@ public class SecureXmlParserFactory {
         }
     }
 
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
     /**
      * Creates a {@link SAXParser} that does not resolve external entities and parses the provided content with the
      * given SAX {@link DefaultHandler}.
@@ -270,4 +329,38 @@ public class SecureXmlParserFactory {
             throw new ParsingException(exception);
         }
     }
+
+    /**
+     * The factories of a single invocation of {@link #runWithCachedFactories(Runnable)}. The factories are created
+     * on demand.
+     */
+    private static final class CachedFactories {
+        @CheckForNull
+        private DocumentBuilderFactory documentBuilderFactory;
+        @CheckForNull
+        private SAXParserFactory saxParserFactory;
+        @CheckForNull
+        private XMLInputFactory xmlInputFactory;
+
+        DocumentBuilderFactory getDocumentBuilderFactory() {
+            if (documentBuilderFactory == null) {
+                documentBuilderFactory = createDocumentBuilderFactory();
+            }
+            return documentBuilderFactory;
+        }
+
+        SAXParserFactory getSaxParserFactory() {
+            if (saxParserFactory == null) {
+                saxParserFactory = createSaxParserFactory();
+            }
+            return saxParserFactory;
+        }
+
+        XMLInputFactory getXmlInputFactory() {
+            if (xmlInputFactory == null) {
+                xmlInputFactory = createXmlInputFactory();
+            }
+            return xmlInputFactory;
+        }
+    }
 }
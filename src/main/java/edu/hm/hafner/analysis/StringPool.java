@@ -0,0 +1,43 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A pool of strings that is used to deduplicate the string properties of the issues of a report. In contrast to
+ * {@link String#intern()}, the strings are not stored in the global string table of the JVM: the pool is freed as soon
+ * as the reports that use the pool are discarded. A report shares its pool with the sub-reports that it owns and with
+ * its copies (see {@link Report#copy()} and {@link Report#filter(java.util.function.Predicate)}). The pool is thread
+ * safe.
+ *
+ * @author Ullrich Hafner
+ */
+class StringPool {
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+
+    /**
+     * Returns a canonical representation of the specified string. If the pool already contains an equal string, then
+     * the string from the pool is returned. Otherwise, the specified string is added to the pool and returned.
+     *
+     * @param value
+     *         the string to deduplicate
+     *
+     * @return a string that has the same contents as the specified string, but is guaranteed to be from the pool
+     */
+    public String dedup(final String value) {
+        String existing = values.putIfAbsent(value, value);
+        if (existing == null) {
+            return value;
+        }
+        return existing;
+    }
+
+    /**
+     * Returns the number of distinct strings in this pool.
+     *
+     * @return the number of strings
+     */
+    public int size() {
+        return values.size();
+    }
+}
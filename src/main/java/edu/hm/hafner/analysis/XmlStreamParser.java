@@ -0,0 +1,258 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import edu.hm.hafner.util.IntegerParser;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Parses XML documents with a secure {@link XMLStreamReader} and reports the elements to an {@link ElementHandler}
+ * while the document is read. In contrast to the {@link SecureDigester} no object model of the whole document is
+ * created: parsers create the issues directly when the corresponding elements are visited. So the required memory does
+ * not depend on the size of the document.
+ *
+ * @author Ullrich Hafner
+ */
+public class XmlStreamParser {
+    @CheckForNull
+    private final String rootElement;
+    private final String formatName;
+
+    /**
+     * Creates a new instance of {@link XmlStreamParser} that accepts documents with any root element.
+     */
+    public XmlStreamParser() {
+        this(null, "XML");
+    }
+
+    /**
+     * Creates a new instance of {@link XmlStreamParser} that accepts only documents with the specified root element.
+     *
+     * @param rootElement
+     *         the name of the required root element
+     * @param formatName
+     *         the name of the format, used in the error message if the root element does not match
+     */
+    public XmlStreamParser(@CheckForNull final String rootElement, final String formatName) {
+        this.rootElement = rootElement;
+        this.formatName = formatName;
+    }
+
+    /**
+     * Parses the content of the specified {@link ReaderFactory} and reports all elements to the specified handler.
+     *
+     * @param readerFactory
+     *         provides the content to parse
+     * @param handler
+     *         the handler that will be notified about the elements of the document
+     *
+     * @throws ParsingException
+     *         if the content is not a valid XML document or has the wrong root element
+     */
+    public void parse(final ReaderFactory readerFactory, final ElementHandler handler) {
+        try (Reader reader = readerFactory.create()) {
+            parse(reader, handler);
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Parses the content of the specified {@link Reader} and reports all elements to the specified handler. The reader
+     * will not be closed.
+     *
+     * @param reader
+     *         provides the content to parse
+     * @param handler
+     *         the handler that will be notified about the elements of the document
+     *
+     * @throws ParsingException
+     *         if the content is not a valid XML document or has the wrong root element
+     */
+    public void parse(final Reader reader, final ElementHandler handler) {
+        XMLStreamReader xmlReader = new SecureXmlParserFactory().createXmlStreamReader(reader);
+        try {
+            new Element(xmlReader).read(handler);
+        }
+        catch (XMLStreamException exception) {
+            throw new ParsingException(exception);
+        }
+        finally {
+            close(xmlReader);
+        }
+    }
+
+    private void close(final XMLStreamReader xmlReader) {
+        try {
+            xmlReader.close();
+        }
+        catch (XMLStreamException ignored) {
+            // ignore, the underlying reader will be closed by the caller
+        }
+    }
+
+    /**
+     * Handles the elements of an XML document while the document is read.
+     */
+    public interface ElementHandler {
+        /**
+         * Called when the start tag of an element has been read. The attributes of the element are available only
+         * during this call.
+         *
+         * @param element
+         *         the current element
+         */
+        void startElement(Element element);
+
+        /**
+         * Called when the end tag of an element has been read. The text of the element is available only during this
+         * call.
+         *
+         * @param element
+         *         the current element
+         */
+        default void endElement(final Element element) {
+            // no action required
+        }
+    }
+
+    /**
+     * The current element of an XML document. There is only one instance of this class per document, it reflects the
+     * element the {@link XMLStreamReader} is currently positioned at. So do not keep references of this object.
+     */
+    public final class Element {
+        private final XMLStreamReader reader;
+        private final List<StringBuilder> texts = new ArrayList<>();
+        private final List<String> names = new ArrayList<>();
+        private int depth;
+
+        Element(final XMLStreamReader reader) {
+            this.reader = reader;
+        }
+
+        void read(final ElementHandler handler) throws XMLStreamException {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement(handler);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        handler.endElement(this);
+                        names.remove(--depth);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                    case XMLStreamConstants.SPACE:
+                        if (depth > 0) {
+                            texts.get(depth - 1).append(
+                                    reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        private void startElement(final ElementHandler handler) {
+            String name = reader.getLocalName();
+            if (depth == 0 && rootElement != null && !rootElement.equals(name)) {
+                throw new ParsingException("Input stream is not a %s file.", formatName);
+            }
+            names.add(name);
+            if (texts.size() == depth) {
+                texts.add(new StringBuilder());
+            }
+            texts.get(depth).setLength(0);
+            depth++;
+
+            handler.startElement(this);
+        }
+
+        /**
+         * Returns the name of this element.
+         *
+         * @return the name of this element
+         */
+        public String getName() {
+            return names.get(depth - 1);
+        }
+
+        /**
+         * Returns the name of the parent of this element.
+         *
+         * @return the name of the parent, or an empty string if this element is the root element
+         */
+        public String getParentName() {
+            if (depth < 2) {
+                return "";
+            }
+            return names.get(depth - 2);
+        }
+
+        /**
+         * Returns the depth of this element in the document. The root element has the depth 1.
+         *
+         * @return the depth of this element
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Returns the value of the specified attribute. Attributes are available only in
+         * {@link ElementHandler#startElement(Element)}.
+         *
+         * @param name
+         *         the name of the attribute
+         *
+         * @return the value of the attribute, or {@code null} if the element has no such attribute
+         */
+        @CheckForNull
+        public String getAttribute(final String name) {
+            return reader.getAttributeValue(null, name);
+        }
+
+        /**
+         * Returns the value of the specified attribute as integer. Attributes are available only in
+         * {@link ElementHandler#startElement(Element)}.
+         *
+         * @param name
+         *         the name of the attribute
+         *
+         * @return the value of the attribute, or 0 if the element has no such attribute or the value is not a number
+         */
+        public int getIntAttribute(final String name) {
+            return IntegerParser.parseInt(getAttribute(name));
+        }
+
+        /**
+         * Returns the text of this element, without leading and trailing whitespace. The text contains only the
+         * characters that are direct children of this element, the text of child elements is skipped. The text is
+         * available only in {@link ElementHandler#endElement(Element)}.
+         *
+         * @return the text of this element
+         */
+        public String getText() {
+            return getRawText().trim();
+        }
+
+        /**
+         * Returns the text of this element, including leading and trailing whitespace. The text contains only the
+         * characters that are direct children of this element, the text of child elements is skipped. The text is
+         * available only in {@link ElementHandler#endElement(Element)}.
+         *
+         * @return the text of this element
+         */
+        public String getRawText() {
+            return texts.get(depth - 1).toString();
+        }
+    }
+}
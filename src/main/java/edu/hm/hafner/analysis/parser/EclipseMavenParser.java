@@ -1,6 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -25,6 +28,9 @@ import static edu.hm.hafner.analysis.parser.EclipseParser.*;
 public class EclipseMavenParser extends LookaheadParser {
     private static final long serialVersionUID = 425883472788422955L;
 
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList(WARNING, ERROR, INFO));
+
     private static final String ECLIPSE_FIRST_LINE_REGEXP =
             "\\s*\\[(?<severity>WARNING|ERROR|INFO)\\]\\s*(?<file>.*):\\[(?<line>\\d+)(?:,\\d+)?\\]\\s*(?<message>.*)";
 
@@ -42,7 +48,12 @@ public class EclipseMavenParser extends LookaheadParser {
 
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains(WARNING) || line.contains(ERROR) || line.contains(INFO);
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 
     @Override
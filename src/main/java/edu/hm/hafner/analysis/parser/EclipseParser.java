@@ -1,6 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -30,6 +33,8 @@ public class EclipseParser extends LookaheadParser {
     static final String WARNING = "WARNING";
     static final String ERROR = "ERROR";
     static final String INFO = "INFO";
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList(WARNING, ERROR, INFO));
 
     private static final String JAVADOC_PREFIX = "Javadoc:";
     private static final Pattern ANT_PREFIX = Pattern.compile("^(?:.*\\[.+\\])?\\s*(.*)");
@@ -46,9 +51,19 @@ public class EclipseParser extends LookaheadParser {
         super(ECLIPSE_FIRST_LINE_REGEXP);
     }
 
+    @Override
+    protected boolean isLinearTimeMatchingEnabled() {
+        return true; // the leading wildcard backtracks on long lines
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains(WARNING) || line.contains(ERROR) || line.contains(INFO);
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 
     @Override
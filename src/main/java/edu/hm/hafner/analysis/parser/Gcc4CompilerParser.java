@@ -1,5 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -19,6 +23,9 @@ import edu.hm.hafner.util.StringContainsUtils;
 public class Gcc4CompilerParser extends LookaheadParser {
     private static final long serialVersionUID = 5490211629355204910L;
 
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList("arning", "rror"));
+
     private static final String GCC_WARNING_PATTERN =
             ANT_TASK + "(.+?):(\\d+):(?:(\\d+):)? ?([wW]arning|.*[Ee]rror): (.*)$";
     private static final Pattern CLASS_PATTERN = Pattern.compile("\\[-W(.+)]$");
@@ -38,9 +45,19 @@ public class Gcc4CompilerParser extends LookaheadParser {
         super(pattern);
     }
 
+    @Override
+    protected boolean isLinearTimeMatchingEnabled() {
+        return true; // the pattern starts with ANT_TASK
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains("arning") || line.contains("rror");
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 
     @Override
@@ -1,5 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
@@ -19,6 +23,9 @@ import edu.hm.hafner.util.LookaheadStream;
 public class GhsMultiParser extends LookaheadParser {
     private static final long serialVersionUID = 8149238560432255036L;
 
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList("warning", "error"));
+
     /**
      * Regex Pattern to match start of Warning / Error. Groups are used to identify FileName, StartLine, Type, Category,
      * Start of message.
@@ -88,7 +95,12 @@ public class GhsMultiParser extends LookaheadParser {
 
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains("warning") || line.contains("error");
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 }
 
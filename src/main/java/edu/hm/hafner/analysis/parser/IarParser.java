@@ -1,5 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
@@ -20,6 +24,9 @@ import edu.hm.hafner.util.LookaheadStream;
 public class IarParser extends LookaheadParser {
     private static final long serialVersionUID = 7695540852439013425L;
 
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList("Warning", "rror", "Remark"));
+
     static final String IAR_WARNING_PATTERN = ANT_TASK
             + "(?:\"?(.*?)\"?[\\(,](\\d+)\\)?\\s+(?::\\s)?)?(Error|Remark|Warning|Fatal [Ee]rror)\\[(\\w+)\\]: (.*)$";
 
@@ -32,7 +39,12 @@ public class IarParser extends LookaheadParser {
 
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains("Warning") || line.contains("rror") || line.contains("Remark");
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 
     @Override
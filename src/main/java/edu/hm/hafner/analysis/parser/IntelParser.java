@@ -1,5 +1,9 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 
@@ -18,6 +22,9 @@ import edu.hm.hafner.util.LookaheadStream;
  */
 public class IntelParser extends LookaheadParser {
     private static final long serialVersionUID = 8409744276858003050L;
+
+    private static final List<String> REQUIRED_LITERALS = Collections.unmodifiableList(
+            Arrays.asList("warning", "error", "remark", "message"));
     private static final String INTEL_PATTERN = "^(\\d+>)?(.*)\\((\\d*)\\)?:(?:\\s*\\(col\\. (\\d+)\\))?.*("
             + "(?:message|remark|warning|error)\\s*#*\\d*)\\s*:\\s*(.*)$";
 
@@ -30,7 +37,12 @@ public class IntelParser extends LookaheadParser {
 
     @Override
     protected boolean isLineInteresting(final String line) {
-        return line.contains("warning") || line.contains("error") || line.contains("remark") || line.contains("message");
+        return containsRequiredLiteral(line);
+    }
+
+    @Override
+    protected Collection<String> getRequiredLiterals() {
+        return REQUIRED_LITERALS;
     }
 
     @Override
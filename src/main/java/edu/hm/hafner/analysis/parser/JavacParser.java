@@ -51,6 +51,11 @@ public class JavacParser extends LookaheadParser {
         super(JAVAC_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isParallelizable() {
+        return false; // the goal of a line depends on the previous lines
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         Matcher goalMatcher = MavenConsoleParser.MAVEN_PLUGIN_START.matcher(line);
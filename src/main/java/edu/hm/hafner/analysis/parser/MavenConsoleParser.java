@@ -69,6 +69,11 @@ public class MavenConsoleParser extends LookaheadParser {
         super(PATTERN);
     }
 
+    @Override
+    protected boolean isParallelizable() {
+        return false; // goal, module and line numbers depend on the previous lines
+    }
+
     @Override
     protected boolean isLineInteresting(final String line) {
         Matcher goalMatcher = MAVEN_PLUGIN_START.matcher(line);
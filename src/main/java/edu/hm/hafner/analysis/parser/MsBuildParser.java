@@ -37,6 +37,11 @@ public class MsBuildParser extends LookaheadParser {
         super(MS_BUILD_WARNING_PATTERN);
     }
 
+    @Override
+    protected boolean isLinearTimeMatchingEnabled() {
+        return true; // the pattern starts with ANT_TASK
+    }
+
     @Override
     protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
             final IssueBuilder builder) {
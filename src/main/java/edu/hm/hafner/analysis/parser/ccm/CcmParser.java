@@ -1,18 +1,18 @@
 package edu.hm.hafner.analysis.parser.ccm;
 
-import java.io.IOException;
-import java.io.Reader;
-
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+import edu.hm.hafner.util.IntegerParser;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * A parser for CCM XML files.
@@ -24,70 +24,20 @@ public class CcmParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Ccm report = parseCCMXmlFile(readerFactory);
-
-        return convert(report);
-    }
-
-    private Ccm parseCCMXmlFile(final ReaderFactory ccmXmlFile) {
-        SecureDigester digester = new SecureDigester(CcmParser.class);
-
-        String rootXPath = "ccm";
-        digester.addObjectCreate(rootXPath, Ccm.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileMetric = "ccm/metric";
-        digester.addObjectCreate(fileMetric, Metric.class);
-        digester.addSetProperties(fileMetric);
-        digester.addBeanPropertySetter("ccm/metric/complexity");
-        digester.addBeanPropertySetter("ccm/metric/unit");
-        digester.addBeanPropertySetter("ccm/metric/classification");
-        digester.addBeanPropertySetter("ccm/metric/file");
-        digester.addBeanPropertySetter("ccm/metric/startLineNumber");
-        digester.addBeanPropertySetter("ccm/metric/endLineNumber");
-        digester.addSetNext(fileMetric, "addMetric", Metric.class.getName());
-
-        try (Reader reader = ccmXmlFile.create()) {
-            Ccm report = digester.parse(reader);
-            if (report == null) {
-                throw new ParsingException("Input stream is not a CCM file.");
-            }
-
-            return report;
-        }
-        catch (IOException | SAXException exception) {
-            throw new ParsingException(exception);
-        }
-    }
-
-    private Report convert(final Ccm collection) {
         try (IssueBuilder issueBuilder = new IssueBuilder()) {
             Report report = new Report();
 
-            for (Metric metric : collection.getMetrics()) {
-                Severity priority = calculateMetricPriority(metric);
-
-                String complexity = String.format("%s has a complexity of %d", metric.getUnit(),
-                        metric.getComplexity());
-
-                issueBuilder.setSeverity(priority)
-                        .setMessage(complexity)
-                        .setCategory(metric.getClassification())
-                        .setLineStart(metric.getStartLineNumber())
-                        .setLineEnd(metric.getEndLineNumber())
-                        .setFileName(metric.getFile());
-                report.add(issueBuilder.buildAndClean());
-            }
+            new XmlStreamParser("ccm", "CCM").parse(readerFactory, new CcmHandler(issueBuilder, report));
 
             return report;
         }
     }
 
-    private Severity calculateMetricPriority(final Metric metric) {
-        if (isMetricHighPriority(metric)) {
+    private Severity calculateMetricPriority(@CheckForNull final String metricClassification) {
+        if (isMetricHighPriority(metricClassification)) {
             return Severity.WARNING_HIGH;
         }
-        else if (isMetricModeratePriority(metric)) {
+        else if (isMetricModeratePriority(metricClassification)) {
             return Severity.WARNING_NORMAL;
         }
         else {
@@ -95,8 +45,7 @@ public class CcmParser extends IssueParser {
         }
     }
 
-    private boolean isMetricHighPriority(final Metric metric) {
-        String metricClassification = metric.getClassification();
+    private boolean isMetricHighPriority(@CheckForNull final String metricClassification) {
         if (StringUtils.contains(metricClassification, "high")) {
             return true;
         }
@@ -104,11 +53,82 @@ public class CcmParser extends IssueParser {
                 || "E".equals(metricClassification) || "F".equals(metricClassification);
     }
 
-    private boolean isMetricModeratePriority(final Metric metric) {
-        String metricClassification = metric.getClassification();
+    private boolean isMetricModeratePriority(@CheckForNull final String metricClassification) {
         if (StringUtils.contains(metricClassification, "moderate")) {
             return true;
         }
         return "B".equals(metricClassification);
     }
+
+    /**
+     * Creates an issue for each metric element while the CCM file is read. The properties of a metric are stored in
+     * child elements, so the issue is created when the end tag of the metric element has been read.
+     */
+    private class CcmHandler implements ElementHandler {
+        private static final String METRIC = "metric";
+
+        private final IssueBuilder issueBuilder;
+        private final Report report;
+        private Metric metric = new Metric();
+
+        CcmHandler(final IssueBuilder issueBuilder, final Report report) {
+            this.issueBuilder = issueBuilder;
+            this.report = report;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if (isMetric(element)) {
+                metric = new Metric();
+            }
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if (isMetric(element)) {
+                String complexity = String.format("%s has a complexity of %d", metric.getUnit(),
+                        metric.getComplexity());
+
+                issueBuilder.setSeverity(calculateMetricPriority(metric.getClassification()))
+                        .setMessage(complexity)
+                        .setCategory(metric.getClassification())
+                        .setLineStart(metric.getStartLineNumber())
+                        .setLineEnd(metric.getEndLineNumber())
+                        .setFileName(metric.getFile());
+                report.add(issueBuilder.buildAndClean());
+            }
+            else if (element.getDepth() == 3 && METRIC.equals(element.getParentName())) {
+                setProperty(element.getName(), element.getText());
+            }
+        }
+
+        private void setProperty(final String name, final String value) {
+            switch (name) {
+                case "complexity":
+                    metric.setComplexity(IntegerParser.parseInt(value));
+                    break;
+                case "unit":
+                    metric.setUnit(value);
+                    break;
+                case "classification":
+                    metric.setClassification(value);
+                    break;
+                case "file":
+                    metric.setFile(value);
+                    break;
+                case "startLineNumber":
+                    metric.setStartLineNumber(IntegerParser.parseInt(value));
+                    break;
+                case "endLineNumber":
+                    metric.setEndLineNumber(IntegerParser.parseInt(value));
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private boolean isMetric(final Element element) {
+            return element.getDepth() == 2 && METRIC.equals(element.getName());
+        }
+    }
 }
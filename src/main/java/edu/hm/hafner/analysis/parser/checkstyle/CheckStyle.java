@@ -9,7 +9,10 @@ import java.util.List;
  * Java Bean class for a errors collection of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
+@Deprecated
 public class CheckStyle {
     /** All files of this violations collection. */
     private final List<File> files = new ArrayList<>();
@@ -1,18 +1,15 @@
 package edu.hm.hafner.analysis.parser.checkstyle;
 
-import java.io.IOException;
-import java.io.Reader;
-
-import org.apache.commons.digester3.Digester;
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
@@ -25,62 +22,12 @@ public class CheckStyleParser extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Digester digester = new SecureDigester(CheckStyleParser.class);
-
-        String rootXPath = "checkstyle";
-        digester.addObjectCreate(rootXPath, CheckStyle.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileXPath = "checkstyle/file";
-        digester.addObjectCreate(fileXPath, File.class);
-        digester.addSetProperties(fileXPath);
-        digester.addSetNext(fileXPath, "addFile", File.class.getName());
-
-        String bugXPath = "checkstyle/file/error";
-        digester.addObjectCreate(bugXPath, Error.class);
-        digester.addSetProperties(bugXPath);
-        digester.addSetNext(bugXPath, "addError", Error.class.getName());
-
-        try (Reader reader = readerFactory.create()) {
-            CheckStyle checkStyle = digester.parse(reader);
-            if (checkStyle == null) {
-                throw new ParsingException("Input stream is not a Checkstyle file.");
-            }
-
-            return convert(checkStyle);
-        }
-        catch (IOException | SAXException exception) {
-            throw new ParsingException(exception);
-        }
-    }
-
-    /**
-     * Converts the internal structure to the annotations API.
-     *
-     * @param collection
-     *         the internal maven module
-     *
-     * @return a maven module of the annotations API
-     */
-    private Report convert(final CheckStyle collection) {
         try (IssueBuilder issueBuilder = new IssueBuilder()) {
             Report report = new Report();
 
-            for (File file : collection.getFiles()) {
-                if (isValidWarning(file)) {
-                    for (Error error : file.getErrors()) {
-                        issueBuilder.guessSeverity(error.getSeverity());
-                        String source = error.getSource();
-                        issueBuilder.setType(getType(source));
-                        issueBuilder.setCategory(getCategory(source));
-                        issueBuilder.setMessage(error.getMessage());
-                        issueBuilder.setLineStart(error.getLine());
-                        issueBuilder.setFileName(file.getName());
-                        issueBuilder.setColumnStart(error.getColumn());
-                        report.add(issueBuilder.buildAndClean());
-                    }
-                }
-            }
+            new XmlStreamParser("checkstyle", "Checkstyle").parse(readerFactory,
+                    new CheckStyleHandler(issueBuilder, report));
+
             return report;
         }
     }
@@ -99,16 +46,51 @@ public class CheckStyleParser extends IssueParser {
     }
 
     /**
-     * Returns {@code true} if this warning is valid or {@code false} if the warning can't be processed by the
-     * checkstyle plug-in.
+     * Returns {@code true} if the warnings of the specified file are valid or {@code false} if the warnings can't be
+     * processed by the checkstyle plug-in.
      *
-     * @param file
+     * @param fileName
      *         the file to check
      *
-     * @return {@code true} if this warning is valid
+     * @return {@code true} if the warnings of this file are valid
+     */
+    private boolean isValidFile(@CheckForNull final String fileName) {
+        return !StringUtils.endsWith(fileName, "package.html");
+    }
+
+    /**
+     * Creates an issue for each error element while the Checkstyle file is read.
      */
-    private boolean isValidWarning(final File file) {
-        return !StringUtils.endsWith(file.getName(), "package.html");
+    private class CheckStyleHandler implements ElementHandler {
+        private final IssueBuilder issueBuilder;
+        private final Report report;
+
+        @CheckForNull
+        private String fileName;
+
+        CheckStyleHandler(final IssueBuilder issueBuilder, final Report report) {
+            this.issueBuilder = issueBuilder;
+            this.report = report;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if ("file".equals(element.getName()) && element.getDepth() == 2) {
+                fileName = element.getAttribute("name");
+            }
+            else if ("error".equals(element.getName()) && element.getDepth() == 3
+                    && "file".equals(element.getParentName()) && isValidFile(fileName)) {
+                issueBuilder.guessSeverity(element.getAttribute("severity"));
+                String source = element.getAttribute("source");
+                issueBuilder.setType(getType(source));
+                issueBuilder.setCategory(getCategory(source));
+                issueBuilder.setMessage(element.getAttribute("message"));
+                issueBuilder.setLineStart(element.getIntAttribute("line"));
+                issueBuilder.setFileName(fileName);
+                issueBuilder.setColumnStart(element.getIntAttribute("column"));
+                report.add(issueBuilder.buildAndClean());
+            }
+        }
     }
 }
 
@@ -6,8 +6,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * Java Bean class for a violation of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
 @SuppressWarnings({"all", "JavaLangClash"})
+@Deprecated
 public class Error {
     @CheckForNull
     private String source;
@@ -11,7 +11,10 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * Java Bean class for a file of the Checkstyle format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link CheckStyleParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
+@Deprecated
 public class File {
     /** Name of the file. */
     @CheckForNull
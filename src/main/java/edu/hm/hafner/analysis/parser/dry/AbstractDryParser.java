@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.digester3.Digester;
 import org.xml.sax.SAXException;
@@ -16,9 +17,12 @@ import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
 
 /**
- * A duplication parser template for Digester based parsers.
+ * A duplication parser template for Digester based parsers. Parsers may also create the issues while the XML file is
+ * read by providing an {@link #createElementHandler(IssueBuilder, Report) element handler}.
  *
  * @param <T>
  *         the type of the parsed warnings
@@ -67,6 +71,20 @@ public abstract class AbstractDryParser<T> extends IssueParser {
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
+        try (IssueBuilder issueBuilder = new IssueBuilder()) {
+            issueBuilder.setMessage("Found duplicated code.");
+
+            Report report = new Report();
+            Optional<ElementHandler> handler = createElementHandler(issueBuilder, report);
+            if (handler.isPresent()) {
+                new XmlStreamParser().parse(readerFactory, handler.get());
+                return report;
+            }
+            return parseWithDigester(readerFactory, issueBuilder);
+        }
+    }
+
+    private Report parseWithDigester(final ReaderFactory readerFactory, final IssueBuilder issueBuilder) {
         Digester digester = new SecureDigester(AbstractDryParser.class);
 
         configureParser(digester);
@@ -74,13 +92,12 @@ public abstract class AbstractDryParser<T> extends IssueParser {
         List<T> duplications = new ArrayList<>();
         digester.push(duplications);
 
-        try (Reader reader = readerFactory.create(); IssueBuilder issueBuilder = new IssueBuilder()) {
+        try (Reader reader = readerFactory.create()) {
             Object result = digester.parse(reader);
             if (result != duplications) { // NOPMD
                 throw new ParsingException("Input stream is not a valid duplications file.");
             }
 
-            issueBuilder.setMessage("Found duplicated code.");
             return convertDuplicationsToIssues(duplications, issueBuilder);
         }
         catch (IOException | SAXException exception) {
@@ -89,15 +106,35 @@ public abstract class AbstractDryParser<T> extends IssueParser {
     }
 
     /**
-     * Configures the Digester parser. Register all rules that are required to parse the file.
+     * Creates a handler that converts the duplications to issues while the XML file is read. If a parser provides
+     * such a handler, then the file is read with a {@link XmlStreamParser} and the Digester is not used at all. The
+     * default implementation returns no handler.
+     *
+     * @param issueBuilder
+     *         the issue builder to use
+     * @param report
+     *         the report to add the created issues to
+     *
+     * @return the handler, or an empty {@link Optional} if the Digester should be used to read the file
+     */
+    protected Optional<ElementHandler> createElementHandler(final IssueBuilder issueBuilder, final Report report) {
+        return Optional.empty();
+    }
+
+    /**
+     * Configures the Digester parser. Register all rules that are required to parse the file. Parsers that provide an
+     * {@link #createElementHandler(IssueBuilder, Report) element handler} do not need to override this method.
      *
      * @param digester
      *         the parser to configure
      */
-    protected abstract void configureParser(Digester digester);
+    protected void configureParser(final Digester digester) {
+        // no rules required if the parser creates the issues using an element handler
+    }
 
     /**
-     * Converts the parsed duplications from the original format to an {@link Report} instance.
+     * Converts the parsed duplications from the original format to an {@link Report} instance. Parsers that provide
+     * an {@link #createElementHandler(IssueBuilder, Report) element handler} do not need to override this method.
      *
      * @param duplications
      *         the parsed warnings
@@ -106,5 +143,7 @@ public abstract class AbstractDryParser<T> extends IssueParser {
      *
      * @return the converted warnings
      */
-    protected abstract Report convertDuplicationsToIssues(List<T> duplications, IssueBuilder issueBuilder);
+    protected Report convertDuplicationsToIssues(final List<T> duplications, final IssueBuilder issueBuilder) {
+        return new Report();
+    }
 }
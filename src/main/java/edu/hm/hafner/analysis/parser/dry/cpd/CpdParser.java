@@ -1,13 +1,15 @@
 package edu.hm.hafner.analysis.parser.dry.cpd;
 
+import java.util.ArrayList;
 import java.util.List;
-
-import org.apache.commons.digester3.Digester;
+import java.util.Optional;
 
 import edu.hm.hafner.analysis.DuplicationGroup;
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
 import edu.hm.hafner.analysis.parser.dry.AbstractDryParser;
 
 /**
@@ -40,36 +42,63 @@ public class CpdParser extends AbstractDryParser<Duplication> {
     }
 
     @Override
-    protected void configureParser(final Digester digester) {
-        String duplicationXPath = "*/pmd-cpd/duplication";
-        digester.addObjectCreate(duplicationXPath, Duplication.class);
-        digester.addSetProperties(duplicationXPath);
-        digester.addCallMethod(duplicationXPath + "/codefragment", "setCodeFragment", 0);
-        digester.addSetNext(duplicationXPath, "add");
-
-        String fileXPath = duplicationXPath + "/file";
-        digester.addObjectCreate(fileXPath, SourceFile.class);
-        digester.addSetProperties(fileXPath);
-        digester.addSetNext(fileXPath, "addFile", SourceFile.class.getName());
+    protected Optional<ElementHandler> createElementHandler(final IssueBuilder issueBuilder, final Report report) {
+        return Optional.of(new CpdHandler(issueBuilder, report));
     }
 
-    @Override
-    protected Report convertDuplicationsToIssues(final List<Duplication> duplications, final IssueBuilder issueBuilder) {
-        Report report = new Report();
+    /**
+     * Creates the issues for the file elements of each duplication while the CPD file is read. Since the code
+     * fragment is part of the equality of the issues, the issues of a duplication are added to the report after the
+     * whole duplication element has been read.
+     */
+    private class CpdHandler implements ElementHandler {
+        private static final String DUPLICATION = "duplication";
+
+        private final IssueBuilder issueBuilder;
+        private final Report report;
+        private final List<Issue> occurrences = new ArrayList<>();
+
+        private DuplicationGroup group = new DuplicationGroup();
+        private int lines;
+
+        CpdHandler(final IssueBuilder issueBuilder, final Report report) {
+            this.issueBuilder = issueBuilder;
+            this.report = report;
+        }
 
-        for (Duplication duplication : duplications) {
-            DuplicationGroup group = new DuplicationGroup(duplication.getCodeFragment());
-            for (SourceFile file : duplication.getFiles()) {
-                issueBuilder.setSeverity(getPriority(duplication.getLines()))
-                        .setLineStart(file.getLine())
-                        .setLineEnd(file.getLine() + duplication.getLines() - 1)
-                        .setFileName(file.getPath())
+        @Override
+        public void startElement(final Element element) {
+            if (isDuplication(element)) {
+                group = new DuplicationGroup();
+                lines = element.getIntAttribute("lines");
+                occurrences.clear();
+            }
+            else if ("file".equals(element.getName()) && DUPLICATION.equals(element.getParentName())) {
+                int line = element.getIntAttribute("line");
+                issueBuilder.setSeverity(getPriority(lines))
+                        .setLineStart(line)
+                        .setLineEnd(line + lines - 1)
+                        .setFileName(element.getAttribute("path"))
                         .setAdditionalProperties(group);
                 Issue issue = issueBuilder.build();
                 group.add(issue);
-                report.add(issue);
+                occurrences.add(issue);
+            }
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if ("codefragment".equals(element.getName()) && DUPLICATION.equals(element.getParentName())) {
+                group.setCodeFragment(element.getText());
+            }
+            else if (isDuplication(element)) {
+                occurrences.forEach(report::add);
+                occurrences.clear();
             }
         }
-        return report;
+
+        private boolean isDuplication(final Element element) {
+            return DUPLICATION.equals(element.getName()) && "pmd-cpd".equals(element.getParentName());
+        }
     }
 }
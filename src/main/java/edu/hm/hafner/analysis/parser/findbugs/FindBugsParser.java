@@ -2,6 +2,10 @@ package edu.hm.hafner.analysis.parser.findbugs; // NOPMD
 
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -9,11 +13,13 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.digester3.Digester;
 import org.apache.commons.lang3.StringUtils;
-import org.dom4j.DocumentException;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
 import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
+import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.LineRange;
@@ -21,15 +27,20 @@ import edu.hm.hafner.analysis.LineRangeList;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.SecureXmlParserFactory;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
 import edu.hm.hafner.util.VisibleForTesting;
 import edu.umd.cs.findbugs.BugAnnotation;
 import edu.umd.cs.findbugs.BugInstance;
 import edu.umd.cs.findbugs.Project;
+import edu.umd.cs.findbugs.SAXBugCollectionHandler;
 import edu.umd.cs.findbugs.SortedBugCollection;
 import edu.umd.cs.findbugs.SourceLineAnnotation;
 import edu.umd.cs.findbugs.annotations.CheckForNull;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import edu.umd.cs.findbugs.ba.SourceFile;
 import edu.umd.cs.findbugs.ba.SourceFinder;
 
@@ -60,12 +71,16 @@ public class FindBugsParser extends IssueParser {
 
     private static final String DOT = ".";
     private static final String SLASH = "/";
+    private static final String BUG_INSTANCE = "BugInstance";
+    private static final String LONG_MESSAGE = "LongMessage";
 
     private static final int HIGH_PRIORITY_LOWEST_RANK = 4;
     private static final int NORMAL_PRIORITY_LOWEST_RANK = 9;
 
     /** Determines whether to use the rank when evaluation the priority. */
     private final PriorityProperty priorityProperty;
+    /** Determines whether to create the issues from the XML file only, without using the SpotBugs library. */
+    private final boolean isFastModeEnabled;
 
     /**
      * Creates a new instance of {@link FindBugsParser}.
@@ -74,9 +89,25 @@ public class FindBugsParser extends IssueParser {
      *         determines whether to use the rank or confidence when evaluation the {@link Severity}
      */
     public FindBugsParser(final PriorityProperty priorityProperty) {
+        this(priorityProperty, false);
+    }
+
+    /**
+     * Creates a new instance of {@link FindBugsParser}.
+     *
+     * @param priorityProperty
+     *         determines whether to use the rank or confidence when evaluation the {@link Severity}
+     * @param isFastModeEnabled
+     *         determines whether to use the fast mode. In fast mode the issues are created from the elements of the
+     *         XML file only: the SpotBugs library (bug collection, plugins, and source finder) is not used. Messages,
+     *         categories, and ranks that are missing in the XML file are not computed by the SpotBugs plugins in this
+     *         mode.
+     */
+    public FindBugsParser(final PriorityProperty priorityProperty, final boolean isFastModeEnabled) {
         super();
 
         this.priorityProperty = priorityProperty;
+        this.isFastModeEnabled = isFastModeEnabled;
     }
 
     @Override
@@ -95,51 +126,19 @@ public class FindBugsParser extends IssueParser {
     @VisibleForTesting
     Report parse(final ReaderFactory readerFactory, final Collection<String> sources, final IssueBuilder builder)
             throws ParsingException {
-        Map<String, String> hashToMessageMapping = new HashMap<>();
-        Map<String, String> categories = new HashMap<>();
-
-        try (Reader input = readerFactory.create()) {
-            List<XmlBugInstance> bugs = preParse(input);
-            for (XmlBugInstance bug : bugs) {
-                hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
-                categories.put(bug.getType(), bug.getCategory());
-            }
-        }
-        catch (SAXException | IOException exception) {
-            throw new ParsingException(exception);
+        if (isFastModeEnabled) {
+            Report report = new Report();
+            new XmlStreamParser("BugCollection", "FindBugs").parse(readerFactory,
+                    new BugInstanceHandler(sources, builder, report));
+            return report;
         }
 
-        return parse(readerFactory, sources, builder, hashToMessageMapping, categories);
-    }
+        Map<String, String> hashToMessageMapping = new HashMap<>();
+        Map<String, String> categories = new HashMap<>();
+        SortedBugCollection bugs = readXml(readerFactory, hashToMessageMapping, categories);
 
-    /**
-     * Returns the parsed FindBugs analysis file. This scanner accepts files in the native FindBugs format.
-     *
-     * @param builder
-     *         the issue builder
-     * @param readerFactory
-     *         the FindBugs analysis file
-     * @param sources
-     *         a collection of folders to scan for source files
-     * @param hashToMessageMapping
-     *         mapping of hash codes to messages
-     * @param categories
-     *         mapping from bug types to their categories
-     *
-     * @return the parsed result (stored in the module instance)
-     */
-    private Report parse(final ReaderFactory readerFactory, final Collection<String> sources,
-            final IssueBuilder builder, final Map<String, String> hashToMessageMapping,
-            final Map<String, String> categories) {
-        try (Reader input = readerFactory.create()) {
-            SortedBugCollection bugs = readXml(input);
-
-            try (Project project = bugs.getProject()) {
-                return convertBugsToIssues(sources, builder, hashToMessageMapping, categories, bugs, project);
-            }
-        }
-        catch (DocumentException | IOException exception) {
-            throw new ParsingException(exception);
+        try (Project project = bugs.getProject()) {
+            return convertBugsToIssues(sources, builder, hashToMessageMapping, categories, bugs, project);
         }
     }
 
@@ -183,39 +182,6 @@ public class FindBugsParser extends IssueParser {
         }
     }
 
-    /**
-     * Pre-parses a file for some information not available from the FindBugs parser. Creates a mapping of FindBugs
-     * warnings to messages. A bug is represented by its unique hash code. Also obtains original categories for bug
-     * types.
-     *
-     * @param file
-     *         the FindBugs XML file
-     *
-     * @return the map of warning messages
-     * @throws SAXException
-     *         if the file contains no valid XML
-     * @throws IOException
-     *         signals that an I/O exception has occurred.
-     */
-    @VisibleForTesting
-    List<XmlBugInstance> preParse(final Reader file) throws SAXException, IOException {
-        Digester digester = new SecureDigester(FindBugsParser.class);
-
-        String rootXPath = "BugCollection/BugInstance";
-        digester.addObjectCreate(rootXPath, XmlBugInstance.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileXPath = rootXPath + "/LongMessage";
-        digester.addCallMethod(fileXPath, "setMessage", 0);
-
-        digester.addSetNext(rootXPath, "add", Object.class.getName());
-        ArrayList<XmlBugInstance> bugs = new ArrayList<>();
-        digester.push(bugs);
-        digester.parse(file);
-
-        return bugs;
-    }
-
     private String createMessage(final Map<String, String> hashToMessageMapping, final BugInstance warning,
             final String message) {
         return StringUtils.defaultIfEmpty(hashToMessageMapping.get(warning.getInstanceHash()), message);
@@ -230,14 +196,40 @@ public class FindBugsParser extends IssueParser {
         }
     }
 
-    private SortedBugCollection readXml(final Reader file) throws IOException, DocumentException {
+    /**
+     * Reads the FindBugs XML file into a {@link SortedBugCollection}. While the file is read, a mapping of FindBugs
+     * warnings to messages is created: these messages are not available from the bug collection. A bug is represented
+     * by its unique hash code. Also obtains original categories for bug types. So the file needs to be read only once.
+     *
+     * @param readerFactory
+     *         the FindBugs XML file
+     * @param hashToMessageMapping
+     *         the mapping of hash codes to messages that will be filled
+     * @param categories
+     *         the mapping from bug types to their categories that will be filled
+     *
+     * @return the bug collection
+     */
+    @SuppressFBWarnings(value = "XXE_SAXPARSER", justification = "The parser is secured in the called method")
+    private SortedBugCollection readXml(final ReaderFactory readerFactory,
+            final Map<String, String> hashToMessageMapping, final Map<String, String> categories) {
         ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
-        try {
+        try (Reader reader = readerFactory.create()) {
             Thread.currentThread().setContextClassLoader(FindBugsParser.class.getClassLoader());
             SortedBugCollection collection = new SortedBugCollection();
-            collection.readXML(file);
+            MessageCollector handler = new MessageCollector(new SAXBugCollectionHandler(collection));
+            new SecureXmlParserFactory().createSaxParser().parse(new InputSource(reader), handler);
+            collection.bugsPopulated();
+
+            for (XmlBugInstance bug : handler.getBugs()) {
+                hashToMessageMapping.put(bug.getInstanceHash(), bug.getMessage());
+                categories.put(bug.getType(), bug.getCategory());
+            }
             return collection;
         }
+        catch (SAXException | IOException exception) {
+            throw new ParsingException(exception);
+        }
         finally {
             Thread.currentThread().setContextClassLoader(contextClassLoader);
         }
@@ -266,10 +258,14 @@ public class FindBugsParser extends IssueParser {
             return sourceFile.getFullFileName();
         }
         catch (IOException ignored) {
-            return sourceLine.getPackageName().replace(DOT, SLASH) + SLASH + sourceLine.getSourceFile();
+            return getRelativeFileName(sourceLine.getPackageName(), sourceLine.getSourceFile());
         }
     }
 
+    private static String getRelativeFileName(final String packageName, final String sourceFile) {
+        return packageName.replace(DOT, SLASH) + SLASH + sourceFile;
+    }
+
     /**
      * Maps the FindBugs library rank to plug-in priority enumeration.
      *
@@ -279,7 +275,10 @@ public class FindBugsParser extends IssueParser {
      * @return mapped priority enumeration
      */
     private Severity getPriorityByRank(final BugInstance warning) {
-        int rank = warning.getBugRank();
+        return mapRank(warning.getBugRank());
+    }
+
+    private Severity mapRank(final int rank) {
         if (rank <= HIGH_PRIORITY_LOWEST_RANK) {
             return Severity.WARNING_HIGH;
         }
@@ -298,7 +297,11 @@ public class FindBugsParser extends IssueParser {
      * @return mapped priority enumeration
      */
     private Severity getPriorityByPriority(final BugInstance warning) {
-        switch (warning.getPriority()) {
+        return mapPriority(warning.getPriority());
+    }
+
+    private Severity mapPriority(final int priority) {
+        switch (priority) {
             case 1:
                 return Severity.WARNING_HIGH;
             case 2:
@@ -309,7 +312,7 @@ public class FindBugsParser extends IssueParser {
     }
 
     /**
-     * Java Bean to create the mapping of hash codes to messages using the Digester XML parser.
+     * Java Bean to create the mapping of hash codes to messages.
      *
      * @author Ullrich Hafner
      */
@@ -360,4 +363,299 @@ public class FindBugsParser extends IssueParser {
             this.category = category;
         }
     }
+
+    /**
+     * Forwards all SAX events to the {@link SAXBugCollectionHandler} of SpotBugs. Additionally, creates an
+     * {@link XmlBugInstance} for each bug instance element that contains the message and the category.
+     */
+    private static class MessageCollector extends DefaultHandler {
+        private final DefaultHandler delegate;
+        private final List<XmlBugInstance> bugs = new ArrayList<>();
+        private final StringBuilder message = new StringBuilder();
+
+        @CheckForNull
+        private XmlBugInstance bug;
+        private boolean isLongMessage;
+        private int depth;
+
+        MessageCollector(final DefaultHandler delegate) {
+            super();
+
+            this.delegate = delegate;
+        }
+
+        List<XmlBugInstance> getBugs() {
+            return bugs;
+        }
+
+        @Override
+        public void startElement(final String uri, final String localName, final String qName,
+                final Attributes attributes) throws SAXException {
+            depth++;
+            if (depth == 2 && BUG_INSTANCE.equals(qName)) {
+                XmlBugInstance current = new XmlBugInstance();
+                current.setInstanceHash(attributes.getValue("instanceHash"));
+                current.setType(attributes.getValue("type"));
+                current.setCategory(attributes.getValue("category"));
+                bugs.add(current);
+                bug = current;
+            }
+            else if (depth == 3 && bug != null && LONG_MESSAGE.equals(qName)) {
+                isLongMessage = true;
+                message.setLength(0);
+            }
+            delegate.startElement(uri, localName, qName, attributes);
+        }
+
+        @Override
+        public void characters(final char[] ch, final int start, final int length) throws SAXException {
+            if (isLongMessage) {
+                message.append(ch, start, length);
+            }
+            delegate.characters(ch, start, length);
+        }
+
+        @Override
+        public void endElement(final String uri, final String localName, final String qName) throws SAXException {
+            delegate.endElement(uri, localName, qName);
+            if (isLongMessage && bug != null) {
+                bug.setMessage(message.toString().trim());
+                isLongMessage = false;
+            }
+            else if (depth == 2) {
+                bug = null;
+            }
+            depth--;
+        }
+
+        @Override
+        public void startDocument() throws SAXException {
+            delegate.startDocument();
+        }
+
+        @Override
+        public void endDocument() throws SAXException {
+            delegate.endDocument();
+        }
+    }
+
+    /**
+     * Creates the issues while the FindBugs file is read (fast mode). The primary source line and the affected lines
+     * of a bug instance are determined in the same way as in {@link BugInstance#getPrimarySourceLineAnnotation()}.
+     */
+    private class BugInstanceHandler implements ElementHandler {
+        private static final String CLASS = "Class";
+        private static final String METHOD = "Method";
+        private static final String FIELD = "Field";
+        private static final String SOURCE_LINE = "SourceLine";
+
+        private final IssueBuilder builder;
+        private final Report report;
+        private final List<String> sourceFolders = new ArrayList<>();
+        private final Collection<String> additionalSourceFolders;
+        private final Map<String, String> fileNames = new HashMap<>();
+
+        private final List<XmlSourceLine> sourceLines = new ArrayList<>();
+        private final Map<String, XmlSourceLine> memberSourceLines = new HashMap<>();
+        private final Map<String, Integer> memberCount = new HashMap<>();
+        private String packageName = StringUtils.EMPTY;
+        @CheckForNull
+        private String longMessage;
+        @CheckForNull
+        private String shortMessage;
+        private int rank;
+        private int priority;
+
+        BugInstanceHandler(final Collection<String> sources, final IssueBuilder builder, final Report report) {
+            this.builder = builder;
+            this.report = report;
+            additionalSourceFolders = sources;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            String name = element.getName();
+            if (element.getDepth() == 2) {
+                if ("Project".equals(name)) {
+                    String projectName = element.getAttribute("projectName");
+                    if (StringUtils.isNotBlank(projectName)) {
+                        builder.setModuleName(projectName);
+                    }
+                }
+                else if (BUG_INSTANCE.equals(name)) {
+                    startBugInstance(element);
+                }
+            }
+            else if (element.getDepth() == 3 && BUG_INSTANCE.equals(element.getParentName())) {
+                if (SOURCE_LINE.equals(name)) {
+                    sourceLines.add(new XmlSourceLine(element));
+                }
+                else if (CLASS.equals(name) || METHOD.equals(name) || FIELD.equals(name)) {
+                    int count = memberCount.merge(name, 1, Integer::sum);
+                    if (CLASS.equals(name) && count == 1) {
+                        packageName = getPackageName(element.getAttribute("classname"));
+                    }
+                }
+            }
+            else if (element.getDepth() == 4 && SOURCE_LINE.equals(name)) {
+                String member = element.getParentName();
+                if (memberCount.getOrDefault(member, 0) == 1) {
+                    memberSourceLines.putIfAbsent(member, new XmlSourceLine(element));
+                }
+            }
+        }
+
+        private void startBugInstance(final Element element) {
+            sourceLines.clear();
+            memberSourceLines.clear();
+            memberCount.clear();
+            packageName = StringUtils.EMPTY;
+            longMessage = null;
+            shortMessage = null;
+            rank = element.getIntAttribute("rank");
+            priority = element.getIntAttribute("priority");
+
+            builder.setType(element.getAttribute("type"))
+                    .setCategory(element.getAttribute("category"))
+                    .setFingerprint(element.getAttribute("instanceHash"));
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if (element.getDepth() == 2) {
+                if (BUG_INSTANCE.equals(element.getName())) {
+                    report.add(createIssue());
+                }
+            }
+            else if (element.getDepth() == 3) {
+                if (LONG_MESSAGE.equals(element.getName())) {
+                    longMessage = element.getText();
+                }
+                else if ("ShortMessage".equals(element.getName())) {
+                    shortMessage = element.getText();
+                }
+                else if ("SrcDir".equals(element.getName()) && "Project".equals(element.getParentName())) {
+                    sourceFolders.add(element.getText());
+                }
+            }
+        }
+
+        private Issue createIssue() {
+            XmlSourceLine primary = getPrimarySourceLine();
+            LineRange primaryRange = new LineRange(primary.start, primary.end);
+
+            LineRangeList lineRanges = new LineRangeList();
+            for (XmlSourceLine sourceLine : sourceLines) {
+                LineRange lineRange = new LineRange(sourceLine.start, sourceLine.end);
+                if (!lineRanges.contains(lineRange) && !primaryRange.equals(lineRange)) {
+                    lineRanges.add(lineRange);
+                }
+            }
+
+            return builder.setSeverity(getSeverity())
+                    .setMessage(StringUtils.defaultIfEmpty(longMessage, shortMessage))
+                    .setLineStart(primary.start)
+                    .setLineEnd(primary.end)
+                    .setFileName(findSourceFile(primary))
+                    .setPackageName(packageName)
+                    .setLineRanges(lineRanges)
+                    .build();
+        }
+
+        private XmlSourceLine getPrimarySourceLine() {
+            for (XmlSourceLine sourceLine : sourceLines) {
+                if (sourceLine.isDefaultRole && sourceLine.isKnown()) {
+                    return sourceLine;
+                }
+            }
+            for (XmlSourceLine sourceLine : sourceLines) {
+                if (sourceLine.isKnown()) {
+                    return sourceLine;
+                }
+            }
+            for (String member : new String[] {METHOD, FIELD, CLASS}) {
+                XmlSourceLine sourceLine = memberSourceLines.get(member);
+                if (sourceLine != null) {
+                    return sourceLine;
+                }
+            }
+            return new XmlSourceLine();
+        }
+
+        private Severity getSeverity() {
+            if (priorityProperty == RANK && rank > 0) {
+                return mapRank(rank);
+            }
+            return mapPriority(priority);
+        }
+
+        private String findSourceFile(final XmlSourceLine sourceLine) {
+            String relativeFileName = getRelativeFileName(getPackageName(sourceLine.className), sourceLine.sourceFile);
+            return fileNames.computeIfAbsent(relativeFileName, this::resolveFileName);
+        }
+
+        private String resolveFileName(final String relativeFileName) {
+            List<String> folders = new ArrayList<>(sourceFolders);
+            folders.addAll(additionalSourceFolders);
+            for (String folder : folders) {
+                try {
+                    Path file = Paths.get(folder, relativeFileName);
+                    if (Files.isRegularFile(file)) {
+                        return file.toString();
+                    }
+                }
+                catch (InvalidPathException ignored) {
+                    // skip invalid folders
+                }
+            }
+            return relativeFileName;
+        }
+
+        private String getPackageName(@CheckForNull final String className) {
+            if (StringUtils.contains(className, DOT)) {
+                return StringUtils.substringBeforeLast(className, DOT);
+            }
+            return StringUtils.EMPTY;
+        }
+    }
+
+    /**
+     * A source line element of a FindBugs XML file.
+     */
+    private static class XmlSourceLine {
+        private static final String UNKNOWN = "<Unknown>";
+
+        private final String className;
+        private final String sourceFile;
+        private final int start;
+        private final int end;
+        private final boolean isDefaultRole;
+
+        XmlSourceLine() {
+            className = "unknown";
+            sourceFile = "unknown";
+            start = -1;
+            end = -1;
+            isDefaultRole = true;
+        }
+
+        XmlSourceLine(final Element element) {
+            className = StringUtils.defaultString(element.getAttribute("classname"));
+            sourceFile = StringUtils.defaultIfEmpty(element.getAttribute("sourcefile"), UNKNOWN);
+            start = getLine(element, "start");
+            end = getLine(element, "end");
+            isDefaultRole = element.getAttribute("role") == null;
+        }
+
+        private int getLine(final Element element, final String name) {
+            if (element.getAttribute(name) == null) {
+                return -1;
+            }
+            return element.getIntAttribute(name);
+        }
+
+        boolean isKnown() {
+            return start >= 0 && end >= 0;
+        }
+    }
 }
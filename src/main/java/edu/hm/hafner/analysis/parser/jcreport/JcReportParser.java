@@ -11,6 +11,10 @@ import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * JcReportParser-Class. This class parses from the jcReport.xml and creates warnings from its content.
@@ -23,25 +27,10 @@ public class JcReportParser extends IssueParser {
     @Override
     public Report parse(final ReaderFactory reader) {
         try (IssueBuilder issueBuilder = new IssueBuilder()) {
-            edu.hm.hafner.analysis.parser.jcreport.Report report = createReport(reader);
             Report warnings = new Report();
-            for (int i = 0; i < report.getFiles().size(); i++) {
-                File file = report.getFiles().get(i);
-
-                for (int j = 0; j < file.getItems().size(); j++) {
-                    Item item = file.getItems().get(j);
-                    issueBuilder.setFileName(file.getName())
-                            .setLineStart(item.getLine())
-                            .setColumnStart(item.getColumn())
-                            .setColumnEnd(item.getEndcolumn())
-                            .setCategory(item.getFindingtype())
-                            .setPackageName(file.getPackageName())
-                            .setMessage(item.getMessage())
-                            .guessSeverity(item.getSeverity());
-
-                    warnings.add(issueBuilder.buildAndClean());
-                }
-            }
+
+            new XmlStreamParser("report", "JcReport").parse(reader, new JcReportHandler(issueBuilder, warnings));
+
             return warnings;
         }
     }
@@ -86,4 +75,43 @@ public class JcReportParser extends IssueParser {
             throw new ParsingException(e);
         }
     }
+
+    /**
+     * Creates an issue for each item element while the JcReport file is read.
+     */
+    private static class JcReportHandler implements ElementHandler {
+        private final IssueBuilder issueBuilder;
+        private final Report warnings;
+
+        @CheckForNull
+        private String fileName;
+        @CheckForNull
+        private String packageName;
+
+        JcReportHandler(final IssueBuilder issueBuilder, final Report warnings) {
+            this.issueBuilder = issueBuilder;
+            this.warnings = warnings;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if (element.getDepth() == 2 && "file".equals(element.getName())) {
+                fileName = element.getAttribute("name");
+                packageName = element.getAttribute("package");
+            }
+            else if (element.getDepth() == 3 && "item".equals(element.getName())
+                    && "file".equals(element.getParentName())) {
+                issueBuilder.setFileName(fileName)
+                        .setLineStart(element.getAttribute("line"))
+                        .setColumnStart(element.getAttribute("column"))
+                        .setColumnEnd(element.getAttribute("end-column"))
+                        .setCategory(element.getAttribute("finding-type"))
+                        .setPackageName(packageName)
+                        .setMessage(element.getAttribute("message"))
+                        .guessSeverity(element.getAttribute("severity"));
+
+                warnings.add(issueBuilder.buildAndClean());
+            }
+        }
+    }
 }
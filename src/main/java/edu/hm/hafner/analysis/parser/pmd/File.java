@@ -11,8 +11,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * Java Bean class for a file of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
 @SuppressWarnings("InstanceVariableMayNotBeInitialized")
+@Deprecated
 public class File {
     /** Name of the file. */
     @CheckForNull
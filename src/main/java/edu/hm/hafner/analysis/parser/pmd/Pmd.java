@@ -9,7 +9,10 @@ import java.util.List;
  * Java Bean class for warnings of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
+@Deprecated
 public class Pmd {
     private final List<File> files = new ArrayList<>();
     private final List<PmdError> errors = new ArrayList<>();
@@ -7,8 +7,11 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
  * Java Bean class for an error of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
 @SuppressWarnings({"InstanceVariableMayNotBeInitialized", "PMD.DataClass"})
+@Deprecated
 public class PmdError {
     @CheckForNull
     private String filename;
@@ -1,18 +1,17 @@
 package edu.hm.hafner.analysis.parser.pmd;
 
-import java.io.IOException;
-import java.io.Reader;
-
 import org.apache.commons.lang3.StringUtils;
-import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.IssueBuilder;
 import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-import edu.hm.hafner.analysis.SecureDigester;
 import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
  * A parser for PMD XML files.
@@ -27,127 +26,96 @@ public class PmdParser extends IssueParser {
     /** PMD priorities greater than this value are mapped to {@link Severity#WARNING_LOW}. */
     private static final int PMD_PRIORITY_MAPPED_TO_LOW_PRIORITY = 4;
 
+    private static final String ERROR = "error";
+
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingException {
-        Report issues = parseIssues(readerFactory);
-        parseErrors(readerFactory).stream().forEach(issues::add);
-        return issues;
-    }
-
-    private Report parseIssues(final ReaderFactory readerFactory) {
-        SecureDigester digester = new SecureDigester(PmdParser.class);
-
-        String rootXPath = "pmd";
-        digester.addObjectCreate(rootXPath, Pmd.class);
-        digester.addSetProperties(rootXPath);
-
-        String fileXPath = "pmd/file";
-        digester.addObjectCreate(fileXPath, File.class);
-        digester.addSetProperties(fileXPath);
-        digester.addSetNext(fileXPath, "addFile", File.class.getName());
+        try (IssueBuilder issueBuilder = new IssueBuilder()) {
+            Report issues = new Report();
+            Report errors = new Report();
 
-        String bugXPath = "pmd/file/violation";
-        digester.addObjectCreate(bugXPath, Violation.class);
-        digester.addSetProperties(bugXPath);
-        digester.addCallMethod(bugXPath, "setMessage", 0);
-        digester.addSetNext(bugXPath, "addViolation", Violation.class.getName());
+            new XmlStreamParser("pmd", "PMD").parse(readerFactory, new PmdHandler(issueBuilder, issues, errors));
 
-        try (Reader reader = readerFactory.create()) {
-            Pmd pmd = digester.parse(reader);
-            if (pmd == null) {
-                throw new ParsingException("Input stream is not a PMD file.");
-            }
+            errors.stream().forEach(issues::add);
+            return issues;
+        }
+    }
 
-            return convertIssues(pmd);
+    private Severity mapPriority(final int priority) {
+        if (priority < PMD_PRIORITY_MAPPED_TO_HIGH_PRIORITY) {
+            return Severity.WARNING_HIGH;
         }
-        catch (IOException | SAXException exception) {
-            throw new ParsingException(exception);
+        else if (priority > PMD_PRIORITY_MAPPED_TO_LOW_PRIORITY) {
+            return Severity.WARNING_LOW;
         }
+        return Severity.WARNING_NORMAL;
     }
 
-    private Report parseErrors(final ReaderFactory readerFactory) {
-        SecureDigester digester = new SecureDigester(PmdParser.class);
-
-        String rootXPath = "pmd";
-        digester.addObjectCreate(rootXPath, Pmd.class);
-        digester.addSetProperties(rootXPath);
-
-        String errorXPath = "pmd/error";
-        digester.addObjectCreate(errorXPath, PmdError.class);
-        digester.addSetProperties(errorXPath);
-        digester.addSetNext(errorXPath, "addError", PmdError.class.getName());
-        digester.addCallMethod(errorXPath, "setDescription", 0);
-
-        try (Reader reader = readerFactory.create()) {
-            Pmd pmd = digester.parse(reader);
-            if (pmd == null) {
-                throw new ParsingException("Input stream is not a PMD file.");
-            }
-
-            return convertErrors(pmd);
+    private String createMessage(final String original) {
+        if (StringUtils.endsWith(original, ".")) {
+            return original;
         }
-        catch (IOException | SAXException exception) {
-            throw new ParsingException(exception);
+        else {
+            return original + ".";
         }
     }
 
-    private Report convertIssues(final Pmd pmdIssues) {
-        try (IssueBuilder issueBuilder = new IssueBuilder()) {
-            Report report = new Report();
-            for (File file : pmdIssues.getFiles()) {
-                for (Violation warning : file.getViolations()) {
-                    issueBuilder.setSeverity(mapPriority(warning))
-                            .setMessage(createMessage(warning))
-                            .setCategory(warning.getRuleset())
-                            .setType(warning.getRule())
-                            .setLineStart(warning.getBeginline())
-                            .setLineEnd(warning.getEndline())
-                            .setPackageName(warning.getPackage())
-                            .setFileName(file.getName())
-                            .setColumnStart(warning.getBegincolumn())
-                            .setColumnEnd(warning.getEndcolumn());
-                    report.add(issueBuilder.buildAndClean());
-                }
-            }
-            return report;
+    /**
+     * Creates the issues for the violation and error elements while the PMD file is read. Since the text of these
+     * elements is required, the issues are created when the end tag of the elements has been read.
+     */
+    private class PmdHandler implements ElementHandler {
+        private final IssueBuilder issueBuilder;
+        private final Report issues;
+        private final Report errors;
+
+        @CheckForNull
+        private String fileName;
+
+        PmdHandler(final IssueBuilder issueBuilder, final Report issues, final Report errors) {
+            this.issueBuilder = issueBuilder;
+            this.issues = issues;
+            this.errors = errors;
         }
-    }
 
-    private Report convertErrors(final Pmd pmdIssues) {
-        try (IssueBuilder issueBuilder = new IssueBuilder()) {
-            Report report = new Report();
-            for (PmdError error : pmdIssues.getErrors()) {
-                issueBuilder.setSeverity(Severity.ERROR)
-                        .setMessage(error.getMsg())
-                        .setDescription(error.getDescription())
-                        .setFileName(error.getFilename());
-                report.add(issueBuilder.buildAndClean());
+        @Override
+        public void startElement(final Element element) {
+            if (element.getDepth() == 2) {
+                if ("file".equals(element.getName())) {
+                    fileName = element.getAttribute("name");
+                }
+                else if (ERROR.equals(element.getName())) {
+                    issueBuilder.setSeverity(Severity.ERROR)
+                            .setMessage(element.getAttribute("msg"))
+                            .setFileName(element.getAttribute("filename"));
+                }
+            }
+            else if (isViolation(element)) {
+                issueBuilder.setSeverity(mapPriority(element.getIntAttribute("priority")))
+                        .setCategory(element.getAttribute("ruleset"))
+                        .setType(element.getAttribute("rule"))
+                        .setLineStart(element.getIntAttribute("beginline"))
+                        .setLineEnd(element.getIntAttribute("endline"))
+                        .setPackageName(element.getAttribute("package"))
+                        .setFileName(fileName)
+                        .setColumnStart(element.getIntAttribute("begincolumn"))
+                        .setColumnEnd(element.getIntAttribute("endcolumn"));
             }
-            return report;
         }
-    }
 
-    private Severity mapPriority(final Violation warning) {
-        if (warning.getPriority() < PMD_PRIORITY_MAPPED_TO_HIGH_PRIORITY) {
-            return Severity.WARNING_HIGH;
-        }
-        else if (warning.getPriority() > PMD_PRIORITY_MAPPED_TO_LOW_PRIORITY) {
-            return Severity.WARNING_LOW;
+        @Override
+        public void endElement(final Element element) {
+            if (element.getDepth() == 2 && ERROR.equals(element.getName())) {
+                errors.add(issueBuilder.setDescription(element.getText()).buildAndClean());
+            }
+            else if (isViolation(element)) {
+                issues.add(issueBuilder.setMessage(createMessage(element.getText())).buildAndClean());
+            }
         }
-        return Severity.WARNING_NORMAL;
-    }
 
-    private String createMessage(final Violation warning) {
-        String original = warning.getMessage();
-        if (original == null) {
-            return StringUtils.EMPTY;
-        }
-        if (StringUtils.endsWith(original, ".")) {
-            return original;
-        }
-        else {
-            return original + ".";
+        private boolean isViolation(final Element element) {
+            return element.getDepth() == 3 && "violation".equals(element.getName())
+                    && "file".equals(element.getParentName());
         }
     }
 }
-
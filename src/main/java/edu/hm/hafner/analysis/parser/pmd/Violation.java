@@ -6,8 +6,11 @@ import edu.umd.cs.findbugs.annotations.CheckForNull;
  * Java Bean class for a violation of the PMD format.
  *
  * @author Ullrich Hafner
+ * @deprecated the {@link PmdParser} reads the reports with a streaming parser and does not use this object
+ *         model anymore, this class will be removed in a future release
  */
 @SuppressWarnings("all")
+@Deprecated
 public class Violation {
     /** Type of warning. */
     @CheckForNull
@@ -1,17 +1,85 @@
 package edu.hm.hafner.analysis.parser.violations;
 
-import se.bjurr.violations.lib.parsers.AndroidLintParser;
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
 
 /**
- * Parses Android Lint files.
+ * Parses Android Lint files. The issues are created while the file is read, so the file is not loaded into memory as a
+ * whole. The created issues are the same as the issues created by the {@code AndroidLintParser} of the violations
+ * library, but they are reported in the order of the file.
  *
  * @author Ullrich Hafner
  */
-public class AndroidLintParserAdapter extends AbstractViolationAdapter {
+public class AndroidLintParserAdapter extends IssueParser {
     private static final long serialVersionUID = 2441144477814669681L;
 
+    private static final String ISSUE = "issue";
+    private static final String LOCATION = "location";
+
     @Override
-    AndroidLintParser createParser() {
-        return new AndroidLintParser();
+    public Report parse(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Report report = new Report();
+            new XmlStreamParser().parse(readerFactory, new IssueHandler(builder, report));
+            return report;
+        }
+    }
+
+    private static Severity toSeverity(final String severity) {
+        if ("ERROR".equalsIgnoreCase(severity) || "FATAL".equalsIgnoreCase(severity)) {
+            return Severity.WARNING_HIGH;
+        }
+        if ("WARNING".equalsIgnoreCase(severity)) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
+
+    /**
+     * Creates an issue for each {@code issue} element. The location of the issue is taken from the last {@code
+     * location} child element.
+     */
+    private static class IssueHandler implements ElementHandler {
+        private final IssueBuilder builder;
+        private final Report report;
+
+        IssueHandler(final IssueBuilder builder, final Report report) {
+            this.builder = builder;
+            this.report = report;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if (ISSUE.equalsIgnoreCase(element.getName())) {
+                builder.setSeverity(toSeverity(element.getAttribute("severity")))
+                        .setType(element.getAttribute("id"))
+                        .setCategory(element.getAttribute("category"))
+                        .setMessage(StringUtils.trim(element.getAttribute("summary"))
+                                + "\n" + element.getAttribute("message")
+                                + "\n" + element.getAttribute("explanation"));
+            }
+            else if (LOCATION.equalsIgnoreCase(element.getName())) {
+                builder.setFileName(element.getAttribute("file"))
+                        .setLineStart(element.getIntAttribute("line"))
+                        .setColumnStart(element.getIntAttribute("column"));
+            }
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if (ISSUE.equalsIgnoreCase(element.getName())) {
+                report.add(builder.buildAndClean());
+            }
+        }
     }
 }
@@ -1,50 +1,173 @@
 package edu.hm.hafner.analysis.parser.violations;
 
-import java.util.LinkedHashSet;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.StringUtils;
 
 import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.LineRange;
 import edu.hm.hafner.analysis.LineRangeList;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-
-import se.bjurr.violations.lib.model.Violation;
-import se.bjurr.violations.lib.parsers.CPPCheckParser;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
- * Parses CPPCheck files.
+ * Parses CPPCheck files. The issues are created while the file is read, so the file is not loaded into memory as a
+ * whole. For each {@code error} element a single issue is created: all locations besides the primary location are
+ * stored as additional line ranges.
  *
  * @author Ullrich Hafner
  */
-public class CppCheckAdapter extends AbstractViolationAdapter {
+public class CppCheckAdapter extends IssueParser {
     private static final long serialVersionUID = 2244442395053328008L;
 
+    private static final String ERROR = "error";
+    private static final String LOCATION = "location";
+
     @Override
-    CPPCheckParser createParser() {
-        return new CPPCheckParser();
+    public Report parse(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Report report = new Report();
+            new XmlStreamParser().parse(readerFactory, new ErrorHandler(builder, report));
+            return report;
+        }
     }
 
-    @Override
-    Report convertToReport(final Set<Violation> violations) {
-        try (IssueBuilder issueBuilder = new IssueBuilder()) {
-            Map<String, List<Violation>> violationsPerGroup =
-                    new LinkedHashSet<>(violations).stream().collect(Collectors.groupingBy(Violation::getGroup));
+    private static Severity toSeverity(@CheckForNull final String severity) {
+        if ("error".equalsIgnoreCase(severity)) {
+            return Severity.WARNING_HIGH;
+        }
+        if ("warning".equalsIgnoreCase(severity)) {
+            return Severity.WARNING_NORMAL;
+        }
+        return Severity.WARNING_LOW;
+    }
 
-            Report report = new Report();
-            for (List<Violation> group : violationsPerGroup.values()) {
-                updateIssueBuilder(group.get(0), issueBuilder);
-                LineRangeList lineRanges = new LineRangeList();
-                for (int i = 1; i < group.size(); i++) {
-                    Violation violation = group.get(i);
-                    lineRanges.add(new LineRange(violation.getStartLine()));
+    /**
+     * Creates an issue for each {@code error} element. CppCheck version 1 stores the location in the attributes of the
+     * error, version 2 uses {@code location} child elements. If there are several locations, then the location with
+     * the highest line number in the first file is used as primary location. This is the same order that has been
+     * used when the violations library was used to parse the file.
+     */
+    private static class ErrorHandler implements ElementHandler {
+        private static final Comparator<Location> PRIMARY_FIRST = Comparator.comparing(Location::getFileName)
+                .thenComparing(Location::getLine, Comparator.reverseOrder())
+                .thenComparing(Location::getMessage);
+
+        private final IssueBuilder builder;
+        private final Report report;
+
+        private Severity severity = Severity.WARNING_LOW;
+        @CheckForNull
+        private String id;
+        private String message = StringUtils.EMPTY;
+        private String verbose = StringUtils.EMPTY;
+        @CheckForNull
+        private String info;
+        private final List<Location> locations = new ArrayList<>();
+
+        ErrorHandler(final IssueBuilder builder, final Report report) {
+            this.builder = builder;
+            this.report = report;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if (ERROR.equalsIgnoreCase(element.getName())) {
+                severity = toSeverity(element.getAttribute("severity"));
+                id = element.getAttribute("id");
+                message = StringUtils.defaultString(element.getAttribute("msg"));
+                verbose = StringUtils.defaultString(element.getAttribute("verbose"));
+                info = element.getAttribute("info");
+                locations.clear();
+
+                if (element.getAttribute("file") != null && element.getAttribute("line") != null) {
+                    locations.add(new Location(element, createMessage(info)));
                 }
-                issueBuilder.setLineRanges(lineRanges);
-                report.add(issueBuilder.buildAndClean());
             }
-            return report;
+            else if (LOCATION.equalsIgnoreCase(element.getName())) {
+                locations.add(new Location(element, createMessage(element.getAttribute("info"))));
+            }
+        }
+
+        private String createMessage(@CheckForNull final String locationInfo) {
+            String text;
+            if (verbose.startsWith(message)) {
+                text = verbose;
+            }
+            else {
+                text = message + ". " + verbose;
+            }
+            if (locationInfo != null && !text.contains(locationInfo)) {
+                return text + ". " + locationInfo;
+            }
+            return text;
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if (ERROR.equalsIgnoreCase(element.getName())) {
+                builder.setSeverity(severity).setType(id);
+                if (locations.isEmpty()) {
+                    builder.setMessage(createMessage(info));
+                }
+                else {
+                    locations.sort(PRIMARY_FIRST);
+                    Location primary = locations.get(0);
+                    builder.setFileName(primary.getFileName())
+                            .setLineStart(primary.getLine())
+                            .setColumnStart(primary.getColumn())
+                            .setMessage(primary.getMessage());
+                    LineRangeList lineRanges = new LineRangeList();
+                    for (int i = 1; i < locations.size(); i++) {
+                        lineRanges.add(new LineRange(locations.get(i).getLine()));
+                    }
+                    builder.setLineRanges(lineRanges);
+                }
+                report.add(builder.buildAndClean());
+            }
+        }
+    }
+
+    /**
+     * A location of a CppCheck error.
+     */
+    private static class Location {
+        private final String fileName;
+        private final int line;
+        private final int column;
+        private final String message;
+
+        Location(final Element element, final String message) {
+            fileName = StringUtils.defaultIfEmpty(element.getAttribute("file"), "-").replace('\\', '/');
+            line = element.getIntAttribute("line");
+            column = element.getIntAttribute("column");
+            this.message = message;
+        }
+
+        String getFileName() {
+            return fileName;
+        }
+
+        int getLine() {
+            return line;
+        }
+
+        int getColumn() {
+            return column;
+        }
+
+        String getMessage() {
+            return message;
         }
     }
 }
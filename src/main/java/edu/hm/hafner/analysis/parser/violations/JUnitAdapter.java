@@ -1,20 +1,31 @@
 package edu.hm.hafner.analysis.parser.violations;
 
-import java.util.stream.Stream;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.IssueParser;
 import edu.hm.hafner.analysis.ParsingCanceledException;
 import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
-
-import se.bjurr.violations.lib.parsers.JUnitParser;
+import edu.hm.hafner.analysis.Severity;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+import edu.hm.hafner.util.IntegerParser;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
 
 /**
- * Parses JUnit files.
+ * Parses JUnit files. The issues are created while the file is read, so the file is not loaded into memory as a
+ * whole. The number of total, skipped, failed, and passed tests is counted in the same pass and stored as counters of
+ * the report.
  *
  * @author Gyanesha Prajjwal
  */
-public class JUnitAdapter extends AbstractViolationAdapter {
+public class JUnitAdapter extends IssueParser {
     private static final long serialVersionUID = -1595503635554896281L;
 
     /** Report property key to obtain the total number of tests. */
@@ -26,28 +37,137 @@ public class JUnitAdapter extends AbstractViolationAdapter {
     /** Report property key to obtain the number of skipped tests. */
     public static final String SKIPPED_TESTS = "skippedTests";
 
-    @Override
-    JUnitParser createParser() {
-        return new JUnitParser();
-    }
+    private static final Pattern STACK_TRACE_ELEMENT
+            = Pattern.compile("\\s+?at\\s([a-zA-Z0-9\\.]*)\\(([^:]+):(\\d+?)\\)", Pattern.MULTILINE);
+    private static final Pattern FILE_PATH = Pattern.compile("((([a-zA-Z]+?/)|([a-zA-Z]:/)|(/))([^:]+?)):(\\d+)");
+    private static final Pattern CLASS_NAME = Pattern.compile("([a-zA-Z\\.]+?):(\\d+)");
 
     @Override
     public Report parse(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
-        Report report = super.parse(readerFactory);
-        int total = count(readerFactory, "<testcase");
-        report.setCounter(TOTAL_TESTS, total);
-        int skipped = count(readerFactory, "<skipped");
-        report.setCounter(SKIPPED_TESTS, skipped);
-        report.setCounter(FAILED_TESTS, report.size());
-        report.setCounter(PASSED_TESTS, total - skipped - report.size());
-        return report;
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Report report = new Report();
+            TestCaseHandler handler = new TestCaseHandler(builder, report);
+            new XmlStreamParser().parse(readerFactory, handler);
+
+            report.setCounter(TOTAL_TESTS, handler.total);
+            report.setCounter(SKIPPED_TESTS, handler.skipped);
+            report.setCounter(FAILED_TESTS, report.size());
+            report.setCounter(PASSED_TESTS, handler.total - handler.skipped - report.size());
+            return report;
+        }
     }
 
-    private int count(final ReaderFactory readerFactory, final String text) {
-        try (Stream<String> lines = readerFactory.readStream()) {
-            return Math.toIntExact(lines
-                    .filter(line -> line.contains(text))
-                    .count());
+    /**
+     * Creates an issue for each {@code failure} or {@code error} element and counts the {@code testcase} and {@code
+     * skipped} elements.
+     */
+    private static class TestCaseHandler implements ElementHandler {
+        private final IssueBuilder builder;
+        private final Report report;
+
+        private int total;
+        private int skipped;
+
+        private String className = StringUtils.EMPTY;
+        private String name = StringUtils.EMPTY;
+        @CheckForNull
+        private String failureMessage;
+
+        TestCaseHandler(final IssueBuilder builder, final Report report) {
+            this.builder = builder;
+            this.report = report;
+        }
+
+        @Override
+        public void startElement(final Element element) {
+            if ("testcase".equalsIgnoreCase(element.getName())) {
+                total++;
+                className = StringUtils.defaultString(element.getAttribute("classname"));
+                name = StringUtils.defaultString(element.getAttribute("name"));
+            }
+            else if ("skipped".equalsIgnoreCase(element.getName())) {
+                skipped++;
+            }
+            else if (isFailure(element)) {
+                failureMessage = element.getAttribute("message");
+            }
+        }
+
+        @Override
+        public void endElement(final Element element) {
+            if (isFailure(element)) {
+                String content = element.getRawText();
+                String message = name + " : " + (failureMessage == null ? content : failureMessage + " " + content);
+                builder.setSeverity(Severity.WARNING_HIGH)
+                        .setMessage(message.trim());
+                setFileAndLine(content.replace('\\', '/'));
+                report.add(builder.buildAndClean());
+            }
+        }
+
+        private boolean isFailure(final Element element) {
+            return "failure".equalsIgnoreCase(element.getName()) || "error".equalsIgnoreCase(element.getName());
+        }
+
+        private void setFileAndLine(final String content) {
+            if (setFileAndLineOfStackTrace(content)) {
+                return;
+            }
+            Matcher filePath = FILE_PATH.matcher(content);
+            if (filePath.find()) {
+                setFileAndLine(filePath.group(1), filePath.group(7));
+                return;
+            }
+            Matcher classPath = CLASS_NAME.matcher(content);
+            if (classPath.find()) {
+                setFileAndLine(classPath.group(1), classPath.group(2));
+            }
+        }
+
+        private void setFileAndLine(final String fileName, final String line) {
+            builder.setFileName(fileName).setLineStart(IntegerParser.parseInt(line));
+        }
+
+        /**
+         * Uses the elements of the stack trace in the failure to find the file and line of the failure. If there are
+         * several stack trace elements, then the first element that refers to the class of the test case is used.
+         *
+         * @param content
+         *         the content of the failure
+         *
+         * @return {@code true} if the file has been found, {@code false} otherwise
+         */
+        private boolean setFileAndLineOfStackTrace(final String content) {
+            String classPath = className.replace('.', '/');
+            Matcher matcher = STACK_TRACE_ELEMENT.matcher(content);
+            String firstFileName = null;
+            String firstLine = null;
+            while (matcher.find()) {
+                String fileName = getFileName(matcher.group(1), matcher.group(2));
+                if (firstFileName == null) {
+                    firstFileName = fileName;
+                    firstLine = matcher.group(3);
+                }
+                if (!className.isEmpty() && fileName.startsWith(classPath)) {
+                    setFileAndLine(fileName, matcher.group(3));
+                    return true;
+                }
+            }
+            if (firstFileName == null) {
+                return false;
+            }
+            setFileAndLine(firstFileName, firstLine);
+            return true;
+        }
+
+        /**
+         * Returns the file name of a stack trace element: the package of the method is derived from the fully
+         * qualified method name.
+         */
+        private String getFileName(final String method, final String fileName) {
+            String classPath = StringUtils.substringBeforeLast(method.replace('.', '/'), "/");
+            String packagePath = classPath.contains("/") ? StringUtils.substringBeforeLast(classPath, "/") : "";
+            return packagePath.isEmpty() ? fileName : packagePath + "/" + fileName;
         }
     }
 }
@@ -1,17 +1,631 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+import se.bjurr.violations.lib.model.SEVERITY;
+import se.bjurr.violations.lib.model.Violation;
+import se.bjurr.violations.lib.model.Violation.ViolationBuilder;
 import se.bjurr.violations.lib.parsers.SarifParser;
+import se.bjurr.violations.lib.reports.Parser;
 
 /**
- * Parses SARIF files.
+ * Parses SARIF files. The file is read with a streaming JSON reader: only the tool description, the artifacts, and the
+ * invocations of a run are kept in memory, the results of a run are converted to violations one by one while the file
+ * is read. The violations are the same as the violations created by the {@link SarifParser} of the violations library,
+ * so the created issues are the same and in the same order as well.
+ *
+ * <p>
+ * Note that the SARIF specification does not define the order of the properties of a run. A result can only be
+ * converted if the {@code tool} of its run (and the {@code artifacts}, if the result references an artifact by index)
+ * has been read already. All results that are read before these properties are buffered until the end of the run, so
+ * for runs that store the results first, the whole run is kept in memory. The tool configuration notifications of the
+ * {@code invocations} are converted at the end of the run as well.
+ * </p>
  *
  * @author Ullrich Hafner
  */
 public class SarifAdapter extends AbstractViolationAdapter {
     private static final long serialVersionUID = -5699747899173867285L;
 
+    private static final String MESSAGE = "message";
+    private static final String TEXT = "text";
+    private static final String MARKDOWN = "markdown";
+    private static final String LOCATIONS = "locations";
+    private static final String NO_FILE = "-";
+
     @Override
     SarifParser createParser() {
         return new SarifParser();
     }
+
+    @Override
+    public Report parse(final ReaderFactory readerFactory) throws ParsingCanceledException, ParsingException {
+        try (Reader reader = readerFactory.create()) {
+            Set<Violation> violations = new TreeSet<>();
+            JSONTokener tokener = new JSONTokener(reader);
+            readObject(tokener, key -> {
+                if ("runs".equals(key)) {
+                    readArray(tokener, () -> new RunReader(tokener, violations).read());
+                }
+                else {
+                    tokener.nextValue();
+                }
+            });
+            return convertToReport(violations);
+        }
+        catch (IOException | JSONException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    /**
+     * Reads a JSON object property by property. The property reader is called with the key of each property and needs
+     * to read the value of the property from the tokener.
+     *
+     * @param tokener
+     *         the tokener to read the object from
+     * @param propertyReader
+     *         the reader for the properties
+     */
+    private static void readObject(final JSONTokener tokener, final Consumer<String> propertyReader) {
+        if (tokener.nextClean() != '{') {
+            throw tokener.syntaxError("A JSON object text must begin with '{'");
+        }
+        if (tokener.nextClean() == '}') {
+            return;
+        }
+        tokener.back();
+        while (true) {
+            if (tokener.nextClean() != '"') {
+                throw tokener.syntaxError("Expected a quoted key");
+            }
+            String key = tokener.nextString('"');
+            if (tokener.nextClean() != ':') {
+                throw tokener.syntaxError("Expected a ':' after a key");
+            }
+            propertyReader.accept(key);
+
+            char next = tokener.nextClean();
+            if (next == '}') {
+                return;
+            }
+            if (next != ',') {
+                throw tokener.syntaxError("Expected a ',' or '}'");
+            }
+        }
+    }
+
+    /**
+     * Reads a JSON array element by element. The element reader is called for each element and needs to read the
+     * element from the tokener.
+     *
+     * @param tokener
+     *         the tokener to read the array from
+     * @param elementReader
+     *         the reader for the elements
+     */
+    private static void readArray(final JSONTokener tokener, final Runnable elementReader) {
+        if (tokener.nextClean() != '[') {
+            throw tokener.syntaxError("A JSON array text must begin with '['");
+        }
+        if (tokener.nextClean() == ']') {
+            return;
+        }
+        tokener.back();
+        while (true) {
+            elementReader.run();
+
+            char next = tokener.nextClean();
+            if (next == ']') {
+                return;
+            }
+            if (next != ',') {
+                throw tokener.syntaxError("Expected a ',' or ']'");
+            }
+        }
+    }
+
+    @CheckForNull
+    private static JSONObject readObjectValue(final JSONTokener tokener) {
+        Object value = tokener.nextValue();
+        if (value instanceof JSONObject) {
+            return (JSONObject) value;
+        }
+        return null;
+    }
+
+    /**
+     * Reads a single run of a SARIF file and converts the results and tool configuration notifications into
+     * violations.
+     */
+    private static class RunReader {
+        private final JSONTokener tokener;
+        private final Set<Violation> violations;
+
+        @CheckForNull
+        private JSONObject tool;
+        private JSONArray artifacts = new JSONArray();
+        private boolean isArtifactsRead;
+        private final JSONArray invocations = new JSONArray();
+        private final List<JSONObject> pendingResults = new ArrayList<>();
+
+        RunReader(final JSONTokener tokener, final Set<Violation> violations) {
+            this.tokener = tokener;
+            this.violations = violations;
+        }
+
+        void read() {
+            readObject(tokener, this::readProperty);
+
+            for (int i = 0; i < invocations.length(); i++) {
+                JSONObject invocation = invocations.optJSONObject(i);
+                if (invocation != null) {
+                    convertNotifications(invocation.optJSONArray("toolConfigurationNotifications"));
+                }
+            }
+            pendingResults.forEach(this::convertResult);
+        }
+
+        private void readProperty(final String key) {
+            switch (key) {
+                case "tool":
+                    tool = readObjectValue(tokener);
+                    break;
+                case "artifacts":
+                    Object value = tokener.nextValue();
+                    if (value instanceof JSONArray) {
+                        artifacts = (JSONArray) value;
+                    }
+                    isArtifactsRead = true;
+                    break;
+                case "invocations":
+                    readArray(tokener, () -> invocations.put(tokener.nextValue()));
+                    break;
+                case "results":
+                    readArray(tokener, this::readResult);
+                    break;
+                default:
+                    tokener.nextValue();
+                    break;
+            }
+        }
+
+        private void readResult() {
+            if (Thread.interrupted()) {
+                throw new ParsingCanceledException();
+            }
+            JSONObject result = readObjectValue(tokener);
+            if (result == null) {
+                return;
+            }
+            if (tool == null || !isArtifactsRead && hasArtifactIndex(result)) {
+                pendingResults.add(result);
+            }
+            else {
+                convertResult(result);
+            }
+        }
+
+        private boolean hasArtifactIndex(final JSONObject result) {
+            JSONArray locations = result.optJSONArray(LOCATIONS);
+            if (locations != null) {
+                for (int i = 0; i < locations.length(); i++) {
+                    JSONObject artifactLocation = getArtifactLocation(locations.optJSONObject(i));
+                    if (artifactLocation != null && artifactLocation.optInt("index", -1) >= 0) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        @CheckForNull
+        private JSONObject getArtifactLocation(@CheckForNull final JSONObject location) {
+            if (location == null) {
+                return null;
+            }
+            JSONObject physicalLocation = location.optJSONObject("physicalLocation");
+            if (physicalLocation == null) {
+                return null;
+            }
+            return physicalLocation.optJSONObject("artifactLocation");
+        }
+
+        private void convertResult(final JSONObject result) {
+            JSONObject message = result.optJSONObject(MESSAGE);
+            if (message == null) {
+                return;
+            }
+            JSONObject rule = findRule(result);
+            String helpText = findHelpText(rule);
+            ViolationBuilder builder = createBuilder(result.optJSONObject("rule"))
+                    .setSeverity(toSeverity(result, rule))
+                    .setRule(result.optString("ruleId"))
+                    .setCategory(getCategory(rule))
+                    .setSpecifics(getSpecifics(result));
+
+            List<JSONObject> locations = filterLocations(result.optJSONArray(LOCATIONS));
+            if (locations.isEmpty()) {
+                add(builder.setFile(NO_FILE).setStartLine(Violation.NO_LINE),
+                        createMessage(message, helpText, rule));
+            }
+            else {
+                for (JSONObject location : locations) {
+                    JSONObject physicalLocation = location.getJSONObject("physicalLocation");
+                    setLocation(builder, physicalLocation);
+                    add(builder, createMessage(message, helpText, physicalLocation, rule));
+                }
+            }
+        }
+
+        private Map<String, String> getSpecifics(final JSONObject result) {
+            Map<String, String> specifics = new HashMap<>();
+            String correlationGuid = result.optString("correlationGuid");
+            if (StringUtils.isNotEmpty(correlationGuid)) {
+                specifics.put("correlationGuid", correlationGuid);
+            }
+            specifics.put("suppressed", String.valueOf(isSuppressed(result.optJSONArray("suppressions"))));
+            return specifics;
+        }
+
+        /**
+         * Returns whether a result has been suppressed. Suppressions that are under review or have been rejected are
+         * ignored.
+         */
+        private boolean isSuppressed(@CheckForNull final JSONArray suppressions) {
+            if (suppressions != null) {
+                for (int i = 0; i < suppressions.length(); i++) {
+                    JSONObject suppression = suppressions.optJSONObject(i);
+                    if (suppression != null) {
+                        String state = suppression.optString("state");
+                        if (!"underReview".equals(state) && !"rejected".equals(state)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private void convertNotifications(@CheckForNull final JSONArray notifications) {
+            if (notifications == null) {
+                return;
+            }
+            for (int i = 0; i < notifications.length(); i++) {
+                JSONObject notification = notifications.optJSONObject(i);
+                if (notification != null) {
+                    convertNotification(notification);
+                }
+            }
+        }
+
+        private void convertNotification(final JSONObject notification) {
+            JSONObject reference = notification.optJSONObject("associatedRule");
+            JSONObject descriptor = null;
+            if (reference != null) {
+                descriptor = findDescriptor(findToolComponent(reference), "notifications",
+                        reference.optInt("index", -1), reference.optString("guid", null), null);
+            }
+            ViolationBuilder builder = createBuilder(reference)
+                    .setSeverity(toSeverity(notification, descriptor))
+                    .setRule(descriptor == null ? null : descriptor.optString("name", null));
+            JSONObject message = notification.optJSONObject(MESSAGE);
+
+            List<JSONObject> locations = filterLocations(notification.optJSONArray(LOCATIONS));
+            if (locations.isEmpty()) {
+                add(builder.setFile(NO_FILE).setStartLine(Violation.NO_LINE), extractMessage(message, descriptor));
+            }
+            else {
+                for (JSONObject location : locations) {
+                    JSONObject physicalLocation = location.getJSONObject("physicalLocation");
+                    setLocation(builder, physicalLocation);
+                    add(builder, createMessage(message, null, physicalLocation, descriptor));
+                }
+            }
+        }
+
+        /**
+         * Creates a builder for a violation. The reporter is the name of the tool component that defines the
+         * associated rule or notification.
+         */
+        private ViolationBuilder createBuilder(@CheckForNull final JSONObject reference) {
+            JSONObject toolComponent = findToolComponent(reference);
+            String name = toolComponent == null ? null : toolComponent.optString("name");
+            return Violation.violationBuilder()
+                    .setParser(Parser.SARIF)
+                    .setReporter(StringUtils.isBlank(name) ? "Sarif" : name);
+        }
+
+        private void add(final ViolationBuilder builder, final String message) {
+            if (!message.isEmpty()) {
+                violations.add(builder.setMessage(message).build());
+            }
+        }
+
+        private void setLocation(final ViolationBuilder builder, final JSONObject physicalLocation) {
+            JSONObject region = physicalLocation.getJSONObject("region");
+            builder.setStartLine(region.optInt("startLine"));
+
+            String fileName = null;
+            JSONObject artifactLocation = physicalLocation.optJSONObject("artifactLocation");
+            if (artifactLocation != null) {
+                int index = artifactLocation.optInt("index", -1);
+                if (index >= 0) {
+                    JSONObject artifact = artifacts.optJSONObject(index);
+                    JSONObject location = artifact == null ? null : artifact.optJSONObject("location");
+                    fileName = location == null ? null : location.optString("uri", null);
+                }
+                else {
+                    fileName = artifactLocation.optString("uri", null);
+                }
+            }
+            builder.setFile(StringUtils.defaultIfEmpty(fileName, NO_FILE));
+        }
+
+        private List<JSONObject> filterLocations(@CheckForNull final JSONArray locations) {
+            List<JSONObject> filtered = new ArrayList<>();
+            if (locations != null) {
+                for (int i = 0; i < locations.length(); i++) {
+                    JSONObject location = locations.optJSONObject(i);
+                    if (location != null && hasStartLine(location.optJSONObject("physicalLocation"))) {
+                        filtered.add(location);
+                    }
+                }
+            }
+            return filtered;
+        }
+
+        private boolean hasStartLine(@CheckForNull final JSONObject physicalLocation) {
+            if (physicalLocation == null) {
+                return false;
+            }
+            JSONObject region = physicalLocation.optJSONObject("region");
+            return region != null && region.has("startLine") && !region.isNull("startLine");
+        }
+
+        @CheckForNull
+        private JSONObject findRule(final JSONObject result) {
+            JSONObject reference = result.optJSONObject("rule");
+            int ruleIndex = result.optInt("ruleIndex", -1);
+            if (ruleIndex < 0 && reference != null) {
+                ruleIndex = reference.optInt("index", -1);
+            }
+            String guid = reference == null ? null : reference.optString("guid", null);
+            return findDescriptor(findToolComponent(reference), "rules", ruleIndex, guid,
+                    result.optString("ruleId", null));
+        }
+
+        @CheckForNull
+        private JSONObject findDescriptor(@CheckForNull final JSONObject toolComponent, final String elementName,
+                final int index, @CheckForNull final String guid, @CheckForNull final String id) {
+            if (toolComponent == null) {
+                return null;
+            }
+            JSONArray descriptors = toolComponent.optJSONArray(elementName);
+            if (descriptors == null) {
+                return null;
+            }
+            if (index >= 0) {
+                return descriptors.optJSONObject(index);
+            }
+            if (guid != null) {
+                return findByProperty(descriptors, "guid", guid);
+            }
+            if (id != null) {
+                return findByProperty(descriptors, "id", id);
+            }
+            return null;
+        }
+
+        @CheckForNull
+        private JSONObject findToolComponent(@CheckForNull final JSONObject reference) {
+            if (tool == null) {
+                return null;
+            }
+            JSONObject driver = tool.optJSONObject("driver");
+            if (reference == null) {
+                return driver;
+            }
+            JSONObject toolReference = reference.optJSONObject("toolComponent");
+            if (toolReference == null) {
+                return driver;
+            }
+            JSONArray extensions = tool.optJSONArray("extensions");
+            if (extensions == null) {
+                return null;
+            }
+            if (toolReference.has("guid")) {
+                return findByProperty(extensions, "guid", toolReference.getString("guid"));
+            }
+            int index = toolReference.optInt("index", -1);
+            if (index >= 0) {
+                return extensions.optJSONObject(index);
+            }
+            return driver;
+        }
+
+        @CheckForNull
+        private JSONObject findByProperty(final JSONArray elements, final String property, final String value) {
+            for (int i = 0; i < elements.length(); i++) {
+                JSONObject element = elements.optJSONObject(i);
+                if (element != null && value.equals(element.optString(property, null))) {
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Maps the level of a result or notification to a severity. If the level is not set, then the default level of
+         * SARIF ({@code warning}) is used. If the level is set explicitly to {@code null}, then the default level of
+         * the associated rule is used.
+         */
+        private SEVERITY toSeverity(final JSONObject resultOrNotification, @CheckForNull final JSONObject descriptor) {
+            if (!resultOrNotification.has("level")) {
+                return SEVERITY.WARN;
+            }
+            if (resultOrNotification.isNull("level")) {
+                return toDefaultSeverity(descriptor);
+            }
+            return toSeverity(resultOrNotification.optString("level"));
+        }
+
+        private SEVERITY toDefaultSeverity(@CheckForNull final JSONObject descriptor) {
+            if (descriptor != null) {
+                JSONObject configuration = descriptor.optJSONObject("defaultConfiguration");
+                if (configuration != null) {
+                    return toSeverity(configuration.optString("level", "warning"));
+                }
+            }
+            return SEVERITY.INFO;
+        }
+
+        private SEVERITY toSeverity(final String level) {
+            if ("error".equals(level)) {
+                return SEVERITY.ERROR;
+            }
+            if ("warning".equals(level)) {
+                return SEVERITY.WARN;
+            }
+            return SEVERITY.INFO;
+        }
+
+        @CheckForNull
+        private String getCategory(@CheckForNull final JSONObject descriptor) {
+            if (descriptor == null) {
+                return null;
+            }
+            JSONObject properties = descriptor.optJSONObject("properties");
+            if (properties == null) {
+                return null;
+            }
+            return properties.optString("category", null);
+        }
+
+        @CheckForNull
+        private String findHelpText(@CheckForNull final JSONObject descriptor) {
+            if (descriptor == null) {
+                return null;
+            }
+            String help = getText(descriptor.optJSONObject("help"));
+            if (StringUtils.isNotEmpty(help)) {
+                return help;
+            }
+            String fullDescription = getText(descriptor.optJSONObject("fullDescription"));
+            if (StringUtils.isNotEmpty(fullDescription)) {
+                return fullDescription;
+            }
+            return descriptor.optString("name", null);
+        }
+
+        /**
+         * Returns the markdown or, if there is no markdown, the plain text of a message.
+         */
+        private String getText(@CheckForNull final JSONObject message) {
+            if (message == null) {
+                return StringUtils.EMPTY;
+            }
+            String markdown = message.optString(MARKDOWN);
+            if (StringUtils.isNotEmpty(markdown)) {
+                return markdown;
+            }
+            return message.optString(TEXT);
+        }
+
+        private String createMessage(final JSONObject message, @CheckForNull final String helpText,
+                final JSONObject physicalLocation, @CheckForNull final JSONObject descriptor) {
+            StringBuilder fullMessage = new StringBuilder(extractMessage(message, descriptor));
+            String regionMessage = extractMessage(physicalLocation.getJSONObject("region").optJSONObject(MESSAGE),
+                    null);
+            if (!regionMessage.isEmpty()) {
+                fullMessage.append("\n\n").append(regionMessage);
+            }
+            if (helpText != null) {
+                fullMessage.append("\n\nFor additional help see: ").append(helpText);
+            }
+            return fullMessage.toString().trim();
+        }
+
+        private String createMessage(final JSONObject message, @CheckForNull final String helpText,
+                @CheckForNull final JSONObject descriptor) {
+            StringBuilder fullMessage = new StringBuilder();
+            if (descriptor != null) {
+                if (descriptor.has("id")) {
+                    fullMessage.append(descriptor.optString("id"));
+                }
+                String name = descriptor.optString("name");
+                if (!name.isEmpty()) {
+                    fullMessage.append(": ").append(name);
+                }
+                String shortDescription = getText(descriptor.optJSONObject("shortDescription"));
+                if (!shortDescription.isEmpty()) {
+                    fullMessage.append("\n\n").append(shortDescription);
+                }
+            }
+            if (helpText != null) {
+                fullMessage.append("\n\nFor additional help see: ").append(helpText);
+            }
+            String text = extractMessage(message, null);
+            if (fullMessage.indexOf(text) < 0) {
+                fullMessage.append("\n\n").append(text);
+            }
+            return fullMessage.toString();
+        }
+
+        /**
+         * Extracts the text of a message. If the message has no text, then the text is created from the message
+         * strings of the associated rule.
+         */
+        private String extractMessage(@CheckForNull final JSONObject message,
+                @CheckForNull final JSONObject descriptor) {
+            if (message == null) {
+                return StringUtils.EMPTY;
+            }
+            String text = getText(message);
+            if (!text.isEmpty()) {
+                return text;
+            }
+            if (descriptor != null) {
+                JSONObject messageStrings = descriptor.optJSONObject("messageStrings");
+                if (message.has("id") && messageStrings != null && messageStrings.has(message.getString("id"))) {
+                    JSONObject messageString = messageStrings.getJSONObject(message.getString("id"));
+                    return renderString(messageString.optString(TEXT, messageString.optString(MARKDOWN)),
+                            message.optJSONArray("arguments"));
+                }
+                return getText(descriptor.optJSONObject("shortDescription"));
+            }
+            return StringUtils.EMPTY;
+        }
+
+        private String renderString(final String text, @CheckForNull final JSONArray arguments) {
+            if (arguments == null) {
+                return text;
+            }
+            String rendered = text;
+            for (int i = 0; i < arguments.length(); i++) {
+                rendered = rendered.replace("{" + i + "}", arguments.optString(i));
+            }
+            return rendered;
+        }
+    }
 }
@@ -25,4 +25,9 @@ class AndroidLintDescriptor extends ParserDescriptor {
     public String getHelp() {
         return "Use the flag -p.";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("issues");
+    }
 }
@@ -41,4 +41,9 @@ class AquaScannerDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://github.com/aquasecurity/aqua-operator/raw/master/images/logo.svg";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("image_size", "build_number");
+    }
 }
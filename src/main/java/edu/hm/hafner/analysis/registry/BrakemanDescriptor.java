@@ -38,4 +38,9 @@ class BrakemanDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://brakemanscanner.org";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("scan_info", "warnings");
+    }
 }
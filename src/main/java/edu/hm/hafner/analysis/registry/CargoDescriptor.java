@@ -26,4 +26,9 @@ class CargoDescriptor extends ParserDescriptor {
     public String getHelp() {
         return "Use commandline <code>cargo check --message-format json</code>";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("reason", "package_id");
+    }
 }
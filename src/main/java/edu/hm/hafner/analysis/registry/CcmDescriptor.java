@@ -20,4 +20,9 @@ class CcmDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new CcmParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("ccm");
+    }
 }
@@ -45,4 +45,9 @@ class CheckStyleDescriptor extends ParserDescriptor {
     public String getDescription(final Issue issue) {
         return messages.get().getDescription(issue.getType());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
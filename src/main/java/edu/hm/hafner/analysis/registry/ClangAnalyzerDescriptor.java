@@ -30,4 +30,11 @@ class ClangAnalyzerDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://clang-analyzer.llvm.org";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature()
+                .addXmlRootElements("plist")
+                .addFileNameSuffixes(".plist");
+    }
 }
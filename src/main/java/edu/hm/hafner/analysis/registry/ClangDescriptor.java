@@ -20,4 +20,9 @@ class ClangDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new ClangParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(": warning: ");
+    }
 }
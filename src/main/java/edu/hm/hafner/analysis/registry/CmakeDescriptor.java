@@ -20,4 +20,9 @@ class CmakeDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new CMakeParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals("CMake Warning", "CMake Error");
+    }
 }
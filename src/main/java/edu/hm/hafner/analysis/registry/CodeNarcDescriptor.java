@@ -20,4 +20,9 @@ class CodeNarcDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new CodeNarcAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("CodeNarc");
+    }
 }
@@ -3,9 +3,13 @@ package edu.hm.hafner.analysis.registry;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.LineFanOut;
+import edu.hm.hafner.analysis.LookaheadParser;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 
@@ -13,10 +17,18 @@ import edu.hm.hafner.analysis.Report;
  * A {@link CompositeParserDescriptor} is composed of several tools. Every parser of this suite will be called on the
  * input file, the results will be aggregated afterwards.
  *
+ * <p>
+ * By default, the parsers read the input file one after another. If the option {@link #FAN_OUT_OPTION_KEY} is enabled,
+ * then the file is read only once and all line based parsers consume the lines of the file concurrently, see {@link
+ * LineFanOut}.
+ * </p>
+ *
  * @author Ullrich Hafner
  */
+public abstract class CompositeParserDescriptor extends ParserDescriptor {
+    /** Key to enable reading the input file only once for all line based parsers, see {@link LineFanOut}. */
+    public static final String FAN_OUT_OPTION_KEY = "COMPOSITE_FAN_OUT";
 
-abstract class CompositeParserDescriptor extends ParserDescriptor {
     /**
      * Creates a new {@link ParserDescriptor} instance.
      *
@@ -31,7 +43,13 @@ abstract class CompositeParserDescriptor extends ParserDescriptor {
 
     @Override
     public final IssueParser createParser(final Option... options) {
-        return new CompositeParser(createParsers());
+        boolean isFanOutEnabled = false;
+        for (Option option : options) {
+            if (FAN_OUT_OPTION_KEY.equals(option.getKey())) {
+                isFanOutEnabled = Boolean.parseBoolean(option.getValue());
+            }
+        }
+        return new CompositeParser(createParsers(), isFanOutEnabled);
     }
 
     /**
@@ -63,24 +81,47 @@ abstract class CompositeParserDescriptor extends ParserDescriptor {
         private static final long serialVersionUID = -2319098057308618997L;
 
         private final List<IssueParser> parsers = new ArrayList<>();
+        private final boolean isFanOutEnabled;
 
         /**
          * Creates a new instance of {@link CompositeParser}.
          *
          * @param parsers
          *         the parsers to use to scan the input files
+         * @param isFanOutEnabled
+         *         determines whether the line based parsers should consume the lines of a single read operation
          */
-        CompositeParser(final Collection<? extends IssueParser> parsers) {
+        CompositeParser(final Collection<? extends IssueParser> parsers, final boolean isFanOutEnabled) {
             super();
 
             this.parsers.addAll(parsers);
+            this.isFanOutEnabled = isFanOutEnabled;
         }
 
         @Override
         public Report parse(final ReaderFactory readerFactory) {
+            List<IssueParser> accepted = parsers.stream()
+                    .filter(parser -> parser.accepts(readerFactory))
+                    .collect(Collectors.toList());
+            List<LookaheadParser> lineParsers = accepted.stream()
+                    .filter(parser -> parser instanceof LookaheadParser)
+                    .map(LookaheadParser.class::cast)
+                    .collect(Collectors.toList());
+
             Report aggregated = new Report();
-            for (IssueParser parser : parsers) {
-                if (parser.accepts(readerFactory)) {
+            if (isFanOutEnabled && lineParsers.size() > 1) {
+                Iterator<Report> lineReports = new LineFanOut(lineParsers).parse(readerFactory).iterator();
+                for (IssueParser parser : accepted) {
+                    if (parser instanceof LookaheadParser) {
+                        aggregated.addAll(lineReports.next());
+                    }
+                    else {
+                        aggregated.addAll(parser.parse(readerFactory));
+                    }
+                }
+            }
+            else {
+                for (IssueParser parser : accepted) {
                     aggregated.addAll(parser.parse(readerFactory));
                 }
             }
@@ -30,4 +30,9 @@ class CpdDescriptor extends DryDescriptor {
     public String getUrl() {
         return "https://pmd.github.io/latest/pmd_userdocs_cpd.html";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("pmd-cpd");
+    }
 }
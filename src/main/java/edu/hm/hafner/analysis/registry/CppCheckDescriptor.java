@@ -25,4 +25,9 @@ class CppCheckDescriptor extends ParserDescriptor {
     public String getHelp() {
         return "Use options --xml --xml-version=2";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("results");
+    }
 }
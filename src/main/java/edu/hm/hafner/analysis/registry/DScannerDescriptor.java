@@ -30,4 +30,9 @@ class DScannerDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/dlang-community/D-Scanner";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("issues", "lineOfCodeCount");
+    }
 }
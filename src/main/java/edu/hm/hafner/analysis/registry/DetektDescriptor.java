@@ -30,4 +30,9 @@ class DetektDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://detekt.github.io/detekt";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
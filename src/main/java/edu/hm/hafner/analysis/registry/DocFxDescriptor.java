@@ -20,4 +20,9 @@ class DocFxDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new DocFxAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("message_severity", "correlation_id");
+    }
 }
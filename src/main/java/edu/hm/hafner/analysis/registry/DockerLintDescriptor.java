@@ -32,4 +32,9 @@ class DockerLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/projectatomic/dockerfile_lint";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("error", "warn");
+    }
 }
@@ -20,4 +20,9 @@ class DupfinderDescriptor extends DryDescriptor {
     public IssueParser createParser(final Option... options) {
         return new DupFinderParser(getHighThreshold(options), getNormalThreshold(options));
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("DuplicatesReport");
+    }
 }
@@ -33,4 +33,11 @@ class EclipseDescriptor extends CompositeParserDescriptor {
                 + "<code>java -jar ecj.jar -log &lt;logfile&gt;.xml &lt;other arguments&gt;</code></p>"
                 + "<p>To log in text format, specify any file extension except &quot;.xml&quot; to the -log argument:</p><p><code>java -jar ecj.jar -log &lt;logfile&gt;.log &lt;other arguments&gt;</code></p></p>";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature()
+                .addXmlRootElements("compiler")
+                .addConsoleLiterals("WARNING in ", "ERROR in ");
+    }
 }
@@ -35,4 +35,9 @@ class EsLintDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://github.com/eslint/eslint/blob/main/docs/src/static/icon.svg";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
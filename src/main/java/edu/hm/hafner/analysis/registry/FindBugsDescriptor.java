@@ -18,6 +18,8 @@ public class FindBugsDescriptor extends ParserDescriptor {
 
     /** Key to define minimum number of duplicate lines for high priority warnings. */
     public static final String PRIORITY_OPTION_KEY = "SPOT_BUGS_CONFIDENCE";
+    /** Key to enable the fast mode that creates the issues from the XML file only, see {@link FindBugsParser}. */
+    public static final String FAST_MODE_OPTION_KEY = "SPOT_BUGS_FAST_MODE";
 
     private final Deferred<FindBugsMessages> messages = new Deferred<>(FindBugsMessages::new);
 
@@ -31,13 +33,18 @@ public class FindBugsDescriptor extends ParserDescriptor {
 
     @Override
     public IssueParser createParser(final Option... options) {
+        PriorityProperty priorityProperty = PriorityProperty.RANK;
+        boolean isFastModeEnabled = false;
         for (Option option : options) {
             if (PRIORITY_OPTION_KEY.equals(option.getKey())
                     && PriorityProperty.CONFIDENCE.name().equals(option.getValue())) {
-                return new FindBugsParser(PriorityProperty.CONFIDENCE);
+                priorityProperty = PriorityProperty.CONFIDENCE;
+            }
+            if (FAST_MODE_OPTION_KEY.equals(option.getKey())) {
+                isFastModeEnabled = Boolean.parseBoolean(option.getValue());
             }
         }
-        return new FindBugsParser(PriorityProperty.RANK);
+        return new FindBugsParser(priorityProperty, isFastModeEnabled);
     }
 
     @Override
@@ -49,4 +56,9 @@ public class FindBugsDescriptor extends ParserDescriptor {
     public String getDescription(final Issue issue) {
         return messages.get().getMessage(issue.getType());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("BugCollection");
+    }
 }
@@ -30,4 +30,9 @@ class Flake8Descriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://flake8.pycqa.org/";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".py:");
+    }
 }
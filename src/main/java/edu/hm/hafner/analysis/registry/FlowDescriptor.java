@@ -30,4 +30,9 @@ class FlowDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://raw.githubusercontent.com/facebook/flow/main/website/favicon.svg";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("flowVersion", "jsonVersion");
+    }
 }
@@ -0,0 +1,328 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import edu.hm.hafner.analysis.LiteralMatcher;
+import edu.hm.hafner.analysis.ParsingException;
+
+/**
+ * Detects the format of a report by inspecting its file name and a bounded header of its content. The {@link
+ * FormatSignature signatures} of all descriptors are indexed when the detector is created, so the detection just
+ * extracts the XML root element, the JSON keys, or the console lines of the header once and looks up the matching
+ * descriptors in the index. The console literals of all descriptors are compiled into a {@link LiteralMatcher}, so a
+ * console log is scanned only once, independent of the number of literals. The candidates are ranked by the strength
+ * of the matching evidence: a matching XML root element outweighs a matching file name, which outweighs matching JSON
+ * keys or console literals. Each matching console literal counts separately: if several formats share a generic
+ * literal, then the format that matches additional, more specific literals wins.
+ *
+ * @author Ullrich Hafner
+ */
+class FormatDetector {
+    /** The number of bytes that are read from the beginning of a report. */
+    static final int HEADER_SIZE = 16 * 1024;
+
+    private static final int XML_ROOT_SCORE = 8;
+    private static final int FILE_NAME_SCORE = 4;
+    private static final int FILE_EXTENSION_SCORE = 2;
+    private static final int JSON_KEY_SCORE = 2;
+    private static final int CONSOLE_LITERAL_SCORE = 1;
+
+    private static final byte[] UTF_8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private final Map<String, List<ParserDescriptor>> xmlRootElements = new HashMap<>();
+    private final Map<String, List<ParserDescriptor>> jsonKeys = new HashMap<>();
+    private final Map<String, List<ParserDescriptor>> fileNameSuffixes = new LinkedHashMap<>();
+    private final List<LiteralMatcher> consoleLiteralMatchers = new ArrayList<>();
+    private final List<List<ParserDescriptor>> consoleLiteralDescriptors = new ArrayList<>();
+
+    FormatDetector(final Collection<ParserDescriptor> descriptors) {
+        Map<String, List<ParserDescriptor>> consoleLiterals = new LinkedHashMap<>();
+        for (ParserDescriptor descriptor : descriptors) {
+            FormatSignature signature = descriptor.getFormatSignature();
+            index(xmlRootElements, signature.getXmlRootElements(), descriptor);
+            index(jsonKeys, signature.getJsonKeys(), descriptor);
+            index(consoleLiterals, signature.getConsoleLiterals().stream()
+                    .filter(StringUtils::isNotEmpty)
+                    .collect(Collectors.toList()), descriptor);
+
+            Set<String> suffixes = new LinkedHashSet<>();
+            signature.getFileNameSuffixes().forEach(suffix -> suffixes.add(suffix.toLowerCase(Locale.ENGLISH)));
+            String patternSuffix = getSuffixOfPattern(descriptor.getPattern());
+            if (!patternSuffix.isEmpty()) {
+                suffixes.add(patternSuffix);
+            }
+            index(fileNameSuffixes, suffixes, descriptor);
+        }
+        compile(consoleLiterals);
+    }
+
+    /**
+     * Compiles the console literals into literal matchers. Each literal is a set of its own, so that every matching
+     * literal contributes to the score of its descriptors. A matcher supports at most {@link
+     * LiteralMatcher#MAXIMUM_SETS} sets, so additional matchers are created if there are more literals.
+     */
+    private void compile(final Map<String, List<ParserDescriptor>> consoleLiterals) {
+        List<List<String>> literalSets = new ArrayList<>();
+        for (Entry<String, List<ParserDescriptor>> entry : consoleLiterals.entrySet()) {
+            literalSets.add(Collections.singletonList(entry.getKey()));
+            consoleLiteralDescriptors.add(entry.getValue());
+            if (literalSets.size() == LiteralMatcher.MAXIMUM_SETS) {
+                consoleLiteralMatchers.add(new LiteralMatcher(literalSets));
+                literalSets = new ArrayList<>();
+            }
+        }
+        if (!literalSets.isEmpty()) {
+            consoleLiteralMatchers.add(new LiteralMatcher(literalSets));
+        }
+    }
+
+    private static void index(final Map<String, List<ParserDescriptor>> index, final Collection<String> keys,
+            final ParserDescriptor descriptor) {
+        for (String key : keys) {
+            index.computeIfAbsent(key, k -> new ArrayList<>()).add(descriptor);
+        }
+    }
+
+    /**
+     * Returns the literal suffix of the file name part of an Ant pattern, e.g. {@code checkstyle-result.xml} for
+     * {@code **}{@code /checkstyle-result.xml} or {@code .plog} for {@code **}{@code /*.plog}.
+     */
+    private static String getSuffixOfPattern(final String pattern) {
+        String fileName = StringUtils.substringAfterLast("/" + pattern, "/");
+        String suffix = StringUtils.substringAfterLast("*" + fileName, "*");
+        if (suffix.contains("?")) {
+            return StringUtils.EMPTY;
+        }
+        return suffix.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Detects the format of the specified report file.
+     *
+     * @param file
+     *         the report file
+     *
+     * @return the candidate descriptors, ordered by descending evidence
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    List<ParserDescriptor> detect(final Path file) {
+        try (InputStream stream = Files.newInputStream(file)) {
+            byte[] buffer = new byte[HEADER_SIZE];
+            int length = IOUtils.read(stream, buffer);
+            return detect(file.getFileName().toString(), decode(buffer, length));
+        }
+        catch (IOException exception) {
+            throw new ParsingException(exception, "Can't read file '%s'", file);
+        }
+    }
+
+    private static String decode(final byte[] buffer, final int length) {
+        int offset = 0;
+        Charset charset = StandardCharsets.UTF_8;
+        if (length >= UTF_8_BOM.length
+                && buffer[0] == UTF_8_BOM[0] && buffer[1] == UTF_8_BOM[1] && buffer[2] == UTF_8_BOM[2]) {
+            offset = UTF_8_BOM.length;
+        }
+        else if (length >= 2 && (buffer[0] == (byte) 0xFE && buffer[1] == (byte) 0xFF
+                || buffer[0] == (byte) 0xFF && buffer[1] == (byte) 0xFE)) {
+            charset = StandardCharsets.UTF_16;
+        }
+        return new String(buffer, offset, length - offset, charset);
+    }
+
+    /**
+     * Detects the format of a report with the specified file name and header.
+     *
+     * @param fileName
+     *         the file name of the report
+     * @param header
+     *         the first characters of the report
+     *
+     * @return the candidate descriptors, ordered by descending evidence
+     */
+    List<ParserDescriptor> detect(final String fileName, final String header) {
+        Map<ParserDescriptor, Integer> scores = new HashMap<>();
+
+        String lowerCaseName = fileName.toLowerCase(Locale.ENGLISH);
+        for (Entry<String, List<ParserDescriptor>> entry : fileNameSuffixes.entrySet()) {
+            String suffix = entry.getKey();
+            if (lowerCaseName.endsWith(suffix)) {
+                int score = suffix.startsWith(".") ? FILE_EXTENSION_SCORE : FILE_NAME_SCORE;
+                addScore(scores, entry.getValue(), score);
+            }
+        }
+
+        int start = skipWhitespace(header, 0);
+        if (start < header.length() && header.charAt(start) == '<') {
+            String rootElement = findXmlRootElement(header, start);
+            addScore(scores, xmlRootElements.get(rootElement), XML_ROOT_SCORE);
+        }
+        else if (isJson(header, start)) {
+            for (String key : findJsonKeys(header, start)) {
+                addScore(scores, jsonKeys.get(key), JSON_KEY_SCORE);
+            }
+        }
+        else {
+            for (int matcher = 0; matcher < consoleLiteralMatchers.size(); matcher++) {
+                long found = consoleLiteralMatchers.get(matcher).match(header);
+                while (found != 0) {
+                    int literal = matcher * LiteralMatcher.MAXIMUM_SETS + Long.numberOfTrailingZeros(found);
+                    addScore(scores, consoleLiteralDescriptors.get(literal), CONSOLE_LITERAL_SCORE);
+                    found &= found - 1;
+                }
+            }
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Comparator.comparing(Entry<ParserDescriptor, Integer>::getValue).reversed()
+                        .thenComparing(entry -> entry.getKey().getId()))
+                .map(Entry::getKey)
+                .collect(Collectors.toList());
+    }
+
+    private static void addScore(final Map<ParserDescriptor, Integer> scores,
+            final Collection<ParserDescriptor> descriptors, final int score) {
+        if (descriptors != null) {
+            descriptors.forEach(descriptor -> scores.merge(descriptor, score, Integer::sum));
+        }
+    }
+
+    private static int skipWhitespace(final String header, final int start) {
+        int position = start;
+        while (position < header.length() && Character.isWhitespace(header.charAt(position))) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the local name of the first element of the XML header, skipping the XML declaration, processing
+     * instructions, comments, and the document type declaration.
+     */
+    static String findXmlRootElement(final String header, final int start) {
+        int position = start;
+        while (position < header.length()) {
+            position = header.indexOf('<', position);
+            if (position < 0 || position + 1 >= header.length()) {
+                break;
+            }
+            char next = header.charAt(position + 1);
+            if (next == '?') {
+                position = skipPast(header, position, "?>");
+            }
+            else if (header.startsWith("<!--", position)) {
+                position = skipPast(header, position, "-->");
+            }
+            else if (next == '!') {
+                position = skipPast(header, position, ">");
+            }
+            else {
+                int end = position + 1;
+                while (end < header.length() && isNameCharacter(header.charAt(end))) {
+                    end++;
+                }
+                return StringUtils.substringAfterLast(":" + header.substring(position + 1, end), ":");
+            }
+        }
+        return StringUtils.EMPTY;
+    }
+
+    private static int skipPast(final String header, final int position, final String terminator) {
+        int end = header.indexOf(terminator, position);
+        return end < 0 ? header.length() : end + terminator.length();
+    }
+
+    private static boolean isNameCharacter(final char character) {
+        return Character.isLetterOrDigit(character) || character == '-' || character == '_' || character == '.'
+                || character == ':';
+    }
+
+    private static boolean isJson(final String header, final int start) {
+        if (start >= header.length()) {
+            return false;
+        }
+        char first = header.charAt(start);
+        if (first == '{') {
+            return true;
+        }
+        if (first == '[') {
+            int next = skipWhitespace(header, start + 1);
+            return next < header.length() && "{[]\"".indexOf(header.charAt(next)) >= 0;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the keys of the top-level JSON object of the header. If the header starts with an array, then the keys
+     * of the objects in this array are returned. Keys that are not completely contained in the header are skipped.
+     */
+    static Set<String> findJsonKeys(final String header, final int start) {
+        Set<String> keys = new LinkedHashSet<>();
+        int keyDepth = header.charAt(start) == '[' ? 2 : 1;
+        int depth = 0;
+        int position = start;
+        while (position < header.length()) {
+            char character = header.charAt(position);
+            if (character == '"') {
+                int end = findEndOfString(header, position + 1);
+                if (end < 0) {
+                    break;
+                }
+                if (depth == keyDepth && isFollowedByColon(header, end + 1)) {
+                    keys.add(header.substring(position + 1, end));
+                }
+                position = end + 1;
+            }
+            else {
+                if (character == '{' || character == '[') {
+                    depth++;
+                }
+                else if (character == '}' || character == ']') {
+                    depth--;
+                }
+                position++;
+            }
+        }
+        return keys;
+    }
+
+    private static int findEndOfString(final String header, final int start) {
+        for (int position = start; position < header.length(); position++) {
+            char character = header.charAt(position);
+            if (character == '\\') {
+                position++;
+            }
+            else if (character == '"') {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isFollowedByColon(final String header, final int start) {
+        int position = skipWhitespace(header, start);
+        return position < header.length() && header.charAt(position) == ':';
+    }
+}
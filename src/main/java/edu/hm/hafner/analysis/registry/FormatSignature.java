@@ -0,0 +1,96 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Describes how the reports of a static analysis tool can be recognized without parsing them. A signature consists of
+ * the root elements of XML reports, the top-level keys of JSON reports, the suffixes of the report file names, and
+ * literals that are characteristic for the lines of console logs. The signatures of all descriptors are indexed by the
+ * {@link ParserRegistry} in order to detect the format of a report.
+ *
+ * @author Ullrich Hafner
+ * @see ParserRegistry#detect(java.nio.file.Path)
+ */
+public class FormatSignature {
+    private final Set<String> xmlRootElements = new LinkedHashSet<>();
+    private final Set<String> jsonKeys = new LinkedHashSet<>();
+    private final Set<String> fileNameSuffixes = new LinkedHashSet<>();
+    private final Set<String> consoleLiterals = new LinkedHashSet<>();
+
+    /**
+     * Adds the specified names of the root element of XML reports.
+     *
+     * @param rootElements
+     *         the names of the root elements (without namespace prefix)
+     *
+     * @return this
+     */
+    public FormatSignature addXmlRootElements(final String... rootElements) {
+        xmlRootElements.addAll(Arrays.asList(rootElements));
+
+        return this;
+    }
+
+    /**
+     * Adds the specified top-level keys of JSON reports. If the report is a JSON array, then the keys of the objects in
+     * this array are used.
+     *
+     * @param keys
+     *         the keys of the top-level object
+     *
+     * @return this
+     */
+    public FormatSignature addJsonKeys(final String... keys) {
+        jsonKeys.addAll(Arrays.asList(keys));
+
+        return this;
+    }
+
+    /**
+     * Adds the specified suffixes of the report file names. A suffix may be an extension (e.g., {@code .sarif}) or a
+     * complete file name (e.g., {@code checkstyle-result.xml}).
+     *
+     * @param suffixes
+     *         the file name suffixes
+     *
+     * @return this
+     */
+    public FormatSignature addFileNameSuffixes(final String... suffixes) {
+        fileNameSuffixes.addAll(Arrays.asList(suffixes));
+
+        return this;
+    }
+
+    /**
+     * Adds the specified literals that are characteristic for the lines of console logs of the tool.
+     *
+     * @param literals
+     *         the characteristic literals
+     *
+     * @return this
+     */
+    public FormatSignature addConsoleLiterals(final String... literals) {
+        consoleLiterals.addAll(Arrays.asList(literals));
+
+        return this;
+    }
+
+    public Set<String> getXmlRootElements() {
+        return Collections.unmodifiableSet(xmlRootElements);
+    }
+
+    public Set<String> getJsonKeys() {
+        return Collections.unmodifiableSet(jsonKeys);
+    }
+
+    public Set<String> getFileNameSuffixes() {
+        return Collections.unmodifiableSet(fileNameSuffixes);
+    }
+
+    public Set<String> getConsoleLiterals() {
+        return Collections.unmodifiableSet(consoleLiterals);
+    }
+}
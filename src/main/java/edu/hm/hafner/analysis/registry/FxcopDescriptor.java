@@ -20,4 +20,9 @@ class FxcopDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new FxCopParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("FxCopReport");
+    }
 }
@@ -23,4 +23,9 @@ class Gcc4Descriptor extends CompositeParserDescriptor {
     protected Collection<? extends IssueParser> createParsers() {
         return asList(new Gcc4CompilerParser(), new Gcc4LinkerParser());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(": warning: ");
+    }
 }
@@ -20,4 +20,9 @@ class GccDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new GccParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(": warning: ");
+    }
 }
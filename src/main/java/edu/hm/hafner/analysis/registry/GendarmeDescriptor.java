@@ -20,4 +20,9 @@ class GendarmeDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new GendarmeParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("gendarme-output");
+    }
 }
@@ -20,4 +20,9 @@ class GoLintDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new GoLintParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".go:");
+    }
 }
@@ -20,4 +20,9 @@ class GoVetDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new GoVetParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".go:");
+    }
 }
@@ -31,4 +31,9 @@ class HadoLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/hadolint/hadolint";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("code", "level");
+    }
 }
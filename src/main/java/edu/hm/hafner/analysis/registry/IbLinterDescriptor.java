@@ -30,4 +30,9 @@ class IbLinterDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/IBDecodable/IBLinter";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
@@ -25,4 +25,9 @@ class IdeaInspectionDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://www.jetbrains.com/help/idea/code-inspection.html";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("problems");
+    }
 }
@@ -35,4 +35,9 @@ class InferDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://github.com/facebook/infer/blob/main/website/static/img/logo.png";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("pmd");
+    }
 }
@@ -25,4 +25,9 @@ class JUnitDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://junit.org";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("testsuite", "testsuites");
+    }
 }
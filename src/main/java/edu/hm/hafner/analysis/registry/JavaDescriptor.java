@@ -23,4 +23,9 @@ class JavaDescriptor extends CompositeParserDescriptor {
     protected Collection<? extends IssueParser> createParsers() {
         return asList(new JavacParser(), new AntJavacParser());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals("[javac] ", ".java:");
+    }
 }
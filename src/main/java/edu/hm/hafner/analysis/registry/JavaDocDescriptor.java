@@ -20,4 +20,9 @@ class JavaDocDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new JavaDocParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals("[javadoc] ", "javadoc: warning");
+    }
 }
@@ -20,4 +20,9 @@ class JcreportDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new JcReportParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("report");
+    }
 }
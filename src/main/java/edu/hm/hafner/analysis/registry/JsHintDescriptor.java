@@ -20,4 +20,9 @@ class JsHintDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new JsHintAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("jslint");
+    }
 }
@@ -20,4 +20,9 @@ class JsLintDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new LintParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("jslint");
+    }
 }
@@ -20,4 +20,9 @@ class KlocWorkDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new KlocWorkAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("errorList");
+    }
 }
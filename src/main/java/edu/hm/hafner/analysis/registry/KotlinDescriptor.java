@@ -20,4 +20,9 @@ class KotlinDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new JavacParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".kt:");
+    }
 }
@@ -30,4 +30,9 @@ class KtLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://ktlint.github.io";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
@@ -20,4 +20,9 @@ class MsBuildDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new MsBuildParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals("): warning ", "): error ");
+    }
 }
@@ -20,4 +20,9 @@ class MyPyDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new MyPyAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".py:");
+    }
 }
@@ -31,4 +31,9 @@ class OtDockerLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/opstree/OT-Dockerlinter";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("line_number", "code");
+    }
 }
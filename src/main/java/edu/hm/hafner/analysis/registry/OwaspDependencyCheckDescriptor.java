@@ -34,4 +34,8 @@ public class OwaspDependencyCheckDescriptor extends ParserDescriptor {
         return "https://raw.githubusercontent.com/jeremylong/DependencyCheck/main/src/site/resources/images/logo.svg";
     }
 
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("reportSchema", "dependencies");
+    }
 }
@@ -68,6 +68,18 @@ public abstract class ParserDescriptor {
         return StringUtils.EMPTY;
     }
 
+    /**
+     * Returns the signature of the report format of this tool. The signature is used by the {@link ParserRegistry} to
+     * detect the format of a report without parsing it. Override if your tool creates reports that can be recognized
+     * by their XML root element, their JSON keys, their file names, or by characteristic console lines. Note that the
+     * file name of the default {@link #getPattern() pattern} is recognized automatically.
+     *
+     * @return the format signature
+     */
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature();
+    }
+
     /**
      * Returns an optional help text that can provide useful hints on how to configure the static analysis tool so that
      * the report files could be parsed by Jenkins. This help can be a plain text message or an HTML snippet.
@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis.registry;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
@@ -17,6 +18,9 @@ import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.util.Deferred;
+
 import j2html.tags.ContainerTag;
 import j2html.tags.DomContent;
 
@@ -161,6 +165,9 @@ public class ParserRegistry {
             new ZptLintDescriptor()
     };
 
+    private static final Deferred<FormatDetector> DETECTOR
+            = new Deferred<>(() -> new FormatDetector(Arrays.asList(ALL_DESCRIPTORS)));
+
     private final Map<String, ParserDescriptor> descriptors;
 
     /**
@@ -227,6 +234,37 @@ public class ParserRegistry {
         return new ArrayList<>(descriptors.values());
     }
 
+    /**
+     * Detects the format of the specified report file. Reads the first {@value FormatDetector#HEADER_SIZE} bytes of the
+     * file and compares the XML root element, the JSON keys, or the console lines of this header and the file name
+     * with the {@link ParserDescriptor#getFormatSignature() signatures} of all descriptors.
+     *
+     * @param file
+     *         the report file
+     *
+     * @return the descriptors that might be able to parse the file, the most likely candidate first
+     * @throws ParsingException
+     *         if the file could not be read
+     */
+    public List<ParserDescriptor> detect(final Path file) {
+        return DETECTOR.get().detect(file);
+    }
+
+    /**
+     * Detects the format of a report with the specified file name and content.
+     *
+     * @param fileName
+     *         the file name of the report
+     * @param header
+     *         the content of the report, it is sufficient to provide the first few kilobytes
+     *
+     * @return the descriptors that might be able to parse the report, the most likely candidate first
+     * @see #detect(Path)
+     */
+    public List<ParserDescriptor> detect(final String fileName, final String header) {
+        return DETECTOR.get().detect(fileName, header);
+    }
+
     /**
      * Utility to create a report with all available descriptors. The report will be stored in the file
      * "SUPPORTED-FORMATS.md" in the top level directory.
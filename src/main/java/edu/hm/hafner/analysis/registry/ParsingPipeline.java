@@ -0,0 +1,200 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ParsingCanceledException;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureXmlParserFactory;
+import edu.hm.hafner.analysis.registry.ParserDescriptor.Option;
+import edu.hm.hafner.util.Ensure;
+
+import edu.umd.cs.findbugs.annotations.CheckForNull;
+
+/**
+ * Parses a set of files with the parser of a {@link ParserDescriptor} in parallel. The files are processed by a fixed
+ * number of workers: each worker creates its own parser instance and parses one file after another, so the parser
+ * and the XML factories (see {@link SecureXmlParserFactory#runWithCachedFactories(Runnable)}) are created only once
+ * per worker rather than once per file. The reports of
+ * all files are merged into a single {@link Report} that contains a sub-report for each file: the sub-reports are
+ * ordered by the name of the parsed file, independent of the number of workers or the scheduling of the threads.
+ * Duplicates are resolved in that order as well.
+ *
+ * <p>
+ * If a file cannot be parsed (i.e., the parser throws a {@link ParsingException} or another runtime exception), then an
+ * error message for this file is logged in the resulting report and the remaining files are parsed as usual.
+ * </p>
+ *
+ * @author Ullrich Hafner
+ */
+public class ParsingPipeline {
+    private final ParserDescriptor descriptor;
+    private final int concurrency;
+    private final Option[] options;
+    @CheckForNull
+    private Charset charset;
+
+    /**
+     * Creates a new pipeline that parses the files with the specified number of workers.
+     *
+     * @param descriptor
+     *         the descriptor that creates the parsers
+     * @param concurrency
+     *         the maximum number of files that will be parsed in parallel
+     * @param options
+     *         options to configure the parsers
+     */
+    public ParsingPipeline(final ParserDescriptor descriptor, final int concurrency, final Option... options) {
+        Ensure.that(concurrency > 0).isTrue("Concurrency must be positive: %d", concurrency);
+
+        this.descriptor = descriptor;
+        this.concurrency = concurrency;
+        this.options = options.clone();
+    }
+
+    /**
+     * Sets the charset that should be used to read the files. If no charset is set, then the charset will be detected
+     * from the XML header of each file.
+     *
+     * @param fileCharset
+     *         the charset of the files
+     *
+     * @return this
+     */
+    public ParsingPipeline setCharset(@CheckForNull final Charset fileCharset) {
+        charset = fileCharset;
+
+        return this;
+    }
+
+    /**
+     * Parses the specified files using a fixed thread pool with the configured number of threads.
+     *
+     * @param files
+     *         the files to parse
+     *
+     * @return the report with the issues of all files
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report parse(final Collection<Path> files) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(concurrency, Math.max(1, files.size())));
+        try {
+            return parse(files, executor);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Parses the specified files using the given executor. At most the configured number of files will be parsed in
+     * parallel, even if the executor provides more threads (e.g., an executor that starts a new virtual thread for
+     * each task). The executor will not be shut down by this method.
+     *
+     * @param files
+     *         the files to parse
+     * @param executor
+     *         the executor that runs the workers
+     *
+     * @return the report with the issues of all files
+     * @throws ParsingCanceledException
+     *         Signals that the parsing has been aborted by the user
+     */
+    public Report parse(final Collection<Path> files, final ExecutorService executor) {
+        List<FileReaderFactory> inputs = files.stream()
+                .map(file -> new FileReaderFactory(file, charset))
+                .sorted(Comparator.comparing(FileReaderFactory::getFileName))
+                .collect(Collectors.toList());
+        Report[] reports = new Report[inputs.size()];
+        AtomicInteger next = new AtomicInteger();
+
+        int workers = Math.min(concurrency, inputs.size());
+        List<Future<?>> results = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            results.add(executor.submit(() -> SecureXmlParserFactory.runWithCachedFactories(
+                    () -> parseFiles(inputs, reports, next))));
+        }
+        waitForCompletion(results);
+
+        Report aggregation = new Report(descriptor.getId(), descriptor.getName());
+        if (reports.length > 0) {
+            aggregation.addAll(reports);
+        }
+        return aggregation;
+    }
+
+    private void parseFiles(final List<FileReaderFactory> inputs, final Report[] reports, final AtomicInteger next) {
+        IssueParser parser = descriptor.createParser(options);
+        for (int index = next.getAndIncrement(); index < inputs.size(); index = next.getAndIncrement()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new ParsingCanceledException();
+            }
+            reports[index] = parseFile(parser, inputs.get(index));
+        }
+    }
+
+    private Report parseFile(final IssueParser parser, final FileReaderFactory readerFactory) {
+        Report report;
+        try {
+            report = parser.parseFile(readerFactory);
+        }
+        catch (ParsingCanceledException exception) {
+            throw exception;
+        }
+        catch (ParsingException exception) {
+            report = createErrorReport(readerFactory, exception.getMessage());
+        }
+        catch (RuntimeException exception) { // a parser failure must not stop the parsing of the other files
+            report = createErrorReport(readerFactory, exception.toString());
+        }
+        report.setOrigin(descriptor.getId(), descriptor.getName());
+        return report;
+    }
+
+    private Report createErrorReport(final FileReaderFactory readerFactory, final String message) {
+        Report report = new Report();
+        report.setOriginReportFile(readerFactory.getFileName());
+        report.logError("Parsing of file '%s' failed due to an exception:", readerFactory.getFileName());
+        report.logError("%s", message);
+        return report;
+    }
+
+    private void waitForCompletion(final List<Future<?>> results) {
+        try {
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+        catch (InterruptedException exception) {
+            cancel(results);
+            Thread.currentThread().interrupt();
+            throw new ParsingCanceledException(exception);
+        }
+        catch (ExecutionException exception) {
+            cancel(results);
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ParsingException(cause);
+        }
+    }
+
+    private void cancel(final List<Future<?>> results) {
+        results.forEach(result -> result.cancel(true));
+    }
+}
@@ -20,4 +20,9 @@ class Pep8Descriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new Pep8Parser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".py:");
+    }
 }
@@ -30,4 +30,9 @@ class PhpCodeSnifferDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/squizlabs/PHP_CodeSniffer";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
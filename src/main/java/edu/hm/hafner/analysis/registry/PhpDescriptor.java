@@ -20,4 +20,10 @@ class PhpDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new PhpParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature()
+                .addConsoleLiterals("PHP Warning", "PHP Notice", "PHP Fatal error", "PHP Parse error");
+    }
 }
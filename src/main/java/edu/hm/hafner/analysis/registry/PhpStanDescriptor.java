@@ -30,4 +30,9 @@ class PhpStanDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/phpstan/phpstan";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
@@ -35,4 +35,9 @@ class PitDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://pitest.org/images/pit-black-150x152.png";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("mutations");
+    }
 }
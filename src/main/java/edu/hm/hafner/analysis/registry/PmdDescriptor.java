@@ -45,4 +45,9 @@ class PmdDescriptor extends ParserDescriptor {
     public String getDescription(final Issue issue) {
         return messages.get().getMessage(issue.getCategory(), issue.getType());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("pmd");
+    }
 }
@@ -42,4 +42,9 @@ public class PnpmAuditDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://pnpm.io/assets/images/pnpm-standard-79c9dbb2e99b8525ae55174580061e1b.svg";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("advisories", "muted");
+    }
 }
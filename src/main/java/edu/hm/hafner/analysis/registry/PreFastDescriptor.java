@@ -20,4 +20,9 @@ class PreFastDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new PreFastParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("DEFECTS");
+    }
 }
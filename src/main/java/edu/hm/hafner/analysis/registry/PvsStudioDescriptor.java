@@ -30,4 +30,9 @@ class PvsStudioDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://pvs-studio.com/en/pvs-studio/";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("NewDataSet");
+    }
 }
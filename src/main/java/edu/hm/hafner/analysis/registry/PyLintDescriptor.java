@@ -40,4 +40,9 @@ class PyLintDescriptor extends ParserDescriptor {
     public String getDescription(final Issue issue) {
         return messages.get().getDescription(issue.getType());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals(".py:");
+    }
 }
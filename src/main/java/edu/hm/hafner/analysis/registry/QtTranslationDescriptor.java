@@ -30,4 +30,11 @@ class QtTranslationDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://www.qt.io";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature()
+                .addXmlRootElements("TS")
+                .addFileNameSuffixes(".ts");
+    }
 }
@@ -20,4 +20,9 @@ class ResharperDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new ResharperInspectCodeAdapter();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("Report");
+    }
 }
@@ -30,4 +30,9 @@ public class RevApiDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://revapi.org/revapi-site/main/index.html";
     }
-}
\ No newline at end of file
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("criticality", "justification");
+    }
+}
@@ -25,4 +25,11 @@ class SarifDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/oasis-tcs/sarif-spec";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature()
+                .addJsonKeys("runs", "$schema")
+                .addFileNameSuffixes(".sarif");
+    }
 }
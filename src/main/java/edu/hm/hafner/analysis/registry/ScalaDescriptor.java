@@ -23,4 +23,9 @@ class ScalaDescriptor extends CompositeParserDescriptor {
     protected Collection<? extends IssueParser> createParsers() {
         return asList(new ScalacParser(), new SbtScalacParser());
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addConsoleLiterals("[warn] ", ".scala:");
+    }
 }
@@ -20,4 +20,9 @@ class SimianDescriptor extends DryDescriptor {
     public IssueParser createParser(final Option... options) {
         return new SimianParser(getHighThreshold(options), getNormalThreshold(options));
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("simian");
+    }
 }
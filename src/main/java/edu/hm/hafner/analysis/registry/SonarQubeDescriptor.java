@@ -28,4 +28,9 @@ class SonarQubeDescriptor extends CompositeParserDescriptor {
     public String getPattern() {
         return "**/sonar-report.json";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("issues", "components", "paging", "rules", "users");
+    }
 }
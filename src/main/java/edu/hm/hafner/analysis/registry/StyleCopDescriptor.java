@@ -20,4 +20,9 @@ class StyleCopDescriptor extends ParserDescriptor {
     public IssueParser createParser(final Option... options) {
         return new StyleCopParser();
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("StyleCopViolations", "SourceAnalysisViolations");
+    }
 }
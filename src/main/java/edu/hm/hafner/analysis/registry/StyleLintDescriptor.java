@@ -36,4 +36,9 @@ class StyleLintDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://cdn.worldvectorlogo.com/logos/stylelint.svg";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
@@ -30,4 +30,9 @@ class SwiftLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://github.com/realm/SwiftLint";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
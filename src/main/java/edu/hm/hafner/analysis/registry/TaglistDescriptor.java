@@ -30,4 +30,9 @@ class TaglistDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://www.mojohaus.org/taglist-maven-plugin";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("report");
+    }
 }
@@ -41,4 +41,9 @@ class TrivyDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://github.com/aquasecurity/trivy/blob/main/docs/imgs/logo.png?raw=true";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("ArtifactName", "Results", "Target", "Vulnerabilities");
+    }
 }
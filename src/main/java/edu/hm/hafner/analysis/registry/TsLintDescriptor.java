@@ -30,4 +30,9 @@ class TsLintDescriptor extends ParserDescriptor {
     public String getUrl() {
         return "https://palantir.github.io/tslint/";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addXmlRootElements("checkstyle");
+    }
 }
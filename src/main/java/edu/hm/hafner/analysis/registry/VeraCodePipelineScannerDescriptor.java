@@ -41,4 +41,9 @@ class VeraCodePipelineScannerDescriptor extends ParserDescriptor {
     public String getIconUrl() {
         return "https://github.com/jenkinsci/veracode-scan-plugin/blob/master/src/main/webapp/icons/veracode-48x48.png";
     }
+
+    @Override
+    public FormatSignature getFormatSignature() {
+        return new FormatSignature().addJsonKeys("pipeline_scan", "findings");
+    }
 }
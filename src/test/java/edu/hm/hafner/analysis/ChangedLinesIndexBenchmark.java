@@ -0,0 +1,145 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the selection of the issues that touch the changed lines of a pull request. The report
+ * contains 1M issues that are spread over 50k files.
+ *
+ * @author Ullrich Hafner
+ */
+public class ChangedLinesIndexBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the creation of the {@link ChangedLinesIndex}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkIndexCreation(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(new ChangedLinesIndex(state.getReport()));
+    }
+
+    /**
+     * Benchmarks the selection of the issues using the {@link ChangedLinesIndex}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the index and the changed lines
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkIndexedFilter(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(state.getIndex().filter(state.getChangedLines()));
+    }
+
+    /**
+     * Benchmarks the selection of the issues using {@link Report#filter(java.util.function.Predicate)}, i.e. the
+     * ranges of every issue are compared with the changed lines of its file.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report and the changed lines
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkLinearFilter(final BenchmarkState state, final Blackhole blackhole) {
+        Map<String, List<LineRange>> changedLines = state.getChangedLines();
+        blackhole.consume(state.getReport().filter(issue -> touches(issue, changedLines.get(issue.getFileName()))));
+    }
+
+    private static boolean touches(final Issue issue, final Collection<LineRange> changedLines) {
+        if (changedLines == null) {
+            return false;
+        }
+        for (LineRange changed : changedLines) {
+            if (issue.getLineStart() == 0 || overlaps(issue.getLineStart(), issue.getLineEnd(), changed)) {
+                return true;
+            }
+            for (LineRange range : issue.getLineRanges()) {
+                if (overlaps(range.getStart(), range.getEnd(), changed)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean overlaps(final int start, final int end, final LineRange changed) {
+        return start <= changed.getEnd() && end >= changed.getStart();
+    }
+
+    /**
+     * State for the benchmark containing the report, its index, and the changed lines.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int FILES = 50_000;
+        private static final int ISSUES = 1_000_000;
+        private static final int LINES_PER_FILE = 2_000;
+        private static final int CHANGED_FILES = 200;
+        private static final int CHANGES_PER_FILE = 5;
+
+        private final Report report = new Report();
+        private final Map<String, List<LineRange>> changedLines = new HashMap<>();
+        private ChangedLinesIndex index = new ChangedLinesIndex(report);
+
+        public Report getReport() {
+            return report;
+        }
+
+        public ChangedLinesIndex getIndex() {
+            return index;
+        }
+
+        public Map<String, List<LineRange>> getChangedLines() {
+            return changedLines;
+        }
+
+        /**
+         * Creates the report, its index, and the changed lines of a pull request.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Random random = new Random(1);
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (int i = 0; i < ISSUES; i++) {
+                    int line = 1 + random.nextInt(LINES_PER_FILE);
+                    builder.setFileName(createFileName(i % FILES))
+                            .setLineStart(line)
+                            .setLineEnd(line + random.nextInt(5))
+                            .setMessage("Message " + i);
+                    report.add(builder.buildAndClean());
+                }
+            }
+            index = new ChangedLinesIndex(report);
+
+            for (int i = 0; i < CHANGED_FILES; i++) {
+                List<LineRange> changes = new ArrayList<>();
+                for (int j = 0; j < CHANGES_PER_FILE; j++) {
+                    int line = 1 + random.nextInt(LINES_PER_FILE);
+                    changes.add(new LineRange(line, line + random.nextInt(20)));
+                }
+                changedLines.put(createFileName(random.nextInt(FILES)), changes);
+            }
+        }
+
+        private static String createFileName(final int file) {
+            return "src/main/java/edu/hm/hafner/module" + file % 100 + "/File" + file + ".java";
+        }
+    }
+}
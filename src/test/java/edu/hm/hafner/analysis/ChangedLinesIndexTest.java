@@ -0,0 +1,113 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ChangedLinesIndex}.
+ *
+ * @author Ullrich Hafner
+ */
+class ChangedLinesIndexTest {
+    private static final String FIRST = "first.txt";
+    private static final String SECOND = "second.txt";
+
+    @Test
+    void shouldFindIssuesThatTouchChangedLines() {
+        Report report = new Report("id", "name");
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setFileName(FIRST);
+            report.add(builder.setLineStart(10).setLineEnd(12).setMessage("primary").build());
+            report.add(builder.setLineStart(1).setLineEnd(1).setMessage("additional")
+                    .setLineRanges(new LineRangeList(new LineRange(30, 35))).build());
+            report.add(builder.setLineStart(0).setLineEnd(0).setMessage("whole file")
+                    .setLineRanges(new LineRangeList()).build());
+            report.add(builder.setFileName(SECOND).setLineStart(10).setLineEnd(12).setMessage("other file").build());
+        }
+
+        ChangedLinesIndex index = new ChangedLinesIndex(report);
+        assertThat(index.getNumberOfFiles()).isEqualTo(2);
+
+        assertThat(filter(index, FIRST, new LineRange(12, 20)).get()).extracting(Issue::getMessage)
+                .containsExactly("primary", "whole file");
+        assertThat(filter(index, FIRST, new LineRange(13, 20)).get()).extracting(Issue::getMessage)
+                .containsExactly("whole file");
+        assertThat(filter(index, FIRST, new LineRange(35)).get()).extracting(Issue::getMessage)
+                .containsExactly("additional", "whole file");
+        assertThat(filter(index, SECOND, new LineRange(5, 9)).get()).isEmpty();
+        assertThat(filter(index, SECOND, new LineRange(5, 10)).get()).extracting(Issue::getMessage)
+                .containsExactly("other file");
+        assertThat(filter(index, "unknown.txt", new LineRange(10)).get()).isEmpty();
+
+        Map<String, List<LineRange>> changes = new HashMap<>();
+        changes.put(SECOND, Collections.singletonList(new LineRange(11)));
+        changes.put(FIRST, Arrays.asList(new LineRange(32), new LineRange(11)));
+        Report filtered = index.filter(changes);
+        assertThat(filtered.get()).extracting(Issue::getMessage)
+                .containsExactly("primary", "additional", "whole file", "other file");
+        assertThat(filtered.getId()).isEqualTo("id");
+        assertThat(filtered.getName()).isEqualTo("name");
+    }
+
+    @Test
+    void shouldFindSameIssuesAsLinearSearch() {
+        Random random = new Random(1);
+        Report report = new Report();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < 2000; i++) {
+                int start = random.nextInt(500);
+                builder.setFileName("file-" + random.nextInt(5))
+                        .setLineStart(start)
+                        .setLineEnd(start + random.nextInt(i % 50 == 0 ? 100 : 3))
+                        .setMessage(String.valueOf(i));
+                if (i % 7 == 0) {
+                    int other = random.nextInt(500);
+                    builder.setLineRanges(new LineRangeList(new LineRange(other, other + random.nextInt(10))));
+                }
+                report.add(builder.buildAndClean());
+            }
+        }
+
+        ChangedLinesIndex index = new ChangedLinesIndex(report);
+        for (int i = 0; i < 200; i++) {
+            String fileName = "file-" + random.nextInt(5);
+            int start = random.nextInt(520);
+            LineRange changed = new LineRange(start, start + random.nextInt(5));
+
+            Report expected = report.filter(issue -> issue.getFileName().equals(fileName) && touches(issue, changed));
+
+            assertThat(filter(index, fileName, changed).get()).containsExactlyElementsOf(expected.get());
+        }
+    }
+
+    private boolean touches(final Issue issue, final LineRange changed) {
+        if (issue.getLineStart() == 0) {
+            return true;
+        }
+        if (overlaps(new LineRange(issue.getLineStart(), issue.getLineEnd()), changed)) {
+            return true;
+        }
+        for (LineRange range : issue.getLineRanges()) {
+            if (overlaps(range, changed)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean overlaps(final LineRange range, final LineRange changed) {
+        return range.getStart() <= changed.getEnd() && range.getEnd() >= changed.getStart();
+    }
+
+    private Report filter(final ChangedLinesIndex index, final String fileName, final LineRange changed) {
+        return index.filter(Collections.singletonMap(fileName, Collections.singletonList(changed)));
+    }
+}
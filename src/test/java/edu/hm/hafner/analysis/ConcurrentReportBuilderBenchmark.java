@@ -0,0 +1,95 @@
+package edu.hm.hafner.analysis;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the creation of a report by parsers that run in parallel. Each parser reports 10k issues,
+ * 10% of the issues are reported by all parsers.
+ *
+ * @author Ullrich Hafner
+ */
+public class ConcurrentReportBuilderBenchmark extends AbstractBenchmark {
+    private static final int ISSUES_PER_PARSER = 10_000;
+
+    /**
+     * Benchmarks the creation using a {@link ConcurrentReportBuilder}: the parsers add their issues to sinks of the
+     * same builder.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the number of parsers
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkConcurrentBuilder(final BenchmarkState state, final Blackhole blackhole) {
+        ConcurrentReportBuilder builder = new ConcurrentReportBuilder();
+        IntStream.range(0, state.getParsers()).parallel()
+                .forEach(parser -> {
+                    ConcurrentReportBuilder.Sink sink = builder.createSink("parser-" + parser);
+                    try (IssueBuilder issueBuilder = new IssueBuilder()) {
+                        for (int i = 0; i < ISSUES_PER_PARSER; i++) {
+                            sink.add(createIssue(issueBuilder, parser, i));
+                        }
+                    }
+                });
+
+        blackhole.consume(builder.build());
+    }
+
+    /**
+     * Benchmarks the creation using private reports of the parsers that are aggregated using {@link
+     * Report#addAll(Report...)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the number of parsers
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkAggregationOfPrivateReports(final BenchmarkState state, final Blackhole blackhole) {
+        List<Report> reports = IntStream.range(0, state.getParsers()).parallel()
+                .mapToObj(parser -> {
+                    Report report = new Report();
+                    try (IssueBuilder issueBuilder = new IssueBuilder()) {
+                        for (int i = 0; i < ISSUES_PER_PARSER; i++) {
+                            report.add(createIssue(issueBuilder, parser, i));
+                        }
+                    }
+                    return report;
+                })
+                .collect(Collectors.toList());
+
+        Report aggregation = new Report();
+        aggregation.addAll(reports.toArray(new Report[0]));
+        blackhole.consume(aggregation);
+    }
+
+    private static Issue createIssue(final IssueBuilder builder, final int parser, final int line) {
+        boolean isShared = line % 10 == 0;
+        return builder.setFileName(isShared ? "Shared.java" : "File" + parser + ".java")
+                .setLineStart(line)
+                .setMessage("Message " + line % 100)
+                .buildAndClean();
+    }
+
+    /**
+     * State for the benchmark containing the number of parsers.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"4", "16"})
+        private int parsers;
+
+        public int getParsers() {
+            return parsers;
+        }
+    }
+}
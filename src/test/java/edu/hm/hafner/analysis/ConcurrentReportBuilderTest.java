@@ -0,0 +1,131 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.ConcurrentReportBuilder.Sink;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ConcurrentReportBuilder}.
+ *
+ * @author Ullrich Hafner
+ */
+class ConcurrentReportBuilderTest {
+    private static final int FILES = 16;
+    private static final int ISSUES_PER_FILE = 1000;
+
+    @Test
+    void shouldOrderIssuesByInputNameAndDetectDuplicates() {
+        ConcurrentReportBuilder builder = new ConcurrentReportBuilder("id", "name");
+
+        Sink second = builder.createSink("b.xml");
+        Sink first = builder.createSink("a.xml");
+        second.add(createIssue(3, "second")).add(createIssue(1, "second"));
+        first.add(createIssue(1, "first")).add(createIssue(2, "first"));
+        second.logInfo("Parsing %s", "b.xml");
+        first.logInfo("Parsing %s", "a.xml");
+        first.logError("Error in %s", "a.xml");
+
+        Report report = builder.build();
+
+        assertThat(report.get()).extracting(Issue::getLineStart).containsExactly(1, 2, 3);
+        assertThat(report.get()).extracting(Issue::getFingerprint).containsExactly("first", "first", "second");
+        assertThat(report).hasDuplicatesSize(1)
+                .hasInfoMessages("Parsing a.xml", "Parsing b.xml")
+                .hasErrorMessages("Error in a.xml");
+        assertThat(report.getId()).isEqualTo("id");
+        assertThat(report.get()).extracting(Issue::getOrigin).containsOnly("id");
+    }
+
+    @Test
+    void shouldDetectDuplicatesThatDifferOnlyInOrigin() {
+        ConcurrentReportBuilder builder = new ConcurrentReportBuilder("id", "name");
+
+        Sink first = builder.createSink("a.xml");
+        Sink second = builder.createSink("b.xml");
+        Sink third = builder.createSink("c.xml");
+        first.add(createIssue(1, "first"));
+        second.add(new IssueBuilder().copy(createIssue(1, "second")).setOrigin("id").setOriginName("name").build());
+        third.add(new IssueBuilder().copy(createIssue(1, "third")).setOrigin("other").build());
+
+        Report report = builder.build();
+
+        assertThat(report.get()).extracting(Issue::getFingerprint).containsExactly("first", "third");
+        assertThat(report.get()).extracting(Issue::getOrigin).containsExactly("id", "other");
+        assertThat(report).hasDuplicatesSize(1);
+
+        report.add(createIssue(1, "fourth"));
+        assertThat(report).hasSize(2).hasDuplicatesSize(2);
+    }
+
+    @Test
+    void shouldCreateSameReportIndependentOfThreadScheduling() throws Exception {
+        Report sequential = createReport(1);
+
+        for (int i = 0; i < 3; i++) {
+            Report parallel = createReport(FILES);
+
+            assertThat(parallel.get()).containsExactlyElementsOf(sequential.get());
+            assertThat(parallel.get()).extracting(Issue::getFingerprint)
+                    .containsExactlyElementsOf(sequential.get().stream().map(Issue::getFingerprint)
+                            .collect(Collectors.toList()));
+            assertThat(parallel.getDuplicatesSize()).isEqualTo(sequential.getDuplicatesSize());
+        }
+        assertThat(sequential).hasSize(FILES * ISSUES_PER_FILE / 2 + ISSUES_PER_FILE / 2);
+        assertThat(sequential.getDuplicatesSize()).isEqualTo(FILES * ISSUES_PER_FILE - sequential.size());
+    }
+
+    private Report createReport(final int threads) throws Exception {
+        ConcurrentReportBuilder builder = new ConcurrentReportBuilder();
+        List<Integer> files = new ArrayList<>();
+        for (int file = 0; file < FILES; file++) {
+            files.add(file);
+        }
+        Collections.shuffle(files);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> parsers = new ArrayList<>();
+            for (int file : files) {
+                String inputName = String.format("file-%02d.xml", file);
+                parsers.add(executor.submit(() -> parse(builder.createSink(inputName), file)));
+            }
+            for (Future<?> parser : parsers) {
+                parser.get();
+            }
+        }
+        finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+        return builder.build();
+    }
+
+    private void parse(final Sink sink, final int file) {
+        for (int line = 0; line < ISSUES_PER_FILE; line++) {
+            if (line % 2 == 0) { // every parser reports these issues
+                sink.add(createIssue(line + 1, "file-" + file));
+            }
+            else {
+                sink.add(new IssueBuilder().setFileName("file-" + file)
+                        .setLineStart(line + 1)
+                        .setFingerprint("file-" + file)
+                        .build());
+            }
+        }
+    }
+
+    private Issue createIssue(final int line, final String fingerprint) {
+        return new IssueBuilder().setFileName("shared").setLineStart(line).setFingerprint(fingerprint).build();
+    }
+}
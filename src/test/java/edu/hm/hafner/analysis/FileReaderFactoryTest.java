@@ -6,6 +6,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.w3c.dom.Document;
@@ -39,6 +40,26 @@ class FileReaderFactoryTest extends ResourceTest {
                 + "[WARNING] ");
     }
 
+    @Test
+    void shouldRemoveTimestampsWithPreprocessor() {
+        FileReaderFactory factory = new FileReaderFactory(getResourceAsFile("parser/issue63346.txt"), UTF_8,
+                new LinePreprocessor(LinePreprocessor.ANSI_COLOR_CODES, LinePreprocessor.TIMESTAMPS));
+
+        try (Stream<String> lines = factory.readStream()) {
+            assertThat(lines.limit(2)).containsExactly(
+                    "[INFO] --- maven-jar-plugin:3.2.0:test-jar (maybe-test-jar) @ ldap ---",
+                    "[INFO] Skipping packaging of the test-jar");
+        }
+    }
+
+    @Test
+    void shouldRejectMissingPreprocessor() {
+        Path file = getResourceAsFile("parser/issue63346.txt");
+
+        assertThatNullPointerException().isThrownBy(() -> new FileReaderFactory(file, UTF_8, null))
+                .withMessageContaining("preprocessor");
+    }
+
     @Test
     void shouldNotAccessInternet() {
         FileReaderFactory factory = createFactory("eclipse-withinfo.xml", UTF_8);
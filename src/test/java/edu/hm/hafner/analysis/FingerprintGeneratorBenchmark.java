@@ -1,14 +1,21 @@
 package edu.hm.hafner.analysis;
 
+import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
@@ -46,6 +53,34 @@ public class FingerprintGeneratorBenchmark extends AbstractBenchmark {
         generator.run(new FullTextFingerprint(), state.getMultipleIssuesReport(), CHARSET_AFFECTED_FILE);
     }
 
+    /**
+     * Benchmarking the {@link FingerprintGenerator} with many issues that are spread over a small number of files.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     */
+    @Benchmark
+    public void benchmarkingManyIssuesPerFile(final BenchmarkState state) {
+        FingerprintGenerator generator = new FingerprintGenerator();
+
+        generator.run(new FullTextFingerprint(), state.getManyIssuesPerFileReport(), CHARSET_AFFECTED_FILE);
+    }
+
+    /**
+     * Benchmarking the {@link FingerprintGenerator} with many issues that are spread over a small number of files. The
+     * files are read in parallel using a dedicated pool.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     */
+    @Benchmark
+    public void benchmarkingManyIssuesPerFileInParallel(final BenchmarkState state) {
+        FingerprintGenerator generator = new FingerprintGenerator();
+
+        generator.run(new FullTextFingerprint(), state.getManyIssuesPerFileReport(), CHARSET_AFFECTED_FILE,
+                state.getPool());
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
@@ -53,10 +88,16 @@ public class FingerprintGeneratorBenchmark extends AbstractBenchmark {
     public static class BenchmarkState {
         // TODO: Add some meaningful content into the file to fingerprint
         private static final String AFFECTED_FILE_NAME = "fingerprint.txt";
+        private static final int FILES = 8;
+        private static final int LINES_PER_FILE = 10_000;
+        private static final int ISSUES_PER_FILE = 2_000;
 
         private Report singleIssueReport = new Report();
         private FullTextFingerprint fingerprint = new FullTextFingerprint();
         private Report multipleIssuesReport = new Report();
+        private Report manyIssuesPerFileReport = new Report();
+        private final List<Path> sourceFiles = new ArrayList<>();
+        private final ForkJoinPool pool = new ForkJoinPool(FILES);
         private Random random;
 
         public Report getSingleIssueReport() {
@@ -67,10 +108,51 @@ public class FingerprintGeneratorBenchmark extends AbstractBenchmark {
             return multipleIssuesReport;
         }
 
+        public Report getManyIssuesPerFileReport() {
+            return manyIssuesPerFileReport;
+        }
+
         public FullTextFingerprint getFullTextFingerprint() {
             return fingerprint;
         }
 
+        public ForkJoinPool getPool() {
+            return pool;
+        }
+
+        /**
+         * Creates the source files that contain the issues of the many issues per file scenario.
+         *
+         * @throws IOException
+         *         if the files could not be written
+         */
+        @Setup(Level.Trial)
+        public void createSourceFiles() throws IOException {
+            for (int file = 0; file < FILES; file++) {
+                Path sourceFile = Files.createTempFile("fingerprint", ".java");
+                List<String> lines = new ArrayList<>();
+                for (int line = 1; line <= LINES_PER_FILE; line++) {
+                    lines.add(String.format("    int value%d = %d * %d; // line %d", line, file, line, line));
+                }
+                Files.write(sourceFile, lines, CHARSET_AFFECTED_FILE);
+                sourceFiles.add(sourceFile);
+            }
+        }
+
+        /**
+         * Deletes the source files of the many issues per file scenario and shuts down the pool.
+         *
+         * @throws IOException
+         *         if the files could not be deleted
+         */
+        @TearDown(Level.Trial)
+        public void deleteSourceFiles() throws IOException {
+            for (Path sourceFile : sourceFiles) {
+                Files.deleteIfExists(sourceFile);
+            }
+            pool.shutdown();
+        }
+
         /**
          * Initializes the reports.
          */
@@ -79,10 +161,26 @@ public class FingerprintGeneratorBenchmark extends AbstractBenchmark {
             singleIssueReport = new Report();
             singleIssueReport.add(new IssueBuilder().build());
 
+            random = new Random();
             multipleIssuesReport = createMultipleIssues(10);
+            manyIssuesPerFileReport = createManyIssuesPerFile();
 
             fingerprint = new FullTextFingerprint();
-            random = new Random();
+        }
+
+        @SuppressFBWarnings("PREDICTABLE_RANDOM")
+        private Report createManyIssuesPerFile() {
+            Report report = new Report();
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (Path sourceFile : sourceFiles) {
+                    builder.setFileName(sourceFile.toString());
+                    for (int i = 0; i < ISSUES_PER_FILE; i++) {
+                        builder.setLineStart(random.nextInt(LINES_PER_FILE) + 1);
+                        report.add(builder.setPackageName(Integer.toString(i)).build());
+                    }
+                }
+            }
+            return report;
         }
 
         @SuppressFBWarnings("PREDICTABLE_RANDOM")
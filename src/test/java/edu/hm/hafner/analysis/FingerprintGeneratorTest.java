@@ -5,6 +5,8 @@ import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.MalformedInputException;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -82,7 +84,7 @@ class FingerprintGeneratorTest extends ResourceTest {
 
     @Test
     void shouldAssignIdenticalFingerprint() {
-        Report report = createTwoIssues();
+        Report report = createTwoIssues(AFFECTED_FILE_NAME);
         FingerprintGenerator generator = new FingerprintGenerator();
         FullTextFingerprint fingerprint = createFullTextFingerprint("fingerprint-one.txt", "fingerprint-one.txt");
 
@@ -115,7 +117,7 @@ class FingerprintGeneratorTest extends ResourceTest {
 
     @Test
     void shouldAssignDifferentFingerprint() {
-        Report report = createTwoIssues();
+        Report report = createTwoIssues("other.txt");
         FingerprintGenerator generator = new FingerprintGenerator();
         FullTextFingerprint fingerprint = createFullTextFingerprint("fingerprint-one.txt", "fingerprint-two.txt");
 
@@ -128,6 +130,68 @@ class FingerprintGeneratorTest extends ResourceTest {
         assertThat(referenceIssue.getFingerprint()).isNotEqualTo(currentIssue.getFingerprint());
     }
 
+    @Test
+    void shouldReadEachFileOnlyOnce() throws IOException {
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any())).thenAnswer(i -> asStream("context.txt"));
+
+        Report report = new Report();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setFileName(AFFECTED_FILE_NAME);
+            for (int line = 1; line <= 33; line++) {
+                report.add(builder.setLineStart(line).build());
+            }
+            report.add(builder.setFileName("other.txt").setLineStart(10).build());
+        }
+
+        new FingerprintGenerator().run(new FullTextFingerprint(fileSystem), report, CHARSET_AFFECTED_FILE);
+
+        verify(fileSystem).readLinesFromFile(endsWith(AFFECTED_FILE_NAME), any());
+        verify(fileSystem).readLinesFromFile(endsWith("other.txt"), any());
+        verifyNoMoreInteractions(fileSystem);
+
+        assertThat(report.get(9).getFingerprint()).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9");
+        assertThat(report.get(19).getFingerprint()).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9");
+        assertThat(report.get(33).getFingerprint()).isEqualTo("C10CFE4EC75F0C7F54980D432624D1C9");
+        assertThat(report.get(0).getFingerprint()).isNotEqualTo(report.get(1).getFingerprint());
+        assertThat(report.getInfoMessages()).contains("-> created fingerprints for 34 issues (skipped 0 issues)");
+    }
+
+    @Test
+    void shouldCreateSameFingerprintsWithPool() throws IOException {
+        FileSystem fileSystem = mock(FileSystem.class);
+        when(fileSystem.readLinesFromFile(anyString(), any())).thenAnswer(i -> asStream("context.txt"));
+
+        Report sequential = createIssuesInSeveralFiles();
+        new FingerprintGenerator().run(new FullTextFingerprint(fileSystem), sequential, CHARSET_AFFECTED_FILE);
+
+        Report parallel = createIssuesInSeveralFiles();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new FingerprintGenerator().run(new FullTextFingerprint(fileSystem), parallel, CHARSET_AFFECTED_FILE, pool);
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        assertThat(parallel.stream().map(Issue::getFingerprint))
+                .containsExactlyElementsOf(sequential.stream().map(Issue::getFingerprint).collect(Collectors.toList()));
+        assertThat(parallel.getInfoMessages()).isEqualTo(sequential.getInfoMessages());
+    }
+
+    private Report createIssuesInSeveralFiles() {
+        Report report = new Report();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int file = 0; file < 10; file++) {
+                builder.setFileName("file-" + file + ".txt");
+                for (int line = 1; line <= 3; line++) {
+                    report.add(builder.setLineStart(line + 2 * file).build());
+                }
+            }
+        }
+        return report;
+    }
+
     @ParameterizedTest(name = "[{index}] Illegal filename")
     @ValueSource(strings = {"/does/not/exist", "!<>$&/&(", "\0 Null-Byte"})
     void shouldUseFallbackFingerprintOnError(final String fileName) {
@@ -152,13 +216,13 @@ class FingerprintGeneratorTest extends ResourceTest {
         return new FullTextFingerprint(fileSystem);
     }
 
-    private Report createTwoIssues() {
+    private Report createTwoIssues(final String secondFileName) {
         try (IssueBuilder builder = new IssueBuilder()) {
             Report report = createIssues();
             builder.setFileName(AFFECTED_FILE_NAME);
             builder.setLineStart(5);
             report.add(builder.setPackageName("a").build());
-            report.add(builder.setPackageName("b").build());
+            report.add(builder.setFileName(secondFileName).setPackageName("b").build());
             return report;
         }
     }
@@ -2,7 +2,11 @@ package edu.hm.hafner.analysis;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
 
 import org.junit.jupiter.api.Test;
 
@@ -78,12 +82,40 @@ class FullTextFingerprintTest extends ResourceTest {
         }
     }
 
+    /**
+     * Verifies that the contexts of several lines that are extracted in a single pass are the same as the contexts
+     * that are extracted one by one.
+     */
+    @Test
+    void shouldExtractAllContextsInOnePass() {
+        String affectedFile = new String(readAllBytes("context.txt"), StandardCharsets.UTF_8);
+
+        FullTextFingerprint fingerprint = new FullTextFingerprint();
+
+        NavigableSet<Integer> lines = new TreeSet<>();
+        for (int line = -1; line <= 40; line++) {
+            lines.add(line);
+        }
+        Map<Integer, String> contexts = fingerprint.extractContexts(lines, asIterator(affectedFile));
+
+        assertThat(contexts).hasSize(lines.size());
+        for (int line : lines) {
+            assertThat(contexts.get(line)).as("Context of line %d", line)
+                    .isEqualTo(fingerprint.extractContext(line, asIterator(affectedFile)));
+        }
+
+        assertThat(fingerprint.extractContexts(new TreeSet<>(Arrays.asList(0, 34)), asIterator(affectedFile)))
+                .containsOnly(entry(0, "1234567"), entry(34, ""));
+    }
+
     @Test
     void shouldThrowNoSuchFileExceptionIfFileDoesNotExist() {
         FullTextFingerprint fingerprint = new FullTextFingerprint();
 
         assertThatExceptionOfType(NoSuchFileException.class)
                 .isThrownBy(() -> fingerprint.compute("/does/not/exist", 1, StandardCharsets.UTF_8));
+        assertThatExceptionOfType(NoSuchFileException.class)
+                .isThrownBy(() -> fingerprint.compute("/does/not/exist", Arrays.asList(1, 2), StandardCharsets.UTF_8));
     }
 
     private Iterator<String> asIterator(final String affectedFile) {
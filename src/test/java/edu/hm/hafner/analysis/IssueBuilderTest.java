@@ -269,6 +269,23 @@ class IssueBuilderTest {
         }
     }
 
+    @Test
+    void shouldUseProvidedIdGenerator() {
+        IssueIdGenerator generator = IssueIdGenerator.sequential();
+        try (IssueBuilder first = new IssueBuilder(); IssueBuilder second = new IssueBuilder()) {
+            first.setIdGenerator(generator);
+            second.setIdGenerator(generator);
+
+            Issue one = first.build();
+            Issue two = second.buildAndClean();
+            Issue three = first.build();
+
+            assertThat(one.getId()).isEqualTo(generator.getId(0));
+            assertThat(two.getId()).isEqualTo(generator.getId(1));
+            assertThat(three.getId()).isEqualTo(generator.getId(2));
+        }
+    }
+
     @Test
     void testFileNameBackslashConversion() {
         try (IssueBuilder builder = new IssueBuilder()) {
@@ -312,7 +329,8 @@ class IssueBuilderTest {
     void testMessageDescriptionStripped() {
         try (IssueBuilder builder = new IssueBuilder()) {
             Issue issue = builder.setMessage("    message  ").setDescription("    description  ").build();
-            Issue anotherIssue = builder.setMessage("message").setDescription("description").build();
+            Issue anotherIssue = builder.setMessage("message").setDescription("description").setLineStart(2).build();
+            new Report().addAll(issue, anotherIssue); // the report deduplicates the description
 
             assertThat(issue.getMessageTreeString()).isSameAs(anotherIssue.getMessageTreeString());
             assertThat(issue.getDescription()).isSameAs(anotherIssue.getDescription());
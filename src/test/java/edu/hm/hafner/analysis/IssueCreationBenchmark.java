@@ -0,0 +1,102 @@
+package edu.hm.hafner.analysis;
+
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the creation of issues by 16 parsers that run in parallel. Each parser creates the
+ * issues of a report using its own {@link IssueBuilder}.
+ *
+ * @author Ullrich Hafner
+ */
+@Threads(16)
+public class IssueCreationBenchmark extends AbstractBenchmark {
+    private static final int ISSUES_PER_REPORT = 1000;
+
+    /**
+     * Benchmarks the creation of issues that get a random ID when they are created. This has been the behavior of
+     * {@link IssueBuilder} before the IDs have been created on demand.
+     *
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkRandomIds(final Blackhole blackhole) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                builder.setId(UUID.randomUUID());
+                blackhole.consume(createIssue(builder, i));
+            }
+        }
+    }
+
+    /**
+     * Benchmarks the creation of issues using the default {@link IssueIdGenerator} of the {@link IssueBuilder}.
+     *
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSequentialIds(final Blackhole blackhole) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                blackhole.consume(createIssue(builder, i));
+            }
+        }
+    }
+
+    /**
+     * Benchmarks the creation of issues using an {@link IssueIdGenerator} that is shared by all parsers.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the shared generator
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSharedSequentialIds(final BenchmarkState state, final Blackhole blackhole) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setIdGenerator(state.getGenerator());
+            for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                blackhole.consume(createIssue(builder, i));
+            }
+        }
+    }
+
+    /**
+     * Benchmarks the creation of issues using the default {@link IssueIdGenerator} of the {@link IssueBuilder}. The
+     * IDs of all issues are requested as well.
+     *
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSequentialIdsOnDemand(final Blackhole blackhole) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                blackhole.consume(createIssue(builder, i).getId());
+            }
+        }
+    }
+
+    private Issue createIssue(final IssueBuilder builder, final int line) {
+        return builder.setFileName("File.java").setLineStart(line).setMessage("Message").buildAndClean();
+    }
+
+    /**
+     * State for the benchmark containing the shared generator.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private final IssueIdGenerator generator = IssueIdGenerator.sequential();
+
+        public IssueIdGenerator getGenerator() {
+            return generator;
+        }
+    }
+}
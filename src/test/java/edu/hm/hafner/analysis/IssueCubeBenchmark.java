@@ -0,0 +1,122 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the counts of a dashboard: the number of issues by severity × module × category of a
+ * report with 100k issues in 20 sub-reports.
+ *
+ * @author Ullrich Hafner
+ */
+public class IssueCubeBenchmark extends AbstractBenchmark {
+    private static final String[] PROPERTIES = {"severity", "moduleName", "category"};
+
+    /**
+     * Benchmarks the counts using {@link Report#aggregate(String...)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCube(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(state.getReport().aggregate(PROPERTIES));
+    }
+
+    /**
+     * Benchmarks the counts using {@link Report#aggregate(List, boolean)} with method references as dimensions.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCubeWithMethodReferences(final BenchmarkState state, final Blackhole blackhole) {
+        List<Function<Issue, String>> dimensions = Arrays.asList(
+                issue -> issue.getSeverity().getName(), Issue::getModuleName, Issue::getCategory);
+        blackhole.consume(state.getReport().aggregate(dimensions, false));
+    }
+
+    /**
+     * Benchmarks the counts using {@link Report#aggregate(List, boolean, ForkJoinPool)} with the common pool.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCubeInParallel(final BenchmarkState state, final Blackhole blackhole) {
+        List<Function<Issue, String>> dimensions = Arrays.asList(
+                issue -> issue.getSeverity().getName(), Issue::getModuleName, Issue::getCategory);
+        blackhole.consume(state.getReport().aggregate(dimensions, false, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Benchmarks the counts using nested calls of {@link Report#groupByProperty(String)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkGroupByProperty(final BenchmarkState state, final Blackhole blackhole) {
+        for (Map.Entry<String, Report> severity : state.getReport().groupByProperty(PROPERTIES[0]).entrySet()) {
+            for (Map.Entry<String, Report> module : severity.getValue().groupByProperty(PROPERTIES[1]).entrySet()) {
+                blackhole.consume(module.getValue().getPropertyCount(Issue.getPropertyValueGetter(PROPERTIES[2])));
+            }
+        }
+    }
+
+    /**
+     * State for the benchmark containing the report.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int SUB_REPORTS = 20;
+        private static final int ISSUES_PER_REPORT = 5_000;
+
+        private final Report report = new Report();
+
+        public Report getReport() {
+            return report;
+        }
+
+        /**
+         * Creates the report and its sub-reports.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Severity[] severities = Severity.getPredefinedValues().toArray(new Severity[0]);
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (int r = 0; r < SUB_REPORTS; r++) {
+                    Report subReport = new Report("tool" + r, "Tool " + r);
+                    for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                        builder.setFileName("File" + i % 500 + ".java")
+                                .setModuleName("module" + i % 30)
+                                .setCategory("Category " + i % 15)
+                                .setSeverity(severities[i % severities.length])
+                                .setLineStart(i)
+                                .setMessage("Message " + i);
+                        subReport.add(builder.buildAndClean());
+                    }
+                    report.addAll(subReport);
+                }
+            }
+        }
+    }
+}
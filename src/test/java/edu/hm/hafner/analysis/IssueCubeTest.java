@@ -0,0 +1,115 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link IssueCube}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueCubeTest {
+    private static final String HIGH = Severity.WARNING_HIGH.getName();
+    private static final String LOW = Severity.WARNING_LOW.getName();
+
+    @Test
+    void shouldCountIssuesAlongAllDimensions() {
+        IssueCube cube = createReport().aggregate("severity", "moduleName", "category");
+
+        assertThat(cube.getDimensions()).isEqualTo(3);
+        assertThat(cube.hasIssues()).isFalse();
+        assertThat(cube.getCount()).isEqualTo(5);
+        assertThat(cube.getCounts()).containsOnly(entry(HIGH, 3), entry(LOW, 2));
+        assertThat(cube.getCounts(HIGH)).containsOnly(entry("a", 2), entry("b", 1));
+        assertThat(cube.getCounts(HIGH, "a")).containsOnly(entry("x", 1), entry("y", 1));
+        assertThat(cube.getCount(HIGH, "a", "x")).isEqualTo(1);
+        assertThat(cube.getCount(LOW, "a")).isEqualTo(2);
+        assertThat(cube.getCount(LOW, "b")).isZero();
+        assertThat(cube.getCounts(LOW, "b")).isEmpty();
+
+        assertThatIllegalStateException().isThrownBy(cube::getIssues);
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> cube.getCounts(HIGH, "a", "x"));
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> cube.getCount(HIGH, "a", "x", "?"));
+    }
+
+    @Test
+    void shouldMatchCountsOfGroupByProperty() {
+        Report report = createReport();
+        IssueCube cube = report.aggregate("severity", "moduleName");
+
+        Map<String, Report> bySeverity = report.groupByProperty("severity");
+        assertThat(cube.getCounts()).hasSameSizeAs(bySeverity);
+        bySeverity.forEach((severity, issues) -> {
+            assertThat(cube.getCount(severity)).isEqualTo(issues.size());
+            assertThat(cube.getCounts(severity)).isEqualTo(issues.getPropertyCount(Issue::getModuleName));
+        });
+    }
+
+    @Test
+    void shouldProvideIssuesOfSubReportsInReportOrder() {
+        Report report = createReport();
+        IssueCube cube = report.aggregate(
+                Arrays.<Function<Issue, String>>asList(issue -> issue.getSeverity().getName(), Issue::getModuleName),
+                true);
+
+        assertThat(cube.hasIssues()).isTrue();
+        assertThat(cube.getIssues(LOW, "a")).extracting(Issue::getMessage).containsExactly("4", "5");
+        assertThat(cube.getIssues(HIGH, "a")).extracting(Issue::getMessage).containsExactly("1", "2");
+        assertThat(cube.getIssues(HIGH)).extracting(Issue::getMessage).containsExactlyInAnyOrder("1", "2", "3");
+        assertThat(cube.getIssues()).hasSize(5);
+        assertThat(cube.getIssues(HIGH, "c")).isEmpty();
+    }
+
+    @Test
+    void shouldAggregateSubReportsInParallel() {
+        Report report = createReport();
+        List<Function<Issue, String>> dimensions = Arrays.asList(
+                issue -> issue.getSeverity().getName(), Issue::getModuleName, Issue::getCategory);
+        IssueCube sequential = report.aggregate(dimensions, true);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            IssueCube parallel = report.aggregate(dimensions, true, pool);
+
+            assertThat(parallel.getCount()).isEqualTo(sequential.getCount());
+            assertThat(parallel.getCounts()).isEqualTo(sequential.getCounts());
+            for (String severity : sequential.getCounts().keySet()) {
+                assertThat(parallel.getCounts(severity)).isEqualTo(sequential.getCounts(severity));
+                for (String module : sequential.getCounts(severity).keySet()) {
+                    assertThat(parallel.getCounts(severity, module)).isEqualTo(sequential.getCounts(severity, module));
+                    assertThat(parallel.getIssues(severity, module))
+                            .containsExactlyElementsOf(sequential.getIssues(severity, module));
+                }
+            }
+            assertThat(parallel.getIssues()).containsExactlyElementsOf(sequential.getIssues());
+        }
+        finally {
+            pool.shutdown();
+        }
+    }
+
+    private Report createReport() {
+        Report first = new Report();
+        Report second = new Report();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setSeverity(Severity.WARNING_HIGH);
+            first.add(builder.setModuleName("a").setCategory("x").setMessage("1").build());
+            first.add(builder.setModuleName("a").setCategory("y").setMessage("2").build());
+            second.add(builder.setModuleName("b").setCategory("x").setMessage("3").build());
+
+            builder.setSeverity(Severity.WARNING_LOW);
+            first.add(builder.setModuleName("a").setCategory("x").setMessage("4").build());
+            second.add(builder.setModuleName("a").setCategory("x").setMessage("5").build());
+        }
+        Report report = new Report();
+        report.addAll(first, second);
+        return report;
+    }
+}
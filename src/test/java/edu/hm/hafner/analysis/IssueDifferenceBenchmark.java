@@ -2,6 +2,7 @@ package edu.hm.hafner.analysis;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -31,6 +32,19 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
         blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference()));
     }
 
+    /**
+     * Benchmarking for the creation of a {@link IssueDifference} for large reports.
+     *
+     * @param state
+     *         a {@link LargeReportState} object containing the predefined reports for the test
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkLargeDeltaReportCreation(final LargeReportState state, final Blackhole blackhole) {
+        blackhole.consume(new IssueDifference(state.getCurrent(), CURRENT_BUILD, state.getReference()));
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
@@ -90,4 +104,64 @@ public class IssueDifferenceBenchmark extends AbstractBenchmark {
             }
         }
     }
+
+    /**
+     * State for the benchmark with large reports: one third of the issues is outstanding (equal), one third is
+     * outstanding (same fingerprint), and one third is new or fixed.
+     */
+    @State(Scope.Benchmark)
+    public static class LargeReportState {
+        private static final String REFERENCE_BUILD = "100";
+
+        @Param({"10000", "100000", "1000000"})
+        private int size;
+
+        private Report reference = new Report();
+        private Report current = new Report();
+
+        public Report getReference() {
+            return reference;
+        }
+
+        public Report getCurrent() {
+            return current;
+        }
+
+        /**
+         * Initializes the reports for the benchmarks.
+         */
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            reference = new Report();
+            current = new Report();
+
+            try (IssueBuilder builder = new IssueBuilder()) {
+                builder.setCategory("category")
+                        .setType("type")
+                        .setPackageName("package-name")
+                        .setModuleName("module-name")
+                        .setSeverity(Severity.WARNING_NORMAL)
+                        .setOrigin("origin")
+                        .setReference(REFERENCE_BUILD);
+                for (int i = 0; i < size; i++) {
+                    String fileName = "file-" + i % 1000 + ".txt";
+                    builder.setFileName(fileName).setLineStart(i).setMessage("Message " + i);
+                    switch (i % 3) {
+                        case 0:
+                            reference.add(builder.setFingerprint("FP-" + i).build());
+                            current.add(builder.setFingerprint("FP-" + i).build());
+                            break;
+                        case 1:
+                            reference.add(builder.setFingerprint("FP-" + i).build());
+                            current.add(builder.setMessage("Changed " + i).setFingerprint("FP-" + i).build());
+                            break;
+                        default:
+                            reference.add(builder.setFingerprint("FIXED-" + i).build());
+                            current.add(builder.setMessage("New " + i).setFingerprint("NEW-" + i).build());
+                            break;
+                    }
+                }
+            }
+        }
+    }
 }
@@ -173,6 +173,30 @@ class IssueDifferenceTest extends ResourceTest {
         assertThat(issueDifference.getOutstandingIssues()).hasSize(1);
     }
 
+    @Test
+    void shouldMatchEveryReferenceOnlyOnce() {
+        Report referenceIssues = new Report().addAll(
+                createIssue("OLD 1", "FP"),
+                createIssue("OLD 2", "FP"));
+        Report currentIssues = new Report().addAll(
+                createIssue("NEW 1", "FP"),
+                createIssue("NEW 2", "FP"),
+                createIssue("NEW 3", "FP"));
+
+        IssueDifference issueDifference = createDifference(referenceIssues, currentIssues);
+
+        assertThat(issueDifference.getFixedIssues()).isEmpty();
+
+        Report outstandingIssues = issueDifference.getOutstandingIssues();
+        assertThat(outstandingIssues).hasSize(2);
+        assertThat(outstandingIssues.get(0)).hasMessage("NEW 1").hasReference(REFERENCE_BUILD);
+        assertThat(outstandingIssues.get(1)).hasMessage("NEW 2").hasReference(REFERENCE_BUILD);
+
+        Report newIssues = issueDifference.getNewIssues();
+        assertThat(newIssues).hasSize(1);
+        assertThat(newIssues.get(0)).hasMessage("NEW 3").hasReference(CURRENT_BUILD);
+    }
+
     private Issue createIssue(final String message, final String fingerprint) {
         try (IssueBuilder builder = new IssueBuilder()) {
             builder.setFileName("file-name")
@@ -0,0 +1,121 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.Report.IssueFilterBuilder;
+
+/**
+ * Performance benchmarks for the filters of {@link IssueFilterBuilder}: 50 include and exclude patterns for file,
+ * package, and module names are applied to a report with 1M issues.
+ *
+ * @author Ullrich Hafner
+ */
+public class IssueFilterBenchmark extends AbstractBenchmark {
+    private static final int PATTERNS_PER_PROPERTY = 10;
+
+    /**
+     * Benchmarks the filter created by {@link IssueFilterBuilder#build()}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCompiledFilter(final BenchmarkState state, final Blackhole blackhole) {
+        IssueFilterBuilder builder = new IssueFilterBuilder()
+                .setIncludeFileNameFilter(createPatterns("File"))
+                .setExcludeFileNameFilter(createPatterns("Generated"))
+                .setIncludePackageNameFilter(createPatterns("edu\\.hm\\.hafner\\.package"))
+                .setExcludePackageNameFilter(createPatterns("edu\\.hm\\.hafner\\.internal"))
+                .setIncludeModuleNameFilter(createPatterns("module-"));
+
+        blackhole.consume(state.getReport().filter(builder.build()));
+    }
+
+    /**
+     * Benchmarks a filter that evaluates every pattern for every issue: each pattern is a separate predicate that is
+     * combined using {@link Predicate#or(Predicate)} and {@link Predicate#and(Predicate)}. This has been the
+     * implementation of {@link IssueFilterBuilder} before the filter has been compiled.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPredicateChain(final BenchmarkState state, final Blackhole blackhole) {
+        List<Predicate<Issue>> includes = new ArrayList<>();
+        List<Predicate<Issue>> excludes = new ArrayList<>();
+        addPredicates(includes, createPatterns("File"), Issue::getFileName, true);
+        addPredicates(excludes, createPatterns("Generated"), Issue::getFileName, false);
+        addPredicates(includes, createPatterns("edu\\.hm\\.hafner\\.package"), Issue::getPackageName, true);
+        addPredicates(excludes, createPatterns("edu\\.hm\\.hafner\\.internal"), Issue::getPackageName, false);
+        addPredicates(includes, createPatterns("module-"), Issue::getModuleName, true);
+
+        Predicate<Issue> filter = includes.stream().reduce(Predicate::or).orElse(issue -> true)
+                .and(excludes.stream().reduce(Predicate::and).orElse(issue -> true));
+
+        blackhole.consume(state.getReport().filter(filter));
+    }
+
+    private static void addPredicates(final List<Predicate<Issue>> predicates, final List<String> patterns,
+            final Function<Issue, String> property, final boolean isInclude) {
+        for (String pattern : patterns) {
+            predicates.add(issue -> Pattern.compile(pattern, Pattern.DOTALL)
+                    .matcher(property.apply(issue)).find() == isInclude);
+        }
+    }
+
+    private static List<String> createPatterns(final String prefix) {
+        List<String> patterns = new ArrayList<>();
+        for (int i = 0; i < PATTERNS_PER_PROPERTY; i++) {
+            patterns.add(prefix + i + "\\d*");
+        }
+        return patterns;
+    }
+
+    /**
+     * State for the benchmark containing the report.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int ISSUES = 1_000_000;
+
+        private final Report report = new Report();
+
+        public Report getReport() {
+            return report;
+        }
+
+        /**
+         * Creates the report with 1M issues in 5000 files.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (int i = 0; i < ISSUES; i++) {
+                    int file = i % 5000;
+                    builder.setFileName((file % 7 == 0 ? "Generated" : "File") + file + ".java")
+                            .setPackageName((file % 11 == 0 ? "edu.hm.hafner.internal" : "edu.hm.hafner.package")
+                                    + file % 100)
+                            .setModuleName("module-" + file % 40)
+                            .setLineStart(i)
+                            .setMessage("Message");
+                    report.add(builder.buildAndClean());
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package edu.hm.hafner.analysis;
 
 import java.util.function.Predicate;
+import java.util.regex.PatternSyntaxException;
 
 import org.junit.jupiter.api.Test;
 
@@ -294,6 +295,52 @@ class IssueFilterTest {
         applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE3);
     }
 
+    @Test
+    void shouldIncludeIssuesThatMatchAnyPropertyAndExcludeIssuesThatMatchAnyProperty() {
+        Predicate<? super Issue> filter = new IssueFilterBuilder()
+                .setIncludeFileNameFilter("FileName1")
+                .setIncludeModuleNameFilter("ModuleName2", "ModuleName3")
+                .setExcludeTypeFilter("Type3")
+                .build();
+        applyFilterAndCheckResult(filter, getIssues(), ISSUE1, ISSUE2);
+    }
+
+    @Test
+    void shouldCacheDecisionPerPropertyValue() {
+        Predicate<? super Issue> filter = new IssueFilterBuilder()
+                .setIncludePackageNameFilter("^edu\\.hm\\.")
+                .setExcludeFileNameFilter("Generated")
+                .build();
+
+        Report report = new Report();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < IssueFilter.MAXIMUM_CACHE_SIZE + 100; i++) {
+                builder.setPackageName(i % 2 == 0 ? "edu.hm.hafner" : "org.example")
+                        .setFileName(i % 3 == 0 ? "Generated" + i + ".java" : "File" + i % 10 + ".java")
+                        .setLineStart(i);
+                report.add(builder.build());
+            }
+        }
+
+        Report filtered = report.filter(filter);
+        assertThat(filtered.get()).isNotEmpty().allSatisfy(issue -> {
+            assertThat(issue.getPackageName()).isEqualTo("edu.hm.hafner");
+            assertThat(issue.getFileName()).doesNotContain("Generated");
+        });
+        assertThat(filtered.size()).isEqualTo(report.stream()
+                .filter(issue -> issue.getPackageName().startsWith("edu.hm.")
+                        && !issue.getFileName().contains("Generated"))
+                .count());
+        assertThat(report.filter(filter)).isEqualTo(filtered);
+    }
+
+    @Test
+    void shouldReportInvalidPatternWhenBuildingFilter() {
+        IssueFilterBuilder builder = new IssueFilterBuilder().setIncludeFileNameFilter("[");
+
+        assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(builder::build);
+    }
+
     /**
      * Applies filter and checks if result is equal to expected values.
      *
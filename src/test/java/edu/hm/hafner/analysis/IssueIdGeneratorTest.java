@@ -0,0 +1,55 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link IssueIdGenerator}.
+ *
+ * @author Ullrich Hafner
+ */
+class IssueIdGeneratorTest {
+    private static final int COUNT = 10_000;
+
+    @Test
+    void shouldCreateUniqueSequentialIds() {
+        IssueIdGenerator generator = IssueIdGenerator.sequential();
+
+        assertThat(generator.nextSequence()).isEqualTo(0);
+        assertThat(generator.nextSequence()).isEqualTo(1);
+
+        UUID id = generator.getId(1);
+        assertThat(generator.getId(1)).isEqualTo(id);
+        assertThat(id.version()).isEqualTo(4);
+        assertThat(id.variant()).isEqualTo(2);
+
+        Set<UUID> ids = LongStream.range(0, COUNT).mapToObj(generator::getId).collect(Collectors.toSet());
+        assertThat(ids).hasSize(COUNT).doesNotContainAnyElementsOf(
+                LongStream.range(0, COUNT).mapToObj(IssueIdGenerator.sequential()::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldHandOutEachSequenceOnceWhenShared() {
+        IssueIdGenerator generator = IssueIdGenerator.sequential();
+
+        Set<Long> sequences = LongStream.range(0, COUNT).parallel()
+                .mapToObj(i -> generator.nextSequence())
+                .collect(Collectors.toSet());
+
+        assertThat(sequences).hasSize(COUNT);
+    }
+
+    @Test
+    void shouldCreateRandomIds() {
+        IssueIdGenerator generator = IssueIdGenerator.random();
+
+        long sequence = generator.nextSequence();
+        assertThat(generator.getId(sequence)).isNotEqualTo(generator.getId(sequence));
+    }
+}
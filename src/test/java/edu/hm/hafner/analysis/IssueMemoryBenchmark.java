@@ -0,0 +1,167 @@
+package edu.hm.hafner.analysis;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the deduplication of the string properties of issues. Every issue gets freshly allocated
+ * strings (as created by a parser that extracts the properties from the report file). These strings are deduplicated
+ * using the {@link StringPool} of the {@link Report} that contains the issues. As a baseline, the issues are stored
+ * in a plain list outside a report: either without deduplication or with strings that have been deduplicated using
+ * {@link String#intern()} (the approach that has been used by {@link Issue} before).
+ *
+ * @author Ullrich Hafner
+ */
+public class IssueMemoryBenchmark extends AbstractBenchmark {
+    private static final int ISSUES_PER_REPORT = 10_000;
+    private static final int DISTINCT_VALUES = 50;
+
+    /**
+     * Benchmarks the creation of issues by 16 parsers that run in parallel.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the deduplication strategy
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    @Threads(16)
+    public void benchmarkParallelParsers(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(createIssues(state.getDeduplication()));
+    }
+
+    /**
+     * Measures the number of bytes on the heap that are retained by each issue.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the deduplication strategy
+     * @param heap
+     *         the counter that reports the retained bytes per issue
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void benchmarkRetainedBytesPerIssue(final BenchmarkState state, final HeapCounter heap,
+            final Blackhole blackhole) {
+        long before = heap.getUsedHeap();
+        Object issues = createIssues(state.getDeduplication());
+        heap.bytesPerIssue = (heap.getUsedHeap() - before) / ISSUES_PER_REPORT;
+        blackhole.consume(issues);
+    }
+
+    private static Object createIssues(final Deduplication deduplication) {
+        Report report = new Report();
+        List<Issue> list = new ArrayList<>();
+        try (IssueBuilder builder = new IssueBuilder()) {
+            for (int i = 0; i < ISSUES_PER_REPORT; i++) {
+                builder.setFileName("src/main/java/File" + i % DISTINCT_VALUES + ".java")
+                        .setLineStart(i)
+                        .setMessage("Message " + i % DISTINCT_VALUES)
+                        .setCategory(deduplication.apply("Category " + i % DISTINCT_VALUES))
+                        .setType(deduplication.apply("Type " + i % DISTINCT_VALUES))
+                        .setModuleName(deduplication.apply("Module " + i % DISTINCT_VALUES))
+                        .setOrigin(deduplication.apply("origin"))
+                        .setReference(deduplication.apply("reference"))
+                        .setDescription(deduplication.apply("Description " + i % DISTINCT_VALUES));
+                Issue issue = builder.buildAndClean();
+                if (deduplication == Deduplication.POOL) {
+                    report.add(issue);
+                }
+                else {
+                    list.add(issue);
+                }
+            }
+        }
+        if (deduplication == Deduplication.POOL) {
+            return report;
+        }
+        return list;
+    }
+
+    /**
+     * The strategy to deduplicate the strings of the issues.
+     */
+    public enum Deduplication {
+        /** Strings are deduplicated by the {@link StringPool} of the {@link Report}. */
+        POOL {
+            @Override
+            String apply(final String value) {
+                return value;
+            }
+        },
+        /** Issues are stored in a list, their strings are not deduplicated at all. */
+        NONE {
+            @Override
+            String apply(final String value) {
+                return value;
+            }
+        },
+        /**
+         * Issues are stored in a list, their strings are added to the global string table of the JVM before they are
+         * passed to the builder.
+         */
+        INTERN {
+            @Override
+            String apply(final String value) {
+                return value.intern();
+            }
+        };
+
+        abstract String apply(String value);
+    }
+
+    /**
+     * State for the benchmark containing the deduplication strategy.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"POOL", "NONE", "INTERN"})
+        private Deduplication deduplication;
+
+        public Deduplication getDeduplication() {
+            return deduplication;
+        }
+    }
+
+    /**
+     * Reports the number of bytes that are retained by each issue.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounter {
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        /** The number of bytes that are retained by each issue. */
+        @SuppressWarnings("checkstyle:VisibilityModifier")
+        public long bytesPerIssue;
+
+        /**
+         * Resets the counter.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerIssue = 0;
+        }
+
+        @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+        long getUsedHeap() {
+            MEMORY.gc();
+            return MEMORY.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
@@ -288,6 +288,31 @@ class IssueTest extends SerializableTest<Issue> {
         }
     }
 
+    @Test
+    void shouldUpdateHashCodeIfMutablePropertiesChange() {
+        Issue issue = createFilledIssue();
+        Issue copy = new Issue(issue);
+
+        assertThat(issue.hashCode()).isEqualTo(copy.hashCode());
+
+        issue.setModuleName("new-module");
+        assertThat(issue).isNotEqualTo(copy);
+        assertThat(issue.hashCode()).isNotEqualTo(copy.hashCode());
+
+        copy.setModuleName("new-module");
+        assertThat(issue).isEqualTo(copy);
+        assertThat(issue.hashCode()).isEqualTo(copy.hashCode());
+
+        issue.setPackageName(TREE_STRING_BUILDER.intern("new-package"));
+        issue.setFileName("new-path", TREE_STRING_BUILDER.intern("new-file"));
+        issue.setOrigin("new-origin", "New Origin");
+        copy.setPackageName(TREE_STRING_BUILDER.intern("new-package"));
+        copy.setFileName("new-path", TREE_STRING_BUILDER.intern("new-file"));
+        copy.setOrigin("new-origin", "New Origin");
+        assertThat(issue).isEqualTo(copy);
+        assertThat(issue.hashCode()).isEqualTo(copy.hashCode());
+    }
+
     @Test
     @SuppressWarnings("NullAway")
     void testDefaultIssueNullStringsNegativeIntegers() {
@@ -361,6 +386,18 @@ class IssueTest extends SerializableTest<Issue> {
         assertThat(one.getId()).isNotEqualTo(another.getId());
     }
 
+    @Test
+    void shouldCreateIdOnDemandAndKeepItWhenSerialized() {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Issue issue = builder.setIdGenerator(IssueIdGenerator.sequential()).build();
+
+            Issue restored = restore(toByteArray(issue));
+
+            assertThat(restored.getId()).isEqualTo(issue.getId()).isEqualTo(issue.getId());
+            assertThat(new Issue(issue).getId()).isEqualTo(issue.getId());
+        }
+    }
+
     /**
      * Creates an issue that contains valid properties.
      *
@@ -0,0 +1,131 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import edu.hm.hafner.util.TreeString;
+import edu.hm.hafner.util.TreeStringBuilder;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+
+/**
+ * The encoding of issues that has been used by {@link Report} in releases before 10.22.0: all strings are written
+ * with {@link ObjectOutputStream#writeUTF(String)} or char by char, line ranges, additional properties, and IDs
+ * are written using Java serialization. This fixture is used to compare the legacy encoding with the compact
+ * {@link ReportCodec}.
+ *
+ * @author Ullrich Hafner
+ */
+final class LegacyEncoding {
+    /**
+     * Creates a report with issues that share most of their properties, like the issues of a typical static analysis
+     * report.
+     *
+     * @param number
+     *         the number of issues to create
+     *
+     * @return the report
+     */
+    static Report createTypicalReport(final int number) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Report report = new Report();
+            builder.setOrigin("checkstyle").setOriginName("CheckStyle").setModuleName("analysis-model");
+            for (int i = 0; i < number; i++) {
+                report.add(builder.setDirectory("/workspace/project/src/main/java")
+                        .setFileName(String.format("edu/hm/hafner/analysis/File%d.java", i % 100))
+                        .setPackageName("edu.hm.hafner.analysis")
+                        .setCategory("Category " + i % 10)
+                        .setType("Type" + i % 50)
+                        .setLineStart(i % 1000 + 1)
+                        .setColumnStart(i % 80)
+                        .setMessage("Message for warning " + i % 500)
+                        .setFingerprint("fingerprint-" + i)
+                        .build());
+            }
+            return report;
+        }
+    }
+
+    private LegacyEncoding() {
+        // prevents instantiation
+    }
+
+    static void write(final Report report, final ObjectOutputStream output) throws IOException {
+        output.writeInt(report.size());
+        for (Issue issue : report) {
+            output.writeUTF(issue.getPath());
+            output.writeUTF(issue.getFileName());
+            output.writeInt(issue.getLineStart());
+            output.writeInt(issue.getLineEnd());
+            output.writeInt(issue.getColumnStart());
+            output.writeInt(issue.getColumnEnd());
+            output.writeObject(issue.getLineRanges());
+            output.writeUTF(issue.getCategory());
+            output.writeUTF(issue.getType());
+            output.writeUTF(issue.getPackageName());
+            output.writeUTF(issue.getModuleName());
+            output.writeUTF(issue.getSeverity().getName());
+            writeLongString(output, issue.getMessage());
+            writeLongString(output, issue.getDescription());
+            output.writeUTF(issue.getOrigin());
+            output.writeUTF(issue.getOriginName());
+            output.writeUTF(issue.getReference());
+            output.writeUTF(issue.getFingerprint());
+            output.writeObject(issue.getAdditionalProperties());
+            output.writeObject(issue.getId());
+        }
+    }
+
+    private static void writeLongString(final ObjectOutputStream output, final String value) throws IOException {
+        output.writeInt(value.length());
+        output.writeChars(value);
+    }
+
+    @SuppressFBWarnings("OBJECT_DESERIALIZATION")
+    static void read(final ObjectInputStream input, final Consumer<Issue> consumer)
+            throws IOException, ClassNotFoundException {
+        TreeStringBuilder builder = new TreeStringBuilder();
+        int size = input.readInt();
+        for (int i = 0; i < size; i++) {
+            String path = input.readUTF();
+            TreeString fileName = builder.intern(input.readUTF());
+            int lineStart = input.readInt();
+            int lineEnd = input.readInt();
+            int columnStart = input.readInt();
+            int columnEnd = input.readInt();
+            @SuppressWarnings("unchecked")
+            List<LineRange> lineRanges = new ArrayList<>((List<LineRange>) input.readObject());
+            String category = input.readUTF();
+            String type = input.readUTF();
+            TreeString packageName = builder.intern(input.readUTF());
+            String moduleName = input.readUTF();
+            Severity severity = Severity.valueOf(input.readUTF());
+            TreeString message = builder.intern(readLongString(input));
+            String description = readLongString(input);
+            String origin = input.readUTF();
+            String originName = input.readUTF();
+            String reference = input.readUTF();
+            String fingerprint = input.readUTF();
+            Serializable additionalProperties = (Serializable) input.readObject();
+            UUID uuid = (UUID) input.readObject();
+
+            consumer.accept(new Issue(path, fileName, lineStart, lineEnd, columnStart, columnEnd,
+                    lineRanges, category, type, packageName, moduleName, severity, message, description,
+                    origin, originName, reference, fingerprint, additionalProperties, uuid));
+        }
+        builder.dedup();
+    }
+
+    private static String readLongString(final ObjectInputStream input) throws IOException {
+        char[] chars = new char[input.readInt()];
+        for (int j = 0; j < chars.length; j++) {
+            chars[j] = input.readChar();
+        }
+        return new String(chars);
+    }
+}
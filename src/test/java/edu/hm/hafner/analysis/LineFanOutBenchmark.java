@@ -0,0 +1,117 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.parser.EclipseMavenParser;
+import edu.hm.hafner.analysis.parser.EclipseParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.GhsMultiParser;
+import edu.hm.hafner.analysis.parser.IarParser;
+import edu.hm.hafner.analysis.parser.IntelParser;
+
+/**
+ * Performance benchmarks for scanning a console log with the parsers of several tools: parsing the log with each
+ * parser one after another is compared with the single pass of {@link LineFanOut} that prefilters the lines using the
+ * required literals of all parsers.
+ *
+ * @author Ullrich Hafner
+ */
+public class LineFanOutBenchmark extends AbstractBenchmark {
+    private static final int LINES = 500_000;
+
+    /**
+     * Benchmarks parsing the log with each parser one after another.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the console log
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSequentialParsers(final BenchmarkState state, final Blackhole blackhole) {
+        for (LookaheadParser parser : state.getParsers()) {
+            blackhole.consume(parser.parse(new FileReaderFactory(state.getLog(), StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * Benchmarks parsing the log in a single pass.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the console log
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSinglePass(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(new LineFanOut(state.getParsers())
+                .parse(new FileReaderFactory(state.getLog(), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * State for the benchmark containing a console log with warnings of several tools.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private final List<LookaheadParser> parsers = Arrays.asList(new Gcc4CompilerParser(), new EclipseParser(),
+                new EclipseMavenParser(), new IntelParser(), new IarParser(), new GhsMultiParser());
+        private Path log;
+
+        public List<LookaheadParser> getParsers() {
+            return parsers;
+        }
+
+        public Path getLog() {
+            return log;
+        }
+
+        /**
+         * Creates the console log.
+         *
+         * @throws IOException
+         *         if the log could not be written
+         */
+        @Setup(Level.Trial)
+        public void createLog() throws IOException {
+            log = Files.createTempFile("console", ".log");
+            try (Writer writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+                for (int line = 0; line < LINES; line++) {
+                    if (line % 100 == 0) {
+                        writer.write(String.format("[WARNING] /src/File%d.java:[%d,5] deprecated API%n", line, line));
+                    }
+                    else if (line % 100 == 50) {
+                        writer.write(String.format("src/file%d.c:%d:3: warning: unused variable 'x'%n", line, line));
+                    }
+                    else {
+                        writer.write(String.format("Compiling module %d of the build, output is up to date%n", line));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Deletes the console log.
+         *
+         * @throws IOException
+         *         if the log could not be deleted
+         */
+        @TearDown(Level.Trial)
+        public void deleteLog() throws IOException {
+            Files.deleteIfExists(log);
+        }
+    }
+}
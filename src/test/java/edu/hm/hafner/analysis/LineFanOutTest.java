@@ -0,0 +1,155 @@
+package edu.hm.hafner.analysis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.AbstractParserTest.StringReaderFactory;
+import edu.hm.hafner.analysis.parser.AntJavacParser;
+import edu.hm.hafner.analysis.parser.EclipseMavenParser;
+import edu.hm.hafner.analysis.parser.EclipseParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.GhsMultiParser;
+import edu.hm.hafner.analysis.parser.IarParser;
+import edu.hm.hafner.analysis.parser.IntelParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link LineFanOut}.
+ *
+ * @author Ullrich Hafner
+ */
+class LineFanOutTest extends ResourceTest {
+    @Test
+    void shouldCreateSameIssuesAsIndividualParsers() {
+        List<LookaheadParser> parsers = Arrays.asList(new JavacParser(), new AntJavacParser(),
+                new Gcc4CompilerParser(), new MsBuildParser());
+
+        for (String fileName : Arrays.asList("javac.txt", "ant-javac.txt", "gcc4.txt", "msbuild.txt")) {
+            List<Report> reports = new LineFanOut(parsers).parse(createReaderFactory(fileName));
+
+            assertThat(reports).hasSize(parsers.size());
+            for (int i = 0; i < parsers.size(); i++) {
+                assertThat(reports.get(i).get())
+                        .containsExactlyElementsOf(parsers.get(i).parse(createReaderFactory(fileName)).get());
+            }
+        }
+    }
+
+    @Test
+    void shouldCreateSameIssuesWithPrefilteredParsers() {
+        List<LookaheadParser> parsers = Arrays.asList(new Gcc4CompilerParser(), new EclipseParser(),
+                new EclipseMavenParser(), new IntelParser(), new IarParser(), new GhsMultiParser(),
+                new JavacParser());
+
+        for (String fileName : Arrays.asList("gcc4.txt", "gnuMakeGcc.txt", "eclipse.txt",
+                "eclipse-maven-withjavadoc.log", "intelc.txt", "iar.txt", "ghsmulti.txt")) {
+            List<Report> reports = new LineFanOut(parsers).parse(createReaderFactory(fileName));
+
+            assertThat(reports).hasSize(parsers.size());
+            for (int i = 0; i < parsers.size(); i++) {
+                assertThat(reports.get(i).get())
+                        .containsExactlyElementsOf(parsers.get(i).parse(createReaderFactory(fileName)).get());
+            }
+        }
+    }
+
+    @Test
+    void shouldInspectOnlyLinesThatContainRequiredLiterals() {
+        StringBuilder log = new StringBuilder();
+        int warnings = 2_500;
+        for (int line = 1; line <= warnings; line++) {
+            log.append(String.format("src/file%d.c:%d: warning: unused variable%n", line % 100, line));
+            log.append("make: nothing to be done\n");
+            log.append("make: nothing to be done\n");
+        }
+        AtomicInteger inspectedLines = new AtomicInteger();
+        LookaheadParser parser = new LookaheadParser("(.*):(\\d+): warning: (.*)") {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean isLineInteresting(final String line) {
+                inspectedLines.incrementAndGet();
+                return line.contains("warning");
+            }
+
+            @Override
+            protected Collection<String> getRequiredLiterals() {
+                return Collections.singletonList("warning");
+            }
+
+            @Override
+            protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                    final IssueBuilder builder) {
+                return builder.setFileName(matcher.group(1)).setLineStart(matcher.group(2))
+                        .setMessage(matcher.group(3)).buildOptional();
+            }
+        };
+
+        List<Report> reports = new LineFanOut(Arrays.asList(parser, new Gcc4CompilerParser()))
+                .parse(new StringReaderFactory(log.toString()));
+
+        assertThat(reports.get(0)).hasSize(warnings);
+        assertThat(reports.get(1)).hasSize(warnings);
+        assertThat(inspectedLines).hasValue(warnings);
+    }
+
+    @Test
+    void shouldParseFilesWithManyBatches() {
+        StringBuilder log = new StringBuilder();
+        int warnings = 50_000;
+        for (int line = 1; line <= warnings; line++) {
+            log.append(String.format("[WARNING] /src/File%d.java:[%d,1] deprecated%n", line % 100, line));
+            log.append(String.format("src/file%d.c:%d: warning: unused variable%n", line % 100, line));
+        }
+
+        List<Report> reports = new LineFanOut(Arrays.asList(new JavacParser(), new Gcc4CompilerParser()))
+                .parse(new StringReaderFactory(log.toString()));
+
+        assertThat(reports.get(0)).hasSize(warnings);
+        assertThat(reports.get(1)).hasSize(warnings);
+    }
+
+    @Test
+    void shouldPropagateExceptionOfParser() {
+        StringBuilder log = new StringBuilder();
+        for (int line = 1; line <= 100_000; line++) {
+            log.append("line ").append(line).append('\n');
+        }
+        LookaheadParser failing = new LookaheadParser("line 10") {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                    final IssueBuilder builder) {
+                throw new ParsingException("Parser failed");
+            }
+        };
+
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> new LineFanOut(Arrays.asList(new JavacParser(), failing))
+                        .parse(new StringReaderFactory(log.toString())))
+                .withMessageContaining("Parser failed");
+    }
+
+    @Test
+    void shouldHandleEmptyParsers() {
+        assertThat(new LineFanOut(Collections.emptyList()).parse(createReaderFactory("javac.txt"))).isEmpty();
+    }
+
+    private ReaderFactory createReaderFactory(final String fileName) {
+        return new FileReaderFactory(getResourceAsFile("parser/" + fileName), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,97 @@
+package edu.hm.hafner.analysis;
+
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for matching the patterns of the most used line based parsers against an adversarial line:
+ * the line is close to the maximum line length of {@link LookaheadParser} and contains many fragments that partially
+ * match the patterns, so the backtracking of {@link Pattern} takes up to several seconds for a single line. The
+ * {@link LineMatcher} rejects these lines in linear time.
+ *
+ * @author Ullrich Hafner
+ */
+public class LineMatcherBenchmark extends AbstractBenchmark {
+    private static final int LINE_LENGTH = 3900;
+    private static final String FRAGMENT = "[a] b.c(1,2): d:3: e ";
+
+    /**
+     * Benchmarks the matching using {@link Pattern}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the pattern and the line
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPattern(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(state.getPattern().matcher(state.getLine()).find());
+    }
+
+    /**
+     * Benchmarks the matching using {@link LineMatcher}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the pattern and the line
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkLineMatcher(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(state.getMatcher().find(state.getLine(), 1));
+    }
+
+    /**
+     * State for the benchmark containing the pattern of a parser and an adversarial line.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"JavacParser", "EclipseParser", "Gcc4CompilerParser", "GccParser", "ClangParser", "MsBuildParser",
+                "MavenConsoleParser", "AntJavacParser", "JavaDocParser", "PyLintParser"})
+        private String parserName;
+
+        private Pattern pattern;
+        private LineMatcher matcher;
+        private String line;
+
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        LineMatcher getMatcher() {
+            return matcher;
+        }
+
+        public String getLine() {
+            return line;
+        }
+
+        /**
+         * Creates the parser and the adversarial line.
+         *
+         * @throws ReflectiveOperationException
+         *         if the parser could not be created
+         */
+        @Setup(Level.Trial)
+        public void doSetup() throws ReflectiveOperationException {
+            LookaheadParser parser = (LookaheadParser) Class.forName("edu.hm.hafner.analysis.parser." + parserName)
+                    .getConstructor().newInstance();
+            pattern = (Pattern) FieldUtils.readField(parser, "pattern", true);
+            matcher = new LineMatcher(pattern, LookaheadParser.STEP_BUDGET);
+
+            StringBuilder builder = new StringBuilder("    [javac] ");
+            while (builder.length() < LINE_LENGTH) {
+                builder.append(FRAGMENT);
+            }
+            line = builder.toString();
+        }
+    }
+}
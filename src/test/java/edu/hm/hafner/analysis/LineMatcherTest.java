@@ -0,0 +1,122 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.AbstractParserTest.StringReaderFactory;
+import edu.hm.hafner.util.LookaheadStream;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link LineMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class LineMatcherTest {
+    private static final String ADVERSARIAL_LINE = StringUtils.repeat('a', 40);
+    private static final String MATCHING_LINE = StringUtils.repeat('a', 12) + "b";
+    private static final String BACKTRACKING = "(.*a){12}b.*";
+    private static final String BACKTRACKING_WITH_LOOKAHEAD = "^ok.*|(?=a)(.*a){12}b.*";
+
+    @Test
+    void shouldProvideGroupsOfMatch() {
+        LineMatcher matcher = new LineMatcher(Pattern.compile("(?<file>[^:]+):(?<line>\\d+): warning"), 1000);
+
+        assertThat(matcher.isLinear()).isTrue();
+        assertThat(matcher.find("file.c:12: warning: unused", 1)).hasValueSatisfying(match -> {
+            assertThat(match.group("file")).isEqualTo("file.c");
+            assertThat(match.group("line")).isEqualTo("12");
+        });
+        assertThat(matcher.find("file.c:12: error: unused", 2)).isEmpty();
+        assertThat(matcher.find("file.c:12: warning\r", 3)).isPresent();
+        assertThat(matcher.getLinesOverBudget()).isEmpty();
+    }
+
+    @Test
+    void shouldUsePatternWithoutLimitsByDefault() {
+        Pattern pattern = Pattern.compile("(?=a)(a|b)*c"); // not supported by the automaton
+        String line = StringUtils.repeat("ab", 100) + "c";
+
+        assertThat(new LineMatcher(pattern, 10).find(line, 1)).isEmpty();
+
+        LineMatcher matcher = new LineMatcher(pattern);
+        assertThat(matcher.isLinear()).isFalse();
+        assertThat(matcher.find(line, 1)).hasValueSatisfying(match -> assertThat(match.group()).isEqualTo(line));
+        assertThat(matcher.getLinesOverBudget()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectAdversarialLineWithoutBacktracking() {
+        LineMatcher matcher = new LineMatcher(Pattern.compile(BACKTRACKING), 1000);
+
+        assertThat(matcher.isLinear()).isTrue();
+        assertThat(matcher.find(ADVERSARIAL_LINE, 1)).isEmpty();
+        assertThat(matcher.getLinesOverBudget()).isEmpty();
+    }
+
+    @Test
+    void shouldRecordLinesOverBudget() {
+        LineMatcher matcher = new LineMatcher(Pattern.compile(BACKTRACKING_WITH_LOOKAHEAD), 100_000);
+
+        assertThat(matcher.isLinear()).isFalse();
+        assertThat(matcher.find(MATCHING_LINE, 1)).isPresent();
+        assertThat(matcher.find(ADVERSARIAL_LINE, 2)).isEmpty();
+        assertThat(matcher.find("a" + MATCHING_LINE, 3)).isPresent();
+        assertThat(matcher.find(ADVERSARIAL_LINE, 4)).isEmpty();
+        assertThat(matcher.getLinesOverBudget()).containsExactly(2, 4);
+    }
+
+    @Test
+    void shouldReportLinesOverBudgetOfParser() {
+        String log = "ok 1\n" + ADVERSARIAL_LINE + "\nok 3\n";
+
+        Report report = new AdversarialParser().parse(new StringReaderFactory(log));
+
+        assertThat(report).hasSize(2);
+        assertThat(report.getErrorMessages()).containsExactly("Skipped 1 lines (first: line 2): "
+                + "matching the pattern of AdversarialParser exceeded the budget of 1000000 steps");
+    }
+
+    @Test
+    void shouldReportLinesOverBudgetOfParserInChunks() {
+        StringBuilder log = new StringBuilder();
+        for (int line = 1; line <= 25_000; line++) {
+            log.append(line % 10_000 == 0 ? ADVERSARIAL_LINE : "ok " + line).append('\n');
+        }
+
+        Report report = new AdversarialParser().parseInParallel(new StringReaderFactory(log.toString()),
+                ForkJoinPool.commonPool());
+
+        assertThat(report).hasSize(25_000 - 2);
+        assertThat(report.getErrorMessages()).containsExactly("Skipped 2 lines (first: line 10000): "
+                + "matching the pattern of AdversarialParser exceeded the budget of 1000000 steps");
+    }
+
+    /**
+     * A parser with a pattern that is not supported by the automaton and that backtracks excessively.
+     */
+    private static class AdversarialParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        AdversarialParser() {
+            super(BACKTRACKING_WITH_LOOKAHEAD);
+        }
+
+        @Override
+        protected boolean isLinearTimeMatchingEnabled() {
+            return true;
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            return builder.setMessage(matcher.group()).buildOptional();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package edu.hm.hafner.analysis;
+
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for removing ANSI color codes from the lines of a console log: compares the regular
+ * expression that has been used by {@link ReaderFactory} before with the {@link LinePreprocessor}.
+ *
+ * @author Ullrich Hafner
+ */
+public class LinePreprocessorBenchmark extends AbstractBenchmark {
+    private static final Pattern ANSI_COLOR_CODES = Pattern.compile("\u001B\\[[;\\d]*[ -/]*[@-~]");
+
+    /**
+     * Benchmarks the removal using {@link Pattern#matcher(CharSequence)} and {@code replaceAll}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the line
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkRegularExpression(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(ANSI_COLOR_CODES.matcher(state.getLine()).replaceAll(""));
+    }
+
+    /**
+     * Benchmarks the removal using {@link LinePreprocessor}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the line
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPreprocessor(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(LinePreprocessor.DEFAULT.process(state.getLine()));
+    }
+
+    /**
+     * State for the benchmark containing a plain or a colored line.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"plain", "colored"})
+        private String type;
+
+        private String line;
+
+        public String getLine() {
+            return line;
+        }
+
+        /**
+         * Creates the line.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            String text = "[WARNING] /src/main/java/edu/hm/hafner/analysis/Report.java:[42,17] unchecked conversion";
+            if ("plain".equals(type)) {
+                line = text;
+            }
+            else {
+                line = "\u001B[1;33m" + text.substring(0, 9) + "\u001B[m" + text.substring(9) + "\u001B[0m";
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import edu.hm.hafner.analysis.LinePreprocessor.Stage;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LinePreprocessor}.
+ *
+ * @author Ullrich Hafner
+ */
+class LinePreprocessorTest {
+    private static final Pattern ANSI_COLOR_CODES = Pattern.compile("\u001B\\[[;\\d]*[ -/]*[@-~]");
+    private static final String ESCAPE = "\u001B";
+
+    @Test
+    void shouldReturnSameInstanceIfLineIsNotChanged() {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.ANSI_COLOR_CODES,
+                LinePreprocessor.TIMESTAMPS, LinePreprocessor.CARRIAGE_RETURNS, LinePreprocessor.expandTabs(8));
+
+        String line = "[WARNING] 12:00 file.c:1: warning: " + ESCAPE + "]0;title is not a color code";
+
+        assertThat(preprocessor.process(line)).isSameAs(line);
+        assertThat(preprocessor.isEmpty()).isFalse();
+        assertThat(LinePreprocessor.NONE.isEmpty()).isTrue();
+        assertThat(LinePreprocessor.NONE.process(line)).isSameAs(line);
+    }
+
+    @Test
+    void shouldRemoveColorCodes() {
+        assertThat(LinePreprocessor.DEFAULT.process(ESCAPE + "[1;31m[ERROR]" + ESCAPE + "[m Failed"))
+                .isEqualTo("[ERROR] Failed");
+        assertThat(LinePreprocessor.DEFAULT.process(ESCAPE + ESCAPE + "[0m" + ESCAPE))
+                .isEqualTo(ESCAPE + ESCAPE);
+    }
+
+    @Test
+    void shouldRemoveColorCodesLikeRegularExpression() {
+        char[] alphabet = {'\u001B', '[', ';', '1', '9', ':', ' ', '/', '@', 'm', '~', 'x', '\u007F'};
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(16);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet[random.nextInt(alphabet.length)]);
+            }
+            String line = builder.toString();
+
+            assertThat(LinePreprocessor.DEFAULT.process(line)).as("Line '%s'", line)
+                    .isEqualTo(ANSI_COLOR_CODES.matcher(line).replaceAll(""));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"[2020-08-05T20:06:07.664Z] ", "[2020-08-05T20:06:07Z] ", "[2020-08-05T20:06:07] ",
+            "[2020-08-05T20:06:07.664+02:00] ", "15:46:06 ", "15:46:06.123 "})
+    void shouldRemoveTimestamps(final String timestamp) {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.TIMESTAMPS);
+
+        assertThat(preprocessor.process(timestamp + "[INFO] Building")).isEqualTo("[INFO] Building");
+        assertThat(preprocessor.process(timestamp)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"[2020-08-05T20:06:07.664Z]text", "[2020-08-05 20:06:07] text", "[2020-08-05T20:06] text",
+            "15:46 text", "15:46:06", "15:46:06. text", "1:46:06 text", "file.c:12:34: warning", "[INFO] text"})
+    void shouldKeepLinesWithoutTimestamps(final String line) {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.TIMESTAMPS);
+
+        assertThat(preprocessor.process(line)).isSameAs(line);
+    }
+
+    @Test
+    void shouldNormalizeCarriageReturns() {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.CARRIAGE_RETURNS);
+
+        assertThat(preprocessor.process("warning\r")).isEqualTo("warning");
+        assertThat(preprocessor.process("10%\r50%\r100%\r\r")).isEqualTo("100%");
+        assertThat(preprocessor.process("\r")).isEmpty();
+    }
+
+    @Test
+    void shouldExpandTabs() {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.expandTabs(4));
+
+        assertThat(preprocessor.process("\ta\tab\tabc\tabcd\t|")).isEqualTo("    a   ab  abc abcd    |");
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> LinePreprocessor.expandTabs(0));
+    }
+
+    @Test
+    void shouldApplyStagesInOrder() {
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.ANSI_COLOR_CODES,
+                LinePreprocessor.TIMESTAMPS, LinePreprocessor.CARRIAGE_RETURNS, LinePreprocessor.expandTabs(8));
+
+        assertThat(preprocessor.process(ESCAPE + "[32m[2020-08-05T20:06:07.664Z] " + ESCAPE
+                + "[0mfile.c:1:\twarning\r")).isEqualTo("file.c:1:       warning");
+    }
+
+    @Test
+    void shouldProvideSlicesOfProcessedLines() {
+        Stage removeFirst = line -> line.subSequence(1, line.length());
+        LinePreprocessor preprocessor = new LinePreprocessor(LinePreprocessor.TIMESTAMPS, removeFirst, removeFirst);
+
+        assertThat(preprocessor.process("12:00:00 abcd")).isEqualTo("cd");
+    }
+}
@@ -1,5 +1,17 @@
 package edu.hm.hafner.analysis;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Test;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -107,6 +119,101 @@ class LineRangeListTest {
         return range;
     }
 
+    @Test
+    void shouldProvideRandomAccessUsingTheIndex() {
+        LineRangeList list = new LineRangeList();
+        List<LineRange> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            LineRange range = new LineRange(i * 200, i * 200 + i);
+            list.add(range);
+            expected.add(range);
+        }
+        assertThat(list).hasSize(100).isEqualTo(expected);
+        assertThat(list.get(99)).isEqualTo(expected.get(99));
+
+        list.add(new LineRange(5)); // append after the index has been created
+        expected.add(new LineRange(5));
+        list.add(40, new LineRange(1000, 2000));
+        expected.add(40, new LineRange(1000, 2000));
+        list.remove(17);
+        expected.remove(17);
+        list.set(33, new LineRange(1));
+        expected.set(33, new LineRange(1));
+
+        assertThat(list).hasSize(expected.size()).isEqualTo(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(list.get(i)).isEqualTo(expected.get(i));
+            assertThat(list.listIterator(i).next()).isEqualTo(expected.get(i));
+        }
+        assertThat(list.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(list.listIterator(list.size()).hasNext()).isFalse();
+
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(expected.size()));
+        assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> list.get(-1));
+
+        list.clear();
+        assertThat(list).isEmpty();
+        list.add(new LineRange(7));
+        assertThat(list).containsExactly(new LineRange(7));
+    }
+
+    @Test
+    void shouldFindIntersectionsInSortedAndUnsortedLists() {
+        Random random = new Random(42);
+        for (int size : new int[] {0, 1, 15, 16, 17, 100, 1000}) {
+            LineRangeList sorted = new LineRangeList();
+            List<LineRange> ranges = new ArrayList<>();
+            int start = 1;
+            for (int i = 0; i < size; i++) {
+                start += random.nextInt(20);
+                LineRange range = new LineRange(start, start + random.nextInt(i % 10 == 0 ? 200 : 5));
+                sorted.add(range);
+                ranges.add(range);
+            }
+            List<LineRange> shuffled = new ArrayList<>(ranges);
+            Collections.shuffle(shuffled, random);
+            LineRangeList unsorted = new LineRangeList(shuffled);
+
+            for (int line = 0; line < start + 300; line++) {
+                LineRange other = new LineRange(line, line + random.nextInt(5));
+                int current = line;
+                boolean intersects = ranges.stream()
+                        .anyMatch(r -> r.getStart() <= current && r.getEnd() >= current);
+                boolean overlaps = ranges.stream()
+                        .anyMatch(r -> r.getStart() <= other.getEnd() && r.getEnd() >= other.getStart());
+
+                assertThat(sorted.intersects(line)).as("Line %d in %s", line, sorted).isEqualTo(intersects);
+                assertThat(unsorted.intersects(line)).as("Line %d in %s", line, unsorted).isEqualTo(intersects);
+                assertThat(sorted.overlaps(other)).as("Range %s in %s", other, sorted).isEqualTo(overlaps);
+                assertThat(unsorted.overlaps(other)).as("Range %s in %s", other, unsorted).isEqualTo(overlaps);
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepSerializedForm() throws IOException, ClassNotFoundException {
+        LineRangeList list = new LineRangeList();
+        for (int i = 0; i < 50; i++) {
+            list.add(new LineRange(i * 3, i * 3 + 1));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(list);
+        }
+        LineRangeList restored;
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (LineRangeList) input.readObject();
+        }
+
+        assertThat(restored).isEqualTo(list).hasSize(50);
+        assertThat(restored.get(49)).isEqualTo(new LineRange(147, 148));
+        assertThat(restored.intersects(148)).isTrue();
+        assertThat(restored.intersects(149)).isFalse();
+        assertThat(ObjectStreamClass.lookup(LineRangeList.class).getFields())
+                .extracting(ObjectStreamField::getName).containsExactlyInAnyOrder("data", "len");
+    }
+
     @Test
     void shouldObeyEqualsContract() {
         EqualsVerifier.simple().forClass(LineRange.class).verify();
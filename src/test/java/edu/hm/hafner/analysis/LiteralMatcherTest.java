@@ -0,0 +1,77 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link LiteralMatcher}.
+ *
+ * @author Ullrich Hafner
+ */
+class LiteralMatcherTest {
+    @Test
+    void shouldFindLiteralsOfSeveralSets() {
+        LiteralMatcher matcher = new LiteralMatcher(Arrays.asList(
+                Arrays.asList("arning", "rror"),
+                Arrays.asList("WARNING", "ERROR", "INFO"),
+                Collections.singletonList("remark")));
+
+        assertThat(matcher.match("file.c:1: warning: unused")).isEqualTo(0b001);
+        assertThat(matcher.match("[WARNING] File.java")).isEqualTo(0b010);
+        assertThat(matcher.match("[ERROR] error in remark")).isEqualTo(0b111);
+        assertThat(matcher.match("[INFO] Building")).isEqualTo(0b010);
+        assertThat(matcher.match("nothing to see here")).isZero();
+        assertThat(matcher.match("")).isZero();
+    }
+
+    @Test
+    void shouldFindOverlappingLiterals() {
+        LiteralMatcher matcher = new LiteralMatcher(Arrays.asList(
+                Collections.singletonList("abcd"),
+                Collections.singletonList("bc"),
+                Collections.singletonList("abce")));
+
+        assertThat(matcher.match("abcd")).isEqualTo(0b011);
+        assertThat(matcher.match("xxabcabce")).isEqualTo(0b110);
+        assertThat(matcher.match("abcabcd")).isEqualTo(0b011);
+        assertThat(matcher.match("ab c")).isZero();
+    }
+
+    @Test
+    void shouldHandleNonAsciiCharacters() {
+        LiteralMatcher matcher = new LiteralMatcher(Arrays.asList(
+                Collections.singletonList("Fehler"),
+                Collections.singletonList("Überprüfung")));
+
+        assertThat(matcher.match("Fehler: ungültiger Typ")).isEqualTo(0b01);
+        assertThat(matcher.match("Die Überprüfung schlug fehl")).isEqualTo(0b10);
+        assertThat(matcher.match("Übersetzung ok")).isZero();
+    }
+
+    @Test
+    void shouldSupportMaximumNumberOfSets() {
+        List<Collection<String>> literalSets = new ArrayList<>();
+        for (int set = 0; set < LiteralMatcher.MAXIMUM_SETS; set++) {
+            literalSets.add(Collections.singletonList("literal" + set + ";"));
+        }
+        LiteralMatcher matcher = new LiteralMatcher(literalSets);
+
+        assertThat(matcher.match("literal0; literal63;")).isEqualTo(1L | 1L << 63);
+
+        literalSets.add(Collections.singletonList("overflow"));
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> new LiteralMatcher(literalSets))
+                .withMessageContaining("At most 64 literal sets are supported");
+    }
+
+    @Test
+    void shouldMatchNothingWithoutLiterals() {
+        assertThat(new LiteralMatcher(Collections.emptyList()).match("warning")).isZero();
+    }
+}
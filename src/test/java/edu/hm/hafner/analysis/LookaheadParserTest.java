@@ -0,0 +1,151 @@
+package edu.hm.hafner.analysis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Matcher;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import edu.hm.hafner.analysis.AbstractParserTest.StringReaderFactory;
+import edu.hm.hafner.analysis.parser.EclipseParser;
+import edu.hm.hafner.analysis.parser.Gcc4CompilerParser;
+import edu.hm.hafner.analysis.parser.JavacParser;
+import edu.hm.hafner.analysis.parser.MsBuildParser;
+import edu.hm.hafner.util.LookaheadStream;
+import edu.hm.hafner.util.ResourceTest;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.*;
+
+/**
+ * Tests the class {@link LookaheadParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class LookaheadParserTest extends ResourceTest {
+    private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+    @AfterAll
+    static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private static Stream<Arguments> createParsers() {
+        return Stream.of(
+                arguments(new Gcc4CompilerParser(), "gcc4.txt"),
+                arguments(new Gcc4CompilerParser(), "gnuMakeGcc.txt"),
+                arguments(new Gcc4CompilerParser(), "issue56020.makefile.log"),
+                arguments(new Gcc4CompilerParser(), "issue66835.makefile.log"),
+                arguments(new MsBuildParser(), "msbuild.txt"),
+                arguments(new EclipseParser(), "eclipse-withinfo.txt"),
+                arguments(new EclipseParser(), "eclipse-withjavadoc.log"));
+    }
+
+    @ParameterizedTest(name = "{index} => {1}")
+    @MethodSource("createParsers")
+    void shouldCreateSameIssuesInParallelMode(final LookaheadParser parser, final String fileName) {
+        Report expected = parser.parse(createReaderFactory(fileName));
+
+        for (int chunkSize = 1; chunkSize < 8; chunkSize++) {
+            for (int overlap : new int[] {1, 2, 50}) {
+                Report parallel = parser.parseInParallel(createReaderFactory(fileName), POOL, chunkSize, overlap);
+
+                assertThat(parallel.get()).as("Chunk size %d, overlap %d", chunkSize, overlap)
+                        .containsExactlyElementsOf(expected.get());
+            }
+        }
+    }
+
+    @Test
+    void shouldIgnoreDirectoryChangesInMultiLineIssuesInParallelMode() {
+        String log = "make: Entering directory /a\n"
+                + "file.c:1: first\n"
+                + "  make: Entering directory /b\n"
+                + "file.c:2: second\n"
+                + "make: Leaving directory /a\n"
+                + "file.c:3: third\n"
+                + "  make: Entering directory /c\n"
+                + "  make: Leaving directory /c\n"
+                + "make: Entering directory /d\n"
+                + "file.c:4: fourth\n";
+        LookaheadParser parser = new MultiLineParser();
+
+        Report expected = parser.parse(new StringReaderFactory(log));
+        assertThat(expected.get()).extracting(Issue::getMessage, Issue::getFileName).containsExactly(
+                tuple("first\n  make: Entering directory /b", "/a/file.c"),
+                tuple("second", "/a/file.c"),
+                tuple("third\n  make: Entering directory /c\n  make: Leaving directory /c", "file.c"),
+                tuple("fourth", "/d/file.c"));
+
+        for (int chunkSize = 1; chunkSize < 8; chunkSize++) {
+            for (int overlap : new int[] {1, 2, 50}) {
+                Report parallel = parser.parseInParallel(new StringReaderFactory(log), POOL, chunkSize, overlap);
+
+                assertThat(parallel.get()).as("Chunk size %d, overlap %d", chunkSize, overlap)
+                        .containsExactlyElementsOf(expected.get());
+            }
+        }
+    }
+
+    @Test
+    void shouldUseDefaultChunks() {
+        LookaheadParser parser = new Gcc4CompilerParser();
+
+        assertThat(parser.parseInParallel(createReaderFactory("gnuMakeGcc.txt"), POOL).get())
+                .containsExactlyElementsOf(parser.parse(createReaderFactory("gnuMakeGcc.txt")).get());
+    }
+
+    @Test
+    void shouldParseSequentiallyIfParserIsNotParallelizable() {
+        LookaheadParser parser = new JavacParser();
+
+        assertThat(parser.isParallelizable()).isFalse();
+        assertThat(parser.parseInParallel(createReaderFactory("javac.txt"), POOL, 1, 1).get())
+                .containsExactlyElementsOf(parser.parse(createReaderFactory("javac.txt")).get());
+    }
+
+    @Test
+    void shouldRejectInvalidChunks() {
+        LookaheadParser parser = new Gcc4CompilerParser();
+
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> parser.parseInParallel(createReaderFactory("gcc4.txt"), POOL, 0, 1));
+        assertThatExceptionOfType(AssertionError.class).isThrownBy(
+                () -> parser.parseInParallel(createReaderFactory("gcc4.txt"), POOL, 1, 0));
+    }
+
+    private ReaderFactory createReaderFactory(final String fileName) {
+        return new FileReaderFactory(getResourceAsFile("parser/" + fileName), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates issues for lines of the form {@code file:line: message}. All following lines that start with a space are
+     * appended to the message.
+     */
+    private static class MultiLineParser extends LookaheadParser {
+        private static final long serialVersionUID = 1L;
+
+        MultiLineParser() {
+            super("^(\\S+):(\\d+): (.*)$");
+        }
+
+        @Override
+        protected Optional<Issue> createIssue(final Matcher matcher, final LookaheadStream lookahead,
+                final IssueBuilder builder) {
+            StringBuilder message = new StringBuilder(matcher.group(3));
+            while (lookahead.hasNext() && lookahead.peekNext().startsWith(" ")) {
+                message.append('\n').append(lookahead.next());
+            }
+            return builder.setFileName(matcher.group(1))
+                    .setLineStart(matcher.group(2))
+                    .setMessage(message.toString())
+                    .buildOptional();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link MappedReport}.
+ *
+ * @author Ullrich Hafner
+ */
+class MappedReportTest {
+    @TempDir
+    private Path folder;
+
+    @Test
+    void shouldStoreEmptyReport() throws IOException {
+        try (MappedReport mapped = store(new Report("id", "Name", "report.xml"))) {
+            assertThat(mapped.isEmpty()).isTrue();
+            assertThat(mapped.size()).isZero();
+            assertThat(mapped.getId()).isEqualTo("id");
+            assertThat(mapped.getName()).isEqualTo("Name");
+            assertThat(mapped.stream()).isEmpty();
+            assertThat(mapped.getSizeOf(Severity.ERROR)).isZero();
+            assertThat(mapped.toReport()).isEmpty().hasId("id").hasName("Name");
+        }
+    }
+
+    @Test
+    void shouldMaterializeAllProperties() throws IOException {
+        Report report = createReport();
+
+        try (MappedReport mapped = store(report)) {
+            assertThat(mapped.size()).isEqualTo(report.size());
+            assertThat(mapped.getDuplicatesSize()).isEqualTo(1);
+            assertThat(mapped.toString()).isEqualTo("Name (id): 4 issues (1 duplicates)");
+            assertThat(mapped.toReport()).isEqualTo(report);
+            assertThat(mapped.stream()).containsExactlyElementsOf(report);
+            for (int i = 0; i < report.size(); i++) {
+                Issue expected = report.get(i);
+                Issue actual = mapped.get(i);
+
+                assertThat(actual).isNotSameAs(expected)
+                        .isEqualTo(expected)
+                        .hasId(expected.getId())
+                        .hasPath(expected.getPath())
+                        .hasFingerprint(expected.getFingerprint())
+                        .hasReference(expected.getReference())
+                        .hasAdditionalProperties(expected.getAdditionalProperties());
+                assertThat(actual.getLineRanges()).isEqualTo(expected.getLineRanges());
+            }
+            assertThatExceptionOfType(IndexOutOfBoundsException.class).isThrownBy(() -> mapped.get(4));
+        }
+    }
+
+    @Test
+    void shouldCountPropertiesUsingColumns() throws IOException {
+        Report report = createReport();
+
+        try (MappedReport mapped = store(report)) {
+            for (Severity severity : Severity.getPredefinedValues()) {
+                assertThat(mapped.getSizeOf(severity)).as(severity.getName()).isEqualTo(report.getSizeOf(severity));
+                assertThat(mapped.getSizeOf(severity.getName())).isEqualTo(report.getSizeOf(severity));
+            }
+            assertThat(mapped.getPropertyCount("fileName")).isEqualTo(report.getPropertyCount(Issue::getFileName));
+            assertThat(mapped.getPropertyCount("category")).isEqualTo(report.getPropertyCount(Issue::getCategory));
+            assertThat(mapped.getPropertyCount("severity"))
+                    .isEqualTo(report.getPropertyCount(Issue.getPropertyValueGetter("severity")));
+            assertThat(mapped.getPropertyCount("folder")).isEqualTo(report.getPropertyCount(Issue::getFolder));
+            assertThat(mapped.getPropertyCount(Issue::getLineStart))
+                    .isEqualTo(report.getPropertyCount(Issue::getLineStart));
+            assertThat(mapped.getProperties("moduleName")).containsExactlyInAnyOrder("module-1", "module-2");
+        }
+    }
+
+    @Test
+    void shouldFilterIssues() throws IOException {
+        Report report = createReport();
+
+        try (MappedReport mapped = store(report)) {
+            assertThat(mapped.filter(Issue.byCategory("one"))).isEqualTo(report.filter(Issue.byCategory("one")));
+            assertThat(mapped.filter(Issue.byCategory("one"))).hasSize(2).hasId("id");
+        }
+    }
+
+    @Test
+    void shouldStreamColumnsOfLargeReports() throws IOException {
+        Report report = new Report("id", "Name", "report.xml");
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setFileName("file.txt").setAdditionalProperties("properties");
+            for (int i = 0; i < 10_000; i++) {
+                report.add(builder.setLineStart(i).setMessage("Message " + i % 100).setCategory("c" + i % 7).build());
+            }
+        }
+
+        try (MappedReport mapped = store(report)) {
+            assertThat(mapped.size()).isEqualTo(report.size());
+            assertThat(mapped.stream()).containsExactlyElementsOf(report);
+            assertThat(mapped.get(9_999)).hasLineStart(9_999).hasMessage("Message 99").hasCategory("c3")
+                    .hasAdditionalProperties("properties");
+            assertThat(mapped.getPropertyCount("category")).isEqualTo(report.getPropertyCount(Issue::getCategory));
+        }
+    }
+
+    @Test
+    void shouldRejectAccessAfterClose() throws IOException {
+        MappedReport mapped = store(createReport());
+        mapped.close();
+
+        assertThat(mapped.size()).isEqualTo(4);
+        assertThat(mapped.toString()).isEqualTo("Name (id): 4 issues (1 duplicates)");
+        assertThatIllegalStateException().isThrownBy(() -> mapped.get(0))
+                .withMessageContaining("closed");
+        assertThatIllegalStateException().isThrownBy(() -> mapped.getSizeOf(Severity.ERROR))
+                .withMessageContaining("closed");
+        assertThatIllegalStateException().isThrownBy(mapped::toReport)
+                .withMessageContaining("closed");
+    }
+
+    @Test
+    void shouldRejectInvalidFiles() throws IOException {
+        Path empty = Files.write(folder.resolve("empty.bin"), new byte[0]);
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedReport.read(empty))
+                .withMessageContaining("does not contain a stored report");
+
+        Path text = Files.write(folder.resolve("text.txt"),
+                "This is not a stored report, it's just some text".getBytes(StandardCharsets.UTF_8));
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedReport.read(text))
+                .withMessageContaining("does not contain a stored report");
+
+        Path valid = folder.resolve("valid.bin");
+        MappedReport.write(createReport(), valid);
+        byte[] content = Files.readAllBytes(valid);
+        Path truncated = Files.write(folder.resolve("truncated.bin"), Arrays.copyOf(content, content.length - 1));
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> MappedReport.read(truncated))
+                .withMessageContaining("corrupt");
+    }
+
+    private MappedReport store(final Report report) throws IOException {
+        Path file = folder.resolve("report.bin");
+        MappedReport.write(report, file);
+        return MappedReport.read(file);
+    }
+
+    private Report createReport() {
+        Report report = new Report("id", "Name", "report.xml");
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setDirectory("/workspace")
+                    .setFileName("file-1.txt")
+                    .setModuleName("module-1")
+                    .setCategory("one")
+                    .setSeverity(Severity.ERROR)
+                    .setLineStart(1)
+                    .setLineEnd(2)
+                    .setColumnStart(3)
+                    .setColumnEnd(4)
+                    .setMessage("Übersetzung fehlgeschlagen")
+                    .setFingerprint("fingerprint")
+                    .setReference("1")
+                    .setAdditionalProperties("properties");
+            report.add(builder.build());
+            report.add(builder.setLineStart(10).setSeverity(Severity.WARNING_LOW).setAdditionalProperties(null)
+                    .setLineRanges(new LineRangeList(new LineRange(20, 30), new LineRange(40)))
+                    .build());
+            report.add(builder.setFileName("folder/file-2.txt").setCategory("two").setModuleName("module-2")
+                    .setLineRanges(new LineRangeList()).build());
+            report.add(builder.setLineStart(11).build());
+            report.add(builder.setLineStart(11).build()); // duplicate
+        }
+        return report;
+    }
+}
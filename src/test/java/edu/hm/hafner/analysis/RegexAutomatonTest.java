@@ -0,0 +1,207 @@
+package edu.hm.hafner.analysis;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+
+import edu.hm.hafner.analysis.RegexAutomaton.Decision;
+import edu.hm.hafner.analysis.RegexAutomaton.Dfa;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Tests the class {@link RegexAutomaton}.
+ *
+ * @author Ullrich Hafner
+ */
+class RegexAutomatonTest {
+    private static final int MAXIMUM_LINE_LENGTH = 4000;
+    private static final long MAXIMUM_FILE_SIZE = 32 * 1024;
+
+    @Test
+    void shouldFindSameLinesAsPattern() {
+        String[] lines = {"", "a", "ab", "abc", "xabcx", "aaa", "[javac] Foo.java:1: warning: x",
+                "  [exec] [ERROR] /src/x.c:12: error: y", "name_1 = 42", "x:1:2: note", "]]]", "a-b",
+                "tab\there", "ÄÖÜ ü", "{}", "12345", "...", "abab"};
+        String[] expressions = {"", "a", "^a", "a$", "^$", "^abc$", "b+c", "a*", "(a|b)+c", "a{2}", "a{2,}", "a{1,2}b",
+                "[^]]", "[]a]", "[a-c]+x", "[-a]", "[a-]b", "\\d+", "\\D", "\\s", "\\S+\\s", "\\w+ = \\d+",
+                "\\W", "\\p{Alnum}+", "\\p{Upper}", "[\\w.]+:\\d+", "^(?:.*\\[[^]]*\\])?\\s*(.+?):(\\d+):",
+                "(?<file>[^:]+):(?<line>\\d+)", "(a|)b", "(ab)*$", "(?:a|b)?c$", "x*?y", "ü", "[Ä-Ü]+",
+                "\\.\\.\\.", "\\{\\}", "\\t", "\\x41", "\\u00fc", "^(a|aa)+$", "^(?:a*)*b", "a$|^b", "$^", "^$|a",
+                "[a-c-e]+", "[A-z-_]+", "(?s)^a.c", "(?m)c$", "(?sm:a.)", "(?-s)b"};
+
+        for (String expression : expressions) {
+            Pattern pattern = Pattern.compile(expression);
+            Dfa dfa = RegexAutomaton.compile(pattern).orElseThrow(
+                    () -> new AssertionError("Unsupported: " + expression)).createDfa();
+            for (String line : lines) {
+                assertThat(dfa.find(line)).as("Expression '%s' in line '%s'", expression, line)
+                        .isEqualTo(toDecision(pattern, line));
+            }
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"(a)\\1", "(?=a)", "(?!a)", "(?<=a)b", "(?<!a)b", "(?i)a", "a++", "(?>a)", "[a[b]]",
+            "[a&&b]", "\\bword", "\\p{L}", "\\Qa\\E", "\\R", "a{1000}", "\\z"})
+    void shouldRejectUnsupportedExpressions(final String expression) {
+        assertThat(RegexAutomaton.compile(Pattern.compile(expression))).isEmpty();
+    }
+
+    @Test
+    void shouldRejectFlagsThatChangeTheMatchedCharacters() {
+        assertThat(RegexAutomaton.compile(Pattern.compile("a", Pattern.CASE_INSENSITIVE))).isEmpty();
+        assertThat(RegexAutomaton.compile(Pattern.compile("a", Pattern.COMMENTS))).isEmpty();
+        assertThat(RegexAutomaton.compile(Pattern.compile("a", Pattern.DOTALL | Pattern.MULTILINE))).isPresent();
+    }
+
+    @Test
+    void shouldNotDecideLinesWithTerminatorsOrSurrogates() {
+        Dfa dfa = RegexAutomaton.compile(Pattern.compile("a.b$")).get().createDfa();
+
+        assertThat(dfa.find("a\rb")).isEqualTo(Decision.UNDECIDED);
+        assertThat(dfa.find("a😀b")).isEqualTo(Decision.UNDECIDED);
+        assertThat(dfa.find("axb")).isEqualTo(Decision.MATCH);
+    }
+
+    @Test
+    void shouldScanAdversarialLinesInLinearTime() {
+        Dfa dfa = RegexAutomaton.compile(Pattern.compile("^(a+)+$")).get().createDfa();
+        StringBuilder line = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            line.append('a');
+        }
+        line.append('!');
+
+        assertThat(dfa.find(line)).isEqualTo(Decision.NO_MATCH);
+    }
+
+    /**
+     * Verifies that the automaton of each line based parser finds the same lines as {@link Pattern} in the console
+     * logs of the parser tests. Large logs are skipped to keep the test fast.
+     */
+    @Test
+    void shouldFindSameLinesAsPatternsOfAllParsers() throws IOException, ReflectiveOperationException {
+        Set<String> lines = readLinesOfTestResources();
+        List<LookaheadParser> parsers = createAllLookaheadParsers();
+        assertThat(parsers).hasSizeGreaterThan(50);
+
+        int supported = 0;
+        for (LookaheadParser parser : parsers) {
+            Pattern pattern = (Pattern) FieldUtils.readField(parser, "pattern", true);
+            if (RegexAutomaton.compile(pattern).isPresent()) {
+                supported++;
+                Dfa dfa = RegexAutomaton.compile(pattern).get().createDfa();
+                for (String line : lines) {
+                    Decision decision = dfa.find(line);
+                    if (decision != Decision.UNDECIDED) {
+                        assertThat(decision).as("Parser %s in line '%s'", parser.getClass().getSimpleName(), line)
+                                .isEqualTo(toDecision(pattern, line));
+                    }
+                }
+            }
+        }
+        assertThat(supported).isGreaterThan(parsers.size() * 9 / 10);
+    }
+
+    /**
+     * Verifies that linear time matching provides the same groups as {@link Pattern} for the pattern of each line based
+     * parser in the console logs of the parser tests. Large logs are skipped to keep the test fast.
+     */
+    @Test
+    void shouldProvideSameGroupsAsPatternsOfAllParsers() throws IOException, ReflectiveOperationException {
+        Set<String> lines = readLinesOfTestResources();
+        List<LookaheadParser> parsers = createAllLookaheadParsers();
+
+        int matches = 0;
+        for (LookaheadParser parser : parsers) {
+            Pattern pattern = (Pattern) FieldUtils.readField(parser, "pattern", true);
+            LineMatcher lineMatcher = new LineMatcher(pattern, LookaheadParser.STEP_BUDGET);
+            int lineNumber = 0;
+            for (String line : lines) {
+                lineNumber++;
+                Matcher expected = pattern.matcher(line);
+                Optional<Matcher> actual = lineMatcher.find(line, lineNumber);
+                String description = String.format("Parser %s in line '%s'", parser.getClass().getSimpleName(), line);
+                if (expected.find()) {
+                    matches++;
+                    assertThat(actual).as(description).isPresent();
+                    assertThat(getGroups(actual.get())).as(description).isEqualTo(getGroups(expected));
+                }
+                else {
+                    assertThat(actual).as(description).isEmpty();
+                }
+            }
+            assertThat(lineMatcher.getLinesOverBudget()).isEmpty();
+        }
+        assertThat(matches).isGreaterThan(1000);
+    }
+
+    private List<String> getGroups(final Matcher matcher) {
+        List<String> groups = new ArrayList<>();
+        for (int group = 0; group <= matcher.groupCount(); group++) {
+            groups.add(matcher.start(group) + ":" + matcher.end(group) + ":" + matcher.group(group));
+        }
+        return groups;
+    }
+
+    private Decision toDecision(final Pattern pattern, final CharSequence line) {
+        return pattern.matcher(line).find() ? Decision.MATCH : Decision.NO_MATCH;
+    }
+
+    private Set<String> readLinesOfTestResources() throws IOException {
+        Set<String> lines = new LinkedHashSet<>();
+        try (Stream<Path> files = Files.list(Paths.get("src/test/resources/edu/hm/hafner/analysis/parser"))) {
+            for (Path file : files.filter(this::isConsoleLog).collect(Collectors.toList())) {
+                try (Stream<String> fileLines = Files.lines(file, StandardCharsets.ISO_8859_1)) {
+                    fileLines.filter(line -> line.length() < MAXIMUM_LINE_LENGTH).forEach(lines::add);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private boolean isConsoleLog(final Path file) {
+        String fileName = file.getFileName().toString();
+        return (fileName.endsWith(".txt") || fileName.endsWith(".log")) && file.toFile().length() < MAXIMUM_FILE_SIZE;
+    }
+
+    private List<LookaheadParser> createAllLookaheadParsers() throws ReflectiveOperationException {
+        List<LookaheadParser> parsers = new ArrayList<>();
+        for (JavaClass javaClass : new ClassFileImporter()
+                .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                .importPackages("edu.hm.hafner.analysis.parser")) {
+            Class<?> type = javaClass.reflect();
+            if (LookaheadParser.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())
+                    && Modifier.isPublic(type.getModifiers()) && hasDefaultConstructor(type)) {
+                parsers.add((LookaheadParser) type.getConstructor().newInstance());
+            }
+        }
+        return parsers;
+    }
+
+    private boolean hasDefaultConstructor(final Class<?> type) {
+        return Stream.of(type.getConstructors()).anyMatch(constructor -> constructor.getParameterCount() == 0);
+    }
+}
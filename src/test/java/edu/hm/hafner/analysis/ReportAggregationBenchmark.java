@@ -0,0 +1,99 @@
+package edu.hm.hafner.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the aggregation of several {@link Report reports} into a single report.
+ *
+ * @author Ullrich Hafner
+ */
+public class ReportAggregationBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the aggregation of the sub-reports using {@link Report#addAll(Report...)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the predefined sub-reports
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkAggregation(final BenchmarkState state, final Blackhole blackhole) {
+        Report aggregation = new Report();
+        for (Report report : state.getReports()) {
+            aggregation.addAll(report);
+        }
+        blackhole.consume(aggregation);
+    }
+
+    /**
+     * Benchmarks adding issues to an aggregated report: every added issue is already part of one of the sub-reports.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the predefined sub-reports
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkDuplicateDetection(final BenchmarkState state, final Blackhole blackhole) {
+        Report aggregation = state.getAggregation();
+        for (Report report : state.getReports()) {
+            aggregation.addAll(report.get());
+        }
+        blackhole.consume(aggregation.getDuplicatesSize());
+    }
+
+    /**
+     * State for the benchmark containing the sub-reports that should be aggregated.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param("500")
+        private int reportCount;
+
+        @Param("2000")
+        private int issuesPerReport;
+
+        private final List<Report> reports = new ArrayList<>();
+        private Report aggregation = new Report();
+
+        public List<Report> getReports() {
+            return reports;
+        }
+
+        public Report getAggregation() {
+            return aggregation;
+        }
+
+        /**
+         * Creates the sub-reports and the aggregation of these sub-reports.
+         */
+        @Setup(Level.Iteration)
+        public void doSetup() {
+            reports.clear();
+            try (IssueBuilder builder = new IssueBuilder()) {
+                builder.setCategory("category").setType("type").setSeverity(Severity.WARNING_NORMAL);
+                for (int report = 0; report < reportCount; report++) {
+                    Report subReport = new Report("tool-" + report, "Tool " + report);
+                    builder.setFileName("file-" + report + ".java");
+                    for (int issue = 0; issue < issuesPerReport; issue++) {
+                        subReport.add(builder.setLineStart(issue).setMessage("message-" + issue).build());
+                    }
+                    reports.add(subReport);
+                }
+            }
+            aggregation = new Report();
+            for (Report report : reports) {
+                aggregation.addAll(report);
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportCodec}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportCodecTest {
+    @Test
+    void shouldRestoreAllProperties() throws IOException, ClassNotFoundException {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setDirectory("/path/to")
+                    .setFileName("file.txt")
+                    .setLineStart(Integer.MAX_VALUE)
+                    .setLineEnd(1)
+                    .setColumnStart(3)
+                    .setColumnEnd(70_000)
+                    .setLineRanges(new LineRangeList(new LineRange(5, 6), new LineRange(1_000_000, 0)))
+                    .setCategory("Kategorie")
+                    .setType("Typ")
+                    .setPackageName("edu.hm.hafner")
+                    .setModuleName("Modul")
+                    .setSeverity(Severity.ERROR)
+                    .setMessage("Übersetzung fehlgeschlagen: 日本語")
+                    .setDescription("Beschreibung")
+                    .setOrigin("origin").setOriginName("Origin")
+                    .setReference("reference")
+                    .setFingerprint("fingerprint")
+                    .setAdditionalProperties(new ArrayList<>(Arrays.asList("one", "two")));
+            Issue first = builder.build();
+            Issue second = builder.setAdditionalProperties(null).setMessage("").build();
+            Issue third = builder.setAdditionalProperties("three").setLineStart(0).build();
+
+            List<Issue> restored = restore(encode(Arrays.asList(first, second, third)));
+
+            assertThat(restored).containsExactly(first, second, third);
+            for (int i = 0; i < restored.size(); i++) {
+                Issue issue = restored.get(i);
+                Issue expected = Arrays.asList(first, second, third).get(i);
+                assertThat(issue).hasId(expected.getId())
+                        .hasReference(expected.getReference())
+                        .hasFingerprint(expected.getFingerprint())
+                        .hasPath(expected.getPath())
+                        .hasAdditionalProperties(expected.getAdditionalProperties());
+                assertThat(issue.getLineRanges()).isEqualTo(expected.getLineRanges());
+            }
+        }
+    }
+
+    @Test
+    void shouldPreserveUnpairedSurrogates() throws IOException, ClassNotFoundException {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            Issue issue = builder.setFileName("file-\uD800.txt")
+                    .setMessage("high \uD83D only, low \uDE00 only, pair \uD83D\uDE00")
+                    .setDescription("\uDC00")
+                    .build();
+
+            List<Issue> restored = restore(encode(Collections.singletonList(issue)));
+
+            assertThat(restored).containsExactly(issue);
+            assertThat(restored.get(0)).hasFileName("file-\uD800.txt")
+                    .hasMessage("high \uD83D only, low \uDE00 only, pair \uD83D\uDE00")
+                    .hasDescription("\uDC00");
+        }
+    }
+
+    @Test
+    void shouldStoreRepeatedStringsOnlyOnce() throws IOException {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setFileName("a-rather-long-file-name-that-is-part-of-every-issue.txt");
+
+            int oneIssue = encode(createIssues(builder, 1)).length;
+            int hundredIssues = encode(createIssues(builder, 100)).length;
+
+            assertThat(hundredIssues - oneIssue).isLessThan(99 * 40);
+        }
+    }
+
+    @Test
+    void shouldUseLessSpaceThanLegacyEncoding() throws IOException {
+        Report report = LegacyEncoding.createTypicalReport(10_000);
+
+        ByteArrayOutputStream legacy = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(legacy)) {
+            LegacyEncoding.write(report, stream);
+        }
+        int compact = encode(report.get()).length;
+
+        assertThat(compact).as("Compact encoding (%d bytes) vs. legacy encoding (%d bytes) of %d issues",
+                compact, legacy.size(), report.size()).isLessThan(legacy.size() / 2);
+    }
+
+    @Test
+    void shouldRejectTruncatedData() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeInt(1);
+            stream.write(0); // new dictionary entry
+            stream.write(100); // with 100 characters
+            stream.write(new byte[10]);
+        }
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> restore(out.toByteArray()));
+    }
+
+    @Test
+    void shouldRejectInvalidDictionaryReferences() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeInt(1);
+            stream.write(5); // reference to the 5th string of the empty dictionary
+        }
+
+        assertThatExceptionOfType(InvalidObjectException.class).isThrownBy(() -> restore(out.toByteArray()))
+                .withMessageContaining("dictionary");
+    }
+
+    @Test
+    void shouldRejectNegativeSizes() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeInt(-1);
+        }
+
+        assertThatExceptionOfType(InvalidObjectException.class).isThrownBy(() -> restore(out.toByteArray()))
+                .withMessageContaining("count=-1");
+    }
+
+    private List<Issue> createIssues(final IssueBuilder builder, final int size) {
+        List<Issue> issues = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            issues.add(builder.setLineStart(i).build());
+        }
+        return issues;
+    }
+
+    private byte[] encode(final Collection<Issue> issues) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            ReportCodec.write(issues, stream);
+        }
+        return out.toByteArray();
+    }
+
+    private List<Issue> restore(final byte[] bytes) throws IOException, ClassNotFoundException {
+        List<Issue> issues = new ArrayList<>();
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            ReportCodec.read(stream, issues::add);
+        }
+        return issues;
+    }
+}
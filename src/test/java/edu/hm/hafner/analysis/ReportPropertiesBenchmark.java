@@ -0,0 +1,119 @@
+package edu.hm.hafner.analysis;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for the properties of a {@link Report} that are queried when the details page of a report is
+ * rendered: the number of issues of each severity, and the distinct modules, packages, files, categories, types, and
+ * tools. The report contains 500k issues.
+ *
+ * @author Ullrich Hafner
+ */
+public class ReportPropertiesBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the calls of a page rendering using the aggregates of the report.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPageRendering(final BenchmarkState state, final Blackhole blackhole) {
+        Report report = state.getReport();
+
+        for (Severity severity : Severity.getPredefinedValues()) {
+            blackhole.consume(report.getSizeOf(severity));
+        }
+        blackhole.consume(report.hasSeverities());
+        blackhole.consume(report.hasTools());
+        blackhole.consume(report.hasModules());
+        blackhole.consume(report.hasPackages());
+        blackhole.consume(report.hasFolders());
+        blackhole.consume(report.hasFiles());
+        blackhole.consume(report.hasCategories());
+        blackhole.consume(report.hasTypes());
+        blackhole.consume(report.getTools());
+        blackhole.consume(report.getModules());
+        blackhole.consume(report.getPackages());
+        blackhole.consume(report.getFiles());
+        blackhole.consume(report.getCategories());
+        blackhole.consume(report.getTypes());
+    }
+
+    /**
+     * Benchmarks the calls of a page rendering if every call needs to scan all issues of the report, i.e. using
+     * {@link Report#getProperties(java.util.function.Function)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPageRenderingWithFullScans(final BenchmarkState state, final Blackhole blackhole) {
+        Report report = state.getReport();
+
+        for (Severity severity : Severity.getPredefinedValues()) {
+            blackhole.consume(report.stream().filter(issue -> issue.getSeverity().equals(severity)).count());
+        }
+        blackhole.consume(report.getProperties(Issue::getSeverity));
+        blackhole.consume(report.getProperties(Issue::getOrigin));
+        blackhole.consume(report.getProperties(Issue::getModuleName));
+        blackhole.consume(report.getProperties(Issue::getPackageName));
+        blackhole.consume(report.getProperties(Issue::getPackageName));
+        blackhole.consume(report.getProperties(Issue::getFolder));
+        blackhole.consume(report.getProperties(Issue::getFileName));
+        blackhole.consume(report.getProperties(Issue::getCategory));
+        blackhole.consume(report.getProperties(Issue::getType));
+        blackhole.consume(report.getProperties(Issue::getOrigin));
+        blackhole.consume(report.getProperties(Issue::getModuleName));
+        blackhole.consume(report.getProperties(Issue::getPackageName));
+        blackhole.consume(report.getProperties(Issue::getFileName));
+        blackhole.consume(report.getProperties(Issue::getCategory));
+        blackhole.consume(report.getProperties(Issue::getType));
+    }
+
+    /**
+     * State for the benchmark containing the report.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int ISSUES = 500_000;
+        private static final int FILES = 20_000;
+
+        private final Report report = new Report();
+
+        public Report getReport() {
+            return report;
+        }
+
+        /**
+         * Creates the report with 500k issues.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            Severity[] severities = Severity.getPredefinedValues().toArray(new Severity[0]);
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (int i = 0; i < ISSUES; i++) {
+                    int file = i % FILES;
+                    builder.setFileName("src/main/java/edu/hm/hafner/module" + file % 50 + "/File" + file + ".java")
+                            .setPackageName("edu.hm.hafner.module" + file % 50)
+                            .setModuleName("module" + file % 50)
+                            .setCategory("Category " + i % 20)
+                            .setType("Type " + i % 200)
+                            .setSeverity(severities[i % severities.length])
+                            .setOrigin("tool" + i % 3)
+                            .setLineStart(i)
+                            .setMessage("Message " + i);
+                    report.add(builder.buildAndClean());
+                }
+            }
+        }
+    }
+}
@@ -23,6 +23,12 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
     private static final Report REPORT = createReportWith(ISSUE_COUNT);
     private static final byte[] REPORT_AS_BYTES = toByteArray(REPORT);
 
+    private static final int TYPICAL_ISSUE_COUNT = 10_000;
+    private static final Report TYPICAL_REPORT = LegacyEncoding.createTypicalReport(TYPICAL_ISSUE_COUNT);
+    private static final byte[] LEGACY_ISSUES_AS_BYTES = toByteArray(TYPICAL_REPORT, LegacyEncoding::write);
+    private static final byte[] COMPACT_ISSUES_AS_BYTES = toByteArray(TYPICAL_REPORT,
+            (report, output) -> ReportCodec.write(report.get(), output));
+
     /**
      * Benchmarking the serialization of {@link Report}.
      *
@@ -45,6 +51,52 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
         blackhole.consume(toReport(REPORT_AS_BYTES));
     }
 
+    /**
+     * Benchmarking the encoding of issues using the encoding of releases before 10.22.0.
+     *
+     * @param blackhole
+     *         the black hole that will consume the written bytes
+     */
+    @Benchmark
+    public void benchmarkingLegacyIssueEncoding(final Blackhole blackhole) {
+        blackhole.consume(toByteArray(TYPICAL_REPORT, LegacyEncoding::write));
+    }
+
+    /**
+     * Benchmarking the encoding of issues using the compact {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the written bytes
+     */
+    @Benchmark
+    public void benchmarkingCompactIssueEncoding(final Blackhole blackhole) {
+        blackhole.consume(toByteArray(TYPICAL_REPORT, (report, output) -> ReportCodec.write(report.get(), output)));
+    }
+
+    /**
+     * Benchmarking the decoding of issues using the encoding of releases before 10.22.0.
+     *
+     * @param blackhole
+     *         the black hole that will consume the read issues
+     */
+    @Benchmark
+    public void benchmarkingLegacyIssueDecoding(final Blackhole blackhole) {
+        readIssues(LEGACY_ISSUES_AS_BYTES, (input, consumer) -> LegacyEncoding.read(input, consumer::consume),
+                blackhole);
+    }
+
+    /**
+     * Benchmarking the decoding of issues using the compact {@link ReportCodec}.
+     *
+     * @param blackhole
+     *         the black hole that will consume the read issues
+     */
+    @Benchmark
+    public void benchmarkingCompactIssueDecoding(final Blackhole blackhole) {
+        readIssues(COMPACT_ISSUES_AS_BYTES, (input, consumer) -> ReportCodec.read(input, consumer::consume),
+                blackhole);
+    }
+
     private static Report createReportWith(final int number) {
         try (IssueBuilder builder = new IssueBuilder()) {
             Report report;
@@ -80,6 +132,30 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
         return out.toByteArray();
     }
 
+    private static byte[] toByteArray(final Report report, final IssueWriter writer) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            writer.write(report, stream);
+        }
+        catch (IOException exception) {
+            throw new IllegalStateException("Can't serialize issues of report " + report, exception);
+        }
+
+        return out.toByteArray();
+    }
+
+    private static void readIssues(final byte[] bytes, final IssueReader reader, final Blackhole blackhole) {
+        ByteArrayInputStream in = new ByteArrayInputStream(bytes);
+
+        try (ObjectInputStream stream = new ObjectInputStream(in)) {
+            reader.read(stream, blackhole);
+        }
+        catch (IOException | ClassNotFoundException exception) {
+            throw new IllegalStateException("Can't deserialize issues", exception);
+        }
+    }
+
     /**
      * Converts a byte array to a report.
      *
@@ -99,4 +175,20 @@ public class ReportSerializationBenchmark extends AbstractBenchmark {
             throw new IllegalStateException("Can't deserialize byte array " + Arrays.toString(bytes), exception);
         }
     }
+
+    /**
+     * Writes the issues of a report to a stream.
+     */
+    @FunctionalInterface
+    private interface IssueWriter {
+        void write(Report report, ObjectOutputStream output) throws IOException;
+    }
+
+    /**
+     * Reads issues from a stream.
+     */
+    @FunctionalInterface
+    private interface IssueReader {
+        void read(ObjectInputStream input, Blackhole blackhole) throws IOException, ClassNotFoundException;
+    }
 }
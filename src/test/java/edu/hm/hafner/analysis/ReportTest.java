@@ -282,6 +282,193 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(report.getSizeOf(Severity.WARNING_LOW.getName())).isEqualTo(3);
     }
 
+    @Test
+    void shouldUpdateAggregatesIncrementally() {
+        Report report = new Report();
+        report.addAll(HIGH, NORMAL_1);
+
+        assertThat(report.getFiles()).containsExactly("file-1");
+        assertThat(report.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(1);
+
+        report.addAll(NORMAL_2, LOW_2_A);
+        assertThat(report.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+        assertThat(report.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(2);
+
+        report.remove(LOW_2_A.getId());
+        report.remove(NORMAL_1.getId());
+        assertThat(report.getFiles()).containsExactly("file-1");
+        assertThat(report.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(1);
+        assertThat(report.getSizeOf(Severity.WARNING_LOW)).isZero();
+
+        Report subReport = new Report();
+        subReport.addAll(LOW_2_B, LOW_FILE_3);
+        Report aggregation = new Report(report, subReport);
+        assertThat(aggregation.getFiles()).containsExactlyInAnyOrder("file-1", "file-2", "file-3");
+        assertThat(aggregation.getSizeOf(Severity.WARNING_LOW)).isEqualTo(2);
+
+        subReport.remove(LOW_FILE_3.getId());
+        assertThat(aggregation.getFiles()).containsExactlyInAnyOrder("file-1", "file-2");
+        assertThat(aggregation.getSizeOf(Severity.WARNING_LOW)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldAggregateFoldersAndAbsolutePathsOnDemand() {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setDirectory("/tmp");
+            Report report = new Report();
+            report.add(builder.setFileName("a/b/A.java").buildAndClean());
+            report.add(builder.setFileName("a/b/B.java").buildAndClean());
+            assertThat(report.getFolders()).containsExactly("tmp/a/b");
+            assertThat(report.getAbsolutePaths()).containsExactlyInAnyOrder("/tmp/a/b/A.java", "/tmp/a/b/B.java");
+
+            Issue other = builder.setFileName("a/c/C.java").buildAndClean();
+            report.add(other);
+            assertThat(report.getFolders()).containsExactlyInAnyOrder("tmp/a/b", "tmp/a/c");
+            assertThat(report.getAbsolutePaths()).hasSize(3).contains("/tmp/a/c/C.java");
+
+            report.remove(other.getId());
+            assertThat(report.getFolders()).containsExactly("tmp/a/b");
+            assertThat(report.getAbsolutePaths()).hasSize(2);
+        }
+    }
+
+    @Test
+    void shouldRecomputeAggregatesIfIssueHasBeenModified() {
+        Issue issue = new IssueBuilder().setMessage("message").setModuleName("module").build();
+        Report report = new Report();
+        report.add(issue);
+        assertThat(report.getModules()).containsExactly("module");
+
+        report.modifyIssues(modified -> modified.setModuleName("other"));
+        assertThat(report.getModules()).containsExactly("other");
+    }
+
+    @Test
+    void shouldUpdateAggregatesOfModifiedIssueOnly() {
+        Issue modified = new IssueBuilder().setMessage("modified").setModuleName("module")
+                .setSeverity(Severity.WARNING_HIGH).build();
+        Issue unchanged = new IssueBuilder().setMessage("unchanged").setModuleName("module")
+                .setSeverity(Severity.WARNING_HIGH).build();
+        Report report = new Report();
+        report.addAll(modified, unchanged);
+        assertThat(report.getModules()).containsExactly("module");
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(2);
+
+        report.modifyIssues(issue -> {
+            if (issue == modified) {
+                issue.setModuleName("other");
+            }
+        });
+        assertThat(report.getModules()).containsExactlyInAnyOrder("module", "other");
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(2);
+
+        report.remove(unchanged.getId());
+        assertThat(report.getModules()).containsExactly("other");
+        assertThat(report.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+
+        Report copy = restore(toByteArray(report));
+        assertThat(copy.getModules()).containsExactly("other");
+        assertThat(copy.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDeduplicateStringPropertiesWithoutInterning() {
+        Report report = new Report();
+        Issue first = createIssueWithCopiedStrings("first");
+        Issue second = createIssueWithCopiedStrings("second");
+        report.addAll(first, second);
+
+        assertThat(second.getCategory()).isSameAs(first.getCategory()).isNotSameAs("category");
+        assertThat(second.getType()).isSameAs(first.getType()).isNotSameAs("type");
+        assertThat(second.getModuleName()).isSameAs(first.getModuleName()).isNotSameAs("module");
+        assertThat(second.getOrigin()).isSameAs(first.getOrigin()).isNotSameAs("origin");
+        assertThat(second.getReference()).isSameAs(first.getReference()).isNotSameAs("reference");
+        assertThat(second.getDescription()).isSameAs(first.getDescription()).isNotSameAs("description");
+
+        Issue other = createIssueWithCopiedStrings("other");
+        new Report().add(other);
+        assertThat(other.getCategory()).isEqualTo(first.getCategory()).isNotSameAs(first.getCategory());
+    }
+
+    @Test
+    void shouldDeduplicateModifiedStringProperties() {
+        Report report = new Report();
+        Issue first = createIssueWithCopiedStrings("first");
+        Issue second = createIssueWithCopiedStrings("second");
+        report.addAll(first, second);
+
+        report.modifyIssues(issue -> issue.setModuleName(copyOf("changed")));
+        assertThat(second.getModuleName()).isSameAs(first.getModuleName());
+
+        report.modifyIssues(issue -> issue.setOrigin(copyOf("id"), copyOf("name")));
+        assertThat(second.getOrigin()).isSameAs(first.getOrigin());
+        assertThat(second.getOriginName()).isSameAs(first.getOriginName());
+    }
+
+    @Test
+    void shouldShareStringPoolWithSubReports() {
+        Report firstReport = new Report();
+        Issue first = createIssueWithCopiedStrings("first");
+        firstReport.add(first);
+        Report secondReport = new Report();
+        Issue second = createIssueWithCopiedStrings("second");
+        secondReport.add(second);
+        assertThat(second.getCategory()).isNotSameAs(first.getCategory());
+
+        Report aggregation = new Report();
+        aggregation.addAll(firstReport, secondReport);
+        assertThat(second.getCategory()).isSameAs(first.getCategory());
+
+        Report restored = restore(toByteArray(aggregation));
+        List<Issue> issues = restored.stream().collect(Collectors.toList());
+        assertThat(issues).hasSize(2);
+        assertThat(issues.get(1).getCategory()).isSameAs(issues.get(0).getCategory());
+    }
+
+    @Test
+    void shouldShareStringPoolWithCopies() {
+        Report report = new Report();
+        Issue first = createIssueWithCopiedStrings("first");
+        report.add(first);
+
+        Report filtered = report.filter(issue -> true);
+        Issue second = createIssueWithCopiedStrings("second");
+        filtered.add(second);
+        assertThat(second.getCategory()).isSameAs(first.getCategory());
+
+        Report copy = report.copy();
+        Issue third = createIssueWithCopiedStrings("third");
+        copy.add(third);
+        assertThat(third.getCategory()).isSameAs(first.getCategory());
+    }
+
+    @Test
+    void shouldNotInternStringsOfDeserializedIssues() {
+        Report report = new Report();
+        report.add(createIssueWithCopiedStrings("first"));
+
+        Report restored = restore(toByteArray(report));
+        assertThat(restored.get(0).getCategory()).isEqualTo("category").isNotSameAs("category");
+    }
+
+    private Issue createIssueWithCopiedStrings(final String message) {
+        try (IssueBuilder builder = new IssueBuilder()) {
+            return builder.setMessage(message)
+                    .setCategory(copyOf("category"))
+                    .setType(copyOf("type"))
+                    .setModuleName(copyOf("module"))
+                    .setOrigin(copyOf("origin"))
+                    .setReference(copyOf("reference"))
+                    .setDescription(copyOf("description"))
+                    .build();
+        }
+    }
+
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private String copyOf(final String value) {
+        return new String(value.toCharArray());
+    }
+
     @Test
     @SuppressWarnings("NullAway")
     void shouldGroupIssuesByProperty() {
@@ -538,6 +725,179 @@ class ReportTest extends SerializableTest<Report> {
         assertThat(report.getFiles()).containsExactly("file-1", "file-2");
     }
 
+    @Test
+    void shouldDetectDuplicatesOfAggregatedReports() {
+        Report aggregation = new Report();
+        aggregation.addAll(new Report().addAll(HIGH, NORMAL_1));
+        aggregation.addAll(new Report().addAll(NORMAL_2, HIGH));
+        assertThat(aggregation).hasSize(3).hasDuplicatesSize(1);
+
+        aggregation.addAll(NORMAL_1, NORMAL_2, LOW_2_A);
+        assertThat(aggregation).hasSize(4).hasDuplicatesSize(3);
+
+        aggregation.remove(NORMAL_1.getId());
+        aggregation.add(NORMAL_1);
+        assertThat(aggregation).hasSize(4).hasDuplicatesSize(3);
+        assertThat(aggregation.iterator()).toIterable().containsExactly(LOW_2_A, NORMAL_1, HIGH, NORMAL_2);
+
+        Report other = new Report();
+        other.addAll(new Report().addAll(HIGH, LOW_2_B), new Report().addAll(LOW_2_A));
+        aggregation.addAll(other);
+        assertThat(aggregation).hasSize(5).hasDuplicatesSize(5);
+    }
+
+    @Test
+    void shouldDetectDuplicatesOfReportsThatHaveBeenChangedAfterAggregation() {
+        Report first = new Report().addAll(HIGH);
+        Report second = new Report().addAll(NORMAL_1);
+        Report aggregation = new Report(first, second);
+        aggregation.addAll(new Report().addAll(NORMAL_2));
+
+        second.add(LOW_2_A);
+        aggregation.addAll(LOW_2_A, NORMAL_2, LOW_2_B);
+
+        assertThat(aggregation).hasSize(5).hasDuplicatesSize(2);
+    }
+
+    @Test
+    void shouldFindIssuesThatHaveBeenModifiedAfterAdding() {
+        Issue first = new IssueBuilder().setMessage("message").setFileName("file").build();
+        Issue second = new IssueBuilder().setMessage("message").setFileName("file").setModuleName("module").build();
+
+        Report report = new Report();
+        report.addAll(asList(first, second));
+        assertThat(report).hasSize(2).hasDuplicatesSize(0);
+
+        report.modifyIssues(issue -> {
+            if (issue == first) {
+                issue.setModuleName("other");
+            }
+        });
+        report.add(new IssueBuilder().copy(first).build());
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+
+        assertThat(report.remove(first.getId())).isSameAs(first);
+        assertThat(report).hasSize(1);
+
+        report.add(first);
+        report.setOrigin("origin", "Origin");
+        report.add(new IssueBuilder().copy(first).build());
+        assertThat(report).hasSize(2).hasDuplicatesSize(2);
+    }
+
+    @Test
+    void shouldKeepIssuesThatAreEqualAfterModification() {
+        Issue first = new IssueBuilder().setMessage("message").setFileName("file").build();
+        Issue second = new IssueBuilder().setMessage("message").setFileName("file").setModuleName("module").build();
+
+        Report report = new Report();
+        report.addAll(asList(first, second));
+
+        report.modifyIssues(issue -> issue.setModuleName("module"));
+        report.add(LOW_2_A);
+        assertThat(report).hasSize(3).hasDuplicatesSize(0);
+        assertThat(report.get()).containsExactly(first, second, LOW_2_A);
+
+        assertThat(report.remove(second.getId())).isSameAs(second);
+        report.add(new IssueBuilder().copy(second).build());
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+
+        assertThat(report.remove(first.getId())).isSameAs(first);
+        report.add(new IssueBuilder().copy(second).build());
+        assertThat(report).hasSize(2).hasDuplicatesSize(1);
+    }
+
+    @Test
+    void shouldKeepPositionOfModifiedIssues() {
+        Issue first = new IssueBuilder().setMessage("first").build();
+        Issue second = new IssueBuilder().setMessage("second").build();
+        Issue third = new IssueBuilder().setMessage("third").build();
+
+        Report report = new Report();
+        report.addAll(first, second, third);
+
+        report.modifyIssues(issue -> {
+            if (issue == second) {
+                issue.setModuleName("module");
+            }
+        });
+
+        assertThat(report.get()).containsExactly(first, second, third);
+        assertThat(report.get(1)).isSameAs(second);
+    }
+
+    @Test
+    void shouldModifyIssuesWhileIterating() {
+        Report report = new Report();
+        for (int i = 0; i < 3; i++) {
+            report.add(new IssueBuilder().setMessage("message").setModuleName("module-" + i).build());
+        }
+
+        report.modifyIssues(issue -> issue.setModuleName("module"));
+
+        assertThat(report).hasSize(3).hasDuplicatesSize(0);
+        assertThat(report.getModules()).containsExactly("module");
+
+        report.add(new IssueBuilder().setMessage("message").setModuleName("module").build());
+        assertThat(report).hasSize(3).hasDuplicatesSize(1);
+    }
+
+    @Test
+    void shouldReindexModifiedIssuesOnlyInTheModifiedReport() {
+        Issue issue = new IssueBuilder().setMessage("message").setModuleName("module").build();
+
+        Report first = new Report().addAll(issue);
+        Report second = new Report().addAll(issue, HIGH);
+
+        first.modifyIssues(modified -> modified.setModuleName("other"));
+
+        Issue copy = new IssueBuilder().copy(issue).build();
+        first.add(copy);
+        assertThat(first).hasSize(1).hasDuplicatesSize(1);
+        second.add(copy);
+        assertThat(second).hasSize(3).hasDuplicatesSize(0);
+
+        second.modifyIssues(modified -> { });
+        second.add(new IssueBuilder().copy(issue).build());
+        assertThat(second).hasSize(3).hasDuplicatesSize(1);
+    }
+
+    @Test
+    void shouldIgnoreModificationsOfRemovedIssues() {
+        Issue issue = new IssueBuilder().setMessage("message").setModuleName("module").build();
+
+        Report report = new Report().addAll(issue, HIGH);
+        report.remove(issue.getId());
+
+        issue.setModuleName("other");
+        issue.setOrigin(HIGH.getOrigin(), HIGH.getOriginName());
+
+        assertThat(report).hasSize(1).hasDuplicatesSize(0);
+        assertThat(report.getModules()).containsExactly(HIGH.getModuleName());
+    }
+
+    @Test
+    void shouldFindModifiedIssuesInAggregatedReports() {
+        Issue first = new IssueBuilder().setMessage("message").setModuleName("first").build();
+        Issue second = new IssueBuilder().setMessage("message").setModuleName("second").build();
+
+        Report aggregation = new Report();
+        aggregation.addAll(new Report().addAll(first), new Report().addAll(second));
+        assertThat(aggregation).hasSize(2).hasDuplicatesSize(0);
+
+        aggregation.modifyIssues(issue -> issue.setModuleName("first"));
+        assertThat(aggregation).hasSize(2).hasDuplicatesSize(0);
+
+        aggregation.remove(first.getId());
+        aggregation.add(new IssueBuilder().copy(first).build());
+        assertThat(aggregation).hasSize(1).hasDuplicatesSize(1);
+
+        aggregation.modifyIssues(issue -> issue.setModuleName("third"));
+        aggregation.add(new IssueBuilder().copy(first).build());
+        aggregation.add(new IssueBuilder().copy(second).build());
+        assertThat(aggregation).hasSize(2).hasDuplicatesSize(2);
+    }
+
     @Test
     void shouldRemoveById() {
         shouldRemoveOneIssue(HIGH, NORMAL_1, NORMAL_2);
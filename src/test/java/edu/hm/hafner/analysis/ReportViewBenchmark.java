@@ -0,0 +1,179 @@
+package edu.hm.hafner.analysis;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Performance benchmarks for chained filters of a report with 200k issues: the issues are filtered by module, then by
+ * severity, and finally by category (like the filters of a user that drills down in the UI).
+ *
+ * @author Ullrich Hafner
+ */
+public class ReportViewBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the chained filters using {@link Report#filter(java.util.function.Predicate)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkReportFilter(final BenchmarkState state, final Blackhole blackhole) {
+        Report filtered = filterReport(state.getReport());
+
+        blackhole.consume(filtered.size());
+    }
+
+    /**
+     * Benchmarks the chained filters using {@link ReportView#filter(java.util.function.Predicate)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkViewFilter(final BenchmarkState state, final Blackhole blackhole) {
+        ReportView filtered = filterView(state.getReport());
+
+        blackhole.consume(filtered.size());
+    }
+
+    /**
+     * Measures the number of bytes on the heap that are retained by the reports of the chained filters.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param heap
+     *         the counter that reports the retained bytes
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void benchmarkRetainedBytesOfReportFilter(final BenchmarkState state, final HeapCounter heap,
+            final Blackhole blackhole) {
+        long before = heap.getUsedHeap();
+        Report report = state.getReport();
+        Report byModule = report.filter(Issue.byModuleName(BenchmarkState.MODULE));
+        Report bySeverity = byModule.filter(Issue.bySeverity(Severity.WARNING_HIGH));
+        Report byCategory = bySeverity.filter(Issue.byCategory(BenchmarkState.CATEGORY));
+        heap.retainedBytes = heap.getUsedHeap() - before;
+
+        blackhole.consume(byModule);
+        blackhole.consume(bySeverity);
+        blackhole.consume(byCategory);
+    }
+
+    /**
+     * Measures the number of bytes on the heap that are retained by the views of the chained filters.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the report
+     * @param heap
+     *         the counter that reports the retained bytes
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    public void benchmarkRetainedBytesOfViewFilter(final BenchmarkState state, final HeapCounter heap,
+            final Blackhole blackhole) {
+        long before = heap.getUsedHeap();
+        ReportView view = state.getReport().view();
+        ReportView byModule = view.filter(Issue.byModuleName(BenchmarkState.MODULE));
+        ReportView bySeverity = byModule.filter(Issue.bySeverity(Severity.WARNING_HIGH));
+        ReportView byCategory = bySeverity.filter(Issue.byCategory(BenchmarkState.CATEGORY));
+        heap.retainedBytes = heap.getUsedHeap() - before;
+
+        blackhole.consume(byModule);
+        blackhole.consume(bySeverity);
+        blackhole.consume(byCategory);
+    }
+
+    private static Report filterReport(final Report report) {
+        return report.filter(Issue.byModuleName(BenchmarkState.MODULE))
+                .filter(Issue.bySeverity(Severity.WARNING_HIGH))
+                .filter(Issue.byCategory(BenchmarkState.CATEGORY));
+    }
+
+    private static ReportView filterView(final Report report) {
+        return report.view()
+                .filter(Issue.byModuleName(BenchmarkState.MODULE))
+                .filter(Issue.bySeverity(Severity.WARNING_HIGH))
+                .filter(Issue.byCategory(BenchmarkState.CATEGORY));
+    }
+
+    /**
+     * State for the benchmark containing the report.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        static final String MODULE = "module1";
+        static final String CATEGORY = "Category 1";
+
+        private static final int ISSUES = 200_000;
+
+        private final Report report = new Report();
+
+        public Report getReport() {
+            return report;
+        }
+
+        /**
+         * Creates the report.
+         */
+        @Setup(Level.Trial)
+        public void doSetup() {
+            try (IssueBuilder builder = new IssueBuilder()) {
+                for (int i = 0; i < ISSUES; i++) {
+                    builder.setFileName("File" + i % 1000 + ".java")
+                            .setModuleName("module" + i % 2)
+                            .setCategory("Category " + i % 3)
+                            .setSeverity(i % 5 == 0 ? Severity.WARNING_LOW : Severity.WARNING_HIGH)
+                            .setLineStart(i)
+                            .setMessage("Message " + i);
+                    report.add(builder.buildAndClean());
+                }
+            }
+        }
+    }
+
+    /**
+     * Reports the number of bytes that are retained by the filtered reports.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounter {
+        private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+        /** The number of bytes that are retained by the filtered reports. */
+        @SuppressWarnings("checkstyle:VisibilityModifier")
+        public long retainedBytes;
+
+        /**
+         * Resets the counter.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            retainedBytes = 0;
+        }
+
+        @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+        long getUsedHeap() {
+            MEMORY.gc();
+            return MEMORY.getHeapMemoryUsage().getUsed();
+        }
+    }
+}
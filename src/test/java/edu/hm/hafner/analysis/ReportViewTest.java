@@ -0,0 +1,86 @@
+package edu.hm.hafner.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ReportView}.
+ *
+ * @author Ullrich Hafner
+ */
+class ReportViewTest {
+    @Test
+    void shouldComposeFiltersLazily() {
+        Report report = createReport();
+
+        ReportView all = report.view();
+        ReportView module = all.filter(Issue.byModuleName("a"));
+        ReportView high = module.filter(Issue.bySeverity(Severity.WARNING_HIGH));
+
+        assertThat(all.size()).isEqualTo(4);
+        assertThat(module.get()).extracting(Issue::getMessage).containsExactly("1", "2", "4");
+        assertThat(high.getSize()).isEqualTo(2);
+        assertThat(high.get()).extracting(Issue::getMessage).containsExactly("1", "2");
+        assertThat(module.getSizeOf(Severity.WARNING_LOW)).isEqualTo(1);
+        assertThat(module.getSizeOf(Severity.WARNING_HIGH.getName())).isEqualTo(2);
+        assertThat(module.getProperties(Issue::getCategory)).containsExactlyInAnyOrder("x", "y");
+        assertThat(module.getPropertyCount(Issue::getCategory)).containsOnly(entry("x", 2), entry("y", 1));
+        assertThat(high.isNotEmpty()).isTrue();
+        assertThat(high.filter(Issue.byCategory("z")).isEmpty()).isTrue();
+
+        try (IssueBuilder builder = new IssueBuilder()) {
+            report.add(builder.setModuleName("a").setSeverity(Severity.WARNING_HIGH).setMessage("5").build());
+        }
+        assertThat(high.get()).extracting(Issue::getMessage).containsExactly("1", "2", "5");
+        assertThat(all.size()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldGroupByProperty() {
+        Report report = createReport();
+
+        Map<String, ReportView> byModule = report.view().groupByProperty("moduleName");
+        assertThat(byModule).containsOnlyKeys("a", "b");
+        assertThat(byModule.get("a").get()).extracting(Issue::getMessage).containsExactly("1", "2", "4");
+        assertThat(byModule.get("b").get()).extracting(Issue::getMessage).containsExactly("3");
+    }
+
+    @Test
+    void shouldMaterializeViewAsReport() throws IOException, ClassNotFoundException {
+        Report report = createReport();
+        report.logInfo("info");
+
+        ReportView view = report.view().filter(Issue.byModuleName("a"));
+        Report materialized = view.toReport();
+        assertThat(materialized).hasId("id").hasInfoMessages("info");
+        assertThat(materialized.get()).containsExactlyElementsOf(view.get());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream stream = new ObjectOutputStream(out)) {
+            stream.writeObject(view);
+        }
+        try (ObjectInputStream stream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            assertThat(stream.readObject()).isInstanceOf(Report.class).isEqualTo(materialized);
+        }
+    }
+
+    private Report createReport() {
+        Report report = new Report("id", "name");
+        try (IssueBuilder builder = new IssueBuilder()) {
+            builder.setModuleName("a").setSeverity(Severity.WARNING_HIGH);
+            report.add(builder.setCategory("x").setMessage("1").build());
+            report.add(builder.setCategory("y").setMessage("2").build());
+            report.add(builder.setModuleName("b").setCategory("x").setMessage("3").build());
+            report.add(builder.setModuleName("a").setSeverity(Severity.WARNING_LOW).setMessage("4").build());
+        }
+        return report;
+    }
+}
@@ -1,6 +1,8 @@
 package edu.hm.hafner.analysis;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -32,4 +34,21 @@ class SecureXmlParserFactoryTest {
 
         assertThat(factory.createXmlStreamReader(new StringReader("<xml />"))).isNotNull();
     }
+
+    @Test
+    void shouldCreateParsersWithCachedFactories() {
+        SecureXmlParserFactory factory = new SecureXmlParserFactory();
+        List<Object> parsers = new ArrayList<>();
+
+        SecureXmlParserFactory.runWithCachedFactories(() -> {
+            for (int i = 0; i < 2; i++) {
+                parsers.add(factory.createDocumentBuilder());
+                parsers.add(factory.createSaxParser());
+                parsers.add(factory.createXmlStreamReader(new StringReader("<xml />")));
+                SecureXmlParserFactory.runWithCachedFactories(() -> parsers.add(factory.createSaxParser()));
+            }
+        });
+
+        assertThat(parsers).hasSize(8).doesNotContainNull().doesNotHaveDuplicates();
+    }
 }
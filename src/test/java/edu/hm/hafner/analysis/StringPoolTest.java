@@ -0,0 +1,49 @@
+package edu.hm.hafner.analysis;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link StringPool}.
+ *
+ * @author Ullrich Hafner
+ */
+class StringPoolTest {
+    @Test
+    void shouldReturnCanonicalInstance() {
+        StringPool pool = new StringPool();
+
+        String first = copyOf("value");
+        String second = copyOf("value");
+
+        assertThat(pool.dedup(first)).isSameAs(first);
+        assertThat(pool.dedup(second)).isSameAs(first).isNotSameAs("value");
+        assertThat(pool.dedup(copyOf("other"))).isEqualTo("other");
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldReturnSameInstanceForConcurrentCalls() {
+        StringPool pool = new StringPool();
+
+        Set<String> values = IntStream.range(0, 10_000).parallel()
+                .mapToObj(i -> pool.dedup(copyOf("value-" + i % 10)))
+                .collect(Collectors.toSet());
+
+        assertThat(values).hasSize(10);
+        assertThat(pool.size()).isEqualTo(10);
+        for (String value : values) {
+            assertThat(pool.dedup(copyOf(value))).isSameAs(value);
+        }
+    }
+
+    @SuppressWarnings("StringOperationCanBeSimplified")
+    private String copyOf(final String value) {
+        return new String(value.toCharArray());
+    }
+}
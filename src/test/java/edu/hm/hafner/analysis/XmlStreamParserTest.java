@@ -0,0 +1,104 @@
+package edu.hm.hafner.analysis;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.XmlStreamParser.Element;
+import edu.hm.hafner.analysis.XmlStreamParser.ElementHandler;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link XmlStreamParser}.
+ *
+ * @author Ullrich Hafner
+ */
+class XmlStreamParserTest {
+    private static final String DOCUMENT = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<root version=\"1\">\n"
+            + "  <file name=\"one.txt\" line=\"12\" column=\"twelve\">\n"
+            + "    <message>  first  <child>ignored</child> second  </message>\n"
+            + "    <code><![CDATA[if (a < b) {]]></code>\n"
+            + "  </file>\n"
+            + "  <file/>\n"
+            + "</root>\n";
+
+    @Test
+    void shouldReportElementsInDocumentOrder() {
+        List<String> events = new ArrayList<>();
+
+        new XmlStreamParser("root", "Test").parse(new StringReader(DOCUMENT), new ElementHandler() {
+            @Override
+            public void startElement(final Element element) {
+                events.add("<" + element.getName() + ":" + element.getDepth() + ":" + element.getParentName());
+            }
+
+            @Override
+            public void endElement(final Element element) {
+                events.add(element.getName() + ">");
+            }
+        });
+
+        assertThat(events).containsExactly(
+                "<root:1:", "<file:2:root", "<message:3:file", "<child:4:message", "child>", "message>",
+                "<code:3:file", "code>", "file>", "<file:2:root", "file>", "root>");
+    }
+
+    @Test
+    void shouldProvideAttributes() {
+        List<String> values = new ArrayList<>();
+
+        new XmlStreamParser().parse(new StringReader(DOCUMENT), element -> {
+            if ("file".equals(element.getName())) {
+                values.add(element.getAttribute("name"));
+                values.add(String.valueOf(element.getIntAttribute("line")));
+                values.add(String.valueOf(element.getIntAttribute("column")));
+            }
+        });
+
+        assertThat(values).containsExactly("one.txt", "12", "0", null, "0", "0");
+    }
+
+    @Test
+    void shouldProvideTrimmedTextWithoutChildren() {
+        List<String> texts = new ArrayList<>();
+        List<String> rawTexts = new ArrayList<>();
+
+        new XmlStreamParser().parse(new StringReader(DOCUMENT), new ElementHandler() {
+            @Override
+            public void startElement(final Element element) {
+                // not required
+            }
+
+            @Override
+            public void endElement(final Element element) {
+                if (element.getDepth() == 3) {
+                    texts.add(element.getText());
+                    rawTexts.add(element.getRawText());
+                }
+            }
+        });
+
+        assertThat(texts).containsExactly("first   second", "if (a < b) {");
+        assertThat(rawTexts).containsExactly("  first   second  ", "if (a < b) {");
+    }
+
+    @Test
+    void shouldRejectWrongRootElement() {
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> new XmlStreamParser("checkstyle", "Checkstyle").parse(
+                        new StringReader(DOCUMENT), element -> { }))
+                .withMessageContaining("Input stream is not a Checkstyle file.");
+    }
+
+    @Test
+    void shouldRejectInvalidDocument() {
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> new XmlStreamParser().parse(new StringReader("<root><file></root>"), element -> { }));
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> new XmlStreamParser().parse(new StringReader("no XML"), element -> { }));
+    }
+}
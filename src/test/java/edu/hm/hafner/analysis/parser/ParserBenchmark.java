@@ -1,9 +1,12 @@
 package edu.hm.hafner.analysis.parser;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.net.URISyntaxException;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import org.apache.commons.digester3.Digester;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -13,13 +16,22 @@ import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
+import org.xml.sax.SAXException;
 
 import edu.hm.hafner.analysis.AbstractBenchmark;
 import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueBuilder;
+import edu.hm.hafner.analysis.ParsingException;
 import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.SecureDigester;
+import edu.hm.hafner.analysis.XmlStreamParser;
+import edu.hm.hafner.analysis.parser.checkstyle.CheckStyle;
 import edu.hm.hafner.analysis.parser.checkstyle.CheckStyleParser;
+import edu.hm.hafner.analysis.parser.checkstyle.Error;
+import edu.hm.hafner.analysis.parser.pmd.Pmd;
 import edu.hm.hafner.analysis.parser.pmd.PmdParser;
+import edu.hm.hafner.analysis.parser.pmd.Violation;
 
 /**
  * Performance benchmarks for analysis parsers parsing xml files.
@@ -60,6 +72,108 @@ public class ParserBenchmark extends AbstractBenchmark {
         blackhole.consume(report);
     }
 
+    /**
+     * Benchmarking for parsing an xml file with the object model of the {@link SecureDigester}, i.e., the approach
+     * that has been used by the {@link CheckStyleParser} before the {@link XmlStreamParser} has been introduced.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the FileReaderFactory object
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkCheckStyleDigester(final BenchmarkState state, final Blackhole blackhole) {
+        Report report = parseCheckStyleWithDigester(state.getCheckstyleFileReaderFactory());
+
+        blackhole.consume(report);
+    }
+
+    /**
+     * Benchmarking for parsing an xml file with the object model of the {@link SecureDigester}, i.e., the approach
+     * that has been used by the {@link PmdParser} before the {@link XmlStreamParser} has been introduced.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the FileReaderFactory object
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPmdDigester(final BenchmarkState state, final Blackhole blackhole) {
+        Report report = parsePmdWithDigester(state.getPmdFileReaderFactory());
+
+        blackhole.consume(report);
+    }
+
+    @SuppressWarnings("deprecation") // the former object model is the baseline
+    private static Report parseCheckStyleWithDigester(final ReaderFactory readerFactory) {
+        Digester digester = new SecureDigester(ParserBenchmark.class);
+        digester.addObjectCreate("checkstyle", CheckStyle.class);
+        digester.addSetProperties("checkstyle");
+        digester.addObjectCreate("checkstyle/file", edu.hm.hafner.analysis.parser.checkstyle.File.class);
+        digester.addSetProperties("checkstyle/file");
+        digester.addSetNext("checkstyle/file", "addFile");
+        digester.addObjectCreate("checkstyle/file/error", Error.class);
+        digester.addSetProperties("checkstyle/file/error");
+        digester.addSetNext("checkstyle/file/error", "addError");
+
+        try (Reader reader = readerFactory.create(); IssueBuilder builder = new IssueBuilder()) {
+            CheckStyle checkStyle = digester.parse(reader);
+            Report report = new Report();
+            for (edu.hm.hafner.analysis.parser.checkstyle.File file : checkStyle.getFiles()) {
+                for (Error error : file.getErrors()) {
+                    report.add(builder.guessSeverity(error.getSeverity())
+                            .setType(error.getSource())
+                            .setMessage(error.getMessage())
+                            .setLineStart(error.getLine())
+                            .setColumnStart(error.getColumn())
+                            .setFileName(file.getName())
+                            .buildAndClean());
+                }
+            }
+            return report;
+        }
+        catch (IOException | SAXException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
+    @SuppressWarnings("deprecation") // the former object model is the baseline
+    private static Report parsePmdWithDigester(final ReaderFactory readerFactory) {
+        Digester digester = new SecureDigester(ParserBenchmark.class);
+        digester.addObjectCreate("pmd", Pmd.class);
+        digester.addSetProperties("pmd");
+        digester.addObjectCreate("pmd/file", edu.hm.hafner.analysis.parser.pmd.File.class);
+        digester.addSetProperties("pmd/file");
+        digester.addSetNext("pmd/file", "addFile");
+        digester.addObjectCreate("pmd/file/violation", Violation.class);
+        digester.addSetProperties("pmd/file/violation");
+        digester.addCallMethod("pmd/file/violation", "setMessage", 0);
+        digester.addSetNext("pmd/file/violation", "addViolation");
+
+        try (Reader reader = readerFactory.create(); IssueBuilder builder = new IssueBuilder()) {
+            Pmd pmd = digester.parse(reader);
+            Report report = new Report();
+            for (edu.hm.hafner.analysis.parser.pmd.File file : pmd.getFiles()) {
+                for (Violation violation : file.getViolations()) {
+                    report.add(builder.setMessage(violation.getMessage())
+                            .setCategory(violation.getRuleset())
+                            .setType(violation.getRule())
+                            .setLineStart(violation.getBeginline())
+                            .setLineEnd(violation.getEndline())
+                            .setColumnStart(violation.getBegincolumn())
+                            .setColumnEnd(violation.getEndcolumn())
+                            .setPackageName(violation.getPackage())
+                            .setFileName(file.getName())
+                            .buildAndClean());
+                }
+            }
+            return report;
+        }
+        catch (IOException | SAXException exception) {
+            throw new ParsingException(exception);
+        }
+    }
+
     /**
      * State for the benchmark containing all preconfigured and necessary objects.
      */
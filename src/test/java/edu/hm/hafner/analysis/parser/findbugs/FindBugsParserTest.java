@@ -2,13 +2,17 @@ package edu.hm.hafner.analysis.parser.findbugs;
 
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.Issue;
 import edu.hm.hafner.analysis.IssueBuilder;
@@ -17,7 +21,6 @@ import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 import edu.hm.hafner.analysis.parser.findbugs.FindBugsParser.PriorityProperty;
-import edu.hm.hafner.analysis.parser.findbugs.FindBugsParser.XmlBugInstance;
 
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 import static edu.hm.hafner.analysis.parser.findbugs.FindBugsParser.PriorityProperty.*;
@@ -33,10 +36,15 @@ class FindBugsParserTest {
     private static final String FINDBUGS_NATIVE_XML = "findbugs-native.xml";
 
     private Report parseFile(final String fileName, final PriorityProperty priorityProperty) {
+        return parseFile(fileName, priorityProperty, false);
+    }
+
+    private Report parseFile(final String fileName, final PriorityProperty priorityProperty,
+            final boolean isFastModeEnabled) {
         ReaderFactory readerFactory = mock(ReaderFactory.class);
         when(readerFactory.create()).thenAnswer(
                 mock -> new InputStreamReader(read(fileName), StandardCharsets.UTF_8));
-        return new FindBugsParser(priorityProperty).parse(readerFactory,
+        return new FindBugsParser(priorityProperty, isFastModeEnabled).parse(readerFactory,
                 Collections.emptyList(), new IssueBuilder());
     }
 
@@ -144,11 +152,11 @@ class FindBugsParserTest {
      * Tests the message mapping.
      */
     @Test
-    void testMessageMapping() throws Exception {
-        try (Reader stream = new InputStreamReader(read(FINDBUGS_NATIVE_XML), StandardCharsets.UTF_8)) {
+    void testMessageMapping() {
+        for (boolean isFastModeEnabled : new boolean[] {false, true}) {
             Map<String, String> mapping = new HashMap<>();
-            for (XmlBugInstance bug : new FindBugsParser(CONFIDENCE).preParse(stream)) {
-                mapping.put(bug.getInstanceHash(), bug.getMessage());
+            for (Issue issue : parseFile(FINDBUGS_NATIVE_XML, CONFIDENCE, isFastModeEnabled)) {
+                mapping.put(issue.getFingerprint(), issue.getMessage());
             }
             assertThat(mapping).hasSize(2);
             assertThat(mapping).containsKeys(FIRST_WARNING_HASH, SECOND_WARNING_HASH);
@@ -159,6 +167,66 @@ class FindBugsParserTest {
         }
     }
 
+    /**
+     * Verifies that the fast mode creates issues at the same locations as the SpotBugs library. Note that the fast
+     * mode does not sort the issues and does not compute messages or instance hashes using the SpotBugs library.
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {FINDBUGS_NATIVE_XML, "spotbugsXml.xml", "findbugs-multclass.xml",
+            "findbugs-3rd-party-category.xml"})
+    void shouldCreateIssuesAtSameLocationsInFastMode(final String fileName) {
+        Comparator<Issue> byLocation = Comparator.comparing(Issue::getFileName)
+                .thenComparing(Issue::getLineStart)
+                .thenComparing(Issue::getType);
+        List<Issue> expected = sort(parseFile(fileName, CONFIDENCE, false), byLocation);
+        List<Issue> actual = sort(parseFile(fileName, CONFIDENCE, true), byLocation);
+
+        assertThat(actual).hasSize(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Issue expectedIssue = expected.get(i);
+            assertThat(actual.get(i))
+                    .hasFileName(expectedIssue.getFileName())
+                    .hasLineStart(expectedIssue.getLineStart())
+                    .hasLineEnd(expectedIssue.getLineEnd())
+                    .hasPackageName(expectedIssue.getPackageName())
+                    .hasModuleName(expectedIssue.getModuleName())
+                    .hasCategory(expectedIssue.getCategory())
+                    .hasType(expectedIssue.getType())
+                    .hasSeverity(expectedIssue.getSeverity());
+            assertThat(actual.get(i).getLineRanges()).isEqualTo(expectedIssue.getLineRanges());
+        }
+    }
+
+    private List<Issue> sort(final Report report, final Comparator<Issue> comparator) {
+        List<Issue> issues = new ArrayList<>();
+        report.forEach(issues::add);
+        issues.sort(comparator);
+        return issues;
+    }
+
+    /**
+     * Verifies that the fast mode does not resolve messages that are missing in the XML file.
+     */
+    @Test
+    void shouldNotResolveMissingMessagesInFastMode() {
+        Report report = parseFile("fbcontrib.xml", CONFIDENCE, true);
+
+        assertThat(report).hasSize(parseFile("fbcontrib.xml", CONFIDENCE, false).size());
+        assertThat(report.get(0)).hasCategory("PERFORMANCE").hasType("PRMC_POSSIBLY_REDUNDANT_METHOD_CALLS")
+                .hasMessage("");
+    }
+
+    /**
+     * Verifies that the fast mode uses the rank of the XML file.
+     */
+    @Test
+    void shouldUseRankOfXmlFileInFastMode() {
+        Report report = parseFile("spotbugsXml.xml", RANK, true);
+
+        assertThat(report).hasSize(2);
+        assertThat(report.get(0)).hasSeverity(parseFile("spotbugsXml.xml", RANK, false).get(0).getSeverity());
+    }
+
     /**
      * Checks whether we correctly detect a file in FindBugs native format.
      */
@@ -1,10 +1,18 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 
+import se.bjurr.violations.lib.parsers.AndroidLintParser;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
 /**
  * Tests the class {@link AndroidLintParserAdapter}.
  *
@@ -19,6 +27,15 @@ class AndroidLintParserAdapterTest extends AbstractParserTest {
     protected void assertThatIssuesArePresent(final Report report, final SoftAssertions softly) {
         softly.assertThat(report).hasSize(2);
         softly.assertThat(report.get(0))
+                .hasFileName("app/src/main/res/layout/fragment_main.xml")
+                .hasCategory("Correctness")
+                .hasLineStart(10)
+                .hasLineEnd(10)
+                .hasColumnStart(9)
+                .hasColumnEnd(9)
+                .hasSeverity(Severity.WARNING_NORMAL);
+        softly.assertThat(report.get(0).getMessage()).contains("ScrollView size validation");
+        softly.assertThat(report.get(1))
                 .hasFileName(
                         ".gradle/caches/modules-2/files-2.1/com.squareup.okio/okio/1.4.0/5b72bf48563ea8410e650de14aa33ff69a3e8c35/okio-1.4.0.jar")
                 .hasCategory("Correctness")
@@ -27,16 +44,26 @@ class AndroidLintParserAdapterTest extends AbstractParserTest {
                 .hasColumnStart(0)
                 .hasColumnEnd(0)
                 .hasSeverity(Severity.WARNING_HIGH);
-        softly.assertThat(report.get(0).getMessage()).contains("Package not included in Android");
-        softly.assertThat(report.get(1))
-                .hasFileName("app/src/main/res/layout/fragment_main.xml")
-                .hasCategory("Correctness")
-                .hasLineStart(10)
-                .hasLineEnd(10)
-                .hasColumnStart(9)
-                .hasColumnEnd(9)
-                .hasSeverity(Severity.WARNING_NORMAL);
-        softly.assertThat(report.get(1).getMessage()).contains("ScrollView size validation");
+        softly.assertThat(report.get(1).getMessage()).contains("Package not included in Android");
+    }
+
+    /**
+     * Verifies that the streaming implementation creates the same issues as the parser of the violations library.
+     *
+     * @param fileName
+     *         the file to parse
+     *
+     * @throws Exception
+     *         if the violations library cannot parse the file
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"android-lint.xml"})
+    void shouldCreateSameIssuesAsViolationsLibrary(final String fileName) throws Exception {
+        ReaderFactory readerFactory = createReaderFactory(fileName);
+
+        Report expected = ViolationsLibrary.parse(new AndroidLintParser(), readerFactory);
+
+        assertThat(createParser().parse(readerFactory).stream()).containsExactlyInAnyOrderElementsOf(expected);
     }
 
     @Override
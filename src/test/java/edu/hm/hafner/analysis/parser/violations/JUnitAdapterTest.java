@@ -1,13 +1,18 @@
 package edu.hm.hafner.analysis.parser.violations;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 import edu.hm.hafner.util.PathUtil;
 
+import se.bjurr.violations.lib.parsers.JUnitParser;
+
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 import static edu.hm.hafner.analysis.parser.violations.JUnitAdapter.*;
 
@@ -44,6 +49,25 @@ class JUnitAdapterTest extends AbstractParserTest {
         softly.assertThat(report.getCounter(SKIPPED_TESTS)).isEqualTo(0);
     }
 
+    /**
+     * Verifies that the streaming implementation creates the same issues as the parser of the violations library.
+     *
+     * @param fileName
+     *         the file to parse
+     *
+     * @throws Exception
+     *         if the violations library cannot parse the file
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"junit.xml", "assignment1.xml", "junit-skipped.xml", "report.junit", "issue64117.junit", "TEST-Aufgabe3Test.xml", "TEST-org.jenkinsci.plugins.jvctb.perform.JvctbPerformerTest.xml", "TEST-edu.hm.hafner.analysis.parser.SonarQubeDiffParserTest.xml"})
+    void shouldCreateSameIssuesAsViolationsLibrary(final String fileName) throws Exception {
+        ReaderFactory readerFactory = createReaderFactory(fileName);
+
+        Report expected = ViolationsLibrary.parse(new JUnitParser(), readerFactory);
+
+        assertThat(createParser().parse(readerFactory).stream()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
     @Override
     protected JUnitAdapter createParser() {
         return new JUnitAdapter();
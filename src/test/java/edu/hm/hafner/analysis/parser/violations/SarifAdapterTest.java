@@ -1,12 +1,21 @@
 package edu.hm.hafner.analysis.parser.violations;
 
+import java.util.function.Predicate;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import edu.hm.hafner.analysis.AbstractParserTest;
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.ParsingException;
+import edu.hm.hafner.analysis.ReaderFactory;
 import edu.hm.hafner.analysis.Report;
 import edu.hm.hafner.analysis.Severity;
 import edu.hm.hafner.analysis.assertions.SoftAssertions;
 
+import se.bjurr.violations.lib.parsers.SarifParser;
+
 import static edu.hm.hafner.analysis.assertions.Assertions.*;
 
 /**
@@ -46,6 +55,78 @@ class SarifAdapterTest extends AbstractParserTest {
         assertThat(report.getSizeOf(Severity.WARNING_LOW)).isEqualTo(3);
     }
 
+    @Test
+    void shouldResolveRulesArtifactsAndNotifications() {
+        Report report = parse("tool-first.sarif");
+
+        assertThat(report).hasSize(6);
+        assertThat(getIssue(report, Issue.byFileName("src/main/Main.java")))
+                .hasFileName("src/main/Main.java")
+                .hasLineStart(12)
+                .hasType("CHK001")
+                .hasCategory("Reliability")
+                .hasSeverity(Severity.WARNING_NORMAL)
+                .hasMessage("Variable 'name' may be null in method run.\n\nAssigned here.\n\n"
+                        + "For additional help see: Check for null before dereferencing.");
+        assertThat(getIssue(report, Issue.byFileName("src/main/Util.java")))
+                .hasFileName("src/main/Util.java")
+                .hasLineStart(42);
+        Issue unused = getIssue(report, Issue.byType("CHK002"));
+        assertThat(unused)
+                .hasFileName("-")
+                .hasType("CHK002")
+                .hasSeverity(Severity.WARNING_LOW);
+        assertThat(unused.getMessage()).startsWith("CHK002").endsWith("Variable 'count' is never used.");
+        assertThat(getIssue(report, Issue.byFileName("src/main/Other.java")))
+                .hasFileName("src/main/Other.java")
+                .hasSeverity(Severity.WARNING_HIGH)
+                .hasMessage("Unknown **rule**.");
+        assertThat(getIssue(report, Issue.byType("Configuration")))
+                .hasFileName("-")
+                .hasType("Configuration")
+                .hasSeverity(Severity.WARNING_HIGH)
+                .hasMessage("Configuration file is missing.");
+        assertThat(getIssue(report, Issue.byFileName("checker.xml")))
+                .hasFileName("checker.xml")
+                .hasLineStart(3)
+                .hasSeverity(Severity.WARNING_NORMAL)
+                .hasMessage("Configuration file is outdated.");
+    }
+
+    @Test
+    void shouldRejectInvalidJson() {
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> createParser().parse(new StringReaderFactory("{\"runs\": [{\"results\": [")));
+        assertThatExceptionOfType(ParsingException.class).isThrownBy(
+                () -> createParser().parse(new StringReaderFactory("[]")));
+    }
+
+    /**
+     * Verifies that the streaming implementation creates the same issues in the same order as the parser of the
+     * violations library.
+     *
+     * @param fileName
+     *         the file to parse
+     *
+     * @throws Exception
+     *         if the violations library cannot parse the file
+     */
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"sarif.json", "security-scan.sarif"})
+    void shouldCreateSameIssuesAsViolationsLibrary(final String fileName) throws Exception {
+        ReaderFactory readerFactory = createReaderFactory(fileName);
+
+        Report expected = ViolationsLibrary.parse(new SarifParser(), readerFactory);
+
+        assertThat(createParser().parse(readerFactory).stream()).containsExactlyElementsOf(expected);
+    }
+
+    private Issue getIssue(final Report report, final Predicate<Issue> criterion) {
+        Report filtered = report.filter(criterion);
+        assertThat(filtered).hasSize(1);
+        return filtered.get(0);
+    }
+
     @Override
     protected SarifAdapter createParser() {
         return new SarifAdapter();
@@ -0,0 +1,57 @@
+package edu.hm.hafner.analysis.parser.violations;
+
+import java.util.logging.Level;
+
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+
+import se.bjurr.violations.lib.ViolationsLogger;
+import se.bjurr.violations.lib.parsers.ViolationsParser;
+
+/**
+ * Parses reports with the parsers of the violations library. Used to verify that adapters that have their own
+ * streaming implementation create the same issues as the corresponding parser of the violations library.
+ *
+ * @author Ullrich Hafner
+ */
+final class ViolationsLibrary {
+    /**
+     * Parses the specified report with the specified parser of the violations library. The violations are converted
+     * to issues in the same way as by the {@link AbstractViolationAdapter}.
+     *
+     * @param parser
+     *         the parser of the violations library
+     * @param readerFactory
+     *         the report to parse
+     *
+     * @return the issues created by the violations library
+     * @throws Exception
+     *         if the violations library cannot parse the report
+     */
+    static Report parse(final ViolationsParser parser, final ReaderFactory readerFactory) throws Exception {
+        AbstractViolationAdapter adapter = new AbstractViolationAdapter() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            ViolationsParser createParser() {
+                return parser;
+            }
+        };
+        return adapter.convertToReport(parser.parseReportOutput(readerFactory.readString(),
+                new ViolationsLogger() {
+                    @Override
+                    public void log(final Level level, final String message) {
+                        // do not log anything
+                    }
+
+                    @Override
+                    public void log(final Level level, final String message, final Throwable throwable) {
+                        // do not log anything
+                    }
+                }));
+    }
+
+    private ViolationsLibrary() {
+        // prevents instantiation
+    }
+}
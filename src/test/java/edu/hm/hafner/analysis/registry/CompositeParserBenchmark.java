@@ -0,0 +1,122 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.AbstractBenchmark;
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.registry.ParserDescriptor.Option;
+
+/**
+ * Performance benchmarks for the parsers of a {@link CompositeParserDescriptor}: the sequential mode that reads the
+ * console log once for each parser is compared with the fan-out mode that reads the log only once.
+ *
+ * @author Ullrich Hafner
+ */
+public class CompositeParserBenchmark extends AbstractBenchmark {
+    private static final int LINES = 500_000;
+
+    /**
+     * Benchmarks the sequential mode.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the console log
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSequentialParsers(final BenchmarkState state, final Blackhole blackhole) {
+        IssueParser parser = state.getDescriptor().createParser();
+
+        blackhole.consume(parser.parse(new FileReaderFactory(state.getLog(), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Benchmarks the fan-out mode.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the console log
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkFanOutParsers(final BenchmarkState state, final Blackhole blackhole) {
+        IssueParser parser = state.getDescriptor().createParser(
+                new Option(CompositeParserDescriptor.FAN_OUT_OPTION_KEY, "true"));
+
+        blackhole.consume(parser.parse(new FileReaderFactory(state.getLog(), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * State for the benchmark containing a console log with warnings of several compilers.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"java", "eclipse", "gcc"})
+        private String id;
+
+        private ParserDescriptor descriptor;
+        private Path log;
+
+        public ParserDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        public Path getLog() {
+            return log;
+        }
+
+        /**
+         * Creates the console log.
+         *
+         * @throws IOException
+         *         if the log could not be written
+         */
+        @Setup(Level.Trial)
+        public void createLog() throws IOException {
+            descriptor = new ParserRegistry().get(id);
+            log = Files.createTempFile("console", ".log");
+            try (Writer writer = Files.newBufferedWriter(log, StandardCharsets.UTF_8)) {
+                for (int line = 0; line < LINES; line++) {
+                    if (line % 100 == 0) {
+                        writer.write(String.format("[WARNING] /src/File%d.java:[%d,5] deprecated API%n", line, line));
+                    }
+                    else if (line % 100 == 50) {
+                        writer.write(String.format("    [javac] File%d.java:%d: warning: unchecked call%n",
+                                line, line));
+                    }
+                    else if (line % 100 == 75) {
+                        writer.write(String.format("src/file%d.c:%d:3: warning: unused variable 'x'%n", line, line));
+                    }
+                    else {
+                        writer.write(String.format("[INFO] Compiling module %d of the build%n", line));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Deletes the console log.
+         *
+         * @throws IOException
+         *         if the log could not be deleted
+         */
+        @TearDown(Level.Trial)
+        public void deleteLog() throws IOException {
+            Files.deleteIfExists(log);
+        }
+    }
+}
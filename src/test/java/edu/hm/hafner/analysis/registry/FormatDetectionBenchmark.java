@@ -0,0 +1,107 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.AbstractBenchmark;
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ParsingException;
+
+/**
+ * Performance benchmarks for the detection of the report format of all files in {@code src/test/resources}: the
+ * signature index of the {@link ParserRegistry} is compared with asking every parser whether it accepts a file.
+ *
+ * @author Ullrich Hafner
+ */
+public class FormatDetectionBenchmark extends AbstractBenchmark {
+    /**
+     * Benchmarks the detection using {@link ParserRegistry#detect(Path)}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the files
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSignatureIndex(final BenchmarkState state, final Blackhole blackhole) {
+        for (Path file : state.getFiles()) {
+            blackhole.consume(state.getRegistry().detect(file));
+        }
+    }
+
+    /**
+     * Benchmarks the detection using the {@link IssueParser#accepts} methods of all parsers, i.e. the approach that
+     * has been used before the signature index has been introduced.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the files
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkAcceptsOfAllParsers(final BenchmarkState state, final Blackhole blackhole) {
+        for (Path file : state.getFiles()) {
+            FileReaderFactory readerFactory = new FileReaderFactory(file);
+            for (IssueParser parser : state.getParsers()) {
+                try {
+                    blackhole.consume(parser.accepts(readerFactory));
+                }
+                catch (ParsingException exception) {
+                    blackhole.consume(exception);
+                }
+            }
+        }
+    }
+
+    /**
+     * State for the benchmark containing all test resources.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private List<Path> files;
+        private ParserRegistry registry;
+        private List<IssueParser> parsers;
+
+        public List<Path> getFiles() {
+            return files;
+        }
+
+        public ParserRegistry getRegistry() {
+            return registry;
+        }
+
+        public List<IssueParser> getParsers() {
+            return parsers;
+        }
+
+        /**
+         * Collects the test resources and creates the parsers.
+         *
+         * @throws IOException
+         *         if the test resources could not be read
+         */
+        @Setup(Level.Trial)
+        public void doSetup() throws IOException {
+            try (Stream<Path> paths = Files.walk(Paths.get("src/test/resources"))) {
+                files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            registry = new ParserRegistry();
+            parsers = registry.getAllDescriptors().stream()
+                    .map(descriptor -> descriptor.createParser())
+                    .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.LiteralMatcher;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link FormatDetector}.
+ *
+ * @author Ullrich Hafner
+ */
+class FormatDetectorTest {
+    private static final String LOG = "build.log";
+
+    @Test
+    void shouldPreferFormatWithAdditionalSpecificLiteral() {
+        FormatDetector detector = new FormatDetector(Arrays.asList(
+                createDescriptor("generic", ": warning: "),
+                createDescriptor("specific", ": warning: ", "[javac] ")));
+
+        assertThat(detector.detect(LOG, "[javac] File.java:10: warning: [deprecation]"))
+                .extracting(ParserDescriptor::getId).containsExactly("specific", "generic");
+        assertThat(detector.detect(LOG, "file.c:10: warning: unused variable"))
+                .extracting(ParserDescriptor::getId).containsExactly("generic", "specific");
+        assertThat(detector.detect(LOG, "[javac] Compiling 1 source file"))
+                .extracting(ParserDescriptor::getId).containsExactly("specific");
+    }
+
+    @Test
+    void shouldPreferFormatWithLiteralThatContainsGenericLiteral() {
+        FormatDetector detector = new FormatDetector(Arrays.asList(
+                createDescriptor("a-generic", ": warning"),
+                createDescriptor("b-specific", ": warning", "javadoc: warning")));
+
+        assertThat(detector.detect(LOG, "javadoc: warning - Tag @link: reference not found"))
+                .extracting(ParserDescriptor::getId).containsExactly("b-specific", "a-generic");
+        assertThat(detector.detect(LOG, "Main.java:1: warning - missing comment"))
+                .extracting(ParserDescriptor::getId).containsExactly("a-generic", "b-specific");
+    }
+
+    @Test
+    void shouldFindLiteralsOfMoreFormatsThanSupportedByOneMatcher() {
+        List<ParserDescriptor> descriptors = new ArrayList<>();
+        for (int i = 0; i < 2 * LiteralMatcher.MAXIMUM_SETS + 10; i++) {
+            descriptors.add(createDescriptor(String.format("tool-%03d", i), String.format("tool-%d:", i)));
+        }
+        FormatDetector detector = new FormatDetector(descriptors);
+
+        assertThat(detector.detect(LOG, "tool-3: first\ntool-64: second\ntool-137: last"))
+                .extracting(ParserDescriptor::getId).containsExactly("tool-003", "tool-064", "tool-137");
+        assertThat(detector.detect(LOG, "tool-1000:")).isEmpty();
+    }
+
+    @Test
+    void shouldIgnoreEmptyLiterals() {
+        FormatDetector detector = new FormatDetector(Arrays.asList(
+                createDescriptor("empty", ""),
+                createDescriptor("cmake", "CMake Warning")));
+
+        assertThat(detector.detect(LOG, "CMake Warning at CMakeLists.txt:10"))
+                .extracting(ParserDescriptor::getId).containsExactly("cmake");
+        assertThat(detector.detect(LOG, "nothing to see here")).isEmpty();
+    }
+
+    private ParserDescriptor createDescriptor(final String id, final String... literals) {
+        return new ParserDescriptor(id, id) {
+            @Override
+            public IssueParser createParser(final Option... options) {
+                throw new UnsupportedOperationException("Not required for format detection");
+            }
+
+            @Override
+            public FormatSignature getFormatSignature() {
+                return new FormatSignature().addConsoleLiterals(literals);
+            }
+        };
+    }
+}
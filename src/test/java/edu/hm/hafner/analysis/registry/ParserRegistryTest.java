@@ -24,6 +24,7 @@ class ParserRegistryTest extends ResourceTest {
     public static final String SPOTBUGS = "spotbugs";
     public static final String CHECKSTYLE = "checkstyle";
     public static final String PMD = "pmd";
+    private static final String PARSER_FOLDER = "/edu/hm/hafner/analysis/parser/";
 
     @Test
     void shouldThrowExceptionIfParserNotFound() {
@@ -71,26 +72,112 @@ class ParserRegistryTest extends ResourceTest {
         assertThat(lowReport).hasSize(2).hasSeverities(Severity.WARNING_LOW);
     }
 
+    @Test
+    void shouldReadFileOnlyOnceForCompositeParsers() {
+        ParserRegistry parserRegistry = new ParserRegistry();
+
+        for (String id : new String[] {"java", "eclipse", "gcc"}) {
+            ParserDescriptor descriptor = parserRegistry.get(id);
+            for (String fileName : new String[] {"javac.txt", "ant-javac.txt", "eclipse.txt", "gcc4.txt"}) {
+                Report sequential = descriptor.createParser()
+                        .parse(new FileReaderFactory(getResourceAsFile(PARSER_FOLDER + fileName)));
+                Report fanOut = descriptor.createParser(
+                        new Option(CompositeParserDescriptor.FAN_OUT_OPTION_KEY, "true"))
+                        .parse(new FileReaderFactory(getResourceAsFile(PARSER_FOLDER + fileName)));
+
+                assertThat(fanOut.get()).containsExactlyElementsOf(sequential.get());
+                assertThat(fanOut).hasDuplicatesSize(sequential.getDuplicatesSize());
+            }
+        }
+    }
+
     @Test
     void shouldAssignCorrectSeverityForSpotBugs() {
-        verifyPriority("CONFIDENCE", 1, 11, 0);
-        verifyPriority("RANK", 0, 0, 12);
+        verifyPriority("CONFIDENCE", 1, 11, 0, "false");
+        verifyPriority("RANK", 0, 0, 12, "false");
+    }
+
+    /**
+     * The XML file contains no messages, so the fast mode detects a duplicate since the messages are not computed
+     * using the SpotBugs library.
+     */
+    @Test
+    void shouldAssignCorrectSeverityForSpotBugsInFastMode() {
+        verifyPriority("CONFIDENCE", 1, 10, 0, "true");
+        verifyPriority("RANK", 0, 0, 11, "true");
     }
 
     private void verifyPriority(final String type, final int expectedHighSize, final int expectedNormalSize,
-            final int expectedLowSize) {
+            final int expectedLowSize, final String isFastModeEnabled) {
         ParserRegistry parserRegistry = new ParserRegistry();
         ParserDescriptor findbugsDescriptor = parserRegistry.get("findbugs");
 
-        IssueParser parser = findbugsDescriptor.createParser(new Option(FindBugsDescriptor.PRIORITY_OPTION_KEY, type));
+        IssueParser parser = findbugsDescriptor.createParser(new Option(FindBugsDescriptor.PRIORITY_OPTION_KEY, type),
+                new Option(FindBugsDescriptor.FAST_MODE_OPTION_KEY, isFastModeEnabled));
 
         Report confidenceReport = parser.parse(new FileReaderFactory(getResourceAsFile("findbugs-severities.xml")));
-        assertThat(confidenceReport).hasSize(12);
+        assertThat(confidenceReport).hasSize(expectedHighSize + expectedNormalSize + expectedLowSize);
         assertThat(confidenceReport.getSizeOf(Severity.WARNING_HIGH)).isEqualTo(expectedHighSize);
         assertThat(confidenceReport.getSizeOf(Severity.WARNING_NORMAL)).isEqualTo(expectedNormalSize);
         assertThat(confidenceReport.getSizeOf(Severity.WARNING_LOW)).isEqualTo(expectedLowSize);
     }
 
+    @Test
+    void shouldDetectXmlReportsByRootElement() {
+        ParserRegistry parserRegistry = new ParserRegistry();
+
+        assertThat(parserRegistry.detect(getResourceAsFile("one-cpd.xml")))
+                .extracting(ParserDescriptor::getId).startsWith("cpd");
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "checkstyle.xml")))
+                .extracting(ParserDescriptor::getId).startsWith(CHECKSTYLE).contains("eslint", "detekt");
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "spotbugsXml.xml")))
+                .extracting(ParserDescriptor::getId).containsExactly(SPOTBUGS, "findbugs");
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "junit.xml")))
+                .extracting(ParserDescriptor::getId).containsExactly("junit");
+        assertThat(parserRegistry.detect("pmd.xml", "<?xml version=\"1.0\"?>\n<!-- comment -->\n"
+                + "<!DOCTYPE pmd>\n<pmd version=\"6.0\"><file name=\"A.java\">"))
+                .extracting(ParserDescriptor::getId).startsWith(PMD).contains("infer");
+    }
+
+    @Test
+    void shouldDetectJsonReportsByKeys() {
+        ParserRegistry parserRegistry = new ParserRegistry();
+
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "sonarqube-api.json")))
+                .extracting(ParserDescriptor::getId).startsWith("sonar").contains("dscanner");
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "brakeman.json")))
+                .extracting(ParserDescriptor::getId).startsWith("brakeman");
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "hadolint.json")))
+                .extracting(ParserDescriptor::getId).startsWith("hadolint");
+        assertThat(parserRegistry.detect("report.json", "{\"nested\": {\"runs\": 1}, \"text\": \"runs\"}"))
+                .isEmpty();
+    }
+
+    @Test
+    void shouldDetectConsoleLogsByLiterals() {
+        ParserRegistry parserRegistry = new ParserRegistry();
+
+        assertThat(parserRegistry.detect(getResourceAsFile(PARSER_FOLDER + "maven.txt")))
+                .extracting(ParserDescriptor::getId).startsWith("maven-warnings");
+        assertThat(parserRegistry.detect("build.log", "[INFO] Building\nFile.java:10: warning: [deprecation]"))
+                .extracting(ParserDescriptor::getId).contains("maven-warnings", "java", "gcc", "clang");
+        assertThat(parserRegistry.detect("build.log", "[javac] File.java:10: warning: [deprecation]"))
+                .extracting(ParserDescriptor::getId).startsWith("java").contains("clang", "gcc");
+        assertThat(parserRegistry.detect("build.log", "nothing to see here")).isEmpty();
+    }
+
+    @Test
+    void shouldDetectReportsByFileName() {
+        ParserRegistry parserRegistry = new ParserRegistry();
+
+        assertThat(parserRegistry.detect("target/checkstyle-result.xml", ""))
+                .extracting(ParserDescriptor::getId).containsExactly(CHECKSTYLE);
+        assertThat(parserRegistry.detect("Report.PLOG", "unknown content"))
+                .extracting(ParserDescriptor::getId).containsExactly("pvs-studio");
+        assertThat(parserRegistry.detect("results.sarif", "{\"runs\": []}"))
+                .extracting(ParserDescriptor::getId).containsExactly("sarif");
+    }
+
     @Test
     void shouldCreateSupportedFormats() throws IOException {
         ParserRegistry.main(new String[0]);
@@ -0,0 +1,130 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import edu.hm.hafner.analysis.AbstractBenchmark;
+import edu.hm.hafner.analysis.FileReaderFactory;
+import edu.hm.hafner.analysis.Report;
+
+/**
+ * Performance benchmarks for parsing many small CheckStyle reports: a serial loop that creates a new parser for each
+ * file is compared with the {@link ParsingPipeline}.
+ *
+ * @author Ullrich Hafner
+ */
+public class ParsingPipelineBenchmark extends AbstractBenchmark {
+    private static final int FILES = 2000;
+    private static final int ISSUES_PER_FILE = 20;
+
+    /**
+     * Benchmarks the serial parsing of all files, i.e. the approach that has been used before the pipeline has been
+     * introduced.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the files
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkSerialParsing(final BenchmarkState state, final Blackhole blackhole) {
+        Report aggregation = new Report(state.getDescriptor().getId(), state.getDescriptor().getName());
+        for (Path file : state.getFiles()) {
+            aggregation.addAll(state.getDescriptor().createParser()
+                    .parseFile(new FileReaderFactory(file, StandardCharsets.UTF_8)));
+        }
+        blackhole.consume(aggregation);
+    }
+
+    /**
+     * Benchmarks the parsing of all files with the {@link ParsingPipeline}.
+     *
+     * @param state
+     *         a {@link BenchmarkState} object containing the files and the concurrency
+     * @param blackhole
+     *         a {@link Blackhole} to avoid dead code elimination
+     */
+    @Benchmark
+    public void benchmarkPipeline(final BenchmarkState state, final Blackhole blackhole) {
+        blackhole.consume(new ParsingPipeline(state.getDescriptor(), state.getConcurrency())
+                .setCharset(StandardCharsets.UTF_8)
+                .parse(state.getFiles()));
+    }
+
+    /**
+     * State for the benchmark containing the report files.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"1", "4", "16"})
+        private int concurrency;
+
+        private final List<Path> files = new ArrayList<>();
+        private ParserDescriptor descriptor;
+
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        public List<Path> getFiles() {
+            return files;
+        }
+
+        public ParserDescriptor getDescriptor() {
+            return descriptor;
+        }
+
+        /**
+         * Creates the CheckStyle report files.
+         *
+         * @throws IOException
+         *         if the files could not be written
+         */
+        @Setup(Level.Trial)
+        public void createReportFiles() throws IOException {
+            descriptor = new ParserRegistry().get("checkstyle");
+
+            for (int file = 0; file < FILES; file++) {
+                Path reportFile = Files.createTempFile("checkstyle-result", ".xml");
+                List<String> lines = new ArrayList<>();
+                lines.add("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+                lines.add("<checkstyle version=\"8.0\">");
+                lines.add(String.format("<file name=\"module%d/src/main/java/File.java\">", file));
+                for (int issue = 1; issue <= ISSUES_PER_FILE; issue++) {
+                    lines.add(String.format("<error line=\"%d\" severity=\"warning\" message=\"Message %d\" "
+                            + "source=\"com.puppycrawl.tools.checkstyle.checks.Check%d\"/>", issue, issue, issue));
+                }
+                lines.add("</file>");
+                lines.add("</checkstyle>");
+                Files.write(reportFile, lines, StandardCharsets.UTF_8);
+                files.add(reportFile);
+            }
+        }
+
+        /**
+         * Deletes the CheckStyle report files.
+         *
+         * @throws IOException
+         *         if the files could not be deleted
+         */
+        @TearDown(Level.Trial)
+        public void deleteReportFiles() throws IOException {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package edu.hm.hafner.analysis.registry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import edu.hm.hafner.analysis.Issue;
+import edu.hm.hafner.analysis.IssueParser;
+import edu.hm.hafner.analysis.ReaderFactory;
+import edu.hm.hafner.analysis.Report;
+import edu.hm.hafner.analysis.registry.ParserDescriptor.Option;
+
+import static edu.hm.hafner.analysis.assertions.Assertions.*;
+
+/**
+ * Tests the class {@link ParsingPipeline}.
+ *
+ * @author Ullrich Hafner
+ */
+class ParsingPipelineTest {
+    private static final int FILES = 40;
+
+    @TempDir
+    private Path folder;
+
+    @Test
+    void shouldCreateSameReportIndependentOfConcurrency() throws IOException {
+        List<Path> files = createReports();
+        Collections.reverse(files);
+
+        Report sequential = createPipeline(1).parse(files);
+        Report parallel = createPipeline(8).parse(files);
+
+        assertThat(sequential).hasSize(FILES * 2).hasId("checkstyle").hasName("CheckStyle");
+        assertThat(sequential.get()).extracting(Issue::getFileName)
+                .isSortedAccordingTo(String::compareTo);
+        assertThat(parallel.get()).extracting(Issue::getFileName)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::getFileName)::iterator);
+        assertThat(parallel.get()).extracting(Issue::getLineStart)
+                .containsExactlyElementsOf(sequential.get().stream().map(Issue::getLineStart)::iterator);
+        assertThat(parallel.getOriginReportFiles()).hasSize(FILES)
+                .isEqualTo(sequential.getOriginReportFiles());
+        assertThat(parallel.get()).extracting(Issue::getOrigin).containsOnly("checkstyle");
+    }
+
+    @Test
+    void shouldLogErrorsOfBrokenFilesAndContinue() throws IOException {
+        List<Path> files = createReports();
+        Path broken = folder.resolve("broken.xml");
+        Files.write(broken, "<checkstyle><file".getBytes(StandardCharsets.UTF_8));
+        files.add(broken);
+
+        Report report = createPipeline(4).parse(files);
+
+        assertThat(report).hasSize(FILES * 2);
+        assertThat(report.getErrorMessages()).anySatisfy(
+                message -> assertThat(message).contains("Parsing of file", "broken.xml"));
+    }
+
+    @Test
+    void shouldLogRuntimeExceptionsOfParserAndContinue() throws IOException {
+        List<Path> files = createReports();
+        Path crash = folder.resolve("crash.xml");
+        Files.write(crash, "<checkstyle/>".getBytes(StandardCharsets.UTF_8));
+        files.add(crash);
+
+        ParserDescriptor checkStyle = new ParserRegistry().get("checkstyle");
+        ParserDescriptor crashing = new ParserDescriptor("crashing", "Crashing") {
+            @Override
+            public IssueParser createParser(final Option... options) {
+                return new CrashingParser(checkStyle.createParser(options));
+            }
+        };
+        Report report = new ParsingPipeline(crashing, 4).setCharset(StandardCharsets.UTF_8).parse(files);
+
+        assertThat(report).hasSize(FILES * 2);
+        assertThat(report.getErrorMessages()).anySatisfy(
+                message -> assertThat(message).contains("Parsing of file", "crash.xml"))
+                .anySatisfy(message -> assertThat(message).contains("IllegalStateException", "Crash"));
+    }
+
+    @Test
+    void shouldCountDuplicatesOfDifferentFiles() throws IOException {
+        List<Path> files = createReports();
+        Path copy = folder.resolve("copy.xml");
+        Files.copy(files.get(0), copy);
+        files.add(copy);
+
+        Report report = createPipeline(4).parse(files);
+
+        assertThat(report).hasSize(FILES * 2).hasDuplicatesSize(2);
+    }
+
+    @Test
+    void shouldUseProvidedExecutor() throws IOException {
+        List<Path> files = createReports();
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            Report report = createPipeline(3).parse(files, executor);
+
+            assertThat(report).hasSize(FILES * 2);
+            assertThat(executor.isShutdown()).isFalse();
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldHandleEmptyInput() {
+        assertThat(createPipeline(4).parse(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void shouldRejectInvalidConcurrency() {
+        assertThatThrownBy(() -> createPipeline(0)).hasMessageContaining("Concurrency must be positive");
+    }
+
+    /**
+     * Delegates to another parser, but crashes for files with the name {@code crash.xml}.
+     */
+    private static class CrashingParser extends IssueParser {
+        private static final long serialVersionUID = 1L;
+
+        private final IssueParser delegate;
+
+        CrashingParser(final IssueParser delegate) {
+            super();
+
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Report parse(final ReaderFactory readerFactory) {
+            if (readerFactory.getFileName().endsWith("crash.xml")) {
+                throw new IllegalStateException("Crash");
+            }
+            return delegate.parse(readerFactory);
+        }
+    }
+
+    private ParsingPipeline createPipeline(final int concurrency) {
+        return new ParsingPipeline(new ParserRegistry().get("checkstyle"), concurrency)
+                .setCharset(StandardCharsets.UTF_8);
+    }
+
+    private List<Path> createReports() throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (int i = 0; i < FILES; i++) {
+            Path file = folder.resolve(String.format("checkstyle-%02d.xml", i));
+            String content = String.format("<?xml version=\"1.0\" encoding=\"UTF-8\"?>%n"
+                    + "<checkstyle version=\"8.0\">%n"
+                    + "<file name=\"Module%02d.java\">%n"
+                    + "<error line=\"%d\" severity=\"error\" message=\"First\" source=\"a.b.FirstCheck\"/>%n"
+                    + "<error line=\"%d\" severity=\"warning\" message=\"Second\" source=\"a.b.SecondCheck\"/>%n"
+                    + "</file>%n"
+                    + "</checkstyle>%n", i, i + 1, i + 2);
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            files.add(file);
+        }
+        return files;
+    }
+}